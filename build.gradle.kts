@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "org.example"
@@ -38,6 +39,8 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation("org.springframework.security:spring-security-test")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("com.icegreen:greenmail-junit5:2.1.3")
+    testImplementation("com.github.codemonstur:embedded-redis:1.4.3")
     implementation("io.jsonwebtoken:jjwt-api:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")
@@ -54,8 +57,60 @@ dependencies {
     // Mail (이메일 발송)
     implementation("org.springframework.boot:spring-boot-starter-mail")
 
+    // Caffeine (로컬 캐시)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    // JMH 벤치마크에서 MockHttpServletRequest 등을 사용
+    jmh("org.springframework:spring-test")
+
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// JMH 벤치마크 (src/jmh/java)
+// 전체 실행: ./gradlew jmh
+// 일부 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+jmh {
+    jmhVersion = "1.37"
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    benchmarkMode = listOf("thrpt")
+    // 처리량과 함께 연산당 할당량(gc.alloc.rate.norm)을 리포트
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    if (project.hasProperty("jmh.includes")) {
+        includes = listOf(project.property("jmh.includes").toString())
+    }
+}
+
+// 채팅 WebSocket 부하 테스트 (src/loadTest/java)
+// 실행: ./gradlew chatLoadTest -PloadTest.args="--jwt-secret=... --users-file=chat-load-users.csv"
+sourceSets {
+    create("loadTest")
+}
+
+val loadTestImplementation by configurations.getting
+val loadTestRuntimeOnly by configurations.getting
+
+dependencies {
+    loadTestImplementation("org.springframework:spring-websocket")
+    loadTestImplementation("org.springframework:spring-messaging")
+    loadTestImplementation("org.apache.tomcat.embed:tomcat-embed-websocket")
+    loadTestImplementation("com.fasterxml.jackson.core:jackson-databind")
+    loadTestImplementation("io.jsonwebtoken:jjwt-api:0.12.3")
+    loadTestRuntimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
+    loadTestRuntimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")
+}
+
+tasks.register<JavaExec>("chatLoadTest") {
+    group = "verification"
+    description = "채팅 WebSocket(STOMP) 부하 테스트를 실행합니다."
+    classpath = sourceSets["loadTest"].runtimeClasspath
+    mainClass = "org.example.gyeonggi_partners.loadtest.ChatLoadTest"
+    if (project.hasProperty("loadTest.args")) {
+        args(project.property("loadTest.args").toString().split(" "))
+    }
+}
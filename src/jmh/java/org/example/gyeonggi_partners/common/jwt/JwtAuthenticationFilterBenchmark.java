@@ -0,0 +1,96 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.util.List;
+
+/**
+ * JwtAuthenticationFilter 요청 1건당 비용
+ *
+ * <ul>
+ *   <li>resolveToken: Authorization 헤더 파싱만</li>
+ *   <li>doFilterCacheHit: 같은 토큰이 반복해서 들어오는 일반적인 경우</li>
+ *   <li>doFilterCacheMiss: 캐시 크기 0 (매 요청 서명 검증 + 파싱)</li>
+ * </ul>
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Encoders.BASE64.encode(secret));
+        properties.setAccessTokenExpiration(3_600_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(properties);
+
+        cachedFilter = new JwtAuthenticationFilter(
+                new JwtAuthenticationCache(jwtTokenProvider, properties, new SimpleMeterRegistry()));
+
+        JwtProperties uncachedProperties = new JwtProperties();
+        uncachedProperties.setAuthenticationCacheSize(0);
+        uncachedFilter = new JwtAuthenticationFilter(
+                new JwtAuthenticationCache(jwtTokenProvider, uncachedProperties, new SimpleMeterRegistry()));
+
+        CustomUserDetails userDetails = new CustomUserDetails(
+                1L, "길동이", "hong@example.com", "USER", "newuser123", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userDetails, "", userDetails.getAuthorities());
+        String accessToken = jwtTokenProvider.generateTokenDto(authentication).getAccessToken();
+
+        request = new MockHttpServletRequest("GET", "/api/rooms");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER,
+                JwtAuthenticationFilter.BEARER_PREFIX + accessToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return cachedFilter.resolveToken(request);
+    }
+
+    @Benchmark
+    public Authentication doFilterCacheHit() throws Exception {
+        return doFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public Authentication doFilterCacheMiss() throws Exception {
+        return doFilter(uncachedFilter);
+    }
+
+    private Authentication doFilter(JwtAuthenticationFilter filter) throws Exception {
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
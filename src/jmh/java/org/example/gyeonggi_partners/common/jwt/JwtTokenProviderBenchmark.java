@@ -0,0 +1,110 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.example.gyeonggi_partners.common.dto.TokenDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 요청 1건당 JwtTokenProvider 비용 비교
+ *
+ * <p>legacy* 벤치마크는 파서를 매번 새로 만들고 role 클레임을 매번 split 하던 기존 방식을 그대로 재현합니다.
+ * 같은 실행 안에서 현재 구현과 나란히 비교하기 위한 기준선입니다.</p>
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private String accessToken;
+    private Authentication loginAuthentication;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Encoders.BASE64.encode(secret));
+        properties.setAccessTokenExpiration(3_600_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+
+        CustomUserDetails userDetails = new CustomUserDetails(
+                1L, "길동이", "hong@example.com", "USER", "newuser123", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        loginAuthentication = new UsernamePasswordAuthenticationToken(
+                userDetails, "", userDetails.getAuthorities());
+        accessToken = jwtTokenProvider.generateTokenDto(loginAuthentication).getAccessToken();
+    }
+
+    /**
+     * 로그인 1건당 Access Token + Refresh Token 발급 비용
+     */
+    @Benchmark
+    public TokenDto generateTokenDto() {
+        return jwtTokenProvider.generateTokenDto(loginAuthentication);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(jwtTokenProvider.parseAccessClaims(accessToken));
+    }
+
+    @Benchmark
+    public Claims parseValidClaims() {
+        return jwtTokenProvider.parseValidClaims(accessToken);
+    }
+
+    /**
+     * 기존 방식: validateToken + getAuthentication 이 각각 파서를 새로 만들어 두 번 검증
+     */
+    @Benchmark
+    public Authentication legacyValidateThenGetAuthentication() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken);
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+
+        Collection<? extends GrantedAuthority> authorities =
+                Arrays.stream(claims.get("role").toString().split(","))
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
+        CustomUserDetails principal = new CustomUserDetails(
+                claims.get("userId", Long.class),
+                null,
+                null,
+                claims.get("role").toString().replace("ROLE_", ""),
+                claims.getSubject(),
+                "",
+                authorities
+        );
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+
+    /**
+     * 기존 방식: 파서를 새로 만들어 한 번 검증
+     */
+    @Benchmark
+    public Claims legacyParseClaims() {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(accessToken).getPayload();
+    }
+}
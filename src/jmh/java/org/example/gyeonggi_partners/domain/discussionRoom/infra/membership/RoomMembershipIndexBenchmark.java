@@ -0,0 +1,76 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.stream.LongStream;
+
+/**
+ * 메시지 전송 시 멤버 확인 비용 (메모리 인덱스 적중 시)
+ * gc 프로파일러의 gc.alloc.rate.norm 이 0 B/op 에 가까워야 합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RoomMembershipIndexBenchmark
+ */
+@State(Scope.Benchmark)
+public class RoomMembershipIndexBenchmark {
+
+    private static final long ROOM_ID = 1_000L;
+    private static final int MEMBERS = 5_000;
+
+    private InMemoryRoomMembershipIndex index;
+    private long memberId;
+
+    @Setup
+    public void setUp() {
+        long[] members = LongStream.rangeClosed(1, MEMBERS).toArray();
+        index = new InMemoryRoomMembershipIndex(
+                new FixedMemberRepository(members),
+                new StringRedisTemplate(),
+                new RedisMessageListenerContainer(),
+                event -> { },
+                new MembershipIndexProperties(),
+                new SimpleMeterRegistry());
+        // 5000명 중 박싱 캐시(-128~127) 밖의 ID
+        memberId = 4_321L;
+        index.isMember(memberId, ROOM_ID);
+    }
+
+    @Benchmark
+    public boolean isMember() {
+        return index.isMember(memberId, ROOM_ID);
+    }
+
+    private record FixedMemberRepository(long[] members) implements MemberRepository {
+
+        @Override
+        public boolean existsByUserIdAndRoomId(Long userId, Long roomId) {
+            return false;
+        }
+
+        @Override
+        public boolean save(Long userId, Long roomId) {
+            return false;
+        }
+
+        @Override
+        public boolean delete(Long userId, Long roomId) {
+            return false;
+        }
+
+        @Override
+        public long[] findUserIdsByRoomId(Long roomId) {
+            return members;
+        }
+
+        @Override
+        public long[] findRoomIdsByUserId(Long userId) {
+            return new long[0];
+        }
+    }
+}
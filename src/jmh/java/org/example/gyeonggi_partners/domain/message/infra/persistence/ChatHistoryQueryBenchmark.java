@@ -0,0 +1,268 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이전 대화 조회: 키셋 페이징 vs OFFSET 페이징 (실제 PostgreSQL 대상)
+ *
+ * <p>chat 테이블에 1,000만 건(그중 절반은 하나의 논의방)을 처음 한 번만 채워 두고,
+ * 최신 메시지로부터 depth 건 뒤의 페이지를 읽는 지연 시간을 비교합니다.
+ * 키셋은 depth 와 상관없이 비슷해야 하고, OFFSET 은 depth 에 비례해 늘어납니다.</p>
+ *
+ * <p>V1 ~ V8 마이그레이션이 적용된 별도 DB를 사용하세요. 접속 정보는 환경 변수로 지정합니다.
+ * CHAT_BENCH_JDBC_URL (기본 jdbc:postgresql://localhost:5432/gyeonggi_bench),
+ * CHAT_BENCH_DB_USER, CHAT_BENCH_DB_PASSWORD (기본 postgres)</p>
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ChatHistoryQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatHistoryQueryBenchmark {
+
+    private static final long TOTAL_ROWS = 10_000_000L;
+    private static final long SEED_CHUNK = 1_000_000L;
+    private static final int COLD_ROOMS = 99;
+    private static final int PAGE_SIZE = 30;
+
+    private static final String BENCH_LOGIN_ID = "chat-bench";
+    private static final String HOT_ROOM_TITLE = "chat-bench-hot";
+    private static final String COLD_ROOM_TITLE = "chat-bench-cold";
+
+    /** ChatJpaRepository.findHistory 와 같은 SQL */
+    private static final String KEYSET_SQL = """
+            SELECT c.chat_id, c.room_id, c.sender_id, u.nickname, c.content, c.chat_type, c.created_at
+            FROM chat c
+            LEFT JOIN users u ON u.user_id = c.sender_id
+            WHERE c.room_id = ? AND c.created_at <= ? AND (c.created_at < ? OR c.chat_id < ?)
+            ORDER BY c.created_at DESC, c.chat_id DESC
+            LIMIT ?
+            """;
+
+    /** 비교 기준: 같은 페이지를 OFFSET 으로 조회 */
+    private static final String OFFSET_SQL = """
+            SELECT c.chat_id, c.room_id, c.sender_id, u.nickname, c.content, c.chat_type, c.created_at
+            FROM chat c
+            LEFT JOIN users u ON u.user_id = c.sender_id
+            WHERE c.room_id = ?
+            ORDER BY c.created_at DESC, c.chat_id DESC
+            LIMIT ? OFFSET ?
+            """;
+
+    /** 최신 메시지로부터 몇 건 뒤의 페이지를 읽을지 */
+    @Param({"0", "10000", "1000000", "4000000"})
+    public long depth;
+
+    private Connection connection;
+    private PreparedStatement keysetStatement;
+    private PreparedStatement offsetStatement;
+    private long hotRoomId;
+    private Timestamp cursorCreatedAt;
+    private long cursorChatId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("CHAT_BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/gyeonggi_bench"),
+                env("CHAT_BENCH_DB_USER", "postgres"),
+                env("CHAT_BENCH_DB_PASSWORD", "postgres"));
+
+        long senderId = ensureSender();
+        hotRoomId = ensureRoom(HOT_ROOM_TITLE);
+        long[] coldRoomIds = new long[COLD_ROOMS];
+        for (int i = 0; i < COLD_ROOMS; i++) {
+            coldRoomIds[i] = ensureRoom(COLD_ROOM_TITLE + "-" + i);
+        }
+        seed(senderId, coldRoomIds);
+
+        cursorAt(depth);
+        keysetStatement = connection.prepareStatement(KEYSET_SQL);
+        offsetStatement = connection.prepareStatement(OFFSET_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void keyset(Blackhole blackhole) throws SQLException {
+        keysetStatement.setLong(1, hotRoomId);
+        keysetStatement.setTimestamp(2, cursorCreatedAt);
+        keysetStatement.setTimestamp(3, cursorCreatedAt);
+        keysetStatement.setLong(4, cursorChatId);
+        keysetStatement.setInt(5, PAGE_SIZE);
+        consume(keysetStatement, blackhole);
+    }
+
+    @Benchmark
+    public void offset(Blackhole blackhole) throws SQLException {
+        offsetStatement.setLong(1, hotRoomId);
+        offsetStatement.setInt(2, PAGE_SIZE);
+        offsetStatement.setLong(3, depth);
+        consume(offsetStatement, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getString(4));
+                blackhole.consume(rs.getString(5));
+                blackhole.consume(rs.getTimestamp(7));
+            }
+        }
+    }
+
+    // ================= 데이터 준비 =================
+
+    private long ensureSender() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO users (login_id, login_pw, name, nickname, email, phone_number)
+                VALUES (?, 'x', '벤치마크', ?, ?, '000-0000-0000')
+                ON CONFLICT DO NOTHING
+                """)) {
+            insert.setString(1, BENCH_LOGIN_ID);
+            insert.setString(2, BENCH_LOGIN_ID);
+            insert.setString(3, BENCH_LOGIN_ID + "@example.com");
+            insert.executeUpdate();
+        }
+        return queryLong("SELECT user_id FROM users WHERE login_id = ?", BENCH_LOGIN_ID);
+    }
+
+    private long ensureRoom(String title) throws SQLException {
+        Long roomId = queryLongOrNull("SELECT room_id FROM discussion_rooms WHERE title = ?", title);
+        if (roomId != null) {
+            return roomId;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO discussion_rooms (title, region) VALUES (?, 'SUWON') RETURNING room_id")) {
+            insert.setString(1, title);
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 짝수 행은 hot 논의방, 홀수 행은 나머지 논의방에 고르게 넣습니다. 이미 채워져 있으면 건너뜁니다.
+     */
+    private void seed(long senderId, long[] coldRoomIds) throws SQLException {
+        Array coldRooms = connection.createArrayOf("bigint", box(coldRoomIds));
+        long existing;
+        try (PreparedStatement count = connection.prepareStatement(
+                "SELECT count(*) FROM chat WHERE room_id = ? OR room_id = ANY(?)")) {
+            count.setLong(1, hotRoomId);
+            count.setArray(2, coldRooms);
+            try (ResultSet rs = count.executeQuery()) {
+                rs.next();
+                existing = rs.getLong(1);
+            }
+        }
+        if (existing >= TOTAL_ROWS) {
+            return;
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO chat (room_id, sender_id, content, chat_type, created_at)
+                SELECT CASE WHEN g % 2 = 0 THEN ? ELSE (?::bigint[])[1 + (g / 2) % ?] END,
+                       ?,
+                       '벤치마크 메시지 ' || g || ' - 경기도 정책 제안에 대한 의견을 나눕니다.',
+                       'TEXT',
+                       now() - make_interval(secs => ? - g)
+                FROM generate_series(?, ?) AS g
+                """)) {
+            for (long from = existing; from < TOTAL_ROWS; from += SEED_CHUNK) {
+                long to = Math.min(from + SEED_CHUNK, TOTAL_ROWS) - 1;
+                insert.setLong(1, hotRoomId);
+                insert.setArray(2, coldRooms);
+                insert.setInt(3, COLD_ROOMS);
+                insert.setLong(4, senderId);
+                insert.setLong(5, TOTAL_ROWS);
+                insert.setLong(6, from);
+                insert.setLong(7, to);
+                insert.executeUpdate();
+            }
+        }
+        try (Statement analyze = connection.createStatement()) {
+            analyze.execute("VACUUM ANALYZE chat");
+        }
+    }
+
+    /**
+     * depth 건을 건너뛴 지점의 커서 (앞 페이지의 마지막 행, 즉 depth 번째 행보다 오래된 행부터 읽음)
+     */
+    private void cursorAt(long depth) throws SQLException {
+        if (depth == 0) {
+            cursorCreatedAt = Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+            cursorChatId = Long.MAX_VALUE;
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT created_at, chat_id FROM chat WHERE room_id = ?
+                ORDER BY created_at DESC, chat_id DESC OFFSET ? LIMIT 1
+                """)) {
+            statement.setLong(1, hotRoomId);
+            statement.setLong(2, depth - 1);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalStateException("depth " + depth + " 만큼의 메시지가 없습니다.");
+                }
+                cursorCreatedAt = rs.getTimestamp(1);
+                cursorChatId = rs.getLong(2);
+            }
+        }
+    }
+
+    private long queryLong(String sql, String param) throws SQLException {
+        Long value = queryLongOrNull(sql, param);
+        if (value == null) {
+            throw new IllegalStateException("조회 결과가 없습니다: " + sql);
+        }
+        return value;
+    }
+
+    private Long queryLongOrNull(String sql, String param) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, param);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private static Long[] box(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
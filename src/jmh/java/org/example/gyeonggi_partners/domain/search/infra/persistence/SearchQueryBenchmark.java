@@ -0,0 +1,260 @@
+package org.example.gyeonggi_partners.domain.search.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchCursor;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchMode;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchTerms;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅/제안서 검색 지연 시간 (실제 PostgreSQL 대상)
+ *
+ * <p>chat 100만 건, proposals 10만 건을 논의방 100개에 고르게 처음 한 번만 채워 두고,
+ * 그중 20개 논의방에 참여한 사용자가 첫 페이지(21건)를 검색하는 시간을 잽니다.
+ * SampleTime 모드이므로 결과에 p0.50 / p0.99 등 백분위 지연 시간이 함께 나옵니다.</p>
+ *
+ * <ul>
+ *   <li>도로: 거의 모든 행에 나오는 흔한 단어 (점수 계산 대상이 가장 많음)</li>
+ *   <li>싱크홀: 1만 건에 한 번 나오는 드문 단어</li>
+ *   <li>자전거 주차장: 두 단어 AND</li>
+ *   <li>trigram: 어절 중간의 부분 문자열 "거도로" (자전거도로)</li>
+ * </ul>
+ *
+ * <p>V1 ~ V4 마이그레이션이 적용된 별도 DB를 사용하세요. 접속 정보는 ChatHistoryQueryBenchmark 와 같은 환경 변수를 씁니다.
+ * CHAT_BENCH_JDBC_URL (기본 jdbc:postgresql://localhost:5432/gyeonggi_bench),
+ * CHAT_BENCH_DB_USER, CHAT_BENCH_DB_PASSWORD (기본 postgres)</p>
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SearchQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchQueryBenchmark {
+
+    private static final long CHAT_ROWS = 1_000_000L;
+    private static final long PROPOSAL_ROWS = 100_000L;
+    private static final int ROOMS = 100;
+    private static final int MEMBER_ROOMS = 20;
+    private static final int LIMIT = 21;
+
+    private static final String BENCH_LOGIN_ID = "search-bench";
+    private static final String ROOM_TITLE_PREFIX = "search-bench-";
+    private static final String TRIGRAM_QUERY = "거도로";
+
+    /**
+     * 행 번호로 골라 쓰는 어절 (조사가 붙은 형태 포함), 1만 건에 한 번은 "싱크홀"을 넣음
+     */
+    private static final String WORDS = """
+            ARRAY['도로가','도로를','자전거','자전거도로','주차장이','주차장','버스','정류장','공원에','쓰레기',
+                  '분리수거','가로등이','횡단보도','어린이','보호구역','소음','민원','예산','주민','안전']
+            """;
+
+    @Param({"도로", "싱크홀", "자전거 주차장"})
+    public String query;
+
+    private Connection connection;
+    private PreparedStatement chatText;
+    private PreparedStatement chatTrigram;
+    private PreparedStatement proposalText;
+    private SearchTerms terms;
+    private SearchTerms trigramTerms;
+    private long[] memberRoomIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                env("CHAT_BENCH_JDBC_URL", "jdbc:postgresql://localhost:5432/gyeonggi_bench"),
+                env("CHAT_BENCH_DB_USER", "postgres"),
+                env("CHAT_BENCH_DB_PASSWORD", "postgres"));
+
+        long senderId = ensureSender();
+        long[] roomIds = new long[ROOMS];
+        for (int i = 0; i < ROOMS; i++) {
+            roomIds[i] = ensureRoom(ROOM_TITLE_PREFIX + i);
+        }
+        memberRoomIds = Arrays.copyOf(roomIds, MEMBER_ROOMS);
+        seedChats(senderId, roomIds);
+        seedProposals(senderId, roomIds);
+
+        terms = SearchTerms.parse(query);
+        trigramTerms = SearchTerms.parse(TRIGRAM_QUERY);
+        chatText = connection.prepareStatement(PostgresSearchRepository.CHAT_TEXT_SQL);
+        chatTrigram = connection.prepareStatement(PostgresSearchRepository.CHAT_TRIGRAM_SQL);
+        proposalText = connection.prepareStatement(PostgresSearchRepository.PROPOSAL_TEXT_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void chatText(Blackhole blackhole) throws SQLException {
+        PostgresSearchRepository.bind(chatText, terms, memberRoomIds, SearchCursor.first(SearchMode.TEXT), LIMIT);
+        consume(chatText, blackhole);
+    }
+
+    @Benchmark
+    public void proposalText(Blackhole blackhole) throws SQLException {
+        PostgresSearchRepository.bind(proposalText, terms, memberRoomIds, SearchCursor.first(SearchMode.TEXT), LIMIT);
+        consume(proposalText, blackhole);
+    }
+
+    /**
+     * query 와 상관없이 TRIGRAM_QUERY 로 검색 (query 별로 같은 값이 반복해서 나옴)
+     */
+    @Benchmark
+    public void chatTrigram(Blackhole blackhole) throws SQLException {
+        PostgresSearchRepository.bind(chatTrigram, trigramTerms, memberRoomIds,
+                SearchCursor.first(SearchMode.TRIGRAM), LIMIT);
+        consume(chatTrigram, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getString(3));
+                blackhole.consume(rs.getFloat("rank"));
+            }
+        }
+    }
+
+    // ================= 데이터 준비 =================
+
+    private long ensureSender() throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO users (login_id, login_pw, name, nickname, email, phone_number)
+                VALUES (?, 'x', '벤치마크', ?, ?, '000-0000-0001')
+                ON CONFLICT DO NOTHING
+                """)) {
+            insert.setString(1, BENCH_LOGIN_ID);
+            insert.setString(2, BENCH_LOGIN_ID);
+            insert.setString(3, BENCH_LOGIN_ID + "@example.com");
+            insert.executeUpdate();
+        }
+        Long userId = queryLongOrNull("SELECT user_id FROM users WHERE login_id = ?", BENCH_LOGIN_ID);
+        if (userId == null) {
+            throw new IllegalStateException("벤치마크 사용자를 만들지 못했습니다.");
+        }
+        return userId;
+    }
+
+    private long ensureRoom(String title) throws SQLException {
+        Long roomId = queryLongOrNull("SELECT room_id FROM discussion_rooms WHERE title = ?", title);
+        if (roomId != null) {
+            return roomId;
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO discussion_rooms (title, region) VALUES (?, 'SUWON') RETURNING room_id")) {
+            insert.setString(1, title);
+            try (ResultSet rs = insert.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 행 번호로 어절 네 개를 골라 문장을 만듭니다. 이미 채워져 있으면 건너뜁니다.
+     */
+    private void seedChats(long senderId, long[] roomIds) throws SQLException {
+        if (count("SELECT count(*) FROM chat WHERE sender_id = " + senderId) >= CHAT_ROWS) {
+            return;
+        }
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO chat (room_id, sender_id, content, chat_type)
+                SELECT (?::bigint[])[1 + g % ?], ?,
+                       w[1 + g % 20] || ' ' || w[1 + (g / 20) % 20] || ' 관련해서 ' || w[1 + (g / 400) % 20] || ' '
+                           || w[1 + (g / 8000) % 20] || CASE WHEN g % 10000 = 0 THEN ' 싱크홀 발생' ELSE '' END
+                           || ' 의견을 나눕니다.',
+                       'TEXT'
+                FROM generate_series(1, ?) AS g, (SELECT {WORDS} AS w) AS words
+                """.replace("{WORDS}", WORDS))) {
+            insert.setArray(1, connection.createArrayOf("bigint", box(roomIds)));
+            insert.setInt(2, roomIds.length);
+            insert.setLong(3, senderId);
+            insert.setLong(4, CHAT_ROWS);
+            insert.executeUpdate();
+        }
+        analyze("chat");
+    }
+
+    private void seedProposals(long authorId, long[] roomIds) throws SQLException {
+        if (count("SELECT count(*) FROM proposals WHERE author_id = " + authorId) >= PROPOSAL_ROWS) {
+            return;
+        }
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO proposals (room_id, author_id, title, contents)
+                SELECT (?::bigint[])[1 + g % ?], ?,
+                       w[1 + g % 20] || ' 개선 제안 ' || g,
+                       jsonb_build_object('sections', jsonb_build_array(
+                           jsonb_build_object('heading', '현황', 'body',
+                               w[1 + (g / 20) % 20] || ' ' || w[1 + (g / 400) % 20] || ' 문제가 반복됩니다.'
+                               || CASE WHEN g % 10000 = 0 THEN ' 싱크홀 위험' ELSE '' END),
+                           jsonb_build_object('heading', '제안', 'body',
+                               w[1 + (g / 7) % 20] || ' 예산을 편성해 주세요.')))
+                FROM generate_series(1, ?) AS g, (SELECT {WORDS} AS w) AS words
+                """.replace("{WORDS}", WORDS))) {
+            insert.setArray(1, connection.createArrayOf("bigint", box(roomIds)));
+            insert.setInt(2, roomIds.length);
+            insert.setLong(3, authorId);
+            insert.setLong(4, PROPOSAL_ROWS);
+            insert.executeUpdate();
+        }
+        analyze("proposals");
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void analyze(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+    }
+
+    private Long queryLongOrNull(String sql, String param) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, param);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private static Long[] box(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.gyeonggi_partners.domain.user.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 회원가입 시 User.create 도메인 검증(이메일/전화번호 정규식 포함) 비용
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserCreateBenchmark
+ */
+@State(Scope.Benchmark)
+public class UserCreateBenchmark {
+
+    // BCrypt 결과 형식의 고정 해시 (암호화 비용은 측정 대상이 아님)
+    private static final String ENCODED_PASSWORD =
+            "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3oAnZYGJb1a8yBQe5u7rNdK";
+
+    private final String loginId = "newuser123";
+    private final String name = "홍길동";
+    private final String nickname = "길동이";
+    private final String email = "hong@example.com";
+    private final String phoneNumber = "010-1234-5678";
+
+    @Benchmark
+    public User create() {
+        return User.create(loginId, ENCODED_PASSWORD, name, nickname, email, phoneNumber);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.gyeonggi_partners.domain.user.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.user.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * User 도메인 모델 ↔ UserEntity 매핑 비용
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=UserEntityMappingBenchmark
+ */
+@State(Scope.Benchmark)
+public class UserEntityMappingBenchmark {
+
+    private User user;
+    private UserEntity entity;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        user = User.restore(1L, "newuser123",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3oAnZYGJb1a8yBQe5u7rNdK",
+                "홍길동", "길동이", "hong@example.com", "010-1234-5678", "USER",
+                now, now, null);
+        entity = UserEntity.fromDomain(user);
+    }
+
+    @Benchmark
+    public UserEntity fromDomain() {
+        return UserEntity.fromDomain(user);
+    }
+
+    @Benchmark
+    public User toDomain() {
+        return entity.toDomain();
+    }
+}
@@ -0,0 +1,334 @@
+package org.example.gyeonggi_partners.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 채팅 WebSocket(STOMP) 부하 테스트
+ *
+ * <p>사용자 수만큼 STOMP 연결을 열어 각자 자기 논의방을 구독한 뒤, 정해진 속도로 메시지를 보내면서
+ * 전달률과 전달 지연(보낸 시각 → 구독자 수신 시각)을 측정합니다.</p>
+ *
+ * <pre>
+ * 1. psql -v users=10000 -v rooms=100 -f src/loadTest/resources/seed-chat-load.sql
+ * 2. ulimit -n 65535   (서버, 부하 발생기 모두)
+ * 3. ./gradlew chatLoadTest -PloadTest.args="--jwt-secret=... --users-file=chat-load-users.csv"
+ * </pre>
+ *
+ * 옵션 (기본값)
+ * <ul>
+ *   <li>--url=ws://localhost:8080/ws-stomp</li>
+ *   <li>--users-file=chat-load-users.csv : seed 스크립트가 만든 user_id,login_id,room_id</li>
+ *   <li>--jwt-secret= : 서버의 jwt.secret (Base64), Access Token을 직접 발급하는 데 사용</li>
+ *   <li>--connections=10000 : 열 연결 수 (users-file 행 수를 넘을 수 없음)</li>
+ *   <li>--connect-concurrency=500 : 동시에 진행할 연결 시도 수</li>
+ *   <li>--messages-per-second=200 : 전체 전송 속도</li>
+ *   <li>--duration-seconds=60 : 전송 시간</li>
+ * </ul>
+ */
+public final class ChatLoadTest {
+
+    private static final String CONTENT_PREFIX = "load:";
+
+    private final Options options;
+    private final Stats stats = new Stats();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final Map<Long, AtomicInteger> subscribersByRoom = new ConcurrentHashMap<>();
+
+    private ChatLoadTest(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ChatLoadTest(Options.parse(args)).run();
+    }
+
+    private void run() throws Exception {
+        List<LoadUser> users = readUsers(Path.of(options.usersFile), options.connections);
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(options.jwtSecret));
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(4);
+        heartbeatScheduler.setThreadNamePrefix("load-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10_000, 10_000});
+
+        // 1. 연결 + 구독
+        long connectStart = System.nanoTime();
+        Semaphore inflight = new Semaphore(options.connectConcurrency);
+        for (LoadUser user : users) {
+            inflight.acquire();
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + issueToken(key, user));
+
+            stompClient.connectAsync(options.url, new WebSocketHttpHeaders(), connectHeaders, new LoadSessionHandler(user))
+                    .whenComplete((session, ex) -> {
+                        inflight.release();
+                        if (ex != null) {
+                            stats.connectFailed.increment();
+                        }
+                    });
+        }
+        inflight.acquire(options.connectConcurrency);
+        inflight.release(options.connectConcurrency);
+        // SUBSCRIBE 처리 대기
+        TimeUnit.SECONDS.sleep(2);
+
+        System.out.printf("연결 완료: %d/%d (실패 %d), 소요 %.1fs%n",
+                connections.size(), users.size(), stats.connectFailed.sum(),
+                (System.nanoTime() - connectStart) / 1e9);
+
+        // 2. 전송
+        ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor();
+        long perTick = Math.max(1, options.messagesPerSecond / 100);
+        sender.scheduleAtFixedRate(this::sendBatch, 0, 10, TimeUnit.MILLISECONDS);
+        for (int second = 1; second <= options.durationSeconds; second++) {
+            TimeUnit.SECONDS.sleep(1);
+            if (second % 10 == 0) {
+                System.out.printf("[%ds] 전송 %d, 수신 %d, 끊김 %d%n",
+                        second, stats.sent.sum(), stats.received.sum(), stats.disconnected.sum());
+            }
+        }
+        sender.shutdownNow();
+
+        // 마지막 메시지가 도착할 시간
+        TimeUnit.SECONDS.sleep(3);
+        stats.print(perTick * 100L);
+
+        connections.forEach(connection -> connection.session.disconnect());
+        stompClient.stop();
+        heartbeatScheduler.shutdown();
+    }
+
+    private void sendBatch() {
+        if (connections.isEmpty()) {
+            return;
+        }
+        long perTick = Math.max(1, options.messagesPerSecond / 100);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < perTick; i++) {
+            Connection connection = connections.get(random.nextInt(connections.size()));
+            if (!connection.session.isConnected()) {
+                continue;
+            }
+            AtomicInteger subscribers = subscribersByRoom.get(connection.user.roomId());
+            stats.expectedDeliveries.add(subscribers != null ? subscribers.get() : 0);
+            stats.sent.increment();
+            connection.session.send(
+                    "/app/rooms/" + connection.user.roomId() + "/messages",
+                    Map.of("content", CONTENT_PREFIX + System.nanoTime()));
+        }
+    }
+
+    private static String issueToken(SecretKey key, LoadUser user) {
+        return Jwts.builder()
+                .subject(user.loginId())
+                .claim("role", "ROLE_USER")
+                .claim("userId", user.userId())
+                .claim("nickname", user.loginId())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2)))
+                .signWith(key)
+                .compact();
+    }
+
+    private static List<LoadUser> readUsers(Path file, int limit) throws IOException {
+        List<LoadUser> users = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (users.size() >= limit) {
+                break;
+            }
+            String[] columns = line.split(",");
+            if (columns.length < 3) {
+                continue;
+            }
+            users.add(new LoadUser(Long.parseLong(columns[0].trim()), columns[1].trim(), Long.parseLong(columns[2].trim())));
+        }
+        return users;
+    }
+
+    /**
+     * 연결 하나의 STOMP 세션 처리
+     */
+    private final class LoadSessionHandler extends StompSessionHandlerAdapter {
+
+        private final LoadUser user;
+
+        private LoadSessionHandler(LoadUser user) {
+            this.user = user;
+        }
+
+        @Override
+        public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+            session.subscribe("/topic/rooms/" + user.roomId(), new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    onMessage((Map<?, ?>) payload);
+                }
+            });
+            session.subscribe("/user/queue/errors", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return Map.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    stats.sendErrors.increment();
+                }
+            });
+            subscribersByRoom.computeIfAbsent(user.roomId(), roomId -> new AtomicInteger()).incrementAndGet();
+            connections.add(new Connection(user, session));
+        }
+
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            stats.frameErrors.increment();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            if (connections.removeIf(connection -> connection.session == session)) {
+                subscribersByRoom.get(user.roomId()).decrementAndGet();
+                stats.disconnected.increment();
+            }
+        }
+
+        private void onMessage(Map<?, ?> payload) {
+            stats.received.increment();
+            Object content = payload.get("content");
+            if (content instanceof String text && text.startsWith(CONTENT_PREFIX)) {
+                long sentAt = Long.parseLong(text.substring(CONTENT_PREFIX.length()));
+                stats.recordLatency(System.nanoTime() - sentAt);
+            }
+        }
+    }
+
+    private record LoadUser(long userId, String loginId, long roomId) {
+    }
+
+    private record Connection(LoadUser user, StompSession session) {
+    }
+
+    /**
+     * 결과 집계 (지연은 1ms 단위 히스토그램, 10초 이상은 마지막 칸)
+     */
+    private static final class Stats {
+
+        private static final int MAX_LATENCY_MILLIS = 10_000;
+
+        private final LongAdder connectFailed = new LongAdder();
+        private final LongAdder disconnected = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder expectedDeliveries = new LongAdder();
+        private final LongAdder received = new LongAdder();
+        private final LongAdder sendErrors = new LongAdder();
+        private final LongAdder frameErrors = new LongAdder();
+        private final AtomicLongArray latencyMillis = new AtomicLongArray(MAX_LATENCY_MILLIS + 1);
+
+        private void recordLatency(long nanos) {
+            int millis = (int) Math.min(MAX_LATENCY_MILLIS, TimeUnit.NANOSECONDS.toMillis(nanos));
+            latencyMillis.incrementAndGet(millis);
+        }
+
+        private void print(long targetRate) {
+            long expected = expectedDeliveries.sum();
+            System.out.println("===== 채팅 부하 테스트 결과 =====");
+            System.out.printf("목표 전송 속도    : %d msg/s%n", targetRate);
+            System.out.printf("연결 실패 / 끊김  : %d / %d%n", connectFailed.sum(), disconnected.sum());
+            System.out.printf("전송              : %d (에러 응답 %d, ERROR 프레임 %d)%n",
+                    sent.sum(), sendErrors.sum(), frameErrors.sum());
+            System.out.printf("수신 / 기대 수신  : %d / %d (%.2f%%)%n",
+                    received.sum(), expected, expected == 0 ? 0.0 : received.sum() * 100.0 / expected);
+            System.out.printf("전달 지연 (ms)    : p50=%d p95=%d p99=%d max=%d%n",
+                    percentile(0.50), percentile(0.95), percentile(0.99), percentile(1.0));
+        }
+
+        private long percentile(double quantile) {
+            long total = 0;
+            for (int i = 0; i <= MAX_LATENCY_MILLIS; i++) {
+                total += latencyMillis.get(i);
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * quantile);
+            long seen = 0;
+            for (int i = 0; i <= MAX_LATENCY_MILLIS; i++) {
+                seen += latencyMillis.get(i);
+                if (seen >= rank) {
+                    return i;
+                }
+            }
+            return MAX_LATENCY_MILLIS;
+        }
+    }
+
+    private record Options(String url, String usersFile, String jwtSecret, int connections,
+                           int connectConcurrency, long messagesPerSecond, int durationSeconds) {
+
+        private static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (arg.startsWith("--") && arg.contains("=")) {
+                    int separator = arg.indexOf('=');
+                    values.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            }
+            String jwtSecret = values.get("jwt-secret");
+            if (jwtSecret == null || jwtSecret.isBlank()) {
+                throw new IllegalArgumentException("--jwt-secret 는 필수입니다. (서버의 jwt.secret 값)");
+            }
+            return new Options(
+                    values.getOrDefault("url", "ws://localhost:8080/ws-stomp"),
+                    values.getOrDefault("users-file", "chat-load-users.csv"),
+                    jwtSecret,
+                    Integer.parseInt(values.getOrDefault("connections", "10000")),
+                    Integer.parseInt(values.getOrDefault("connect-concurrency", "500")),
+                    Long.parseLong(values.getOrDefault("messages-per-second", "200")),
+                    Integer.parseInt(values.getOrDefault("duration-seconds", "60"))
+            );
+        }
+    }
+}
@@ -0,0 +1,38 @@
+-- 채팅 부하 테스트용 사용자 / 논의방 / 멤버 생성
+-- 사용법: psql -v users=10000 -v rooms=100 -f src/loadTest/resources/seed-chat-load.sql
+-- 실행하면 현재 디렉터리에 chat-load-users.csv (user_id,login_id,room_id) 가 만들어집니다.
+-- 여러 번 실행해도 이미 있는 데이터는 건너뜁니다.
+
+INSERT INTO users (login_id, login_pw, name, nickname, email, phone_number)
+SELECT 'load_user_' || n,
+       '{noop}load-test',
+       '부하테스트',
+       'load_' || n,
+       'load_' || n || '@load.test',
+       '010-load-' || n
+FROM generate_series(1, :users) AS n
+ON CONFLICT DO NOTHING;
+
+INSERT INTO discussion_rooms (title, description, region)
+SELECT '부하 테스트 방 ' || n, '채팅 부하 테스트용', 'SUWON'
+FROM generate_series(1, :rooms) AS n
+WHERE NOT EXISTS (SELECT 1 FROM discussion_rooms d WHERE d.title = '부하 테스트 방 ' || n);
+
+-- n번째 사용자 → (n % rooms)번째 방
+WITH load_users AS (
+    SELECT user_id, login_id, row_number() OVER (ORDER BY user_id) - 1 AS idx
+    FROM users
+    WHERE login_id LIKE 'load\_user\_%'
+),
+load_rooms AS (
+    SELECT room_id, row_number() OVER (ORDER BY room_id) - 1 AS idx
+    FROM discussion_rooms
+    WHERE title LIKE '부하 테스트 방 %'
+)
+INSERT INTO members (user_id, room_id)
+SELECT u.user_id, r.room_id
+FROM load_users u
+JOIN load_rooms r ON r.idx = u.idx % :rooms
+ON CONFLICT DO NOTHING;
+
+\copy (SELECT m.user_id, u.login_id, m.room_id FROM members m JOIN users u ON u.user_id = m.user_id WHERE u.login_id LIKE 'load\_user\_%' ORDER BY m.user_id) TO 'chat-load-users.csv' WITH CSV
@@ -1,12 +1,40 @@
 package org.example.gyeonggi_partners;
 
 import org.example.gyeonggi_partners.common.jwt.JwtProperties;
+import org.example.gyeonggi_partners.common.ratelimit.RateLimitProperties;
+import org.example.gyeonggi_partners.common.security.PasswordHashingProperties;
+import org.example.gyeonggi_partners.domain.discussionRoom.infra.listing.RoomListingProperties;
+import org.example.gyeonggi_partners.domain.discussionRoom.infra.membership.MembershipIndexProperties;
+import org.example.gyeonggi_partners.domain.discussionRoom.infra.presence.PresenceProperties;
+import org.example.gyeonggi_partners.domain.message.infra.cache.ChatRecentCacheProperties;
+import org.example.gyeonggi_partners.domain.message.infra.persistence.ChatWriteBehindProperties;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.ChatWebSocketProperties;
+import org.example.gyeonggi_partners.domain.proposal.infra.editing.ProposalEditProperties;
+import org.example.gyeonggi_partners.domain.proposal.infra.scheduler.ConsentDeadlineProperties;
+import org.example.gyeonggi_partners.domain.user.infra.bloom.UserBloomFilterProperties;
+import org.example.gyeonggi_partners.domain.user.infra.cache.UserSnapshotCacheProperties;
+import org.example.gyeonggi_partners.domain.user.infra.notification.MailDispatchProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+        JwtProperties.class,
+        PasswordHashingProperties.class,
+        MailDispatchProperties.class,
+        UserBloomFilterProperties.class,
+        UserSnapshotCacheProperties.class,
+        ChatWebSocketProperties.class,
+        ChatWriteBehindProperties.class,
+        ChatRecentCacheProperties.class,
+        MembershipIndexProperties.class,
+        PresenceProperties.class,
+        RoomListingProperties.class,
+        ProposalEditProperties.class,
+        ConsentDeadlineProperties.class,
+        RateLimitProperties.class
+})
 public class GyeonggiPartnersApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,35 @@
+package org.example.gyeonggi_partners.common.exception;
+
+/**
+ * 특정 도메인에 속하지 않는 공통 에러 코드
+ */
+public enum CommonErrorCode implements ErrorCode {
+
+    TOO_MANY_REQUESTS(429, "G001", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    PAYLOAD_TOO_LARGE(413, "G002", "요청 본문이 너무 큽니다.");
+
+    private final int status;
+    private final String code;
+    private final String message;
+
+    CommonErrorCode(int status, String code, String message) {
+        this.status = status;
+        this.code = code;
+        this.message = message;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -2,8 +2,11 @@ package org.example.gyeonggi_partners.common.jwt;
 
 import lombok.RequiredArgsConstructor;
 import org.example.gyeonggi_partners.domain.user.domain.model.User;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserSnapshot;
 import org.example.gyeonggi_partners.domain.user.domain.repository.UserRepository;
+import org.example.gyeonggi_partners.domain.user.domain.repository.UserSnapshotRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,9 +14,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserSnapshotRepository userSnapshotRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -25,6 +29,37 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException(loginId + " -> 데이터베이스에서 찾을 수 없습니다."));
     }
 
+    /**
+     * userId로 사용자 정보를 조회합니다. (토큰 재발급용, 비밀번호 없음)
+     * 캐시된 스냅샷을 사용하므로 대부분 DB를 거치지 않습니다.
+     */
+    public CustomUserDetails loadUserByUserId(Long userId) throws UsernameNotFoundException {
+        return userSnapshotRepository.findById(userId)
+                .map(UserSnapshot::toUserDetails)
+                .orElseThrow(() -> new UsernameNotFoundException(userId + " -> 데이터베이스에서 찾을 수 없습니다."));
+    }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost 가 현재 설정과 다르면 Spring Security가 호출합니다.
+     * (PasswordEncoder.upgradeEncoding → 평문 비밀번호로 재해싱 → 여기서 저장)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails userDetails = (CustomUserDetails) user;
+        userRepository.updatePassword(userDetails.getUserId(), newPassword);
+
+        return new CustomUserDetails(
+                userDetails.getUserId(),
+                userDetails.getNickname(),
+                userDetails.getEmail(),
+                userDetails.getRole(),
+                userDetails.getLoginId(),
+                newPassword,
+                userDetails.getAuthorities()
+        );
+    }
+
     // DB의 User 모델을 Spring Security가 이해할 수 있는 UserDetails 객체로 변환합니다.
     private UserDetails createUserDetails(User user) {
         return user.toUserDetails();
@@ -0,0 +1,114 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 Access Token의 Authentication 객체를 보관하는 로컬 캐시
+ *
+ * <p>같은 Access Token이 만료 전까지 반복해서 들어오므로, 한 번 서명 검증과 파싱을 마친 결과를
+ * 토큰 다이제스트를 키로 저장해 두고 토큰의 만료 시각(exp)까지 재사용합니다.</p>
+ *
+ * <ul>
+ *   <li>Key: 토큰의 SHA-256 다이제스트 (토큰 원문은 메모리에 남기지 않음)</li>
+ *   <li>Value: Authentication + 토큰 만료 시각</li>
+ *   <li>크기: jwt.authentication-cache-size 로 제한</li>
+ * </ul>
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public JwtAuthenticationCache(JwtTokenProvider jwtTokenProvider,
+                                  JwtProperties jwtProperties,
+                                  MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getAuthenticationCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.hitCounter = Counter.builder("jwt.authentication.cache")
+                .tag("result", "hit")
+                .description("캐시에서 바로 꺼낸 Access Token 인증 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("jwt.authentication.cache")
+                .tag("result", "miss")
+                .description("서명 검증과 파싱을 수행한 Access Token 인증 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Access Token으로 Authentication 객체를 조회합니다.
+     * 캐시에 없으면 서명 검증과 파싱을 한 번만 수행한 뒤 만료 시각까지 캐시합니다.
+     *
+     * @param accessToken Access Token
+     * @return 인증 정보 (유효하지 않거나 Access Token이 아니면 null)
+     */
+    public Authentication resolve(String accessToken) {
+        String key = TokenDigests.sha256(accessToken);
+
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            hitCounter.increment();
+            return cached.authentication();
+        }
+        missCounter.increment();
+
+        Claims claims = jwtTokenProvider.parseAccessClaims(accessToken);
+        if (claims == null) {
+            return null;
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+        if (claims.getExpiration() != null) {
+            cache.put(key, new CachedAuthentication(authentication, claims.getExpiration().getTime()));
+        }
+        return authentication;
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        long remainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 항목마다 토큰의 exp 까지만 살아있도록 하는 만료 정책
+     */
+    private static class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return value.remainingNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -24,7 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // 1. OncePe
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtTokenProvider jwtTokenProvider; // 2. JwtTokenProvider 의존성 주입
+    private final JwtAuthenticationCache jwtAuthenticationCache; // 2. 검증 결과 캐시 의존성 주입
 
     // 3. 필터의 핵심 로직 구현
     @Override
@@ -34,11 +34,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // 1. OncePe
         // 4. 요청 헤더에서 JWT 토큰을 추출
         String jwt = resolveToken(request);
 
-        // 5. 토큰 유효성 검증
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            // 6. 토큰이 유효할 경우, 토큰에서 Authentication 객체를 가져와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-            SecurityContextHolder.getContext().setAuthentication(authentication); // 7. SecurityContext에 저장
+        // 5. 토큰 검증 + Authentication 생성 (서명 검증은 캐시 미스일 때 한 번만 수행)
+        if (StringUtils.hasText(jwt)) {
+            Authentication authentication = jwtAuthenticationCache.resolve(jwt);
+            // 6. 토큰이 유효할 경우에만 SecurityContext에 저장
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication); // 7. SecurityContext에 저장
+            }
         }
 
         // 8. 다음 필터 체인으로 요청을 전달
@@ -46,11 +48,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // 1. OncePe
     }
 
     /**
-     * HttpServletRequest의 헤더에서 Bearer 토큰을 추출하는 private 메서드
+     * HttpServletRequest의 헤더에서 Bearer 토큰을 추출하는 메서드
+     * (벤치마크에서 직접 호출할 수 있도록 package-private)
      * @param request 들어온 요청
      * @return 추출된 토큰 문자열 (없으면 null)
      */
-    private String resolveToken(HttpServletRequest request) {
+    String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken)) {
             // "Bearer "로 시작하면 제거
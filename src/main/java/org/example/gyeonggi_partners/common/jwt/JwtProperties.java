@@ -30,4 +30,10 @@ public class JwtProperties {
 
 
     private Long refreshTokenExpiration;
+
+    /**
+     * 검증이 끝난 Access Token의 인증 정보를 보관하는 로컬 캐시 최대 크기
+     * 기본값: 10000개
+     */
+    private int authenticationCacheSize = 10_000;
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gyeonggi_partners.common.dto.TokenDto;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserRole;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -18,6 +19,10 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,50 +31,118 @@ public class JwtTokenProvider {
 
     private static final String AUTHORITIES_KEY = "role";
     private static final String BEARER_TYPE = "Bearer";
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String USER_ID_KEY = "userId";
+    private static final String NICKNAME_KEY = "nickname";
+    private static final String DEVICE_ID_KEY = "did";
+
+    /**
+     * 토큰 종류 클레임 (Access / Refresh Token이 같은 키로 서명되므로 서로 대신 쓰이지 않도록 구분)
+     */
+    private static final String TOKEN_TYPE_KEY = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    /**
+     * role 클레임 값("ROLE_USER" 등) → 미리 만들어 둔 권한 정보
+     * 역할이 USER, OFFICIAL, ADMIN 세 가지뿐이므로 요청마다 split/생성하지 않고 재사용합니다.
+     */
+    private static final Map<String, RoleAuthorities> ROLE_AUTHORITIES = Arrays.stream(UserRole.values())
+            .map(role -> new RoleAuthorities(
+                    role.name(),
+                    List.of(new SimpleGrantedAuthority(ROLE_PREFIX + role.name()))))
+            .collect(Collectors.toUnmodifiableMap(
+                    roleAuthorities -> ROLE_PREFIX + roleAuthorities.role(),
+                    Function.identity()));
 
     private final Key key;
     private final JwtProperties jwtProperties;
 
+    /**
+     * 서명 검증용 파서 (불변 객체이므로 모든 스레드가 공유)
+     */
+    private final JwtParser jwtParser;
+
     public JwtTokenProvider(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser().verifyWith((SecretKey) key).build();
     }
 
     /**
      * 인증(Authentication) 객체를 기반으로 Access Token과 Refresh Token을 생성합니다.
-     * 로그인을 할떄 호출됩니다.
+     * 기기 ID 없이 호출하면 새 기기로 취급합니다.
      */
     public TokenDto generateTokenDto(Authentication authentication) {
+        return generateTokenDto(authentication, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 인증(Authentication) 객체를 기반으로 Access Token과 Refresh Token을 생성합니다.
+     * 로그인을 할떄 호출됩니다.
+     *
+     * @param deviceId Refresh Token에 기록할 기기 ID
+     */
+    public TokenDto generateTokenDto(Authentication authentication, String deviceId) {
         // CustomUserDetails에서 userId 추출
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-        
-        // 권한 정보들을 쉼표(,)로 구분된 문자열로 변환
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+        return createTokenDto(userDetails, deviceId);
+    }
 
+    /**
+     * 새 Access Token과 Refresh Token을 생성합니다. (Refresh Token Rotation)
+     *
+     * @param userDetails 최신 사용자 정보 (캐시된 스냅샷)
+     * @param deviceId    기존 Refresh Token의 기기 ID
+     */
+    public TokenDto rotateTokens(CustomUserDetails userDetails, String deviceId) {
+        return createTokenDto(userDetails, deviceId);
+    }
+
+    /**
+     * Refresh Token을 검증하고 재발급에 필요한 정보를 꺼냅니다.
+     *
+     * @return 유효하지 않거나 기기 정보가 없는 토큰이면 null
+     */
+    public RefreshTokenClaims parseRefreshToken(String refreshToken) {
+        Claims claims = parseValidClaims(refreshToken);
+        if (claims == null) {
+            return null;
+        }
+
+        String tokenType = claims.get(TOKEN_TYPE_KEY, String.class);
+        if (tokenType != null && !REFRESH_TOKEN_TYPE.equals(tokenType)) {
+            log.info("Refresh Token이 아닌 토큰으로 재발급을 요청했습니다.");
+            return null;
+        }
+
+        String deviceId = claims.get(DEVICE_ID_KEY, String.class);
+        if (deviceId == null) {
+            // 기기 정보가 추가되기 전에 발급된 토큰 → 다시 로그인해야 함
+            return null;
+        }
+
+        return new RefreshTokenClaims(Long.parseLong(claims.getSubject()), deviceId);
+    }
+
+    private TokenDto createTokenDto(CustomUserDetails userDetails, String deviceId) {
         long now = (new Date()).getTime();
 
         // Access Token 생성 (userId 포함!)
-        Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenExpiration());
-        String accessToken = Jwts.builder()
-                .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
-                .claim("userId", userDetails.getUserId())  // userId 추가!
-                .expiration(accessTokenExpiresIn)
-                .signWith(key)
-                .compact();
+        String accessToken = createAccessToken(userDetails, now);
 
         // Refresh Token (userId 추가!)
+        // 교체 전후 토큰이 같은 밀리초에 만들어져도 서로 다르도록 jti를 넣음
         String refreshToken = Jwts.builder()
                 .subject(String.valueOf(userDetails.getUserId())) // userId 추가
+                .id(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE)
+                .claim(DEVICE_ID_KEY, deviceId)
                 .expiration(new Date(now + jwtProperties.getRefreshTokenExpiration()))
                 .signWith(key)
                 .compact();
 
-
-
         return TokenDto.builder()
                 .grantType(BEARER_TYPE)
                 .accessToken(accessToken)
@@ -77,6 +150,24 @@ public class JwtTokenProvider {
                 .build();
     }
 
+    private String createAccessToken(CustomUserDetails userDetails, long now) {
+        // 권한 정보들을 쉼표(,)로 구분된 문자열로 변환
+        String authorities = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+
+        Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenExpiration());
+        return Jwts.builder()
+                .subject(userDetails.getUsername())
+                .claim(TOKEN_TYPE_KEY, ACCESS_TOKEN_TYPE)
+                .claim(AUTHORITIES_KEY, authorities)
+                .claim(USER_ID_KEY, userDetails.getUserId())
+                .claim(NICKNAME_KEY, userDetails.getNickname())
+                .expiration(accessTokenExpiresIn)
+                .signWith(key)
+                .compact();
+    }
+
 
     //=========================로그인 이후 API에 접근할때  호출되는 함수 ==================================
 
@@ -85,27 +176,35 @@ public class JwtTokenProvider {
      *
      */
     public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    /**
+     * 이미 검증된 Claims로 Authentication 객체를 생성합니다.
+     * 서명 검증을 다시 하지 않으므로 {@link #parseAccessClaims(String)} 결과에만 사용해야 합니다.
+     */
+    public Authentication getAuthentication(Claims claims) {
+        if (!isAccessToken(claims)) {
+            throw new RuntimeException("Access Token이 아닙니다.");
+        }
         if (claims.get(AUTHORITIES_KEY) == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
+        RoleAuthorities roleAuthorities = resolveRoleAuthorities(claims.get(AUTHORITIES_KEY).toString());
+        Collection<? extends GrantedAuthority> authorities = roleAuthorities.authorities();
 
-        // JWT에서 userId 추출
-        Long userId = claims.get("userId", Long.class);
+        // JWT에서 userId, nickname 추출
+        Long userId = claims.get(USER_ID_KEY, Long.class);
+        String nickname = claims.get(NICKNAME_KEY, String.class);
         
         // CustomUserDetails 객체 생성
-        // nickname, email, role은 JWT에 없으므로 null 또는 기본값
+        // email은 JWT에 없으므로 null
         CustomUserDetails principal = new CustomUserDetails(
                 userId,
-                null,  // nickname
+                nickname,  // nickname (이전에 발급된 토큰이면 null)
                 null,  // email
-                claims.get(AUTHORITIES_KEY).toString().replace("ROLE_", ""),  // role
+                roleAuthorities.role(),  // role
                 claims.getSubject(),  // loginId
                 "",  // password
                 authorities
@@ -118,9 +217,18 @@ public class JwtTokenProvider {
      * 토큰의 유효성을 검증합니다.
      */
     public boolean validateToken(String token) {
+        return parseValidClaims(token) != null;
+    }
+
+    /**
+     * 토큰의 서명과 만료를 검증하고 Claims를 반환합니다.
+     * 검증과 파싱을 한 번에 처리하므로 필터에서는 이 메서드만 호출합니다.
+     *
+     * @return 검증된 Claims (유효하지 않은 토큰이면 null)
+     */
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts.parser().verifyWith((SecretKey) key).build().parseSignedClaims(token);
-            return true;
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -130,7 +238,37 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * Access Token의 서명과 만료를 검증하고 Claims를 반환합니다.
+     * Refresh Token은 서명이 유효해도 거절하므로 API 인증에는 이 메서드만 사용합니다.
+     *
+     * @return 검증된 Claims (유효하지 않거나 Access Token이 아니면 null)
+     */
+    public Claims parseAccessClaims(String token) {
+        Claims claims = parseValidClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        if (!isAccessToken(claims)) {
+            log.info("Access Token이 아닌 토큰으로 인증을 시도했습니다.");
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * typ 클레임이 없는 토큰은 typ 도입 전에 발급된 것이므로,
+     * Refresh Token에만 있는 기기 ID(did)가 없고 권한 정보가 있을 때만 Access Token으로 봅니다.
+     */
+    private static boolean isAccessToken(Claims claims) {
+        String tokenType = claims.get(TOKEN_TYPE_KEY, String.class);
+        if (tokenType != null) {
+            return ACCESS_TOKEN_TYPE.equals(tokenType);
+        }
+        return claims.get(DEVICE_ID_KEY) == null && claims.get(AUTHORITIES_KEY) != null;
     }
 
     /**
@@ -138,17 +276,31 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parser()
-                    .verifyWith((SecretKey) key)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(accessToken).getPayload();
         } catch (ExpiredJwtException e) {
             // 토큰이 만료되었더라도 정보를 꺼내기 위해 Claims를 반환
             return e.getClaims();
         }
     }
 
+    /**
+     * role 클레임 값을 권한 정보로 변환합니다.
+     * 알려진 단일 역할이면 미리 만들어 둔 객체를 그대로 반환하고, 그 외의 값만 직접 분리합니다.
+     */
+    private static RoleAuthorities resolveRoleAuthorities(String roleClaim) {
+        RoleAuthorities interned = ROLE_AUTHORITIES.get(roleClaim);
+        if (interned != null) {
+            return interned;
+        }
+        List<GrantedAuthority> authorities = Arrays.stream(roleClaim.split(","))
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+        return new RoleAuthorities(roleClaim.replace(ROLE_PREFIX, ""), authorities);
+    }
+
+    private record RoleAuthorities(String role, List<GrantedAuthority> authorities) {
+    }
+
     // userId 추출 메서드 추가
     public Long getUserIdFromToken(String token) {
         Claims claims = parseClaims(token);
@@ -156,25 +308,11 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Access Token만 생성 (Refresh 시 사용)
+     * Access Token만 생성
      */
     public String generateAccessToken(Authentication authentication) {
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
-        long now = (new Date()).getTime();
-        Date accessTokenExpiresIn = new Date(now + jwtProperties.getAccessTokenExpiration());
-
-        return Jwts.builder()
-                .subject(authentication.getName())
-                .claim(AUTHORITIES_KEY, authorities)
-                .claim("userId", userDetails.getUserId())
-                .expiration(accessTokenExpiresIn)
-                .signWith(key)
-                .compact();
+        return createAccessToken(userDetails, (new Date()).getTime());
     }
 
 
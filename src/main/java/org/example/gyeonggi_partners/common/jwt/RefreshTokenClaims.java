@@ -0,0 +1,10 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+/**
+ * 검증이 끝난 Refresh Token의 정보
+ *
+ * @param userId   사용자 ID
+ * @param deviceId 토큰이 발급된 기기 ID
+ */
+public record RefreshTokenClaims(Long userId, String deviceId) {
+}
@@ -0,0 +1,31 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 사용할 SHA-256 다이제스트 유틸리티
+ * 캐시 키나 Redis 저장값에 토큰 원문이 남지 않도록 합니다.
+ */
+public final class TokenDigests {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenDigests() {
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 16진수 문자열로 반환합니다.
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
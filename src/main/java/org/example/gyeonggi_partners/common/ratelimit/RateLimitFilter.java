@@ -0,0 +1,182 @@
+package org.example.gyeonggi_partners.common.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.exception.CommonErrorCode;
+import org.example.gyeonggi_partners.common.exception.ErrorCode;
+import org.example.gyeonggi_partners.common.jwt.TokenDigests;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경로별 요청 수 제한 필터 (Security 필터 체인에서 JwtAuthenticationFilter 앞)
+ *
+ * <p>로그인(BCrypt)과 인증 메일 발송(SMTP)처럼 한 번 처리하는 비용이 큰 경로를 rate-limit.routes 에 등록해
+ * 클라이언트 IP, 요청 본문의 email/loginId 별로 제한합니다. 제한을 넘으면 컨트롤러까지 가지 않고
+ * 429 와 Retry-After(초) 헤더로 응답합니다.</p>
+ *
+ * 경로는 PathPatternRequestMatcher 로 디코딩된 요청 경로와 비교합니다. (getRequestURI 원문과 비교하면 %6C 같은 인코딩으로 우회됨)
+ * IP 는 request.getRemoteAddr() 를 씁니다. 프록시 뒤에서는 server.forward-headers-strategy 로 실제 IP가 들어오게 해야 합니다.
+ * 본문 키는 SHA-256 다이제스트로 바꿔 Redis 키에 원문이 남지 않게 합니다.
+ * 본문 키로 제한하는 경로에서 본문이 max-body-size 를 넘으면 키를 읽을 수 없으므로 413 으로 거절합니다.
+ *
+ * 메트릭: rate.limit.requests{route, result=allowed|rejected|local_rejected|too_large}
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RedisRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final List<CompiledRoute> routes = new ArrayList<>();
+
+    public RateLimitFilter(RedisRateLimiter rateLimiter,
+                           ObjectMapper objectMapper,
+                           RateLimitProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.isEnabled();
+        this.maxBodyBytes = (int) properties.getMaxBodySize().toBytes();
+        properties.getRoutes().forEach((name, route) -> routes.add(new CompiledRoute(name,
+                PathPatternRequestMatcher.withDefaults().matcher(
+                        HttpMethod.valueOf(route.getMethod().toUpperCase(Locale.ROOT)), route.getPath()),
+                route.getLimits(), meterRegistry)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || findRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRoute route = findRoute(request);
+
+        HttpServletRequest forwarded = request;
+        JsonNode body = null;
+        if (route.readsBody()) {
+            CachedBodyRequest cached = request.getContentLengthLong() > maxBodyBytes
+                    ? null
+                    : CachedBodyRequest.read(request, maxBodyBytes);
+            if (cached == null) {
+                route.tooLargeCounter().increment();
+                writeError(response, CommonErrorCode.PAYLOAD_TOO_LARGE);
+                return;
+            }
+            forwarded = cached;
+            body = parse(cached.body());
+        }
+
+        List<RedisRateLimiter.Bucket> buckets = new ArrayList<>(route.limits().size());
+        for (RateLimitProperties.Limit limit : route.limits()) {
+            String value = keyValue(limit.getKey(), request, body);
+            if (value != null) {
+                buckets.add(new RedisRateLimiter.Bucket(
+                        route.name() + ":" + limit.getKey().name().toLowerCase(Locale.ROOT) + ":" + value,
+                        limit.getCapacity(), limit.getPeriod().toMillis()));
+            }
+        }
+
+        RedisRateLimiter.Decision decision = rateLimiter.tryAcquire(buckets);
+        if (!decision.allowed()) {
+            (decision.local() ? route.localRejectedCounter() : route.rejectedCounter()).increment();
+            reject(response, decision.retryAfterMillis());
+            return;
+        }
+        route.allowedCounter().increment();
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        writeError(response, CommonErrorCode.TOO_MANY_REQUESTS);
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(errorCode));
+    }
+
+    private String keyValue(RateLimitProperties.KeyType keyType, HttpServletRequest request, JsonNode body) {
+        if (keyType.getBodyField() == null) {
+            return request.getRemoteAddr();
+        }
+        if (body == null) {
+            return null;
+        }
+        JsonNode field = body.get(keyType.getBodyField());
+        if (field == null || !field.isTextual() || !StringUtils.hasText(field.asText())) {
+            // 값이 없으면 요청 검증에서 거절되므로 이 제한은 건너뜀 (IP 제한은 그대로 적용)
+            return null;
+        }
+        return TokenDigests.sha256(field.asText().trim().toLowerCase(Locale.ROOT));
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private CompiledRoute findRoute(HttpServletRequest request) {
+        for (CompiledRoute route : routes) {
+            if (route.matcher().matches(request)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private record CompiledRoute(String name, RequestMatcher matcher, List<RateLimitProperties.Limit> limits,
+                                 boolean readsBody, Counter allowedCounter, Counter rejectedCounter,
+                                 Counter localRejectedCounter, Counter tooLargeCounter) {
+
+        CompiledRoute(String name, RequestMatcher matcher, List<RateLimitProperties.Limit> limits,
+                      MeterRegistry meterRegistry) {
+            this(name, matcher, List.copyOf(limits),
+                    limits.stream().anyMatch(limit -> limit.getKey().getBodyField() != null),
+                    counter(meterRegistry, name, "allowed"),
+                    counter(meterRegistry, name, "rejected"),
+                    counter(meterRegistry, name, "local_rejected"),
+                    counter(meterRegistry, name, "too_large"));
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String route, String result) {
+            return Counter.builder("rate.limit.requests")
+                    .tag("route", route)
+                    .tag("result", result)
+                    .description("요청 수 제한 결과 (local_rejected: Redis 를 부르지 않고 로컬에서 거절, too_large: 본문이 커서 거절)")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.gyeonggi_partners.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 요청 수 제한 설정값
+ * application.properties 의 rate-limit.* 값을 읽어옵니다.
+ *
+ * <pre>
+ * rate-limit.routes.login.path=/api/auth/login
+ * rate-limit.routes.login.limits[0].key=ip
+ * rate-limit.routes.login.limits[0].capacity=30
+ * rate-limit.routes.login.limits[0].period=1m
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 거절된 키를 서버 로컬에 기억해 두는 최대 개수 (기억하는 동안에는 Redis 를 부르지 않고 바로 거절)
+     */
+    private int localBlockCacheSize = 100_000;
+
+    /**
+     * 요청 본문에서 키(email, loginId)를 읽을 때 읽어 두는 최대 크기
+     * 본문 키로 제한하는 경로에서 이보다 큰 본문은 제한을 건너뛰지 않도록 413 으로 거절함
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(16);
+
+    /**
+     * 경로 이름 → 제한 (이름은 Redis 키와 메트릭 태그에 쓰임)
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String method = "POST";
+
+        /**
+         * 경로 패턴 (디코딩한 요청 경로와 비교하므로 %6C 처럼 인코딩해도 같은 경로로 봄)
+         */
+        private String path;
+
+        /**
+         * 모든 제한을 통과해야 허용 (통과하면 모든 버킷에서 하나씩 씀)
+         */
+        private List<Limit> limits = new ArrayList<>();
+    }
+
+    /**
+     * 토큰 버킷 하나: 최대 capacity 개까지 모이고 period 마다 capacity 개가 채워짐
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private KeyType key = KeyType.IP;
+
+        private int capacity;
+
+        private Duration period;
+    }
+
+    public enum KeyType {
+
+        IP(null),
+        EMAIL("email"),
+        LOGIN_ID("loginId");
+
+        private final String bodyField;
+
+        KeyType(String bodyField) {
+            this.bodyField = bodyField;
+        }
+
+        /**
+         * 요청 본문(JSON)에서 키를 읽을 필드, IP 면 null
+         */
+        public String getBodyField() {
+            return bodyField;
+        }
+    }
+}
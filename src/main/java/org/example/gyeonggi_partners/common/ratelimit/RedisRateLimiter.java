@@ -0,0 +1,166 @@
+package org.example.gyeonggi_partners.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 토큰 버킷 요청 수 제한
+ *
+ * <p>Redis: rate:{경로 이름}:{키 종류}:{키} Hash (t: 남은 토큰, ts: 마지막 갱신 시각 ms), period 뒤 만료.
+ * 한 요청의 버킷 전체를 스크립트 한 번으로 확인하고, 모두 남아 있을 때만 하나씩 씁니다.</p>
+ *
+ * <p>거절되면 그 버킷을 다시 토큰이 생길 때까지 서버 로컬에 기억해 두고, 그동안 같은 키의 요청은
+ * Redis 를 부르지 않고 바로 거절합니다. (몰려드는 거절 요청이 Redis 까지 가지 않음)
+ * Redis 에 문제가 있으면 요청을 막지 않고 허용합니다.</p>
+ *
+ * 메트릭: rate.limit.redis.errors
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+    /**
+     * KEYS: 버킷, ARGV[1]: 현재 시각(ms), ARGV[2i], ARGV[2i+1]: 버킷 i 의 capacity, period(ms)
+     * 결과: {0, 0} 허용, {다시 시도까지 남은 ms, 거절한 버킷 번호(1부터)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local remaining = {}
+            for i, key in ipairs(KEYS) do
+                local capacity = tonumber(ARGV[i * 2])
+                local period = tonumber(ARGV[i * 2 + 1])
+                local bucket = redis.call('HMGET', key, 't', 'ts')
+                local tokens = tonumber(bucket[1]) or capacity
+                local elapsed = math.max(0, now - (tonumber(bucket[2]) or now))
+                tokens = math.min(capacity, tokens + elapsed * capacity / period)
+                if tokens < 1 then
+                    return {math.ceil((1 - tokens) * period / capacity), i}
+                end
+                remaining[i] = tokens
+            end
+            for i, key in ipairs(KEYS) do
+                redis.call('HSET', key, 't', tostring(remaining[i] - 1), 'ts', ARGV[1])
+                redis.call('PEXPIRE', key, ARGV[i * 2 + 1])
+            end
+            return {0, 0}
+            """, List.class);
+
+    private static final String KEY_PREFIX = "rate:";
+
+    private final StringRedisTemplate redisTemplate;
+    // 버킷 키 → 다시 토큰이 생기는 시각(ms)
+    private final Cache<String, Long> blockedUntil;
+    private final Counter errorCounter;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate,
+                            RateLimitProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.blockedUntil = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalBlockCacheSize())
+                .expireAfter(new UntilUnblocked())
+                .build();
+        this.errorCounter = Counter.builder("rate.limit.redis.errors")
+                .description("Redis 오류로 확인하지 못하고 허용한 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버킷 전체에서 토큰을 하나씩 씀
+     *
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간(ms)
+     */
+    public Decision tryAcquire(List<Bucket> buckets) {
+        if (buckets.isEmpty()) {
+            return Decision.ALLOWED;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Bucket bucket : buckets) {
+            Long until = blockedUntil.getIfPresent(bucket.key());
+            if (until != null && until > now) {
+                return new Decision(until - now, true);
+            }
+        }
+
+        List<String> keys = new ArrayList<>(buckets.size());
+        List<String> args = new ArrayList<>(buckets.size() * 2 + 1);
+        args.add(Long.toString(now));
+        for (Bucket bucket : buckets) {
+            keys.add(KEY_PREFIX + bucket.key());
+            args.add(Integer.toString(bucket.capacity()));
+            args.add(Long.toString(bucket.periodMillis()));
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(ACQUIRE_SCRIPT, keys, args.toArray());
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("요청 수 제한 확인 실패, 제한 없이 허용합니다 - 에러: {}", e.getMessage());
+            return Decision.ALLOWED;
+        }
+
+        long retryAfterMillis = ((Number) result.get(0)).longValue();
+        if (retryAfterMillis <= 0) {
+            return Decision.ALLOWED;
+        }
+        Bucket rejected = buckets.get(((Number) result.get(1)).intValue() - 1);
+        blockedUntil.put(rejected.key(), now + retryAfterMillis);
+        return new Decision(retryAfterMillis, false);
+    }
+
+    /**
+     * @param key          경로 이름:키 종류:키 (Redis 키와 로컬 차단 키)
+     * @param capacity     최대 토큰 수 (한 번에 몰아서 보낼 수 있는 요청 수)
+     * @param periodMillis capacity 개가 다시 채워지는 시간
+     */
+    public record Bucket(String key, int capacity, long periodMillis) {
+    }
+
+    /**
+     * @param retryAfterMillis 허용이면 0
+     * @param local            Redis 를 부르지 않고 로컬 기록으로 거절했는지
+     */
+    public record Decision(long retryAfterMillis, boolean local) {
+
+        static final Decision ALLOWED = new Decision(0, false);
+
+        public boolean allowed() {
+            return retryAfterMillis <= 0;
+        }
+    }
+
+    /**
+     * 항목마다 다시 토큰이 생기는 시각까지만 살아있도록 하는 만료 정책
+     */
+    private static class UntilUnblocked implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.example.gyeonggi_partners.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 스레드 풀에서만 BCrypt를 실행하는 PasswordEncoder
+ *
+ * <p>로그인이 몰려도 BCrypt가 동시에 CPU 코어 수 이상 실행되지 않도록 해서 다른 API 처리가
+ * 밀리지 않게 합니다. 대기열까지 가득 차면 기다리지 않고 바로 429(PASSWORD_HASHING_BUSY)로 응답합니다.</p>
+ *
+ * <ul>
+ *   <li>cost: 시작 시 target-hash-time 안에 끝나는 가장 큰 값을 측정해서 고름</li>
+ *   <li>upgradeEncoding: 저장된 해시의 cost 가 min-strength 보다 낮을 때만 true → 로그인 성공 시 재해싱.
+ *       보정값은 노드/재시작마다 조금씩 다를 수 있으므로 현재 cost 와 비교하지 않습니다.
+ *       (다르면 노드끼리 서로의 해시를 계속 다시 해싱하게 됨)</li>
+ * </ul>
+ *
+ * 메트릭: password.hashing.queue.size, password.hashing.active, password.hashing.rejected
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final int minStrength;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.strength = properties.isCalibrate() ? calibrate(properties) : properties.getMinStrength();
+        this.minStrength = properties.getMinStrength();
+        this.delegate = new BCryptPasswordEncoder(strength);
+
+        int poolSize = properties.getPoolSize() > 0
+                ? properties.getPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("해싱 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해싱 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("대기열이 가득 차 429로 거절한 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 설정 - BCrypt cost: {}, 스레드: {}, 대기열: {}",
+                strength, poolSize, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int storedStrength = parseStrength(encodedPassword);
+        return storedStrength > 0 && storedStrength < minStrength;
+    }
+
+    /**
+     * 현재 사용 중인 BCrypt cost
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(UserErrorCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * min-strength 부터 cost 를 1씩 올리며 해시 시간을 측정하고, 목표 시간 안에 끝나는 가장 큰 cost 를 고릅니다.
+     * cost 가 1 오를 때마다 시간이 약 2배가 되므로 목표를 넘는 순간 멈춥니다.
+     */
+    static int calibrate(PasswordHashingProperties properties) {
+        long targetNanos = properties.getTargetHashTime().toNanos();
+        String sample = "calibration-password";
+
+        // JIT 워밍업
+        new BCryptPasswordEncoder(properties.getMinStrength()).encode(sample);
+
+        int chosen = properties.getMinStrength();
+        for (int cost = properties.getMinStrength(); cost <= properties.getMaxStrength(); cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            long start = System.nanoTime();
+            encoder.encode(sample);
+            long elapsed = System.nanoTime() - start;
+
+            if (elapsed > targetNanos) {
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    /**
+     * "$2a$10$..." 형식의 해시에서 cost 를 읽습니다. BCrypt 형식이 아니면 -1.
+     */
+    private static int parseStrength(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.common.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해싱(BCrypt) 관련 설정값
+ * application.properties 의 security.password-hashing.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * 해싱 전용 스레드 수 (0 이하이면 CPU 코어 수)
+     */
+    private int poolSize = 0;
+
+    /**
+     * 해싱 대기열 크기 (가득 차면 429 응답)
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * 해시 1회 목표 시간 (시작 시 이 시간에 가장 가까운 cost 를 고름)
+     */
+    private Duration targetHashTime = Duration.ofMillis(250);
+
+    /**
+     * 사용할 수 있는 최소 / 최대 cost
+     */
+    private int minStrength = 10;
+    private int maxStrength = 14;
+
+    /**
+     * false 이면 보정 없이 min-strength 를 그대로 사용
+     */
+    private boolean calibrate = true;
+}
@@ -1,21 +1,26 @@
 package org.example.gyeonggi_partners.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.example.gyeonggi_partners.common.jwt.JwtAuthenticationFilter;
-import org.example.gyeonggi_partners.common.jwt.JwtTokenProvider;
+import org.example.gyeonggi_partners.common.ratelimit.RateLimitFilter;
+import org.example.gyeonggi_partners.common.security.BoundedPasswordEncoder;
+import org.example.gyeonggi_partners.common.security.PasswordHashingProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.logout.LogoutFilter;
 
 @Configuration
 @EnableWebSecurity
@@ -23,7 +28,8 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfigDev {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -39,10 +45,14 @@ public class SecurityConfigDev {
 
         // 3. JWT 필터 추가
         http.addFilterBefore(
-                new JwtAuthenticationFilter(jwtTokenProvider),
+                jwtAuthenticationFilter,
                 UsernamePasswordAuthenticationFilter.class
         );
 
+        // 4. 요청 수 제한 필터 추가 (토큰 검증보다 먼저 거절)
+        // 직접 만든 필터 클래스는 기준으로 쓸 수 없으므로 JwtAuthenticationFilter 보다 앞인 LogoutFilter 앞에 둠
+        http.addFilterBefore(rateLimitFilter, LogoutFilter.class);
+
         // HTTP 요청에 대한 인가 규칙 설정
         http.authorizeHttpRequests(auth -> auth
                 // Swagger UI 및 API 문서 관련 경로 모두 허용
@@ -57,6 +67,24 @@ public class SecurityConfigDev {
                 // 로그아웃은 인증 필요
                 .requestMatchers("/api/auth/logout").authenticated()
                 
+                // 이전 대화 조회, 논의방 참여/나가기는 인증 필요
+                .requestMatchers("/api/rooms/*/messages", "/api/rooms/*/members/**").authenticated()
+
+                // 논의방 생성/수정/삭제는 인증 필요 (목록 조회는 허용)
+                .requestMatchers(HttpMethod.POST, "/api/rooms").authenticated()
+                .requestMatchers(HttpMethod.PATCH, "/api/rooms/*").authenticated()
+                .requestMatchers(HttpMethod.DELETE, "/api/rooms/*").authenticated()
+
+                // 제안서 생성/조회는 논의방 멤버만 가능하므로 인증 필요
+                .requestMatchers(HttpMethod.POST, "/api/rooms/*/proposals").authenticated()
+                .requestMatchers("/api/proposals/**").authenticated()
+
+                // 검색은 참여한 논의방 기준이므로 인증 필요
+                .requestMatchers("/api/search/**").authenticated()
+
+                // 채팅 WebSocket 핸드셰이크 허용 (인증은 STOMP CONNECT 프레임에서 처리)
+                .requestMatchers("/ws-stomp/**").permitAll()
+
                 // Actuator 헬스 체크 경로 허용
                 .requestMatchers("/actuator/health/**").permitAll()
 
@@ -67,13 +95,36 @@ public class SecurityConfigDev {
         return http.build();
     }
 
+    /**
+     * JwtAuthenticationFilter는 @Component 빈이라 서블릿 필터로도 자동 등록됩니다.
+     * Security 필터 체인에서만 실행되도록 서블릿 컨테이너 등록을 비활성화합니다.
+     * (비활성화하지 않으면 요청마다 필터가 두 번 실행됨)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * RateLimitFilter 도 같은 이유로 서블릿 컨테이너 등록을 비활성화합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * 비밀번호 암호화를 위한 PasswordEncoder Bean
-     * BCrypt 해싱 알고리즘 사용
+     * BCrypt 해싱 알고리즘 사용 (전용 스레드 풀에서만 실행, 시작 시 cost 자동 보정)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(properties, meterRegistry);
     }
 
     @Bean
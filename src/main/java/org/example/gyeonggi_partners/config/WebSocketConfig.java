@@ -0,0 +1,99 @@
+package org.example.gyeonggi_partners.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.ChatSessionMetrics;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.ChatWebSocketProperties;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.StompChannelInterceptor;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.StompErrorHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * 채팅 WebSocket(STOMP) 설정
+ *
+ * <ul>
+ *   <li>엔드포인트: /ws-stomp (CONNECT 프레임의 Authorization 헤더로 인증)</li>
+ *   <li>구독: /topic/rooms/{roomId}, 에러: /user/queue/errors</li>
+ *   <li>전송: /app/rooms/{roomId}/messages</li>
+ * </ul>
+ *
+ * 수신/발신 채널은 가상 스레드에서 처리해 구독자가 많은 방도 플랫폼 스레드 수에 묶이지 않게 하고,
+ * 세션별 순서는 preserve*Order 로 보장합니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final ChatWebSocketProperties properties;
+    private final StompChannelInterceptor stompChannelInterceptor;
+    private final StompErrorHandler stompErrorHandler;
+    private final ChatSessionMetrics chatSessionMetrics;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws-stomp")
+                .setAllowedOriginPatterns(properties.getAllowedOriginPatterns().toArray(String[]::new));
+        registry.setErrorHandler(stompErrorHandler);
+        // 같은 세션에서 온 프레임은 받은 순서대로 처리 (CONNECT → SUBSCRIBE → SEND)
+        registry.setPreserveReceiveOrder(true);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        long heartbeat = properties.getHeartbeatInterval().toMillis();
+
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(stompHeartbeatScheduler());
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+        // 같은 세션으로 가는 메시지는 발행 순서대로 전달
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompChannelInterceptor);
+        registration.executor(virtualThreadExecutor("stomp-inbound-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 구독자별 전송을 각각 가상 스레드에서 실행 (느린 소켓이 다른 구독자 전송을 막지 않음)
+        registration.executor(virtualThreadExecutor("stomp-outbound-"));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) properties.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) properties.getSendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) properties.getMessageSizeLimit().toBytes())
+                .addDecoratorFactory(chatSessionMetrics);
+    }
+
+    /**
+     * STOMP 하트비트 전송/확인용 스케줄러
+     */
+    @Bean
+    public ThreadPoolTaskScheduler stompHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("stomp-heartbeat-");
+        return scheduler;
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -27,4 +27,10 @@ public abstract class BaseEntity {
 
     private LocalDateTime deletedAt;
 
+    /**
+     * 소프트 삭제 (deleted_at 기록)
+     */
+    protected void markDeleted(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.CreateRoomRequest;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomListResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.UpdateRoomRequest;
+import org.example.gyeonggi_partners.domain.discussionRoom.application.DiscussionRoomService;
+import org.example.gyeonggi_partners.domain.discussionRoom.application.RoomListingService;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "DiscussionRoom", description = "논의방 API")
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class DiscussionRoomController {
+
+    private final DiscussionRoomService discussionRoomService;
+    private final RoomListingService roomListingService;
+
+    /**
+     * 지역별 논의방 목록
+     * GET /api/rooms?region=SUWON&accessLevel=PUBLIC&page=0
+     */
+    @Operation(summary = "지역별 논의방 목록", description = "지역의 논의방을 최신순으로 조회합니다. accessLevel 을 생략하면 모든 참여 가능 대상을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<RoomListResponse>> getRooms(
+            @RequestParam Region region,
+            @RequestParam(required = false) AccessLevel accessLevel,
+            @RequestParam(required = false) Integer page) {
+
+        return ResponseEntity.ok(ApiResponse.success(roomListingService.getRooms(region, accessLevel, page)));
+    }
+
+    /**
+     * 논의방 생성
+     * POST /api/rooms
+     */
+    @Operation(
+            summary = "논의방 생성",
+            description = "논의방을 만들고 개설한 사용자를 참여시킵니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping
+    public ResponseEntity<ApiResponse<RoomResponse>> create(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody CreateRoomRequest request) {
+
+        RoomResponse response = discussionRoomService.create(request, userDetails);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response, "논의방을 만들었습니다."));
+    }
+
+    /**
+     * 논의방 수정
+     * PATCH /api/rooms/{roomId}
+     */
+    @Operation(
+            summary = "논의방 수정",
+            description = "제목/설명/참여 가능 대상을 수정합니다. (관리자)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PatchMapping("/{roomId}")
+    public ResponseEntity<ApiResponse<RoomResponse>> update(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId,
+            @Valid @RequestBody UpdateRoomRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(discussionRoomService.update(roomId, request, userDetails)));
+    }
+
+    /**
+     * 논의방 삭제
+     * DELETE /api/rooms/{roomId}
+     */
+    @Operation(
+            summary = "논의방 삭제",
+            description = "논의방을 삭제합니다. (관리자)",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @DeleteMapping("/{roomId}")
+    public ResponseEntity<ApiResponse<Void>> delete(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId) {
+
+        discussionRoomService.delete(roomId, userDetails);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "논의방을 삭제했습니다."));
+    }
+}
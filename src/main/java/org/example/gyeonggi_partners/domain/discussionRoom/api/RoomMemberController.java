@@ -0,0 +1,60 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.discussionRoom.application.RoomMemberService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "DiscussionRoom", description = "논의방 API")
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class RoomMemberController {
+
+    private final RoomMemberService roomMemberService;
+
+    /**
+     * 논의방 참여
+     * POST /api/rooms/{roomId}/members
+     */
+    @Operation(
+            summary = "논의방 참여",
+            description = "논의방에 참여합니다. 참여 가능 대상(공무원 전용/일반 사용자 전용)을 확인합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/{roomId}/members")
+    public ResponseEntity<ApiResponse<Void>> join(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId) {
+
+        roomMemberService.join(roomId, userDetails);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "논의방에 참여했습니다."));
+    }
+
+    /**
+     * 논의방 나가기
+     * DELETE /api/rooms/{roomId}/members/me
+     */
+    @Operation(
+            summary = "논의방 나가기",
+            description = "참여 중인 논의방에서 나갑니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @DeleteMapping("/{roomId}/members/me")
+    public ResponseEntity<ApiResponse<Void>> leave(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId) {
+
+        roomMemberService.leave(roomId, userDetails.getUserId());
+
+        return ResponseEntity.ok(ApiResponse.success(null, "논의방에서 나왔습니다."));
+    }
+}
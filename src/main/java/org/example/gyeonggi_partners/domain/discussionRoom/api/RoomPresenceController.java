@@ -0,0 +1,33 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomOnlineCountsResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.application.RoomPresenceService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "DiscussionRoom", description = "논의방 API")
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class RoomPresenceController {
+
+    private final RoomPresenceService roomPresenceService;
+
+    /**
+     * 논의방별 접속자 수 조회
+     * GET /api/rooms/online-counts?roomIds=1,2,3
+     */
+    @Operation(summary = "접속자 수 조회", description = "여러 논의방의 현재 접속자 수를 한 번에 조회합니다. (최대 100개, 약 1초 지연)")
+    @GetMapping("/online-counts")
+    public ResponseEntity<ApiResponse<RoomOnlineCountsResponse>> getOnlineCounts(
+            @RequestParam List<Long> roomIds) {
+        return ResponseEntity.ok(ApiResponse.success(
+                new RoomOnlineCountsResponse(roomPresenceService.getOnlineCounts(roomIds))));
+    }
+}
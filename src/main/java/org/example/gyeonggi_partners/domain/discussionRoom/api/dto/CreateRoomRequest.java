@@ -0,0 +1,37 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+
+/**
+ * 논의방 생성 요청 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "논의방 생성 요청")
+public class CreateRoomRequest {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 100, message = "제목은 100자를 초과할 수 없습니다")
+    @Schema(description = "제목", example = "수원역 앞 자전거 도로 개선")
+    private String title;
+
+    @Size(max = 255, message = "설명은 255자를 초과할 수 없습니다")
+    @Schema(description = "설명", example = "자전거 도로가 끊겨 있는 구간에 대해 논의합니다.")
+    private String description;
+
+    @NotNull(message = "지역은 필수입니다")
+    @Schema(description = "지역 (생성 후 변경 불가)", example = "SUWON")
+    private Region region;
+
+    @Schema(description = "참여 가능 대상 (PUBLIC, OFFICIALS_ONLY, USER_ONLY), 생략 시 PUBLIC", example = "PUBLIC")
+    private AccessLevel accessLevel;
+}
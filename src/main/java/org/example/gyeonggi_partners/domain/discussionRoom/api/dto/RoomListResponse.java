@@ -0,0 +1,19 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api.dto;
+
+import java.util.List;
+
+/**
+ * 지역별 논의방 목록 응답
+ *
+ * @param rooms   최신순 논의방
+ * @param page    0부터 시작하는 페이지 번호
+ * @param size    페이지 크기 (고정)
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record RoomListResponse(
+        List<RoomResponse> rooms,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api.dto;
+
+import java.util.Map;
+
+/**
+ * 논의방별 접속자 수 응답
+ *
+ * @param onlineCounts roomId → 현재 접속 중인 사용자 수
+ */
+public record RoomOnlineCountsResponse(
+        Map<Long, Long> onlineCounts
+) {
+}
@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api.dto;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.DiscussionRoom;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 논의방 응답 (생성/수정 결과, 목록 항목)
+ */
+public record RoomResponse(
+        Long roomId,
+        String title,
+        String description,
+        Region region,
+        AccessLevel accessLevel,
+        LocalDateTime createdAt
+) {
+
+    public static RoomResponse from(DiscussionRoom room) {
+        return new RoomResponse(
+                room.getId(),
+                room.getTitle(),
+                room.getDescription(),
+                room.getRegion(),
+                room.getAccessLevel(),
+                room.getCreatedAt()
+        );
+    }
+
+    public static RoomResponse from(RoomSummary summary) {
+        return new RoomResponse(
+                summary.roomId(),
+                summary.title(),
+                summary.description(),
+                summary.region(),
+                summary.accessLevel(),
+                summary.createdAt()
+        );
+    }
+}
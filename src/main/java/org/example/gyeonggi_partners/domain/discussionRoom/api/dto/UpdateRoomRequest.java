@@ -0,0 +1,29 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+
+/**
+ * 논의방 수정 요청 DTO (생략한 항목은 그대로 유지)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "논의방 수정 요청")
+public class UpdateRoomRequest {
+
+    @Size(min = 1, max = 100, message = "제목은 1~100자로 입력해야 합니다")
+    @Schema(description = "제목", example = "수원역 앞 자전거 도로 개선")
+    private String title;
+
+    @Size(max = 255, message = "설명은 255자를 초과할 수 없습니다")
+    @Schema(description = "설명")
+    private String description;
+
+    @Schema(description = "참여 가능 대상 (PUBLIC, OFFICIALS_ONLY, USER_ONLY)")
+    private AccessLevel accessLevel;
+}
@@ -0,0 +1,93 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.CreateRoomRequest;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.UpdateRoomRequest;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.DiscussionRoomChangedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberJoinedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.DiscussionRoom;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.DiscussionRoomRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserRole;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 논의방 생성/수정/삭제
+ * 변경은 커밋 후 이벤트로 지역별 목록 캐시에 반영됩니다. (CachedRoomListingRepository 참고)
+ *
+ * 논의방에는 개설자 정보가 없으므로 수정/삭제는 관리자만 할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DiscussionRoomService {
+
+    private final DiscussionRoomRepository discussionRoomRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 논의방 생성
+     * 생성 → 개설한 사용자 참여 → 이벤트 발행
+     */
+    public RoomResponse create(CreateRoomRequest request, CustomUserDetails user) {
+        DiscussionRoom room = discussionRoomRepository.save(DiscussionRoom.create(
+                request.getTitle(), request.getDescription(), request.getRegion(), request.getAccessLevel()));
+
+        // 참여 대상이 아닌 논의방을 만든 경우(관리자 제외)에는 개설자도 참여하지 않음
+        if (room.getAccessLevel().allows(user.getRole()) && memberRepository.save(user.getUserId(), room.getId())) {
+            eventPublisher.publishEvent(new RoomMemberJoinedEvent(room.getId(), user.getUserId()));
+        }
+        eventPublisher.publishEvent(new DiscussionRoomChangedEvent(
+                room.getId(), room.getRegion(), null, room.getAccessLevel()));
+        return RoomResponse.from(room);
+    }
+
+    /**
+     * 논의방 수정 (제목/설명/참여 가능 대상)
+     */
+    public RoomResponse update(Long roomId, UpdateRoomRequest request, CustomUserDetails user) {
+        checkManager(user);
+        DiscussionRoom room = findRoom(roomId);
+        AccessLevel previousAccessLevel = room.getAccessLevel();
+
+        room.update(request.getTitle(), request.getDescription(), request.getAccessLevel());
+        DiscussionRoom saved = discussionRoomRepository.save(room);
+
+        eventPublisher.publishEvent(new DiscussionRoomChangedEvent(
+                roomId, saved.getRegion(), previousAccessLevel, saved.getAccessLevel()));
+        return RoomResponse.from(saved);
+    }
+
+    /**
+     * 논의방 삭제 (소프트 삭제)
+     */
+    public void delete(Long roomId, CustomUserDetails user) {
+        checkManager(user);
+        DiscussionRoom room = findRoom(roomId);
+
+        room.delete();
+        discussionRoomRepository.save(room);
+
+        eventPublisher.publishEvent(new DiscussionRoomChangedEvent(
+                roomId, room.getRegion(), room.getAccessLevel(), null));
+    }
+
+    private DiscussionRoom findRoom(Long roomId) {
+        return discussionRoomRepository.findById(roomId)
+                .orElseThrow(() -> new BusinessException(DiscussionRoomErrorCode.ROOM_NOT_FOUND));
+    }
+
+    private static void checkManager(CustomUserDetails user) {
+        if (!UserRole.ADMIN.name().equals(user.getRole())) {
+            throw new BusinessException(DiscussionRoomErrorCode.ROOM_MANAGE_FORBIDDEN);
+        }
+    }
+}
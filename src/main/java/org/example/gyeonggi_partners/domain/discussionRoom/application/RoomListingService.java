@@ -0,0 +1,49 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomListResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.api.dto.RoomResponse;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomListingRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.springframework.stereotype.Service;
+
+/**
+ * 지역별 논의방 목록 ("우리 지역 논의방")
+ * 앞쪽 페이지는 목록 캐시에서 바로 응답하고 DB는 조회하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomListingService {
+
+    /**
+     * 조회할 수 있는 마지막 페이지 번호
+     * 이보다 뒤는 OFFSET 이 커서 DB 부담만 크고, page * pageSize 가 int 범위를 넘지 않도록 막는 역할도 함
+     */
+    static final int MAX_PAGE = 1_000;
+
+    private final RoomListingRepository roomListingRepository;
+
+    /**
+     * @param accessLevel null 이면 모든 참여 가능 대상
+     * @param page        0부터 시작하는 페이지 번호, 음수는 0으로 보정
+     * @throws BusinessException page 가 MAX_PAGE 보다 크면 INVALID_PAGE
+     */
+    public RoomListResponse getRooms(Region region, AccessLevel accessLevel, Integer page) {
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        if (pageNumber > MAX_PAGE) {
+            throw new BusinessException(DiscussionRoomErrorCode.INVALID_PAGE);
+        }
+        RoomPage roomPage = roomListingRepository.findPage(region, accessLevel, pageNumber);
+
+        return new RoomListResponse(
+                roomPage.rooms().stream().map(RoomResponse::from).toList(),
+                roomPage.page(),
+                roomListingRepository.pageSize(),
+                roomPage.hasNext()
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberJoinedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberLeftEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.DiscussionRoomRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 논의방 참여/나가기
+ * 변경은 커밋 후 이벤트로 멤버 인덱스에 반영됩니다. (InMemoryRoomMembershipIndex 참고)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class RoomMemberService {
+
+    private final DiscussionRoomRepository discussionRoomRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 논의방 참여
+     * 논의방 확인 → 참여 가능 대상 확인 → 멤버 추가 → 이벤트 발행
+     */
+    public void join(Long roomId, CustomUserDetails user) {
+        AccessLevel accessLevel = discussionRoomRepository.findAccessLevel(roomId)
+                .orElseThrow(() -> new BusinessException(DiscussionRoomErrorCode.ROOM_NOT_FOUND));
+
+        if (!accessLevel.allows(user.getRole())) {
+            throw new BusinessException(accessLevel == AccessLevel.OFFICIALS_ONLY
+                    ? DiscussionRoomErrorCode.OFFICIALS_ONLY_ROOM
+                    : DiscussionRoomErrorCode.USERS_ONLY_ROOM);
+        }
+
+        // 동시에 두 번 요청해도 UNIQUE 제약 예외 없이 한 번만 추가됨
+        if (!memberRepository.save(user.getUserId(), roomId)) {
+            throw new BusinessException(DiscussionRoomErrorCode.ALREADY_JOINED_ROOM);
+        }
+        eventPublisher.publishEvent(new RoomMemberJoinedEvent(roomId, user.getUserId()));
+    }
+
+    /**
+     * 논의방 나가기
+     */
+    public void leave(Long roomId, Long userId) {
+        if (!memberRepository.delete(userId, roomId)) {
+            throw new BusinessException(DiscussionRoomErrorCode.NOT_A_ROOM_MEMBER);
+        }
+        eventPublisher.publishEvent(new RoomMemberLeftEvent(roomId, userId));
+    }
+}
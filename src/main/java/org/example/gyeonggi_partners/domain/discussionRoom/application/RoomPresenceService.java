@@ -0,0 +1,42 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomPresenceRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.example.gyeonggi_partners.domain.discussionRoom.infra.presence.PresenceProperties;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 논의방 접속자 수 조회 (목록 화면의 "N명 접속 중")
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomPresenceService {
+
+    private final RoomPresenceRepository roomPresenceRepository;
+    private final PresenceProperties presenceProperties;
+
+    /**
+     * 여러 논의방의 접속자 수를 한 번에 조회
+     * @throws BusinessException 최대 개수를 넘으면 TOO_MANY_ROOMS_REQUESTED
+     */
+    public Map<Long, Long> getOnlineCounts(List<Long> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(roomIds);
+        distinctIds.removeIf(Objects::isNull);
+        if (distinctIds.size() > presenceProperties.getMaxRoomsPerRequest()) {
+            throw new BusinessException(DiscussionRoomErrorCode.TOO_MANY_ROOMS_REQUESTED);
+        }
+        return roomPresenceRepository.countOnline(distinctIds);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.event;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+
+/**
+ * 논의방이 생성/수정/삭제되었을 때 발행되는 이벤트
+ *
+ * @param previousAccessLevel 변경 전 참여 가능 대상, 생성이면 null
+ * @param accessLevel         변경 후 참여 가능 대상, 삭제면 null
+ */
+public record DiscussionRoomChangedEvent(
+        Long roomId,
+        Region region,
+        AccessLevel previousAccessLevel,
+        AccessLevel accessLevel
+) {
+}
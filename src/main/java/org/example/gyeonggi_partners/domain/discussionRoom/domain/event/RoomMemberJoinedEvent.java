@@ -0,0 +1,7 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.event;
+
+/**
+ * 사용자가 논의방에 참여했을 때 발행되는 이벤트
+ */
+public record RoomMemberJoinedEvent(Long roomId, Long userId) {
+}
@@ -0,0 +1,7 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.event;
+
+/**
+ * 사용자가 논의방에서 나갔을 때 발행되는 이벤트
+ */
+public record RoomMemberLeftEvent(Long roomId, Long userId) {
+}
@@ -0,0 +1,9 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.event;
+
+/**
+ * 서버의 멤버 인덱스에서 사용자가 논의방 멤버에서 빠졌을 때 서버마다 발행되는 이벤트
+ * 이 서버에서 나간 경우와 다른 서버의 나가기 알림을 받은 경우 모두 발행되며, 같은 변경으로 두 번 발행될 수 있습니다.
+ * (해당 논의방의 WebSocket 구독 회수용)
+ */
+public record RoomMembershipRevokedEvent(Long roomId, Long userId) {
+}
@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.model;
+
+import org.example.gyeonggi_partners.domain.user.domain.model.UserRole;
+
+/**
+ * 논의방 참여 가능 대상 (DB access_level_enum)
+ */
+public enum AccessLevel {
+
+    PUBLIC,
+    OFFICIALS_ONLY,
+    USER_ONLY;
+
+    /**
+     * 해당 역할(USER/OFFICIAL/ADMIN)의 사용자가 참여할 수 있는지 확인합니다. 관리자는 모든 논의방에 참여할 수 있습니다.
+     */
+    public boolean allows(String role) {
+        if (UserRole.ADMIN.name().equals(role)) {
+            return true;
+        }
+        return switch (this) {
+            case PUBLIC -> true;
+            case OFFICIALS_ONLY -> UserRole.OFFICIAL.name().equals(role);
+            case USER_ONLY -> UserRole.USER.name().equals(role);
+        };
+    }
+}
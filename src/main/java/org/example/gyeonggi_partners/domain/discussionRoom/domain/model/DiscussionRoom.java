@@ -0,0 +1,117 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 논의방 도메인 모델
+ * 지역은 생성 후 바꿀 수 없습니다. (지역별 목록의 기준)
+ */
+@Getter
+public class DiscussionRoom {
+
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private Long id;
+    private String title;
+    private String description;
+    private Region region;
+    private AccessLevel accessLevel;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+
+    @Builder(access = lombok.AccessLevel.PRIVATE)
+    private DiscussionRoom(Long id, String title, String description, Region region, AccessLevel accessLevel,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.region = region;
+        this.accessLevel = accessLevel != null ? accessLevel : AccessLevel.PUBLIC;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+
+    /**
+     * 새 논의방 생성
+     */
+    public static DiscussionRoom create(String title, String description, Region region, AccessLevel accessLevel) {
+        validateTitle(title);
+        validateDescription(description);
+
+        return DiscussionRoom.builder()
+                .title(title)
+                .description(description)
+                .region(region)
+                .accessLevel(accessLevel)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 기존 논의방 복원 (DB에서 조회)
+     */
+    public static DiscussionRoom restore(Long id, String title, String description, Region region,
+                                         AccessLevel accessLevel, LocalDateTime createdAt,
+                                         LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        return DiscussionRoom.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .region(region)
+                .accessLevel(accessLevel)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    /**
+     * 제목/설명/참여 가능 대상 수정 (null 인 항목은 그대로 둠)
+     */
+    public void update(String title, String description, AccessLevel accessLevel) {
+        if (title != null) {
+            validateTitle(title);
+            this.title = title;
+        }
+        if (description != null) {
+            validateDescription(description);
+            this.description = description;
+        }
+        if (accessLevel != null) {
+            this.accessLevel = accessLevel;
+        }
+    }
+
+    /**
+     * 소프트 삭제
+     */
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
+    // ==================== Validation Methods ====================
+
+    private static void validateTitle(String title) {
+        if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
+            throw new BusinessException(DiscussionRoomErrorCode.INVALID_ROOM_TITLE);
+        }
+    }
+
+    private static void validateDescription(String description) {
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new BusinessException(DiscussionRoomErrorCode.INVALID_ROOM_DESCRIPTION);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.model;
+
+/**
+ * 경기도 시 단위 지역 (DB region_enum)
+ */
+public enum Region {
+
+    SUWON, SEONGNAM, UIJEONGBU, ANYANG, BUCHEON, GWANGMYEONG,
+    PYEONGTAEK, DONGDUCHEON, ANSAN, GOYANG, GWACHEON, GURI,
+    NAMYANGJU, OSAN, SIHEUNG, GUNPO, UIWANG, HANAM, YONGIN,
+    PAJU, ICHEON, ANSEONG, GIMPO, HWASEONG, GWANGJU, YANGJU,
+    POCHEON, YEOJU
+}
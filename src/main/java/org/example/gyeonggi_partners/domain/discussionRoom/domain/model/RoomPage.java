@@ -0,0 +1,20 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.model;
+
+import java.util.List;
+
+/**
+ * 논의방 목록 한 페이지 (최신순)
+ *
+ * @param page    0부터 시작하는 페이지 번호
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record RoomPage(
+        List<RoomSummary> rooms,
+        int page,
+        boolean hasNext
+) {
+
+    public static RoomPage empty(int page) {
+        return new RoomPage(List.of(), page, false);
+    }
+}
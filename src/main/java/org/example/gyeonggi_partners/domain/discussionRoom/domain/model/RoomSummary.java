@@ -0,0 +1,16 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 논의방 목록의 한 항목
+ */
+public record RoomSummary(
+        Long roomId,
+        String title,
+        String description,
+        Region region,
+        AccessLevel accessLevel,
+        LocalDateTime createdAt
+) {
+}
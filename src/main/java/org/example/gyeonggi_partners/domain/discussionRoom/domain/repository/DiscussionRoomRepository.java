@@ -0,0 +1,37 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.repository;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.DiscussionRoom;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 논의방 저장소 인터페이스
+ */
+public interface DiscussionRoomRepository {
+
+    /**
+     * 논의방 저장 (id 가 없으면 생성, 있으면 수정/삭제 반영)
+     */
+    DiscussionRoom save(DiscussionRoom room);
+
+    /**
+     * 삭제되지 않은 논의방 조회
+     */
+    Optional<DiscussionRoom> findById(Long roomId);
+
+    /**
+     * 삭제되지 않은 논의방의 참여 가능 대상 조회 (참여 시 확인용)
+     */
+    Optional<AccessLevel> findAccessLevel(Long roomId);
+
+    /**
+     * 지역별 논의방 목록 (최신순)
+     *
+     * @param accessLevel null 이면 모든 참여 가능 대상
+     */
+    List<RoomSummary> findSummaries(Region region, AccessLevel accessLevel, int offset, int limit);
+}
@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.repository;
+
+/**
+ * 논의방 멤버 저장소 인터페이스
+ */
+public interface MemberRepository {
+
+    /**
+     * 사용자가 논의방 멤버인지 확인
+     */
+    boolean existsByUserIdAndRoomId(Long userId, Long roomId);
+
+    /**
+     * 멤버 추가
+     * @return 이미 멤버라서 추가되지 않았으면 false
+     */
+    boolean save(Long userId, Long roomId);
+
+    /**
+     * 멤버 삭제
+     * @return 멤버가 아니라서 삭제된 행이 없으면 false
+     */
+    boolean delete(Long userId, Long roomId);
+
+    /**
+     * 논의방의 모든 멤버 userId
+     */
+    long[] findUserIdsByRoomId(Long roomId);
+
+    /**
+     * 사용자가 참여한 모든 논의방 roomId
+     */
+    long[] findRoomIdsByUserId(Long userId);
+}
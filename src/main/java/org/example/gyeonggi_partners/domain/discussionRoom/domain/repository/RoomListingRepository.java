@@ -0,0 +1,19 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.repository;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+
+/**
+ * 지역별 논의방 목록 조회 (페이지 크기는 고정)
+ */
+public interface RoomListingRepository {
+
+    int pageSize();
+
+    /**
+     * @param accessLevel null 이면 모든 참여 가능 대상
+     * @param page        0부터 시작하는 페이지 번호
+     */
+    RoomPage findPage(Region region, AccessLevel accessLevel, int page);
+}
@@ -0,0 +1,18 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.repository;
+
+/**
+ * 논의방 멤버 여부를 메모리에서 바로 확인하기 위한 인덱스
+ * 메시지 전송/구독처럼 자주 호출되는 경로에서 members 테이블 조회를 대신합니다.
+ */
+public interface RoomMembershipIndex {
+
+    /**
+     * 사용자가 논의방 멤버인지 확인
+     */
+    boolean isMember(long userId, long roomId);
+
+    /**
+     * 사용자가 참여한 논의방 ID 목록 (반환된 배열은 복사본)
+     */
+    long[] roomIdsOf(long userId);
+}
@@ -0,0 +1,15 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 논의방 접속자 수 저장소 인터페이스
+ */
+public interface RoomPresenceRepository {
+
+    /**
+     * 논의방별 현재 접속 중인 사용자 수 (모든 서버 합산, 접속자가 없으면 0)
+     */
+    Map<Long, Long> countOnline(Collection<Long> roomIds);
+}
@@ -9,7 +9,12 @@ public enum DiscussionRoomErrorCode implements ErrorCode {
     USERS_ONLY_ROOM(403, "R003", "이 논의방은 일반 사용자만 참여할 수 있습니다."),
     REGION_MISMATCH(403, "R003", "해당 지역 주민만 참여할 수 있는 논의방입니다."),
     ALREADY_JOINED_ROOM(409, "R005", "이미 참여 중인 논의방입니다."),
-    NOT_A_ROOM_MEMBER(403, "R006", "해당 논의방의 멤버가 아닙니다.");
+    NOT_A_ROOM_MEMBER(403, "R006", "해당 논의방의 멤버가 아닙니다."),
+    TOO_MANY_ROOMS_REQUESTED(400, "R007", "한 번에 조회할 수 있는 논의방 수를 초과했습니다."),
+    ROOM_MANAGE_FORBIDDEN(403, "R008", "논의방을 수정하거나 삭제할 권한이 없습니다."),
+    INVALID_ROOM_TITLE(400, "R009", "논의방 제목은 1~100자로 입력해야 합니다."),
+    INVALID_ROOM_DESCRIPTION(400, "R010", "논의방 설명은 255자를 초과할 수 없습니다."),
+    INVALID_PAGE(400, "R011", "조회할 수 없는 페이지 번호입니다.");
     DiscussionRoomErrorCode (int status, String code, String message){
         this.status = status;
         this.code = code;
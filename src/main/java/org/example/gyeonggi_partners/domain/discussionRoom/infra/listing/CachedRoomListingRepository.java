@@ -0,0 +1,275 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.DiscussionRoomChangedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.DiscussionRoomRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomListingRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 지역별 논의방 목록 캐시
+ *
+ * <ol>
+ *   <li>로컬: 목록 단위(지역 + 참여 가능 대상, 지역 전체)별로 앞쪽 cached-pages 페이지를 미리 잘라 둔 스냅샷 (Caffeine)</li>
+ *   <li>Redis: room:listing:{REGION}:{ACCESS_LEVEL|ALL} (JSON), 서버 간 공유</li>
+ *   <li>둘 다 없으면 부분 인덱스(idx_discussion_rooms_listing)로 최신순 상위 건만 읽음</li>
+ * </ol>
+ *
+ * 논의방이 생성/수정/삭제되면 커밋 후 그 논의방이 속한 목록 단위만 지우고, room:listing 채널로 다른 서버에도 알립니다.
+ * 나머지 지역/참여 가능 대상의 목록은 그대로 유지됩니다.
+ *
+ * 메트릭: discussion.room.listing{level=local|redis|db}
+ */
+@Slf4j
+@Repository
+public class CachedRoomListingRepository implements RoomListingRepository {
+
+    private static final String KEY_PREFIX = "room:listing:";
+    private static final String GENERATION_KEY_PREFIX = "room:listing:gen:";
+    private static final String CHANNEL = "room:listing";
+    private static final TypeReference<List<RoomSummary>> ROOM_LIST = new TypeReference<>() {
+    };
+    private static final Comparator<RoomSummary> NEWEST_FIRST = Comparator
+            .comparing(RoomSummary::createdAt).reversed()
+            .thenComparing(Comparator.comparing(RoomSummary::roomId).reversed());
+
+    /**
+     * DB에서 읽기 시작할 때의 세대가 그대로일 때만 저장 (읽는 사이 변경이 있었으면 오래된 목록을 남기지 않음)
+     * KEYS: 목록 키, 세대 키 / ARGV: 읽기 전 세대, JSON, ttlMillis
+     */
+    private static final RedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final DiscussionRoomRepository discussionRoomRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final int cachedPages;
+    private final Duration redisTtl;
+
+    private final Cache<RoomListingPartition, RoomListingSnapshot> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter databaseLoadCounter;
+
+    public CachedRoomListingRepository(DiscussionRoomRepository discussionRoomRepository,
+                                       StringRedisTemplate redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       ObjectMapper objectMapper,
+                                       RoomListingProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.discussionRoomRepository = discussionRoomRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.pageSize = properties.getPageSize();
+        this.cachedPages = properties.getCachedPages();
+        this.redisTtl = properties.getRedisTtl();
+        // 지역 28개 × (참여 가능 대상 3개 + 전체) 이므로 크기 제한은 사실상 걸리지 않음
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize((long) Region.values().length * (AccessLevel.values().length + 1))
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+
+        this.localHitCounter = counter(meterRegistry, "local");
+        this.redisHitCounter = counter(meterRegistry, "redis");
+        this.databaseLoadCounter = counter(meterRegistry, "db");
+
+        listenerContainer.addMessageListener((message, pattern) -> onRemoteChange(message), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public RoomPage findPage(Region region, AccessLevel accessLevel, int page) {
+        RoomListingPartition partition = new RoomListingPartition(region, accessLevel);
+        RoomListingSnapshot snapshot = localCache.getIfPresent(partition);
+        if (snapshot != null) {
+            localHitCounter.increment();
+        } else {
+            snapshot = localCache.get(partition, this::load);
+        }
+
+        RoomPage cached = snapshot.page(page);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 미리 만든 페이지보다 뒤: 한 건 더 읽어 다음 페이지 존재 여부 판단
+        databaseLoadCounter.increment();
+        List<RoomSummary> rows = discussionRoomRepository.findSummaries(
+                region, accessLevel, Math.multiplyExact(page, pageSize), pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        return new RoomPage(hasNext ? rows.subList(0, pageSize) : rows, page, hasNext);
+    }
+
+    /**
+     * 커밋 후 변경된 논의방이 속한 목록 단위만 무효화
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoomChanged(DiscussionRoomChangedEvent event) {
+        Set<RoomListingPartition> partitions = new LinkedHashSet<>();
+        partitions.add(new RoomListingPartition(event.region(), null));
+        if (event.previousAccessLevel() != null) {
+            partitions.add(new RoomListingPartition(event.region(), event.previousAccessLevel()));
+        }
+        if (event.accessLevel() != null) {
+            partitions.add(new RoomListingPartition(event.region(), event.accessLevel()));
+        }
+
+        evictShared(partitions);
+        localCache.invalidateAll(partitions);
+        notifyOtherNodes(partitions);
+    }
+
+    // ================= 적재 =================
+
+    private RoomListingSnapshot load(RoomListingPartition partition) {
+        String generation = null;
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(List.of(key(partition), generationKey(partition)));
+            String json = values == null ? null : values.get(0);
+            if (json != null) {
+                redisHitCounter.increment();
+                return RoomListingSnapshot.of(objectMapper.readValue(json, ROOM_LIST), pageSize, cachedPages);
+            }
+            generation = values == null || values.get(1) == null ? "0" : values.get(1);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애 시 DB에서 읽고 Redis에는 쓰지 않음
+            log.warn("논의방 목록 Redis 조회 실패 - {}, 에러: {}", partition.id(), e.getMessage());
+        }
+
+        databaseLoadCounter.increment();
+        List<RoomSummary> rooms = loadFromDatabase(partition);
+        if (generation != null) {
+            store(partition, generation, rooms);
+        }
+        return RoomListingSnapshot.of(rooms, pageSize, cachedPages);
+    }
+
+    /**
+     * 지역 전체 목록은 참여 가능 대상별로 인덱스를 한 번씩 읽어 합침 (지역의 모든 논의방을 정렬하지 않음)
+     */
+    private List<RoomSummary> loadFromDatabase(RoomListingPartition partition) {
+        int limit = Math.addExact(Math.multiplyExact(pageSize, cachedPages), 1);
+        if (partition.accessLevel() != null) {
+            return discussionRoomRepository.findSummaries(partition.region(), partition.accessLevel(), 0, limit);
+        }
+
+        List<RoomSummary> merged = new ArrayList<>();
+        for (AccessLevel accessLevel : AccessLevel.values()) {
+            merged.addAll(discussionRoomRepository.findSummaries(partition.region(), accessLevel, 0, limit));
+        }
+        merged.sort(NEWEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private void store(RoomListingPartition partition, String generation, List<RoomSummary> rooms) {
+        try {
+            redisTemplate.execute(STORE_SCRIPT, List.of(key(partition), generationKey(partition)),
+                    generation, objectMapper.writeValueAsString(rooms), String.valueOf(redisTtl.toMillis()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("논의방 목록 Redis 저장 실패 - {}, 에러: {}", partition.id(), e.getMessage());
+        }
+    }
+
+    // ================= 무효화 =================
+
+    /**
+     * 세대를 올리고 목록을 지움 (이미 DB를 읽고 있던 서버가 오래된 목록을 다시 쓰지 못하게 함)
+     */
+    private void evictShared(Set<RoomListingPartition> partitions) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (RoomListingPartition partition : partitions) {
+                    stringConnection.incr(generationKey(partition));
+                    stringConnection.del(key(partition));
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // Redis 목록은 redis-ttl 이후 만료됨
+            log.warn("논의방 목록 Redis 무효화 실패 - {}, 에러: {}", partitions, e.getMessage());
+        }
+    }
+
+    private void notifyOtherNodes(Set<RoomListingPartition> partitions) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, partitions.stream()
+                    .map(RoomListingPartition::id)
+                    .collect(Collectors.joining(",")));
+        } catch (RuntimeException e) {
+            // 다른 서버는 local-ttl 이후 다시 적재
+            log.warn("논의방 목록 변경 알림 발행 실패 - {}, 에러: {}", partitions, e.getMessage());
+        }
+    }
+
+    /**
+     * 자기가 보낸 알림도 다시 받지만 한 번 더 지우는 것뿐이라 걸러내지 않음
+     */
+    private void onRemoteChange(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.US_ASCII);
+        try {
+            for (String id : body.split(",")) {
+                localCache.invalidate(RoomListingPartition.parse(id));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 논의방 목록 변경 알림입니다: {}", body);
+        }
+    }
+
+    private static String key(RoomListingPartition partition) {
+        return KEY_PREFIX + partition.id();
+    }
+
+    private static String generationKey(RoomListingPartition partition) {
+        return GENERATION_KEY_PREFIX + partition.id();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String level) {
+        return Counter.builder("discussion.room.listing")
+                .description("논의방 목록 조회 위치 (local: 서버 메모리, redis: Redis, db: DB)")
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+
+/**
+ * 목록 캐시 단위 (지역 + 참여 가능 대상, accessLevel 이 null 이면 지역 전체)
+ */
+record RoomListingPartition(Region region, AccessLevel accessLevel) {
+
+    private static final String ALL = "ALL";
+
+    /**
+     * Redis 키와 변경 알림에 쓰는 이름 (예: SUWON:PUBLIC, SUWON:ALL)
+     */
+    String id() {
+        return region.name() + ":" + (accessLevel == null ? ALL : accessLevel.name());
+    }
+
+    static RoomListingPartition parse(String id) {
+        int separator = id.indexOf(':');
+        String accessLevel = id.substring(separator + 1);
+        return new RoomListingPartition(
+                Region.valueOf(id.substring(0, separator)),
+                ALL.equals(accessLevel) ? null : AccessLevel.valueOf(accessLevel));
+    }
+}
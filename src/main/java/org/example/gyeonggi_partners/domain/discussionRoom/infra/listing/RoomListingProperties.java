@@ -0,0 +1,37 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 지역별 논의방 목록 캐시 설정값
+ * application.properties 의 discussion-room.listing.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "discussion-room.listing")
+public class RoomListingProperties {
+
+    /**
+     * 목록 한 페이지의 논의방 수
+     */
+    private int pageSize = 20;
+
+    /**
+     * 미리 만들어 둘 앞쪽 페이지 수, 그 뒤 페이지는 DB에서 조회
+     */
+    private int cachedPages = 10;
+
+    /**
+     * 서버 로컬 캐시 유지 시간 (변경 알림을 놓쳤을 때의 최대 지연)
+     */
+    private Duration localTtl = Duration.ofMinutes(10);
+
+    /**
+     * Redis 캐시 유지 시간
+     */
+    private Duration redisTtl = Duration.ofHours(1);
+}
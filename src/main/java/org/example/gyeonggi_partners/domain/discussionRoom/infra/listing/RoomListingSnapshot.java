@@ -0,0 +1,51 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+
+import java.util.List;
+
+/**
+ * 한 목록 단위의 앞쪽 페이지들 (불변)
+ * 적재할 때 페이지를 미리 잘라 두므로 조회는 배열에서 꺼내기만 합니다.
+ */
+final class RoomListingSnapshot {
+
+    private final RoomPage[] pages;
+    // 미리 만든 페이지 뒤에도 논의방이 더 있는지
+    private final boolean truncated;
+
+    private RoomListingSnapshot(RoomPage[] pages, boolean truncated) {
+        this.pages = pages;
+        this.truncated = truncated;
+    }
+
+    /**
+     * @param newestFirst 최신순 논의방, 다음 페이지 존재 여부 판단을 위해 최대 pageSize * cachedPages + 1 건
+     */
+    static RoomListingSnapshot of(List<RoomSummary> newestFirst, int pageSize, int cachedPages) {
+        int capacity = Math.multiplyExact(pageSize, cachedPages);
+        boolean truncated = newestFirst.size() > capacity;
+        List<RoomSummary> rooms = List.copyOf(truncated ? newestFirst.subList(0, capacity) : newestFirst);
+
+        int pageCount = (rooms.size() + pageSize - 1) / pageSize;
+        RoomPage[] pages = new RoomPage[pageCount];
+        for (int page = 0; page < pageCount; page++) {
+            int from = page * pageSize;
+            int to = Math.min(from + pageSize, rooms.size());
+            boolean hasNext = page < pageCount - 1 || truncated;
+            pages[page] = new RoomPage(rooms.subList(from, to), page, hasNext);
+        }
+        return new RoomListingSnapshot(pages, truncated);
+    }
+
+    /**
+     * @return 미리 만든 페이지, 그 뒤 페이지라서 DB에서 읽어야 하면 null
+     */
+    RoomPage page(int page) {
+        if (page < pages.length) {
+            return pages[page];
+        }
+        return truncated ? null : RoomPage.empty(page);
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import java.util.function.LongFunction;
+
+/**
+ * long 키를 박싱하지 않는 동시성 맵
+ *
+ * <p>키를 64개 구역으로 나누고, 구역마다 불변 테이블을 volatile 로 교체합니다. (copy-on-write)
+ * 조회는 잠금/할당 없이 배열만 읽고, 변경은 해당 구역만 잠근 채 테이블을 복사합니다.
+ * 조회는 많고 변경(논의방 적재/제거)은 드문 멤버 인덱스 용도입니다. 키는 양수만 사용합니다.</p>
+ *
+ * 구역과 테이블은 값을 Object 로 보관하고, V 로의 변환은 이 클래스의 {@link #cast(Object)} 한 곳에서만 합니다.
+ */
+final class ConcurrentLongMap<V> {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    ConcurrentLongMap() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    V get(long key) {
+        return cast(stripeFor(key).get(key));
+    }
+
+    /**
+     * 없으면 만들어 넣고, 있으면 기존 값을 반환
+     */
+    V computeIfAbsent(long key, LongFunction<V> factory) {
+        V value = get(key);
+        return value != null ? value : cast(stripeFor(key).putIfAbsent(key, factory));
+    }
+
+    void put(long key, V value) {
+        stripeFor(key).put(key, value);
+    }
+
+    /**
+     * expected 와 같은 값이 들어 있을 때만 제거
+     */
+    boolean remove(long key, V expected) {
+        return stripeFor(key).remove(key, expected);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.table.size;
+        }
+        return size;
+    }
+
+    void forEach(Visitor<V> visitor) {
+        for (Stripe stripe : stripes) {
+            Table table = stripe.table;
+            for (int i = 0; i < table.keys.length; i++) {
+                if (table.keys[i] != 0) {
+                    visitor.visit(table.keys[i], cast(table.values[i]));
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor<V> {
+        void visit(long key, V value);
+    }
+
+    private Stripe stripeFor(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (mixed >>> 58)];
+    }
+
+    /**
+     * 이 맵에는 put/computeIfAbsent 로 V 만 들어가므로 안전한 변환
+     */
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(Object value) {
+        return (V) value;
+    }
+
+    private static final class Stripe {
+
+        private volatile Table table = Table.EMPTY;
+
+        Object get(long key) {
+            Table current = table;
+            int index = current.indexOf(key);
+            return index < 0 ? null : current.values[index];
+        }
+
+        synchronized Object putIfAbsent(long key, LongFunction<?> factory) {
+            int index = table.indexOf(key);
+            if (index >= 0) {
+                return table.values[index];
+            }
+            Object value = factory.apply(key);
+            table = table.with(key, value);
+            return value;
+        }
+
+        synchronized void put(long key, Object value) {
+            table = table.with(key, value);
+        }
+
+        synchronized boolean remove(long key, Object expected) {
+            int index = table.indexOf(key);
+            if (index < 0 || table.values[index] != expected) {
+                return false;
+            }
+            table = table.without(key);
+            return true;
+        }
+    }
+
+    /**
+     * 구역 하나의 불변 테이블 (open addressing, 키 0 = 빈 칸)
+     */
+    private static final class Table {
+
+        static final Table EMPTY = new Table(new long[0], new Object[0], 0);
+
+        final long[] keys;
+        final Object[] values;
+        final int size;
+
+        Table(long[] keys, Object[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.size = size;
+        }
+
+        int indexOf(long key) {
+            if (keys.length == 0) {
+                return -1;
+            }
+            int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while (true) {
+                long current = keys[index];
+                if (current == key) {
+                    return index;
+                }
+                if (current == 0) {
+                    return -1;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        Table with(long key, Object value) {
+            int existing = indexOf(key);
+            if (existing >= 0) {
+                Object[] newValues = values.clone();
+                newValues[existing] = value;
+                return new Table(keys, newValues, size);
+            }
+            Table resized = copy(Math.max(tableSizeFor(size + 1), keys.length), -1);
+            resized.insert(key, value);
+            return new Table(resized.keys, resized.values, size + 1);
+        }
+
+        Table without(long key) {
+            Table copied = copy(keys.length, key);
+            return new Table(copied.keys, copied.values, size - 1);
+        }
+
+        private Table copy(int tableSize, long skipKey) {
+            Table copied = new Table(new long[tableSize], new Object[tableSize], 0);
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0 && keys[i] != skipKey) {
+                    copied.insert(keys[i], values[i]);
+                }
+            }
+            return copied;
+        }
+
+        private void insert(long key, Object value) {
+            int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+
+        private static int tableSizeFor(int size) {
+            return Integer.highestOneBit(Math.max(size * 2, 4) - 1) << 1;
+        }
+
+        private static int hash(long key) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
+    }
+}
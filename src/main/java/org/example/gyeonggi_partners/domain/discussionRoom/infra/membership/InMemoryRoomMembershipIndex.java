@@ -0,0 +1,276 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberJoinedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberLeftEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMembershipRevokedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomMembershipIndex;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 논의방 멤버 인덱스 (서버 로컬 메모리)
+ *
+ * <ul>
+ *   <li>논의방 → userId 집합, 사용자 → roomId 집합을 처음 조회할 때 DB에서 적재</li>
+ *   <li>조회는 박싱/할당 없이 long 해시 집합을 한 번 찾는 것으로 끝남</li>
+ *   <li>참여/나가기는 커밋 후 이벤트로 반영하고, room:membership 채널로 다른 서버에도 알림</li>
+ *   <li>인덱스에 없는 사용자는 DB로 한 번 더 확인 (다른 서버의 알림을 놓쳤을 때 복구)</li>
+ *   <li>DB 확인에서도 멤버가 아니면 negative-ttl 동안 기억해서, 반복되는 비멤버 요청이 매번 DB로 가지 않게 함</li>
+ *   <li>나가기를 반영할 때마다 {@link RoomMembershipRevokedEvent} 를 발행해 이 서버의 구독을 회수하게 함</li>
+ * </ul>
+ *
+ * 메트릭: discussion.membership.index{result=hit|rejected|fallback|load}, discussion.membership.index.rooms/users
+ */
+@Slf4j
+@Component
+public class InMemoryRoomMembershipIndex implements RoomMembershipIndex {
+
+    private static final String CHANNEL = "room:membership";
+    private static final int VERSION_SLOTS = 1024;
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxRooms;
+    private final int maxUsers;
+    private final long refreshAfterNanos;
+    private final long negativeTtlNanos;
+    private final int maxNegativeEntries;
+
+    private final ConcurrentLongMap<MemberIdSet> roomMembers = new ConcurrentLongMap<>();
+    private final ConcurrentLongMap<MemberIdSet> userRooms = new ConcurrentLongMap<>();
+
+    // 적재 중에 변경 이벤트가 지나갔는지 확인하는 버전 (id 해시 구간별)
+    private final AtomicLongArray roomVersions = new AtomicLongArray(VERSION_SLOTS);
+    private final AtomicLongArray userVersions = new AtomicLongArray(VERSION_SLOTS);
+
+    private final Counter hitCounter;
+    private final Counter rejectedCounter;
+    private final Counter fallbackCounter;
+    private final Counter loadCounter;
+
+    public InMemoryRoomMembershipIndex(MemberRepository memberRepository,
+                                       StringRedisTemplate redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       ApplicationEventPublisher eventPublisher,
+                                       MembershipIndexProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.maxRooms = properties.getMaxRooms();
+        this.maxUsers = properties.getMaxUsers();
+        this.refreshAfterNanos = properties.getRefreshAfter().toNanos();
+        this.negativeTtlNanos = properties.getNegativeTtl().toNanos();
+        this.maxNegativeEntries = properties.getMaxNegativeEntries();
+
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+        this.fallbackCounter = counter(meterRegistry, "fallback");
+        this.loadCounter = counter(meterRegistry, "load");
+        Gauge.builder("discussion.membership.index.rooms", roomMembers, ConcurrentLongMap::size)
+                .description("멤버 인덱스에 적재된 논의방 수")
+                .register(meterRegistry);
+        Gauge.builder("discussion.membership.index.users", userRooms, ConcurrentLongMap::size)
+                .description("멤버 인덱스에 적재된 사용자 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) -> onRemoteChange(message), new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public boolean isMember(long userId, long roomId) {
+        long now = System.nanoTime();
+        MemberIdSet members = roomMembers.get(roomId);
+        if (members == null || members.isStale(now, refreshAfterNanos)) {
+            return loadRoom(roomId, now).contains(userId);
+        }
+
+        members.touch(now);
+        if (members.contains(userId)) {
+            hitCounter.increment();
+            return true;
+        }
+        if (members.isRejected(userId, now, negativeTtlNanos)) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return confirmFromDatabase(members, userId, roomId, now);
+    }
+
+    @Override
+    public long[] roomIdsOf(long userId) {
+        long now = System.nanoTime();
+        MemberIdSet rooms = userRooms.get(userId);
+        if (rooms == null || rooms.isStale(now, refreshAfterNanos)) {
+            rooms = load(userRooms, userVersions, userId, now, maxUsers,
+                    () -> memberRepository.findRoomIdsByUserId(userId));
+        } else {
+            rooms.touch(now);
+        }
+        return rooms.toArray();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJoined(RoomMemberJoinedEvent event) {
+        applyJoin(event.roomId(), event.userId());
+        notifyOtherNodes('J', event.roomId(), event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLeft(RoomMemberLeftEvent event) {
+        applyLeave(event.roomId(), event.userId());
+        notifyOtherNodes('L', event.roomId(), event.userId());
+    }
+
+    private boolean confirmFromDatabase(MemberIdSet members, long userId, long roomId, long now) {
+        fallbackCounter.increment();
+        int slot = slot(roomId);
+        long version = roomVersions.get(slot);
+        if (!memberRepository.existsByUserIdAndRoomId(userId, roomId)) {
+            // 확인하는 사이에 참여 이벤트가 지나갔으면 기억하지 않음 (참여 직후 거절되지 않도록)
+            if (roomVersions.get(slot) == version) {
+                members.reject(userId, now, negativeTtlNanos, maxNegativeEntries);
+            }
+            return false;
+        }
+        log.debug("멤버 인덱스에 없던 멤버를 추가합니다 - roomId: {}, userId: {}", roomId, userId);
+        members.add(userId);
+        return true;
+    }
+
+    private MemberIdSet loadRoom(long roomId, long now) {
+        return load(roomMembers, roomVersions, roomId, now, maxRooms,
+                () -> memberRepository.findUserIdsByRoomId(roomId));
+    }
+
+    /**
+     * DB에서 읽어 인덱스에 넣습니다.
+     * 읽는 동안 같은 구간에 변경 이벤트가 있었으면 빠진 변경이 있을 수 있으므로 인덱스에 남기지 않습니다.
+     */
+    private MemberIdSet load(ConcurrentLongMap<MemberIdSet> index, AtomicLongArray versions,
+                             long id, long now, int maxEntries, IdLoader loader) {
+        loadCounter.increment();
+        int slot = slot(id);
+        long version = versions.get(slot);
+
+        MemberIdSet loaded = new MemberIdSet(LongHashSet.of(loader.load()), now);
+        index.put(id, loaded);
+        // 이벤트는 버전을 먼저 올리고 인덱스에 반영하므로, 넣은 뒤에 확인해야 사이에 낀 이벤트를 놓치지 않음
+        if (versions.get(slot) != version) {
+            index.remove(id, loaded);
+        } else if (index.size() > maxEntries) {
+            evictLeastRecentlyUsed(index, maxEntries);
+        }
+        return loaded;
+    }
+
+    private void applyJoin(long roomId, long userId) {
+        roomVersions.incrementAndGet(slot(roomId));
+        userVersions.incrementAndGet(slot(userId));
+
+        MemberIdSet members = roomMembers.get(roomId);
+        if (members != null) {
+            members.add(userId);
+        }
+        MemberIdSet rooms = userRooms.get(userId);
+        if (rooms != null) {
+            rooms.add(roomId);
+        }
+    }
+
+    private void applyLeave(long roomId, long userId) {
+        roomVersions.incrementAndGet(slot(roomId));
+        userVersions.incrementAndGet(slot(userId));
+
+        MemberIdSet members = roomMembers.get(roomId);
+        if (members != null) {
+            members.remove(userId);
+        }
+        MemberIdSet rooms = userRooms.get(userId);
+        if (rooms != null) {
+            rooms.remove(roomId);
+        }
+        eventPublisher.publishEvent(new RoomMembershipRevokedEvent(roomId, userId));
+    }
+
+    private void notifyOtherNodes(char type, long roomId, long userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, type + ":" + roomId + ":" + userId);
+        } catch (RuntimeException e) {
+            // 다른 서버는 refresh-after 이후 다시 적재하거나, 참여한 사용자는 DB 확인으로 반영됨
+            log.warn("멤버 변경 알림 발행 실패 - roomId: {}, userId: {}, 에러: {}", roomId, userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 자기가 보낸 알림도 다시 받지만 같은 변경을 두 번 반영해도 결과가 같으므로 걸러내지 않음
+     */
+    private void onRemoteChange(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.US_ASCII);
+        String[] parts = body.split(":");
+        try {
+            long roomId = Long.parseLong(parts[1]);
+            long userId = Long.parseLong(parts[2]);
+            switch (parts[0]) {
+                case "J" -> applyJoin(roomId, userId);
+                case "L" -> applyLeave(roomId, userId);
+                default -> log.warn("알 수 없는 멤버 변경 알림입니다: {}", body);
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            log.warn("잘못된 멤버 변경 알림입니다: {}", body);
+        }
+    }
+
+    /**
+     * 최근 사용 시각이 가장 오래된 1/4 을 제거
+     */
+    private static void evictLeastRecentlyUsed(ConcurrentLongMap<MemberIdSet> index, int maxEntries) {
+        long[] accessTimes = new long[index.size()];
+        int[] count = {0};
+        index.forEach((id, entry) -> {
+            if (count[0] < accessTimes.length) {
+                accessTimes[count[0]++] = entry.lastAccessNanos();
+            }
+        });
+        Arrays.sort(accessTimes, 0, count[0]);
+        long cutoff = accessTimes[Math.max(0, count[0] - maxEntries * 3 / 4 - 1)];
+
+        index.forEach((id, entry) -> {
+            if (entry.lastAccessNanos() - cutoff <= 0) {
+                index.remove(id, entry);
+            }
+        });
+    }
+
+    private static int slot(long id) {
+        long mixed = id * 0x9E3779B97F4A7C15L;
+        return (int) (mixed >>> 54);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("discussion.membership.index")
+                .description("멤버 확인 결과 (hit: 메모리, rejected: 최근 비멤버 확인, fallback: DB 재확인, load: DB 적재)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface IdLoader {
+        long[] load();
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import java.util.Arrays;
+
+/**
+ * 박싱 없이 long 을 보관하는 불변 해시 집합 (open addressing, linear probing)
+ * 변경하면 새 집합을 만들어 반환하므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ * 멤버 ID 는 모두 양수라서 0 을 빈 칸 표시로 사용하고, 0 이하 값은 넣지 않습니다.
+ */
+final class LongHashSet {
+
+    static final LongHashSet EMPTY = new LongHashSet(new long[4], 0);
+
+    private static final int MIN_TABLE_SIZE = 4;
+
+    private final long[] table;
+    private final int mask;
+    private final int size;
+
+    private LongHashSet(long[] table, int size) {
+        this.table = table;
+        this.mask = table.length - 1;
+        this.size = size;
+    }
+
+    static LongHashSet of(long[] values) {
+        long[] table = new long[tableSizeFor(values.length)];
+        int size = 0;
+        for (long value : values) {
+            if (value > 0 && insert(table, value)) {
+                size++;
+            }
+        }
+        return new LongHashSet(table, size);
+    }
+
+    boolean contains(long value) {
+        if (value <= 0) {
+            return false;
+        }
+        int index = hash(value) & mask;
+        while (true) {
+            long current = table[index];
+            if (current == value) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * value 를 추가한 새 집합 (이미 있으면 자기 자신)
+     */
+    LongHashSet with(long value) {
+        if (value <= 0 || contains(value)) {
+            return this;
+        }
+        int newSize = size + 1;
+        long[] newTable = table.length >= tableSizeFor(newSize)
+                ? table.clone()
+                : rehash(table, tableSizeFor(newSize));
+        insert(newTable, value);
+        return new LongHashSet(newTable, newSize);
+    }
+
+    /**
+     * value 를 뺀 새 집합 (없으면 자기 자신)
+     */
+    LongHashSet without(long value) {
+        if (!contains(value)) {
+            return this;
+        }
+        // linear probing 은 중간 칸을 비우면 뒤쪽 항목을 못 찾으므로 다시 채움
+        long[] remaining = new long[size - 1];
+        int i = 0;
+        for (long current : table) {
+            if (current != 0 && current != value) {
+                remaining[i++] = current;
+            }
+        }
+        return of(remaining);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long[] toArray() {
+        long[] values = new long[size];
+        int i = 0;
+        for (long current : table) {
+            if (current != 0) {
+                values[i++] = current;
+            }
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * 메모리 추정치 (바이트)
+     */
+    long estimatedBytes() {
+        return 32L + 8L * table.length;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        int index = hash(value) & mask;
+        while (table[index] != 0) {
+            if (table[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        return true;
+    }
+
+    private static long[] rehash(long[] table, int newTableSize) {
+        long[] newTable = new long[newTableSize];
+        for (long value : table) {
+            if (value != 0) {
+                insert(newTable, value);
+            }
+        }
+        return newTable;
+    }
+
+    /**
+     * 사용률 50% 이하가 되는 2의 거듭제곱 크기
+     */
+    private static int tableSizeFor(int size) {
+        int tableSize = Integer.highestOneBit(Math.max(size * 2, MIN_TABLE_SIZE) - 1) << 1;
+        return Math.max(tableSize, MIN_TABLE_SIZE);
+    }
+
+    private static int hash(long value) {
+        long mixed = value * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+/**
+ * 인덱스 항목 하나 (논의방의 userId 집합 또는 사용자의 roomId 집합)
+ * 조회는 volatile 읽기 한 번, 변경은 새 LongHashSet 으로 교체합니다.
+ *
+ * 논의방 항목은 DB로 확인해 멤버가 아니었던 사용자도 잠시 기억합니다. (rejected)
+ * 항목별 만료 시각 대신 모으기 시작한 시각 하나로 한꺼번에 만료시켜 조회 경로에 할당을 만들지 않습니다.
+ */
+final class MemberIdSet {
+
+    private volatile LongHashSet ids;
+    private volatile Rejected rejected;
+    private final long loadedAtNanos;
+    // 오래 안 쓴 항목 제거용, 정확할 필요가 없어 volatile 로 두지 않음
+    private long lastAccessNanos;
+
+    MemberIdSet(LongHashSet ids, long nowNanos) {
+        this.ids = ids;
+        this.loadedAtNanos = nowNanos;
+        this.lastAccessNanos = nowNanos;
+    }
+
+    boolean contains(long id) {
+        return ids.contains(id);
+    }
+
+    synchronized void add(long id) {
+        ids = ids.with(id);
+        Rejected current = rejected;
+        if (current != null && current.ids().contains(id)) {
+            rejected = new Rejected(current.ids().without(id), current.sinceNanos());
+        }
+    }
+
+    /**
+     * ttlNanos 안에 멤버가 아니라고 확인된 id 인지
+     */
+    boolean isRejected(long id, long nowNanos, long ttlNanos) {
+        Rejected current = rejected;
+        return current != null && nowNanos - current.sinceNanos() <= ttlNanos && current.ids().contains(id);
+    }
+
+    /**
+     * 멤버가 아니라고 확인된 id 를 기억합니다. 만료됐거나 maxEntries 에 이르면 새로 모읍니다.
+     */
+    synchronized void reject(long id, long nowNanos, long ttlNanos, int maxEntries) {
+        Rejected current = rejected;
+        if (current == null || nowNanos - current.sinceNanos() > ttlNanos || current.ids().size() >= maxEntries) {
+            current = new Rejected(LongHashSet.EMPTY, nowNanos);
+        }
+        rejected = new Rejected(current.ids().with(id), current.sinceNanos());
+    }
+
+    synchronized void remove(long id) {
+        ids = ids.without(id);
+    }
+
+    long[] toArray() {
+        return ids.toArray();
+    }
+
+    long estimatedBytes() {
+        return 48L + ids.estimatedBytes();
+    }
+
+    void touch(long nowNanos) {
+        lastAccessNanos = nowNanos;
+    }
+
+    long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * 다른 서버의 변경 이벤트를 놓쳤을 경우에 대비해 일정 시간이 지나면 다시 적재
+     */
+    boolean isStale(long nowNanos, long refreshAfterNanos) {
+        return nowNanos - loadedAtNanos > refreshAfterNanos;
+    }
+
+    private record Rejected(LongHashSet ids, long sinceNanos) {
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 논의방 멤버 인덱스 설정값
+ * application.properties 의 discussion-room.membership-index.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "discussion-room.membership-index")
+public class MembershipIndexProperties {
+
+    /**
+     * 메모리에 올려 둘 최대 논의방 수, 넘으면 오래 안 쓴 논의방부터 제거
+     */
+    private int maxRooms = 20_000;
+
+    /**
+     * 메모리에 올려 둘 최대 사용자 수 (사용자 → 참여 논의방 목록)
+     */
+    private int maxUsers = 100_000;
+
+    /**
+     * 적재 후 이 시간이 지나면 DB에서 다시 읽음 (변경 이벤트를 놓쳤을 때의 최대 지연)
+     */
+    private Duration refreshAfter = Duration.ofMinutes(10);
+
+    /**
+     * 인덱스에 없어 DB로 확인했는데 멤버가 아니었던 사용자를 기억하는 시간
+     * 그동안은 같은 사용자의 확인이 DB를 거치지 않음 (참여 이벤트가 오면 바로 풀림)
+     */
+    private Duration negativeTtl = Duration.ofSeconds(5);
+
+    /**
+     * 논의방 하나에 기억하는 멤버 아닌 사용자 최대 수, 넘으면 처음부터 다시 모음
+     */
+    private int maxNegativeEntries = 1024;
+}
@@ -0,0 +1,93 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.persistence;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.common.BaseEntity;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.DiscussionRoom;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * DiscussionRoom JPA 엔티티
+ */
+@Entity
+@Table(name = "discussion_rooms")
+@Getter
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+public class DiscussionRoomEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "room_id")
+    private Long id;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "description", length = 255)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "region", nullable = false, updatable = false, columnDefinition = "region_enum")
+    private Region region;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "access_level", nullable = false, columnDefinition = "access_level_enum")
+    private AccessLevel accessLevel;
+
+    @Builder
+    private DiscussionRoomEntity(Long id, String title, String description, Region region, AccessLevel accessLevel) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.region = region;
+        this.accessLevel = accessLevel;
+    }
+
+    /**
+     * 도메인 모델을 엔티티로 변환 (Domain -> Entity)
+     */
+    public static DiscussionRoomEntity fromDomain(DiscussionRoom room) {
+        return DiscussionRoomEntity.builder()
+                .id(room.getId())
+                .title(room.getTitle())
+                .description(room.getDescription())
+                .region(room.getRegion())
+                .accessLevel(room.getAccessLevel())
+                .build();
+    }
+
+    /**
+     * 수정/삭제된 도메인 모델을 반영 (변경 감지로 UPDATE)
+     */
+    public void apply(DiscussionRoom room) {
+        this.title = room.getTitle();
+        this.description = room.getDescription();
+        this.accessLevel = room.getAccessLevel();
+        if (room.isDeleted() && getDeletedAt() == null) {
+            markDeleted(room.getDeletedAt());
+        }
+    }
+
+    /**
+     * 엔티티를 도메인 모델로 변환 (Entity -> Domain)
+     */
+    public DiscussionRoom toDomain() {
+        return DiscussionRoom.restore(
+                this.id,
+                this.title,
+                this.description,
+                this.region,
+                this.accessLevel,
+                this.getCreatedAt(),
+                this.getUpdatedAt(),
+                this.getDeletedAt()
+        );
+    }
+}
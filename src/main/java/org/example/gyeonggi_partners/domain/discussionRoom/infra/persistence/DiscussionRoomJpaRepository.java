@@ -0,0 +1,54 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DiscussionRoomJpaRepository extends JpaRepository<DiscussionRoomEntity, Long> {
+
+    Optional<DiscussionRoomEntity> findByIdAndDeletedAtIsNull(Long id);
+
+    /**
+     * 삭제되지 않은 논의방의 참여 가능 대상만 조회
+     */
+    @Query("SELECT r.accessLevel FROM DiscussionRoomEntity r WHERE r.id = :roomId AND r.deletedAt IS NULL")
+    Optional<AccessLevel> findAccessLevel(@Param("roomId") Long roomId);
+
+    /**
+     * 지역 + 참여 가능 대상별 최신순 목록
+     * idx_discussion_rooms_listing (region, access_level, created_at) WHERE deleted_at IS NULL 을 역순으로 읽음
+     */
+    @Query("""
+            SELECT new org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary(
+                       r.id, r.title, r.description, r.region, r.accessLevel, r.createdAt)
+            FROM DiscussionRoomEntity r
+            WHERE r.region = :region AND r.accessLevel = :accessLevel AND r.deletedAt IS NULL
+            ORDER BY r.createdAt DESC, r.id DESC
+            LIMIT :limit OFFSET :offset
+            """)
+    List<RoomSummary> findSummaries(@Param("region") Region region,
+                                    @Param("accessLevel") AccessLevel accessLevel,
+                                    @Param("offset") int offset,
+                                    @Param("limit") int limit);
+
+    /**
+     * 지역별 최신순 목록 (모든 참여 가능 대상)
+     */
+    @Query("""
+            SELECT new org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary(
+                       r.id, r.title, r.description, r.region, r.accessLevel, r.createdAt)
+            FROM DiscussionRoomEntity r
+            WHERE r.region = :region AND r.deletedAt IS NULL
+            ORDER BY r.createdAt DESC, r.id DESC
+            LIMIT :limit OFFSET :offset
+            """)
+    List<RoomSummary> findSummariesByRegion(@Param("region") Region region,
+                                            @Param("offset") int offset,
+                                            @Param("limit") int limit);
+}
@@ -0,0 +1,54 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.DiscussionRoom;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.DiscussionRoomRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DiscussionRoomRepository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiscussionRoomRepositoryImpl implements DiscussionRoomRepository {
+
+    private final DiscussionRoomJpaRepository discussionRoomJpaRepository;
+
+    @Override
+    public DiscussionRoom save(DiscussionRoom room) {
+        if (room.getId() == null) {
+            return discussionRoomJpaRepository.saveAndFlush(DiscussionRoomEntity.fromDomain(room)).toDomain();
+        }
+
+        DiscussionRoomEntity entity = discussionRoomJpaRepository.findById(room.getId())
+                .orElseThrow(() -> new BusinessException(DiscussionRoomErrorCode.ROOM_NOT_FOUND));
+        entity.apply(room);
+        return discussionRoomJpaRepository.saveAndFlush(entity).toDomain();
+    }
+
+    @Override
+    public Optional<DiscussionRoom> findById(Long roomId) {
+        return discussionRoomJpaRepository.findByIdAndDeletedAtIsNull(roomId).map(DiscussionRoomEntity::toDomain);
+    }
+
+    @Override
+    public Optional<AccessLevel> findAccessLevel(Long roomId) {
+        return discussionRoomJpaRepository.findAccessLevel(roomId);
+    }
+
+    @Override
+    public List<RoomSummary> findSummaries(Region region, AccessLevel accessLevel, int offset, int limit) {
+        if (accessLevel == null) {
+            return discussionRoomJpaRepository.findSummariesByRegion(region, offset, limit);
+        }
+        return discussionRoomJpaRepository.findSummaries(region, accessLevel, offset, limit);
+    }
+}
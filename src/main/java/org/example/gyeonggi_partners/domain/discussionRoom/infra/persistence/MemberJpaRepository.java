@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemberJpaRepository extends JpaRepository<MemberEntity, Long> {
+
+    boolean existsByUserIdAndRoomId(Long userId, Long roomId);
+
+    /**
+     * 멤버 추가, 이미 참여 중이면 (user_id, room_id) UNIQUE 제약에 걸리지 않고 0을 반환
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO members (user_id, room_id)
+            VALUES (:userId, :roomId)
+            ON CONFLICT (user_id, room_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
+    @Modifying
+    @Query("DELETE FROM MemberEntity m WHERE m.userId = :userId AND m.roomId = :roomId")
+    int deleteByUserIdAndRoomId(@Param("userId") Long userId, @Param("roomId") Long roomId);
+
+    @Query("SELECT m.userId FROM MemberEntity m WHERE m.roomId = :roomId")
+    List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT m.roomId FROM MemberEntity m WHERE m.userId = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+}
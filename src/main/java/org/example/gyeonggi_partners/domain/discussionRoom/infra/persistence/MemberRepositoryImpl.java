@@ -0,0 +1,46 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * MemberRepository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberRepositoryImpl implements MemberRepository {
+
+    private final MemberJpaRepository memberJpaRepository;
+
+    @Override
+    public boolean existsByUserIdAndRoomId(Long userId, Long roomId) {
+        return memberJpaRepository.existsByUserIdAndRoomId(userId, roomId);
+    }
+
+    @Override
+    public boolean save(Long userId, Long roomId) {
+        return memberJpaRepository.insertIfAbsent(userId, roomId) > 0;
+    }
+
+    @Override
+    public boolean delete(Long userId, Long roomId) {
+        return memberJpaRepository.deleteByUserIdAndRoomId(userId, roomId) > 0;
+    }
+
+    @Override
+    public long[] findUserIdsByRoomId(Long roomId) {
+        return toArray(memberJpaRepository.findUserIdsByRoomId(roomId));
+    }
+
+    @Override
+    public long[] findRoomIdsByUserId(Long userId) {
+        return toArray(memberJpaRepository.findRoomIdsByUserId(userId));
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+}
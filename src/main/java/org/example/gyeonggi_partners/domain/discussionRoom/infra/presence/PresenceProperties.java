@@ -0,0 +1,42 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.presence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 논의방 접속자 집계 설정값
+ * application.properties 의 discussion-room.presence.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "discussion-room.presence")
+public class PresenceProperties {
+
+    /**
+     * 입장/퇴장 변경을 모아서 Redis에 반영하는 주기
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 접속 정보 유효 시간, 서버가 죽어 갱신이 끊기면 이 시간 뒤에 접속자에서 빠짐
+     */
+    private Duration ttl = Duration.ofSeconds(30);
+
+    /**
+     * 이 서버의 접속자 전체를 다시 기록하는 주기 (ttl 보다 충분히 짧게)
+     */
+    private Duration renewInterval = Duration.ofSeconds(10);
+
+    /**
+     * 접속자 수 조회 결과를 서버 로컬에 캐시하는 시간
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 조회할 수 있는 최대 논의방 수
+     */
+    private int maxRoomsPerRequest = 100;
+}
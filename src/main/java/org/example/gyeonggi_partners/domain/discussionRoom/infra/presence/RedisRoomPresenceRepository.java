@@ -0,0 +1,64 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.presence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomPresenceRepository;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 논의방 접속자 수 조회 (presence:room:{roomId} 에서 만료되지 않은 사용자 수)
+ * 여러 논의방을 파이프라인 한 번으로 조회하고, 결과를 count-cache-ttl 동안 서버 로컬에 캐시합니다.
+ */
+@Slf4j
+@Repository
+public class RedisRoomPresenceRepository implements RoomPresenceRepository {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, Long> countCache;
+
+    public RedisRoomPresenceRepository(StringRedisTemplate redisTemplate, PresenceProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.countCache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(properties.getCountCacheTtl())
+                .build();
+    }
+
+    @Override
+    public Map<Long, Long> countOnline(Collection<Long> roomIds) {
+        return countCache.getAll(roomIds, this::loadCounts);
+    }
+
+    private Map<Long, Long> loadCounts(Set<? extends Long> roomIds) {
+        List<Long> ids = List.copyOf(roomIds);
+        Map<Long, Long> counts = new HashMap<>(ids.size() * 2);
+        try {
+            double now = System.currentTimeMillis();
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long roomId : ids) {
+                    stringConnection.zCount(RoomPresenceTracker.key(roomId), now, Double.POSITIVE_INFINITY);
+                }
+                return null;
+            });
+            for (int i = 0; i < ids.size(); i++) {
+                counts.put(ids.get(i), results.get(i) instanceof Long count ? count : 0L);
+            }
+        } catch (RuntimeException e) {
+            // 접속자 수는 부가 정보라서 Redis 장애 시 0으로 보여줌
+            log.warn("논의방 접속자 수 조회 실패 - 에러: {}", e.getMessage());
+            ids.forEach(roomId -> counts.put(roomId, 0L));
+        }
+        return counts;
+    }
+}
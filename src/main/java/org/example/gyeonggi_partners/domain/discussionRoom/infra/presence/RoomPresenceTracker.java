@@ -0,0 +1,357 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.presence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.LocalRoomBroadcaster;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.StringRedisConnection.StringTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 논의방 접속자 집계 (이 서버 담당분)
+ *
+ * <p>STOMP 구독/구독 해제/연결 종료 이벤트로 논의방별 접속 사용자를 서버 로컬에서 세고,
+ * 사용자가 처음 들어오거나 마지막으로 나갈 때의 변경만 모아 flush-interval 마다 Redis에 반영합니다.
+ * 하트비트가 끊긴 세션은 브로커가 종료하므로 연결 종료 이벤트로 함께 처리됩니다.</p>
+ *
+ * <p>Redis: presence:room:{roomId} Sorted Set (member: userId, score: 만료 시각 ms)
+ * 세션마다 하트비트를 기록하지 않고, renew-interval 마다 이 서버의 접속자 전체를 논의방 단위로 한 번에 갱신합니다.
+ * 서버가 죽어 갱신이 끊기면 ttl 이후 접속자 수에서 빠집니다.</p>
+ *
+ * 같은 사용자가 여러 서버에 접속했다가 한 서버에서 나가면, 다른 서버가 다음 갱신을 할 때까지 잠시 빠져 보일 수 있습니다.
+ * 메트릭: discussion.presence.rooms, discussion.presence.pending, discussion.presence.flush.failures
+ */
+@Slf4j
+@Component
+public class RoomPresenceTracker implements SmartLifecycle {
+
+    static final String KEY_PREFIX = "presence:room:";
+    private static final int RENEW_BATCH_ROOMS = 200;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PresenceProperties properties;
+    private Thread flushThread;
+    private volatile boolean running;
+
+    // sessionId → 세션의 사용자와 구독 (subscriptionId → roomId)
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+    // roomId → (userId → 이 서버의 구독 수), 안쪽 맵은 compute 안에서만 접근
+    private final Map<Long, Map<Long, Integer>> localPresence = new ConcurrentHashMap<>();
+    // 다음 flush 때 반영할 변경 (true: 입장, false: 퇴장), 같은 사용자는 마지막 변경만 남음
+    private final Map<RoomUser, Boolean> pendingChanges = new ConcurrentHashMap<>();
+
+    private final Counter flushFailureCounter;
+
+    public RoomPresenceTracker(StringRedisTemplate redisTemplate,
+                               PresenceProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+
+        Gauge.builder("discussion.presence.rooms", localPresence, Map::size)
+                .description("이 서버에 접속자가 있는 논의방 수")
+                .register(meterRegistry);
+        Gauge.builder("discussion.presence.pending", pendingChanges, Map::size)
+                .description("Redis 반영을 기다리는 입장/퇴장 변경 수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("discussion.presence.flush.failures")
+                .description("접속자 Redis 반영 실패 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        Long userId = userId(event.getUser());
+        if (roomId == null || userId == null
+                || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previous = sessions
+                .computeIfAbsent(accessor.getSessionId(), sessionId -> new SessionPresence(userId))
+                .subscriptions().put(accessor.getSubscriptionId(), roomId);
+        if (previous == null) {
+            increment(roomId, userId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionPresence session = sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long roomId = session.subscriptions().remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            decrement(roomId, session.userId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionPresence session = sessions.remove(event.getSessionId());
+        if (session != null) {
+            session.subscriptions().values().forEach(roomId -> decrement(roomId, session.userId()));
+        }
+    }
+
+    private void increment(Long roomId, Long userId) {
+        localPresence.compute(roomId, (id, users) -> {
+            Map<Long, Integer> counts = users != null ? users : new HashMap<>();
+            if (counts.merge(userId, 1, Integer::sum) == 1) {
+                pendingChanges.put(new RoomUser(roomId, userId), Boolean.TRUE);
+            }
+            return counts;
+        });
+    }
+
+    private void decrement(Long roomId, Long userId) {
+        localPresence.computeIfPresent(roomId, (id, counts) -> {
+            Integer count = counts.get(userId);
+            if (count == null) {
+                return counts;
+            }
+            if (count == 1) {
+                counts.remove(userId);
+                pendingChanges.put(new RoomUser(roomId, userId), Boolean.FALSE);
+            } else {
+                counts.put(userId, count - 1);
+            }
+            return counts.isEmpty() ? null : counts;
+        });
+    }
+
+    // ================= Redis 반영 =================
+
+    private void flushLoop() {
+        long renewIntervalNanos = properties.getRenewInterval().toNanos();
+        long nextRenewal = System.nanoTime();
+
+        while (running) {
+            try {
+                Thread.sleep(properties.getFlushInterval().toMillis());
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            }
+
+            try {
+                flushChanges();
+                if (System.nanoTime() - nextRenewal >= 0) {
+                    renewAll();
+                    nextRenewal = System.nanoTime() + renewIntervalNanos;
+                }
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                log.warn("논의방 접속자 Redis 반영 실패 - 에러: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 모아 둔 입장/퇴장만 한 번의 파이프라인으로 반영
+     */
+    void flushChanges() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Map<RoomUser, Boolean> batch = new HashMap<>();
+        for (Map.Entry<RoomUser, Boolean> entry : pendingChanges.entrySet()) {
+            // 그 사이 바뀐 변경은 다음 flush 에서 처리
+            if (pendingChanges.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Map<Long, Set<String>> joined = new HashMap<>();
+        Map<Long, Set<String>> left = new HashMap<>();
+        batch.forEach((roomUser, online) -> (online ? joined : left)
+                .computeIfAbsent(roomUser.roomId(), id -> new HashSet<>())
+                .add(String.valueOf(roomUser.userId())));
+
+        try {
+            double expiresAt = expiresAt();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                joined.forEach((roomId, userIds) -> {
+                    stringConnection.zAdd(key(roomId), tuples(userIds, expiresAt));
+                    stringConnection.expire(key(roomId), keyTtlSeconds());
+                });
+                left.forEach((roomId, userIds) -> stringConnection.zRem(key(roomId), userIds.toArray(String[]::new)));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 실패한 변경은 되돌려 두되, 그 사이 생긴 더 새로운 변경은 덮어쓰지 않음
+            batch.forEach(pendingChanges::putIfAbsent);
+            throw e;
+        }
+    }
+
+    /**
+     * 이 서버의 접속자 전체의 만료 시각을 늘리고, 만료된 접속자를 정리
+     */
+    private void renewAll() {
+        List<Long> roomIds = new ArrayList<>(localPresence.keySet());
+        for (int from = 0; from < roomIds.size(); from += RENEW_BATCH_ROOMS) {
+            List<Long> chunk = roomIds.subList(from, Math.min(from + RENEW_BATCH_ROOMS, roomIds.size()));
+            Map<Long, Set<String>> snapshot = snapshot(chunk, false);
+
+            double now = System.currentTimeMillis();
+            double expiresAt = expiresAt();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                snapshot.forEach((roomId, userIds) -> {
+                    stringConnection.zAdd(key(roomId), tuples(userIds, expiresAt));
+                    stringConnection.zRemRangeByScore(key(roomId), Double.NEGATIVE_INFINITY, now);
+                    stringConnection.expire(key(roomId), keyTtlSeconds());
+                });
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 종료 시 이 서버의 접속자를 바로 지움 (실패해도 ttl 이후 빠짐)
+     */
+    private void removeAllLocal() {
+        pendingChanges.clear();
+        Map<Long, Set<String>> snapshot = snapshot(new ArrayList<>(localPresence.keySet()), true);
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                snapshot.forEach((roomId, userIds) ->
+                        stringConnection.zRem(key(roomId), userIds.toArray(String[]::new)));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("종료 중 논의방 접속자 정리 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 논의방별 접속 사용자 복사본 (remove 가 true 면 로컬 집계에서도 제거)
+     */
+    private Map<Long, Set<String>> snapshot(List<Long> roomIds, boolean remove) {
+        Map<Long, Set<String>> snapshot = new HashMap<>();
+        for (Long roomId : roomIds) {
+            localPresence.computeIfPresent(roomId, (id, counts) -> {
+                Set<String> userIds = new HashSet<>();
+                counts.keySet().forEach(userId -> userIds.add(String.valueOf(userId)));
+                snapshot.put(roomId, userIds);
+                return remove ? null : counts;
+            });
+        }
+        return snapshot;
+    }
+
+    private double expiresAt() {
+        return System.currentTimeMillis() + properties.getTtl().toMillis();
+    }
+
+    private long keyTtlSeconds() {
+        // 마지막 갱신 이후 모든 접속자가 만료될 때까지는 키를 유지
+        return properties.getTtl().toSeconds() * 2;
+    }
+
+    private static Set<StringTuple> tuples(Set<String> userIds, double score) {
+        Set<StringTuple> tuples = new HashSet<>(userIds.size() * 2);
+        userIds.forEach(userId -> tuples.add(new DefaultStringTuple(userId, score)));
+        return tuples;
+    }
+
+    static String key(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    private static Long userId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    private static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ================= SmartLifecycle =================
+
+    /**
+     * 생성자에서 this 를 넘기지 않도록 반영 스레드는 시작할 때 만듭니다.
+     */
+    @Override
+    public void start() {
+        running = true;
+        flushThread = Thread.ofPlatform().name("room-presence-flush").daemon().start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flushThread != null) {
+            flushThread.interrupt();
+            try {
+                flushThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        removeAllLocal();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record SessionPresence(Long userId, Map<String, Long> subscriptions) {
+
+        SessionPresence(Long userId) {
+            this(userId, new ConcurrentHashMap<>());
+        }
+    }
+
+    private record RoomUser(Long roomId, Long userId) {
+    }
+}
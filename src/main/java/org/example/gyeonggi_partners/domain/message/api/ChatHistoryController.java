@@ -0,0 +1,44 @@
+package org.example.gyeonggi_partners.domain.message.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatHistoryResponse;
+import org.example.gyeonggi_partners.domain.message.application.ChatHistoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Chat", description = "논의방 채팅 API")
+@RestController
+@RequestMapping("/api/rooms")
+@RequiredArgsConstructor
+public class ChatHistoryController {
+
+    private final ChatHistoryService chatHistoryService;
+
+    /**
+     * 이전 대화 조회
+     * GET /api/rooms/{roomId}/messages?cursor=1760000000123456:12345&size=30
+     */
+    @Operation(
+            summary = "이전 대화 조회",
+            description = "논의방 메시지를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ApiResponse<ChatHistoryResponse>> getHistory(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        ChatHistoryResponse response = chatHistoryService.getHistory(roomId, userDetails.getUserId(), cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.gyeonggi_partners.domain.message.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.exception.ErrorCode;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatMessageRequest;
+import org.example.gyeonggi_partners.domain.message.application.ChatMessageService;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 논의방 채팅 STOMP 컨트롤러
+ * 전송: SEND /app/rooms/{roomId}/messages → 구독: /topic/rooms/{roomId}
+ * 실패하면 보낸 사람에게만 /user/queue/errors 로 에러를 보냅니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatMessageController {
+
+    private final ChatMessageService chatMessageService;
+
+    @MessageMapping("/rooms/{roomId}/messages")
+    public void send(@DestinationVariable Long roomId,
+                     @Payload ChatMessageRequest request,
+                     Principal principal) {
+        chatMessageService.send(roomId, currentUser(principal), request);
+    }
+
+    @MessageExceptionHandler(BusinessException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ApiResponse<?> handleBusinessException(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.info("채팅 메시지 전송 실패 : {}", errorCode.getMessage());
+        return ApiResponse.error(errorCode);
+    }
+
+    private static CustomUserDetails currentUser(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails;
+        }
+        throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.gyeonggi_partners.domain.message.api.dto;
+
+import java.util.List;
+
+/**
+ * 이전 대화 조회 응답
+ * 다음 페이지는 nextCursor 를 cursor 파라미터로 넘겨 조회합니다. (hasNext 가 false 면 nextCursor 는 null)
+ *
+ * @param messages   최신순 메시지 목록
+ * @param nextCursor 다음(더 오래된) 페이지 조회용 커서
+ * @param hasNext    더 오래된 메시지가 있는지 여부
+ */
+public record ChatHistoryResponse(
+        List<ChatMessageResponse> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,20 @@
+package org.example.gyeonggi_partners.domain.message.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+
+@Getter
+@Schema(description = "채팅 메시지 전송 요청 (STOMP SEND /app/rooms/{roomId}/messages)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChatMessageRequest {
+
+    @Schema(description = "메시지 내용 (최대 2000자)", example = "안녕하세요")
+    private String content;
+
+    @Schema(description = "메시지 종류 (TEXT, IMAGE), 생략 시 TEXT", example = "TEXT")
+    private MessageType type;
+}
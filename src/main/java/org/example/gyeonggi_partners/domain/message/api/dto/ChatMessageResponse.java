@@ -0,0 +1,46 @@
+package org.example.gyeonggi_partners.domain.message.api.dto;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 구독자에게 전달되는 채팅 메시지 (/topic/rooms/{roomId})
+ * 이전 대화 조회 응답에도 같은 형태를 사용합니다.
+ */
+public record ChatMessageResponse(
+        Long chatId,
+        Long roomId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        MessageType type,
+        LocalDateTime createdAt
+) {
+
+    public static ChatMessageResponse of(ChatMessage message, String senderNickname) {
+        return new ChatMessageResponse(
+                message.getId(),
+                message.getRoomId(),
+                message.getSenderId(),
+                senderNickname,
+                message.getContent(),
+                message.getType(),
+                message.getCreatedAt()
+        );
+    }
+
+    public static ChatMessageResponse from(ChatMessageView view) {
+        return new ChatMessageResponse(
+                view.chatId(),
+                view.roomId(),
+                view.senderId(),
+                view.senderNickname(),
+                view.content(),
+                view.type(),
+                view.createdAt()
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.gyeonggi_partners.domain.message.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatHistoryResponse;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatMessageResponse;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatCursor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.repository.ChatMessageRepository;
+import org.example.gyeonggi_partners.domain.message.domain.repository.RecentMessageRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 이전 대화 조회
+ * OFFSET 대신 마지막으로 받은 메시지의 (보낸 시각, chat_id)를 커서로 사용하므로 오래된 페이지로 갈수록 느려지지 않습니다.
+ *
+ * 입장 직후의 첫 페이지는 최근 메시지 캐시에서 응답하고 chat 테이블은 조회하지 않습니다.
+ * 캐시는 전송 시점에 채워지므로 아직 DB에 반영되지 않은 메시지(write-behind)도 첫 페이지에 포함됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatHistoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 30;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatMembershipGuard membershipGuard;
+    private final ChatMessageRepository chatMessageRepository;
+    private final RecentMessageRepository recentMessageRepository;
+
+    /**
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @param size   페이지 크기, 1 ~ MAX_PAGE_SIZE 범위로 보정
+     */
+    public ChatHistoryResponse getHistory(Long roomId, Long userId, String cursor, Integer size) {
+        membershipGuard.checkMember(userId, roomId);
+
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+
+        if (cursor == null && pageSize <= recentMessageRepository.capacity()) {
+            List<ChatMessageView> recent = recentMessageRepository.findRecent(roomId);
+            // 캐시가 가득 차 있으면 그보다 오래된 메시지가 있을 수 있음
+            boolean mayHaveOlder = recent.size() >= recentMessageRepository.capacity();
+            return toResponse(recent, pageSize, mayHaveOlder);
+        }
+
+        ChatCursor before = cursor == null ? ChatCursor.first() : ChatCursor.parse(cursor);
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 COUNT 없이 판단
+        List<ChatMessageView> rows = chatMessageRepository.findHistory(roomId, before, pageSize + 1);
+        return toResponse(rows, pageSize, false);
+    }
+
+    private static ChatHistoryResponse toResponse(List<ChatMessageView> newestFirst, int pageSize, boolean mayHaveOlder) {
+        List<ChatMessageView> page = newestFirst.size() > pageSize ? newestFirst.subList(0, pageSize) : newestFirst;
+        boolean hasNext = (newestFirst.size() > pageSize || mayHaveOlder) && !page.isEmpty();
+
+        String nextCursor = hasNext ? ChatCursor.of(page.get(page.size() - 1)).toString() : null;
+        return new ChatHistoryResponse(
+                page.stream().map(ChatMessageResponse::from).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+}
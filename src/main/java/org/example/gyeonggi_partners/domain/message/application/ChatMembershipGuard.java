@@ -0,0 +1,29 @@
+package org.example.gyeonggi_partners.domain.message.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomMembershipIndex;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 구독/전송 시 논의방 멤버인지 확인합니다.
+ *
+ * <p>메시지마다 DB를 조회하지 않고 메모리의 멤버 인덱스에서 확인합니다.
+ * 참여/나가기는 이벤트로 바로 반영됩니다. (RoomMembershipIndex 참고)</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMembershipGuard {
+
+    private final RoomMembershipIndex membershipIndex;
+
+    /**
+     * @throws BusinessException 멤버가 아니면 NOT_A_ROOM_MEMBER
+     */
+    public void checkMember(Long userId, Long roomId) {
+        if (!membershipIndex.isMember(userId, roomId)) {
+            throw new BusinessException(MessageErrorCode.NOT_A_ROOM_MEMBER);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.gyeonggi_partners.domain.message.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatMessageRequest;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.example.gyeonggi_partners.domain.message.domain.publisher.ChatMessagePublisher;
+import org.example.gyeonggi_partners.domain.message.domain.repository.ChatMessageRepository;
+import org.example.gyeonggi_partners.domain.message.domain.repository.RecentMessageRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ChatMessageService {
+
+    private final ChatMembershipGuard membershipGuard;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessagePublisher chatMessagePublisher;
+    private final RecentMessageRepository recentMessageRepository;
+
+    /**
+     * 메시지 전송
+     * 멤버 확인 → 저장 → 최근 메시지 캐시 → 논의방 구독자에게 전달
+     */
+    public void send(Long roomId, CustomUserDetails sender, ChatMessageRequest request) {
+        // 1. 논의방 멤버인지 확인
+        membershipGuard.checkMember(sender.getUserId(), roomId);
+
+        // 2. 메시지 생성 (내용 검증 포함), 입장/퇴장 메시지는 클라이언트가 보낼 수 없음
+        MessageType type = request.getType() == MessageType.IMAGE ? MessageType.IMAGE : MessageType.TEXT;
+        ChatMessage message = ChatMessage.create(roomId, sender.getUserId(), request.getContent(), type);
+
+        // 3. 저장 (chat_id 발급 + 저널 기록 후 바로 반환, DB INSERT는 배치로 나중에)
+        ChatMessage saved = chatMessageRepository.save(message);
+
+        // 4. 입장 시 보여줄 최근 메시지에 추가 (구독자가 받은 뒤 바로 조회해도 보이도록 전달보다 먼저)
+        recentMessageRepository.append(ChatMessageView.of(saved, sender.getNickname()));
+
+        // 5. 구독자에게 전달
+        chatMessagePublisher.publish(saved, sender.getNickname());
+    }
+}
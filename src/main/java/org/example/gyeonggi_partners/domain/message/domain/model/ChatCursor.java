@@ -0,0 +1,51 @@
+package org.example.gyeonggi_partners.domain.message.domain.model;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 이전 대화 키셋 커서 (보낸 시각 내림차순, 같은 시각이면 chat_id 내림차순)
+ * 문자열 형태: {보낸 시각(epoch 마이크로초)}:{chat_id} (예: 1760000000123456:12345)
+ *
+ * chat_id 는 서버마다 다른 블록에서 발급되어 서버 간 보낸 순서와 다를 수 있으므로 보낸 시각을 먼저 비교합니다. (ChatIdAllocator 참고)
+ *
+ * @param createdAt 마지막으로 받은 메시지의 보낸 시각, 이보다 오래된(같으면 chat_id 가 작은) 메시지부터 조회
+ */
+public record ChatCursor(LocalDateTime createdAt, long chatId) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+    // 첫 페이지용, PostgreSQL timestamp 범위 안에서 어떤 메시지보다도 늦은 시각
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    public static ChatCursor first() {
+        return new ChatCursor(LATEST, Long.MAX_VALUE);
+    }
+
+    public static ChatCursor of(ChatMessageView message) {
+        return new ChatCursor(message.createdAt(), message.chatId());
+    }
+
+    public static ChatCursor parse(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 2) {
+            throw new BusinessException(MessageErrorCode.INVALID_HISTORY_CURSOR);
+        }
+        try {
+            LocalDateTime createdAt = EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS);
+            return new ChatCursor(createdAt, Long.parseLong(parts[1]));
+        } catch (ArithmeticException | DateTimeException | NumberFormatException e) {
+            throw new BusinessException(MessageErrorCode.INVALID_HISTORY_CURSOR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        long micros = ChronoUnit.MICROS.between(EPOCH, createdAt);
+        return micros + ":" + chatId;
+    }
+}
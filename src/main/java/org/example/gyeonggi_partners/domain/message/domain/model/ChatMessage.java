@@ -0,0 +1,78 @@
+package org.example.gyeonggi_partners.domain.message.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 논의방 채팅 메시지 도메인 모델
+ */
+@Getter
+public class ChatMessage {
+
+    // 내용 최대 길이
+    private static final int MAX_CONTENT_LENGTH = 2000;
+
+    private Long id;
+    private Long roomId;
+    private Long senderId;
+    private String content;
+    private MessageType type;
+    private LocalDateTime createdAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ChatMessage(Long id, Long roomId, Long senderId, String content,
+                        MessageType type, LocalDateTime createdAt) {
+        this.id = id;
+        this.roomId = roomId;
+        this.senderId = senderId;
+        this.content = content;
+        this.type = type != null ? type : MessageType.TEXT;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 새 메시지 생성 (전송)
+     */
+    public static ChatMessage create(Long roomId, Long senderId, String content, MessageType type) {
+        validateContent(content);
+
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .senderId(senderId)
+                .content(content)
+                .type(type)
+                // DB(timestamp)와 같은 마이크로초 정밀도로 맞춰 캐시와 DB의 정렬/커서 비교가 같게 함
+                .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+
+    /**
+     * 기존 메시지 복원 (DB에서 조회)
+     */
+    public static ChatMessage restore(Long id, Long roomId, Long senderId, String content,
+                                      MessageType type, LocalDateTime createdAt) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(roomId)
+                .senderId(senderId)
+                .content(content)
+                .type(type)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static void validateContent(String content) {
+        if (content == null || content.isBlank()) {
+            throw new BusinessException(MessageErrorCode.MESSAGE_CONTENT_EMPTY);
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            throw new BusinessException(MessageErrorCode.MESSAGE_TOO_LONG);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.gyeonggi_partners.domain.message.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * 이전 대화 조회용 읽기 모델
+ * 엔티티를 거치지 않고 필요한 컬럼과 보낸 사람 닉네임만 바로 담습니다.
+ */
+public record ChatMessageView(
+        Long chatId,
+        Long roomId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        MessageType type,
+        LocalDateTime createdAt
+) {
+
+    /**
+     * 보낸 순서 (오래된 것부터): 보낸 시각, 같으면 chat_id
+     * chat_id 는 서버마다 다른 블록에서 발급되어 보낸 순서와 다를 수 있으므로 단독으로 정렬에 쓰지 않습니다. (ChatCursor 와 같은 기준)
+     */
+    public static final Comparator<ChatMessageView> SEND_ORDER =
+            Comparator.comparing(ChatMessageView::createdAt).thenComparing(ChatMessageView::chatId);
+
+    public static ChatMessageView of(ChatMessage message, String senderNickname) {
+        return new ChatMessageView(
+                message.getId(),
+                message.getRoomId(),
+                message.getSenderId(),
+                senderNickname,
+                message.getContent(),
+                message.getType(),
+                message.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package org.example.gyeonggi_partners.domain.message.domain.model;
+
+/**
+ * 채팅 메시지 종류 (DB의 message_type_enum)
+ */
+public enum MessageType {
+    TEXT,
+    IMAGE,
+    ENTRY,
+    EXIT
+}
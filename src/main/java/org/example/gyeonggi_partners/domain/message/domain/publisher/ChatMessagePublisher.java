@@ -0,0 +1,15 @@
+package org.example.gyeonggi_partners.domain.message.domain.publisher;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+
+/**
+ * 논의방 구독자들에게 메시지를 전달하는 인터페이스
+ */
+public interface ChatMessagePublisher {
+
+    /**
+     * @param message        저장된 메시지
+     * @param senderNickname 보낸 사람 닉네임 (화면 표시용)
+     */
+    void publish(ChatMessage message, String senderNickname);
+}
@@ -0,0 +1,24 @@
+package org.example.gyeonggi_partners.domain.message.domain.repository;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatCursor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장소 인터페이스
+ */
+public interface ChatMessageRepository {
+
+    /**
+     * 메시지를 저장합니다.
+     * 반환 시점에 chat_id 가 발급되어 있고 유실되지 않음이 보장되지만, DB 반영은 조금 늦을 수 있습니다.
+     */
+    ChatMessage save(ChatMessage message);
+
+    /**
+     * 커서보다 오래된 메시지를 최신순(보낸 시각, chat_id 내림차순)으로 최대 limit 건 조회합니다. (키셋 페이징)
+     */
+    List<ChatMessageView> findHistory(Long roomId, ChatCursor before, int limit);
+}
@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.message.domain.repository;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+
+import java.util.List;
+
+/**
+ * 논의방별 최근 메시지 저장소
+ * 입장할 때 보여줄 최근 메시지를 chat 테이블을 거치지 않고 조회하기 위한 캐시입니다.
+ */
+public interface RecentMessageRepository {
+
+    /**
+     * 논의방마다 보관하는 최근 메시지 수
+     */
+    int capacity();
+
+    /**
+     * 새 메시지를 추가합니다. (메시지 전송 시 호출)
+     */
+    void append(ChatMessageView message);
+
+    /**
+     * 논의방의 최근 메시지를 최신순으로 최대 capacity 건 조회합니다.
+     */
+    List<ChatMessageView> findRecent(Long roomId);
+}
@@ -8,7 +8,10 @@ public enum MessageErrorCode implements ErrorCode {
 
     MESSAGE_CONTENT_EMPTY(400, "M001", "메시지 내용을 입력해주세요."),
     MESSAGE_TOO_LONG(400, "M002", "메시지는 2000자 이하로 입력해주세요."),
-    NOT_A_ROOM_MEMBER(403, "M003", "해당 논의방의 멤버가 아닙니다.");
+    NOT_A_ROOM_MEMBER(403, "M003", "해당 논의방의 멤버가 아닙니다."),
+    CHAT_BUFFER_FULL(503, "M004", "메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_DESTINATION(403, "M005", "허용되지 않은 주소입니다."),
+    INVALID_HISTORY_CURSOR(400, "M006", "잘못된 대화 조회 커서입니다.");
 
     MessageErrorCode (int status, String code, String message){
         this.status = status;
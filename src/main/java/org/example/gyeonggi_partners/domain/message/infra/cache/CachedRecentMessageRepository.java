@@ -0,0 +1,303 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatCursor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.repository.RecentMessageRepository;
+import org.example.gyeonggi_partners.domain.message.infra.persistence.ChatJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 논의방 최근 메시지 캐시
+ *
+ * <ol>
+ *   <li>로컬: 논의방별 링 버퍼 (Caffeine, 메모리 추정치 기준으로 오래 안 쓴 논의방부터 제거)</li>
+ *   <li>Redis: chat:recent:{roomId} 리스트 (JSON), 보낸 서버가 RPUSH + LTRIM 으로 최근 capacity 건만 유지</li>
+ *   <li>Redis 리스트를 DB에서 채운 적이 없으면(chat:recent:{roomId}:loaded 없음) chat 테이블에서 읽어 리스트 앞쪽에 채움</li>
+ * </ol>
+ *
+ * 로컬 링 버퍼는 이 서버에 구독자가 있는 논의방만 보관합니다.
+ * 그런 논의방은 다른 서버의 메시지도 릴레이로 받기 때문에 링 버퍼가 항상 최신으로 유지됩니다. (RedisChatRelay 참고)
+ * 구독자가 없는 논의방은 Redis 리스트에서 바로 응답합니다.
+ * 보낸 메시지는 리스트가 채워지기 전에도 항상 RPUSH 로 추가하고, 채워졌다는 표시(loaded 키)가 있을 때만 리스트로 응답합니다.
+ * chat 테이블에는 write-behind 버퍼(ChatWriteBuffer)에 있는 메시지가 아직 없을 수 있는데, 그런 메시지도 리스트에는
+ * 이미 들어가 있으므로 DB에서 채울 때 빠지지 않습니다. (어느 서버의 버퍼에 있든 마찬가지)
+ * 메시지 순서는 chat_id 가 아니라 보낸 순서(보낸 시각, chat_id)입니다. (ChatMessageView.SEND_ORDER)
+ *
+ * 메트릭: chat.recent.cache{level=local|redis|db}, chat.recent.cache.memory
+ */
+@Slf4j
+@Repository
+public class CachedRecentMessageRepository implements RecentMessageRepository {
+
+    private static final String KEY_PREFIX = "chat:recent:";
+    private static final String LOADED_SUFFIX = ":loaded";
+    private static final Comparator<ChatMessageView> NEWEST_FIRST = ChatMessageView.SEND_ORDER.reversed();
+
+    private final ChatJpaRepository chatJpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final long memoryBudgetBytes;
+    private final Duration redisTtl;
+
+    private final Cache<Long, RecentMessageRing> localCache;
+    // 이 서버에 구독자가 있어 로컬에 보관하는 논의방
+    private final Set<Long> localRooms = ConcurrentHashMap.newKeySet();
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter databaseLoadCounter;
+
+    public CachedRecentMessageRepository(ChatJpaRepository chatJpaRepository,
+                                         StringRedisTemplate redisTemplate,
+                                         ObjectMapper objectMapper,
+                                         ChatRecentCacheProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.chatJpaRepository = chatJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = properties.getCapacity();
+        this.memoryBudgetBytes = properties.getMemoryBudget().toBytes();
+        this.redisTtl = properties.getRedisTtl();
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(memoryBudgetBytes)
+                .weigher((Long roomId, RecentMessageRing ring) ->
+                        (int) Math.min(Integer.MAX_VALUE, ring.estimatedBytes()))
+                .build();
+
+        this.localHitCounter = counter(meterRegistry, "local");
+        this.redisHitCounter = counter(meterRegistry, "redis");
+        this.databaseLoadCounter = counter(meterRegistry, "db");
+        Gauge.builder("chat.recent.cache.memory", localCache, CachedRecentMessageRepository::weightedSize)
+                .description("최근 메시지 로컬 캐시 메모리 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void append(ChatMessageView message) {
+        appendLocal(message);
+
+        String key = key(message.roomId());
+        String loadedKey = loadedKey(message.roomId());
+        try {
+            String json = objectMapper.writeValueAsString(message);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                // 아직 DB에서 채우지 않은 리스트에도 넣어 둠, 채울 때 DB에 아직 없는 메시지가 빠지지 않도록
+                stringConnection.rPush(key, json);
+                stringConnection.lTrim(key, -capacity, -1);
+                stringConnection.expire(key, redisTtl.toSeconds());
+                stringConnection.expire(loadedKey, redisTtl.toSeconds());
+                return null;
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 빠진 메시지가 있는 리스트를 남기지 않도록 지워서 다음 조회 때 DB에서 다시 채움
+            log.warn("최근 메시지 Redis 저장 실패 - roomId: {}, chatId: {}, 에러: {}",
+                    message.roomId(), message.chatId(), e.getMessage());
+            deleteQuietly(key, loadedKey);
+        }
+    }
+
+    /**
+     * 로컬 링 버퍼에만 추가합니다. (다른 서버가 보낸 메시지는 Redis 리스트에 이미 들어가 있음)
+     */
+    public void appendLocal(ChatMessageView message) {
+        // compute 로 다시 넣어야 Caffeine 이 바뀐 메모리 추정치를 반영함
+        localCache.asMap().computeIfPresent(message.roomId(), (roomId, ring) -> {
+            ring.add(message);
+            return ring;
+        });
+    }
+
+    @Override
+    public List<ChatMessageView> findRecent(Long roomId) {
+        RecentMessageRing ring = localCache.getIfPresent(roomId);
+        if (ring != null && ring.isLoaded()) {
+            localHitCounter.increment();
+            ring.recordHit();
+            return ring.newestFirst();
+        }
+
+        if (localRooms.contains(roomId)) {
+            // 읽어 오는 동안 도착한 메시지도 받을 수 있게 빈 링 버퍼를 먼저 등록
+            ring = localCache.get(roomId, id -> new RecentMessageRing(capacity));
+        }
+
+        List<ChatMessageView> loaded = load(roomId);
+        if (ring == null) {
+            return loaded;
+        }
+
+        ring.recordMiss();
+        loaded.forEach(ring::add);
+        ring.markLoaded();
+        localCache.asMap().computeIfPresent(roomId, (id, current) -> current);
+        return ring.newestFirst();
+    }
+
+    /**
+     * 이 서버에 논의방 첫 구독자가 생겼을 때 호출, 이후 조회부터 로컬에 보관합니다.
+     */
+    public void retainLocally(Long roomId) {
+        localRooms.add(roomId);
+    }
+
+    /**
+     * 이 서버의 마지막 구독자가 나갔을 때 호출, 더 이상 릴레이 메시지를 받지 않으므로 로컬 링 버퍼를 버립니다.
+     */
+    public void releaseLocally(Long roomId) {
+        localRooms.remove(roomId);
+        localCache.invalidate(roomId);
+    }
+
+    long localHits() {
+        return (long) localHitCounter.count();
+    }
+
+    long localMisses() {
+        return (long) (redisHitCounter.count() + databaseLoadCounter.count());
+    }
+
+    long memoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    long memoryUsedBytes() {
+        return weightedSize(localCache);
+    }
+
+    private static long weightedSize(Cache<?, ?> cache) {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    Map<Long, RecentMessageRing> localRings() {
+        return localCache.asMap();
+    }
+
+    private List<ChatMessageView> load(Long roomId) {
+        List<ChatMessageView> fromRedis = readFromRedis(roomId);
+        if (fromRedis != null) {
+            redisHitCounter.increment();
+            return fromRedis;
+        }
+
+        databaseLoadCounter.increment();
+        ChatCursor latest = ChatCursor.first();
+        List<ChatMessageView> fromDatabase = chatJpaRepository.findHistory(
+                roomId, latest.createdAt(), latest.chatId(), Limit.of(capacity));
+        seedRedis(roomId, fromDatabase);
+        return fromDatabase;
+    }
+
+    /**
+     * @return DB에서 채운 적이 없거나 읽지 못하면 null
+     */
+    private List<ChatMessageView> readFromRedis(Long roomId) {
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                stringConnection.exists(loadedKey(roomId));
+                stringConnection.lRange(key(roomId), 0, -1);
+                return null;
+            });
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return null;
+            }
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) results.get(1);
+
+            // 서버마다 RPUSH 순서가 보낸 순서와 다를 수 있고, DB에서 채운 값과 겹칠 수 있음
+            Map<Long, ChatMessageView> byChatId = new HashMap<>(values.size() * 2);
+            for (String value : values) {
+                ChatMessageView message = objectMapper.readValue(value, ChatMessageView.class);
+                byChatId.putIfAbsent(message.chatId(), message);
+            }
+            return byChatId.values().stream()
+                    .sorted(NEWEST_FIRST)
+                    .limit(capacity)
+                    .toList();
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 메시지 Redis 조회 실패 - roomId: {}, 에러: {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * DB에서 읽은 메시지를 리스트 앞쪽에 채우고 채웠다는 표시를 남깁니다.
+     * 리스트에 이미 있는 메시지(RPUSH 로 먼저 들어온 것)와 겹치는 것은 읽을 때 chat_id 로 걸러냅니다.
+     */
+    private void seedRedis(Long roomId, List<ChatMessageView> newestFirst) {
+        String key = key(roomId);
+        try {
+            List<String> values = new ArrayList<>(newestFirst.size());
+            for (ChatMessageView message : newestFirst) {
+                values.add(objectMapper.writeValueAsString(message));
+            }
+            // LPUSH 로 앞쪽에 넣어서, 그 사이 RPUSH 된 새 메시지가 LTRIM 에 잘리지 않게 함
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                if (!values.isEmpty()) {
+                    stringConnection.lPush(key, values.toArray(String[]::new));
+                    stringConnection.lTrim(key, -capacity, -1);
+                    stringConnection.expire(key, redisTtl.toSeconds());
+                }
+                stringConnection.setEx(loadedKey(roomId), redisTtl.toSeconds(), "1");
+                return null;
+            });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("최근 메시지 Redis 채우기 실패 - roomId: {}, 에러: {}", roomId, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(String key, String loadedKey) {
+        try {
+            redisTemplate.delete(List.of(key, loadedKey));
+        } catch (RuntimeException e) {
+            log.warn("최근 메시지 Redis 키 삭제 실패 - key: {}, 에러: {}", key, e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String level) {
+        return Counter.builder("chat.recent.cache")
+                .description("최근 메시지 조회 위치")
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+
+    private static String key(Long roomId) {
+        return KEY_PREFIX + roomId;
+    }
+
+    private static String loadedKey(Long roomId) {
+        return KEY_PREFIX + roomId + LOADED_SUFFIX;
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 논의방 최근 메시지 캐시 설정값
+ * application.properties 의 chat.recent-cache.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.recent-cache")
+public class ChatRecentCacheProperties {
+
+    /**
+     * 논의방마다 보관할 최근 메시지 수 (입장 시 보여주는 개수)
+     */
+    private int capacity = 50;
+
+    /**
+     * 서버 로컬 캐시 전체 메모리 한도 (추정치), 넘으면 오래 안 쓴 논의방부터 제거
+     */
+    private DataSize memoryBudget = DataSize.ofMegabytes(64);
+
+    /**
+     * Redis 리스트(chat:recent:{roomId}) 유지 시간, 메시지가 올 때마다 연장
+     */
+    private Duration redisTtl = Duration.ofDays(1);
+}
@@ -0,0 +1,93 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 메시지 캐시 현황 Actuator 엔드포인트
+ *
+ * <ul>
+ *   <li>GET /actuator/chatrecentcache : 전체 적중률, 메모리 사용량, 메모리를 많이 쓰는 논의방 목록</li>
+ *   <li>GET /actuator/chatrecentcache/{roomId} : 논의방 하나의 현황</li>
+ * </ul>
+ *
+ * 논의방별 적중/미스 수는 로컬 링 버퍼가 생긴 뒤부터 센 값이며, 캐시에서 제거되면 초기화됩니다.
+ */
+@Component
+@Endpoint(id = "chatrecentcache")
+@RequiredArgsConstructor
+public class RecentMessageCacheEndpoint {
+
+    private static final int TOP_ROOMS = 100;
+
+    private final CachedRecentMessageRepository repository;
+
+    @ReadOperation
+    public Summary summary() {
+        Map<Long, RecentMessageRing> rings = repository.localRings();
+        List<RoomStats> topRooms = rings.entrySet().stream()
+                .map(entry -> RoomStats.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(RoomStats::memoryBytes).reversed())
+                .limit(TOP_ROOMS)
+                .toList();
+
+        long hits = repository.localHits();
+        long misses = repository.localMisses();
+        return new Summary(
+                repository.capacity(),
+                rings.size(),
+                repository.memoryUsedBytes(),
+                repository.memoryBudgetBytes(),
+                hits,
+                misses,
+                hitRate(hits, misses),
+                topRooms
+        );
+    }
+
+    @ReadOperation
+    public RoomStats room(@Selector Long roomId) {
+        RecentMessageRing ring = repository.localRings().get(roomId);
+        // null 이면 404
+        return ring == null ? null : RoomStats.of(roomId, ring);
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    public record Summary(
+            int capacity,
+            int rooms,
+            long memoryUsedBytes,
+            long memoryBudgetBytes,
+            long hits,
+            long misses,
+            double hitRate,
+            List<RoomStats> topRooms
+    ) {
+    }
+
+    public record RoomStats(
+            Long roomId,
+            int messages,
+            long memoryBytes,
+            long hits,
+            long misses,
+            double hitRate
+    ) {
+
+        static RoomStats of(Long roomId, RecentMessageRing ring) {
+            return new RoomStats(roomId, ring.size(), ring.estimatedBytes(),
+                    ring.hits(), ring.misses(), RecentMessageCacheEndpoint.hitRate(ring.hits(), ring.misses()));
+        }
+    }
+}
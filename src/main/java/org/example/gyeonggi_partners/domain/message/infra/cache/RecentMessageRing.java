@@ -0,0 +1,135 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 논의방의 최근 메시지를 고정 크기로 보관하는 링 버퍼
+ * 보낸 순서(보낸 시각, 같으면 chat_id)를 유지하고, 가득 차면 가장 오래된 메시지를 덮어씁니다.
+ * chat_id 는 서버마다 다른 블록에서 발급되어 보낸 순서와 다를 수 있으므로 chat_id 만으로 정렬하지 않습니다.
+ * 릴레이로 받은 메시지는 도착 순서가 조금씩 뒤바뀔 수 있어 삽입 위치를 찾아 넣고, 이미 있는 메시지는 무시합니다.
+ */
+final class RecentMessageRing {
+
+    // 객체 헤더, 배열, 카운터 등 메시지 외 고정 비용 (추정치)
+    private static final int RING_OVERHEAD_BYTES = 128;
+    // 메시지 1건의 레코드/문자열/LocalDateTime 객체 비용 (추정치, 문자 데이터 제외)
+    private static final int MESSAGE_OVERHEAD_BYTES = 160;
+
+    private final ChatMessageView[] items;
+    private int head;
+    private int size;
+    private long messageBytes;
+    // Redis/DB 에서 기존 메시지를 채웠는지 여부, 채우기 전에는 조회에 쓰지 않음
+    private volatile boolean loaded;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    RecentMessageRing(int capacity) {
+        this.items = new ChatMessageView[capacity];
+    }
+
+    /**
+     * @return 새로 들어갔으면 true, 이미 있거나 보관 범위보다 오래된 메시지면 false
+     */
+    synchronized boolean add(ChatMessageView message) {
+        int capacity = items.length;
+
+        // 뒤(최신)부터 삽입 위치를 찾음, 대부분 맨 뒤에 붙음
+        int position = size;
+        while (position > 0) {
+            int order = ChatMessageView.SEND_ORDER.compare(get(position - 1), message);
+            if (order == 0) {
+                return false;
+            }
+            if (order < 0) {
+                break;
+            }
+            position--;
+        }
+
+        if (size == capacity) {
+            if (position == 0) {
+                return false;
+            }
+            messageBytes -= estimateBytes(items[head]);
+            items[head] = null;
+            head = (head + 1) % capacity;
+            size--;
+            position--;
+        }
+
+        for (int i = size; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, message);
+        size++;
+        messageBytes += estimateBytes(message);
+        return true;
+    }
+
+    /**
+     * 최신순 목록
+     */
+    synchronized List<ChatMessageView> newestFirst() {
+        List<ChatMessageView> result = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 이 논의방이 차지하는 메모리 추정치 (바이트)
+     */
+    synchronized long estimatedBytes() {
+        return RING_OVERHEAD_BYTES + 8L * items.length + messageBytes;
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    long misses() {
+        return misses.get();
+    }
+
+    private ChatMessageView get(int index) {
+        return items[(head + index) % items.length];
+    }
+
+    private void set(int index, ChatMessageView message) {
+        items[(head + index) % items.length] = message;
+    }
+
+    private static long estimateBytes(ChatMessageView message) {
+        // 한글이 섞이면 String 이 UTF-16 으로 저장되므로 문자당 2바이트로 계산
+        long chars = message.content().length()
+                + (message.senderNickname() == null ? 0 : message.senderNickname().length());
+        return MESSAGE_OVERHEAD_BYTES + 2 * chars;
+    }
+}
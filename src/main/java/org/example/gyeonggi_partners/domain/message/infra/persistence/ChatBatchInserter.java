@@ -0,0 +1,45 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 채팅 메시지 JDBC 배치 INSERT
+ *
+ * <p>chat_id 를 미리 발급하므로 같은 메시지를 두 번 넣어도 ON CONFLICT 로 무시됩니다.
+ * (저장 후 저널 정리 전에 서버가 죽어서 재적재하는 경우)
+ * 배치는 한 번의 왕복으로 전송되고, reWriteBatchedInserts=true 이면 드라이버가 가능한 경우 여러 행을 하나의 INSERT 로 합칩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatBatchInserter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO chat (chat_id, room_id, sender_id, content, chat_type, created_at)
+            VALUES (?, ?, ?, ?, ?::message_type_enum, ?)
+            ON CONFLICT (chat_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getId());
+            ps.setLong(2, message.getRoomId());
+            if (message.getSenderId() != null) {
+                ps.setLong(3, message.getSenderId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, message.getContent());
+            ps.setString(5, message.getType().name());
+            ps.setTimestamp(6, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chat JPA 엔티티
+ * 메시지는 수정/삭제하지 않으므로 BaseEntity를 상속하지 않습니다. (chat 테이블에는 created_at만 있음)
+ */
+@Entity
+@Table(name = "chat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_id")
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "sender_id")
+    private Long senderId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "chat_type", nullable = false, columnDefinition = "message_type_enum")
+    private MessageType chatType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    private ChatEntity(Long id, Long roomId, Long senderId, String content,
+                       MessageType chatType, LocalDateTime createdAt) {
+        this.id = id;
+        this.roomId = roomId;
+        this.senderId = senderId;
+        this.content = content;
+        this.chatType = chatType;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 도메인 모델 → JPA 엔티티
+     */
+    public static ChatEntity fromDomain(ChatMessage message) {
+        return ChatEntity.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .senderId(message.getSenderId())
+                .content(message.getContent())
+                .chatType(message.getType())
+                .createdAt(message.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * JPA 엔티티 → 도메인 모델
+     */
+    public ChatMessage toDomain() {
+        return ChatMessage.restore(id, roomId, senderId, content, chatType, createdAt);
+    }
+}
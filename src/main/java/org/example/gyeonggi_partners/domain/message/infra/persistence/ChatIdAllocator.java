@@ -0,0 +1,50 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * chat_id 를 DB INSERT 전에 미리 발급합니다.
+ *
+ * <p>chat 테이블의 BIGSERIAL 시퀀스에서 id-block-size 개씩 한 번에 받아 와서 메모리에서 나눠 줍니다.
+ * 메시지를 보낸 즉시 ID가 정해지므로 저장 전에 구독자에게 전달할 수 있고, 저널 재적재 시 중복 INSERT를 막는 키로도 씁니다.</p>
+ *
+ * 서버가 여러 대면 서버마다 다른 블록을 쓰므로 chat_id 는 유일하지만 서버 간 보낸 순서와는 블록 하나만큼까지 어긋납니다.
+ * 그래서 메시지 순서는 chat_id 가 아니라 (보낸 시각, chat_id)로 정합니다. (ChatCursor, idx_chat_room_history_time 참고)
+ * 블록을 받아 오는 동안 JDBC 호출을 기다리므로 synchronized 대신 ReentrantLock 을 씁니다. (가상 스레드가 캐리어 스레드를 붙잡지 않도록)
+ */
+@Component
+public class ChatIdAllocator {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('chat', 'chat_id')) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long[] block = new long[0];
+    private int position;
+
+    public ChatIdAllocator(JdbcTemplate jdbcTemplate, ChatWriteBehindProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = properties.getIdBlockSize();
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (position >= block.length) {
+                List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, blockSize);
+                block = ids.stream().mapToLong(Long::longValue).toArray();
+                position = 0;
+            }
+            return block[position++];
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 아직 DB에 저장되지 않은 채팅 메시지를 로컬 디스크에 기록하는 저널
+ *
+ * <ul>
+ *   <li>레코드: [payload 길이 int][CRC32C int][payload]</li>
+ *   <li>그룹 커밋: 전용 스레드가 밀려 있는 기록 요청을 모아 한 번에 쓰고 fsync 한 번으로 확정</li>
+ *   <li>세그먼트: journal-segment-size 를 넘으면 새 파일로 전환, 담긴 메시지가 모두 DB에 저장되면 삭제</li>
+ *   <li>기록 실패: 일부만 쓰였을 수 있으므로 마지막으로 확정된 위치까지 잘라 냄 (잘라 내지 못하면 새 세그먼트로 전환)</li>
+ *   <li>재시작 시: 남은 세그먼트를 순서대로 읽어 재적재 (CRC가 맞지 않는 꼬리는 쓰다 만 기록으로 보고 버림)</li>
+ *   <li>dead-letter: DB에 끝내 넣지 못한 메시지는 같은 레코드 형식으로 dead-letter.log 에 모아 둠 (재적재 대상 아님)</li>
+ * </ul>
+ */
+@Slf4j
+class ChatJournal implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_GROUP = 1024;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final BlockingQueue<PendingAppend> pending;
+    private final Map<Long, Segment> segments = new ConcurrentHashMap<>();
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+    private Segment current;
+
+    ChatJournal(Path directory, long segmentSize, int queueCapacity) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 저널 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        this.writerThread = Thread.ofPlatform().name("chat-journal-writer").daemon(true).unstarted(this::writeLoop);
+    }
+
+    /**
+     * 이전 실행에서 남은 세그먼트 파일 (오래된 순)
+     * start() 전에 호출해야 이번 실행의 새 세그먼트가 섞이지 않습니다.
+     */
+    List<Path> leftoverSegments() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 남은 세그먼트를 순서대로 읽어 넘깁니다.
+     * 전달이 끝난 세그먼트는 삭제합니다. (consumer가 예외를 던지면 삭제하지 않음)
+     */
+    void replay(List<Path> files, Consumer<List<ChatMessage>> consumer) throws IOException {
+        for (Path file : files) {
+            List<ChatMessage> messages = readSegment(file);
+            if (!messages.isEmpty()) {
+                consumer.accept(messages);
+            }
+            Files.delete(file);
+            log.info("채팅 저널 재적재 완료 - 파일: {}, 메시지: {}건", file.getFileName(), messages.size());
+        }
+    }
+
+    /**
+     * 쓰기 스레드를 시작합니다. leftoverSegments 이후에 호출해야 합니다.
+     */
+    void start() {
+        current = openSegment(nextSegmentId());
+        writerThread.start();
+    }
+
+    /**
+     * 메시지를 기록합니다. 반환된 future 는 fsync 가 끝나면 세그먼트 번호로 완료됩니다.
+     */
+    CompletableFuture<Long> append(ChatMessage message) {
+        PendingAppend append = new PendingAppend(encode(message), new CompletableFuture<>());
+        if (!running || !pending.offer(append)) {
+            append.future.completeExceptionally(new IllegalStateException("채팅 저널에 기록할 수 없습니다."));
+        }
+        return append.future;
+    }
+
+    /**
+     * DB에 넣지 못하는 메시지를 dead-letter 파일에 덧붙이고 fsync 합니다.
+     * 저장 스레드(또는 시작 시 재적재)에서만 호출합니다.
+     */
+    void deadLetter(ChatMessage message) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(DEAD_LETTER_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(encode(message));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 세그먼트에 담긴 메시지 중 count 건이 DB에 저장되었음을 알립니다.
+     */
+    void release(long segmentId, int count) {
+        Segment segment = segments.get(segmentId);
+        if (segment != null && segment.unflushed.addAndGet(-count) == 0 && segment.closed) {
+            deleteSegment(segment);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current != null) {
+            closeQuietly(current);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingAppend> group = new ArrayList<>(MAX_GROUP);
+        while (running || !pending.isEmpty()) {
+            try {
+                group.add(pending.take());
+            } catch (InterruptedException e) {
+                if (pending.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            pending.drainTo(group, MAX_GROUP - 1);
+            writeGroup(group);
+            group.clear();
+        }
+    }
+
+    private void writeGroup(List<PendingAppend> group) {
+        try {
+            if (current.size >= segmentSize) {
+                rollSegment();
+            }
+
+            int totalBytes = group.stream().mapToInt(append -> append.record.length).sum();
+            ByteBuffer buffer = ByteBuffer.allocate(totalBytes);
+            group.forEach(append -> buffer.put(append.record));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                current.channel.write(buffer);
+            }
+            // 메타데이터까지 맞출 필요는 없으므로 force(false)
+            current.channel.force(false);
+
+            current.size += totalBytes;
+            current.unflushed.addAndGet(group.size());
+            long segmentId = current.id;
+            group.forEach(append -> append.future.complete(segmentId));
+        } catch (IOException | RuntimeException e) {
+            log.error("채팅 저널 기록 실패 - {}건, 에러: {}", group.size(), e.getMessage());
+            group.forEach(append -> append.future.completeExceptionally(e));
+            discardPartialWrite();
+        }
+    }
+
+    /**
+     * 실패한 그룹이 일부만 쓰였다면 뒤에 이어 쓰는 레코드가 재적재 때 함께 버려지므로,
+     * 마지막으로 확정된 위치(current.size)까지 잘라 냅니다. 잘라 낼 수 없으면 새 세그먼트로 넘어갑니다.
+     */
+    private void discardPartialWrite() {
+        try {
+            if (current.channel.size() > current.size) {
+                current.channel.truncate(current.size);
+            }
+        } catch (IOException e) {
+            log.warn("채팅 저널 꼬리를 잘라 내지 못해 새 세그먼트로 전환합니다 - 파일: {}, 에러: {}",
+                    current.file.getFileName(), e.getMessage());
+            try {
+                rollSegment();
+            } catch (RuntimeException rollFailure) {
+                log.error("채팅 저널 세그먼트 전환 실패 - 에러: {}", rollFailure.getMessage());
+            }
+        }
+    }
+
+    private void rollSegment() {
+        Segment previous = current;
+        current = openSegment(previous.id + 1);
+        closeQuietly(previous);
+        previous.closed = true;
+        if (previous.unflushed.get() == 0) {
+            deleteSegment(previous);
+        }
+    }
+
+    private Segment openSegment(long id) {
+        Path file = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+        try {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            Segment segment = new Segment(id, file, channel, channel.size());
+            segments.put(id, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 저널 세그먼트를 열 수 없습니다: " + file, e);
+        }
+    }
+
+    private void deleteSegment(Segment segment) {
+        // 동시에 두 번 호출돼도 한 번만 삭제
+        if (segments.remove(segment.id) == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("채팅 저널 세그먼트 삭제 실패 - 파일: {}, 에러: {}", segment.file, e.getMessage());
+        }
+    }
+
+    private long nextSegmentId() {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .mapToLong(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .max()
+                    .orElse(0L) + 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(Segment segment) {
+        try {
+            segment.channel.close();
+        } catch (IOException e) {
+            log.warn("채팅 저널 세그먼트 닫기 실패 - 파일: {}", segment.file);
+        }
+    }
+
+    // ================= 레코드 인코딩 =================
+
+    static byte[] encode(ChatMessage message) {
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+        int payloadLength = Long.BYTES * 4 + Integer.BYTES * 2 + 1 + content.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        buffer.putInt(payloadLength);
+        buffer.putInt(0); // CRC 자리
+        buffer.putLong(message.getId());
+        buffer.putLong(message.getRoomId());
+        buffer.putLong(message.getSenderId() != null ? message.getSenderId() : -1L);
+        buffer.put((byte) message.getType().ordinal());
+        buffer.putLong(message.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(message.getCreatedAt().getNano());
+        buffer.putInt(content.length);
+        buffer.put(content);
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), HEADER_BYTES, payloadLength);
+        buffer.putInt(Integer.BYTES, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    static List<ChatMessage> readSegment(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        List<ChatMessage> messages = new ArrayList<>();
+
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int payloadLength = buffer.getInt();
+            int storedCrc = buffer.getInt();
+            if (payloadLength <= 0 || payloadLength > buffer.remaining()) {
+                log.warn("채팅 저널 끝부분이 잘려 있습니다 - 파일: {}, 위치: {}", file.getFileName(), start);
+                break;
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.array(), buffer.position(), payloadLength);
+            if ((int) crc.getValue() != storedCrc) {
+                log.warn("채팅 저널 CRC 불일치, 이후 기록은 버립니다 - 파일: {}, 위치: {}", file.getFileName(), start);
+                break;
+            }
+            messages.add(decode(buffer));
+        }
+        return messages;
+    }
+
+    private static ChatMessage decode(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        long roomId = buffer.getLong();
+        long senderId = buffer.getLong();
+        MessageType type = MessageType.values()[buffer.get()];
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        byte[] content = new byte[buffer.getInt()];
+        buffer.get(content);
+
+        return ChatMessage.restore(id, roomId, senderId >= 0 ? senderId : null,
+                new String(content, StandardCharsets.UTF_8), type, createdAt);
+    }
+
+    private record PendingAppend(byte[] record, CompletableFuture<Long> future) {
+    }
+
+    private static final class Segment {
+
+        private final long id;
+        private final Path file;
+        private final FileChannel channel;
+        private final AtomicInteger unflushed = new AtomicInteger();
+        private long size;
+        private volatile boolean closed;
+
+        private Segment(long id, Path file, FileChannel channel, long size) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.size = size;
+        }
+    }
+}
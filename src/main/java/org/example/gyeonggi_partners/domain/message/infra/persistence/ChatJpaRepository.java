@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatJpaRepository extends JpaRepository<ChatEntity, Long> {
+
+    /**
+     * 논의방의 이전 대화를 (보낸 시각, chat_id) 역순으로 조회 (키셋 페이징)
+     * chat_id 는 서버마다 블록 단위로 발급되어 보낸 순서와 다를 수 있으므로 보낸 시각을 먼저 정렬합니다.
+     * idx_chat_room_history_time 인덱스를 역순 없이 그대로 따라가므로 몇 번째 페이지든 읽는 행 수가 같습니다.
+     * (created_at <= 조건이 인덱스 범위를 정하고, 같은 시각의 chat_id 비교는 경계 몇 건에만 적용됨)
+     */
+    @Query("""
+            SELECT new org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView(
+                   c.id, c.roomId, c.senderId, u.nickname, c.content, c.chatType, c.createdAt)
+            FROM ChatEntity c
+            LEFT JOIN UserEntity u ON u.id = c.senderId
+            WHERE c.roomId = :roomId
+              AND c.createdAt <= :beforeCreatedAt
+              AND (c.createdAt < :beforeCreatedAt OR c.id < :beforeChatId)
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<ChatMessageView> findHistory(@Param("roomId") Long roomId,
+                                      @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                      @Param("beforeChatId") long beforeChatId,
+                                      Limit limit);
+}
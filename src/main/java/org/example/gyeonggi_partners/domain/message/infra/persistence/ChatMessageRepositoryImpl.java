@@ -0,0 +1,33 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatCursor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.repository.ChatMessageRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ChatMessageRepository 구현체
+ * 저장은 write-behind 버퍼를 거쳐 배치로 처리됩니다. (ChatWriteBuffer 참고)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageRepositoryImpl implements ChatMessageRepository {
+
+    private final ChatWriteBuffer chatWriteBuffer;
+    private final ChatJpaRepository chatJpaRepository;
+
+    @Override
+    public ChatMessage save(ChatMessage message) {
+        return chatWriteBuffer.append(message);
+    }
+
+    @Override
+    public List<ChatMessageView> findHistory(Long roomId, ChatCursor before, int limit) {
+        return chatJpaRepository.findHistory(roomId, before.createdAt(), before.chatId(), Limit.of(limit));
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind) 설정값
+ * application.properties 의 chat.write-behind.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.write-behind")
+public class ChatWriteBehindProperties {
+
+    /**
+     * DB에 아직 저장되지 않은 메시지를 담아 둘 수 있는 최대 개수
+     * 가득 차면 enqueue-timeout 만큼 기다린 뒤 전송을 거절함 (DB가 느려질 때의 역압)
+     */
+    private int bufferCapacity = 50_000;
+
+    /**
+     * 버퍼에 자리가 날 때까지 기다리는 최대 시간
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    /**
+     * 한 번에 INSERT 하는 최대 행 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 첫 메시지가 들어온 뒤 batch-size 를 채우지 못해도 저장하는 간격
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * 저장 실패 시 재시도 간격 (실패할 때마다 2배, 최대 max-retry-backoff)
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+    private Duration maxRetryBackoff = Duration.ofSeconds(5);
+
+    /**
+     * 연결 장애가 아닌 이유로 같은 배치가 이만큼 연속 실패하면 배치를 반으로 나눠 다시 저장
+     * 한 건만 남았는데도 실패하는 메시지는 저널 디렉터리의 dead-letter 파일로 옮김
+     * (무결성 제약 위반은 재시도해도 같으므로 바로 나눔)
+     */
+    private int maxFlushAttempts = 5;
+
+    /**
+     * chat_id 시퀀스에서 한 번에 받아 오는 ID 개수
+     */
+    private int idBlockSize = 1000;
+
+    /**
+     * 저널 파일 디렉터리 (서버마다 로컬 디스크)
+     */
+    private String journalDir = "data/chat-journal";
+
+    /**
+     * 저널 세그먼트 최대 크기 (넘으면 새 파일로 전환)
+     */
+    private DataSize journalSegmentSize = DataSize.ofMegabytes(64);
+}
@@ -0,0 +1,359 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 지연 저장(write-behind) 버퍼
+ *
+ * <ol>
+ *   <li>append: chat_id 발급 → 로컬 저널에 기록(fsync) → 메모리 버퍼에 넣고 바로 반환</li>
+ *   <li>flush 스레드: batch-size 건이 모이거나 flush-interval 이 지나면 JDBC 배치로 INSERT</li>
+ *   <li>저장이 끝난 메시지는 저널에서 정리, 서버가 죽으면 다음 시작 때 저장 스레드가 새 메시지보다 먼저 재적재</li>
+ * </ol>
+ *
+ * 전송 응답 시간은 DB 커밋이 아니라 저널 fsync 에만 묶입니다.
+ * DB가 느려져 버퍼(buffer-capacity)가 가득 차면 enqueue-timeout 동안 기다린 뒤 CHAT_BUFFER_FULL 로 거절합니다.
+ *
+ * 연결 장애는 성공할 때까지 재시도하지만, 특정 행 때문에 실패하는 배치(무결성 제약 위반, max-flush-attempts 연속 실패)는
+ * 반으로 나눠 저장하고 한 건만 남아도 실패하면 dead-letter 파일로 옮겨 나머지 메시지가 막히지 않게 합니다.
+ *
+ * 메트릭: chat.write_behind.buffer.size, chat.write_behind.flush.duration, chat.write_behind.flush.batch.size,
+ * chat.write_behind.flush.failures, chat.write_behind.rejected, chat.write_behind.journal.append,
+ * chat.write_behind.dead_lettered
+ */
+@Slf4j
+@Component
+public class ChatWriteBuffer implements SmartLifecycle {
+
+    private final ChatIdAllocator idAllocator;
+    private final ChatBatchInserter batchInserter;
+    private final ChatWriteBehindProperties properties;
+    private final ChatJournal journal;
+
+    private final Semaphore capacity;
+    private final LinkedBlockingQueue<Entry> buffer = new LinkedBlockingQueue<>();
+    private final Thread flushThread;
+
+    private final Timer flushTimer;
+    private final Timer journalTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter flushFailureCounter;
+    private final Counter rejectedCounter;
+    private final Counter deadLetterCounter;
+
+    private volatile boolean running;
+    // 이전 실행에서 남은 저널 세그먼트, 저장 스레드가 새 메시지보다 먼저 저장
+    private volatile List<Path> leftoverSegments = List.of();
+
+    public ChatWriteBuffer(ChatIdAllocator idAllocator,
+                           ChatBatchInserter batchInserter,
+                           ChatWriteBehindProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.idAllocator = idAllocator;
+        this.batchInserter = batchInserter;
+        this.properties = properties;
+        this.capacity = new Semaphore(properties.getBufferCapacity());
+        this.journal = new ChatJournal(
+                Path.of(properties.getJournalDir()),
+                properties.getJournalSegmentSize().toBytes(),
+                properties.getBufferCapacity());
+        this.flushThread = Thread.ofPlatform().name("chat-write-behind").unstarted(this::flushLoop);
+
+        Gauge.builder("chat.write_behind.buffer.size", buffer, LinkedBlockingQueue::size)
+                .description("DB 저장 대기 중인 메시지 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write_behind.flush.duration")
+                .description("배치 INSERT 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.journalTimer = Timer.builder("chat.write_behind.journal.append")
+                .description("저널 기록(fsync 포함) 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("chat.write_behind.flush.batch.size")
+                .description("배치 한 번에 저장한 메시지 수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("chat.write_behind.flush.failures")
+                .description("배치 INSERT 실패 횟수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.write_behind.rejected")
+                .description("버퍼가 가득 차 거절한 메시지 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("chat.write_behind.dead_lettered")
+                .description("DB에 저장하지 못해 dead-letter 파일로 옮긴 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메시지에 chat_id 를 발급하고 저널에 기록한 뒤 반환합니다. DB 저장은 나중에 일어납니다.
+     *
+     * @throws BusinessException 버퍼가 가득 차 있으면 CHAT_BUFFER_FULL
+     */
+    public ChatMessage append(ChatMessage message) {
+        if (!acquireCapacity()) {
+            rejectedCounter.increment();
+            throw new BusinessException(MessageErrorCode.CHAT_BUFFER_FULL);
+        }
+
+        try {
+            ChatMessage identified = ChatMessage.restore(
+                    idAllocator.nextId(),
+                    message.getRoomId(),
+                    message.getSenderId(),
+                    message.getContent(),
+                    message.getType(),
+                    message.getCreatedAt());
+
+            long start = System.nanoTime();
+            long segmentId = journal.append(identified).get();
+            journalTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            buffer.add(new Entry(identified, segmentId));
+            return identified;
+        } catch (InterruptedException e) {
+            capacity.release();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅 저널 기록 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException | RuntimeException e) {
+            capacity.release();
+            throw new IllegalStateException("채팅 메시지를 저널에 기록하지 못했습니다.", e);
+        }
+    }
+
+    private boolean acquireCapacity() {
+        try {
+            return capacity.tryAcquire(properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ================= 저장 스레드 =================
+
+    private void flushLoop() {
+        replayLeftovers();
+        while (running || !buffer.isEmpty()) {
+            List<Entry> batch = collectBatch();
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지를 기다린 뒤, batch-size 가 차거나 flush-interval 이 지날 때까지 더 모읍니다.
+     */
+    private List<Entry> collectBatch() {
+        List<Entry> batch = new ArrayList<>(properties.getBatchSize());
+        try {
+            Entry first = buffer.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+            while (batch.size() < properties.getBatchSize()) {
+                buffer.drainTo(batch, properties.getBatchSize() - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= properties.getBatchSize() || remaining <= 0 || !running) {
+                    break;
+                }
+                Entry next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중: 지금까지 모은 것만 저장
+            buffer.drainTo(batch, properties.getBatchSize() - batch.size());
+        }
+        return batch;
+    }
+
+    /**
+     * 이전 실행에서 저장하지 못한 메시지를 새 메시지보다 먼저 저장합니다.
+     * DB에 닿지 않으면 store 가 계속 재시도하므로, 시작(start)을 막지 않도록 저장 스레드에서 처리합니다.
+     * 그동안 새 메시지는 저널과 버퍼에 쌓이고, 버퍼가 차면 CHAT_BUFFER_FULL 로 거절됩니다.
+     */
+    private void replayLeftovers() {
+        try {
+            journal.replay(leftoverSegments, messages -> {
+                if (!store(messages)) {
+                    throw new IllegalStateException("채팅 저널 재적재 중 종료되었습니다.");
+                }
+            });
+        } catch (IOException | IllegalStateException e) {
+            // 남은 세그먼트는 지우지 않았으므로 다음 시작 때 다시 재적재
+            log.error("채팅 저널 재적재 중단, 남은 세그먼트는 다음 시작 때 재적재합니다: {}", e.getMessage());
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        if (store(batch.stream().map(Entry::message).toList())) {
+            onFlushed(batch);
+        }
+    }
+
+    /**
+     * 메시지를 모두 저장하거나 dead-letter 로 옮길 때까지 재시도합니다.
+     * 특정 행 때문에 실패하는 것으로 보이면 반으로 나눠 각각 저장합니다.
+     *
+     * @return 종료 중에 실패해서 포기했으면 false (저널에 남겨 두고 다음 시작 때 재적재)
+     */
+    private boolean store(List<ChatMessage> messages) {
+        Duration backoff = properties.getRetryBackoff();
+        int failures = 0;
+
+        while (true) {
+            long start = System.nanoTime();
+            try {
+                batchInserter.insert(messages);
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                batchSizeSummary.record(messages.size());
+                return true;
+            } catch (RuntimeException e) {
+                flushFailureCounter.increment();
+                failures++;
+                log.error("채팅 메시지 배치 저장 실패 - {}건, {}번째, 에러: {}", messages.size(), failures, e.getMessage());
+
+                if (isRowFailure(e, failures)) {
+                    if (messages.size() > 1) {
+                        int half = messages.size() / 2;
+                        return store(messages.subList(0, half)) && store(messages.subList(half, messages.size()));
+                    }
+                    if (deadLetter(messages.getFirst(), e)) {
+                        return true;
+                    }
+                }
+                if (!running) {
+                    log.warn("종료 중이라 {}건은 저널에 남겨 두고 다음 시작 때 저장합니다.", messages.size());
+                    return false;
+                }
+            }
+
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                // stop() 이 깨운 경우 한 번 더 시도
+            }
+            backoff = backoff.multipliedBy(2);
+            if (backoff.compareTo(properties.getMaxRetryBackoff()) > 0) {
+                backoff = properties.getMaxRetryBackoff();
+            }
+        }
+    }
+
+    /**
+     * 재시도해도 같은 결과가 나올 실패인지 판단합니다.
+     * 무결성 제약 위반은 바로, 연결 장애가 아닌 실패는 max-flush-attempts 번 연속일 때 행 문제로 봅니다.
+     */
+    private boolean isRowFailure(RuntimeException e, int failures) {
+        if (e instanceof DataIntegrityViolationException) {
+            return true;
+        }
+        boolean transientFailure = e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+        return !transientFailure && failures >= properties.getMaxFlushAttempts();
+    }
+
+    private boolean deadLetter(ChatMessage message, RuntimeException cause) {
+        try {
+            journal.deadLetter(message);
+        } catch (IOException e) {
+            log.error("dead-letter 기록 실패, 계속 재시도합니다 - chatId: {}, 에러: {}", message.getId(), e.getMessage());
+            return false;
+        }
+        deadLetterCounter.increment();
+        log.error("채팅 메시지를 저장하지 못해 dead-letter 로 옮겼습니다 - chatId: {}, roomId: {}, 에러: {}",
+                message.getId(), message.getRoomId(), cause.getMessage());
+        return true;
+    }
+
+    private void onFlushed(List<Entry> batch) {
+        Map<Long, Integer> countsBySegment = new LinkedHashMap<>();
+        batch.forEach(entry -> countsBySegment.merge(entry.segmentId(), 1, Integer::sum));
+        countsBySegment.forEach(journal::release);
+        capacity.release(batch.size());
+    }
+
+    // ================= 생명주기 =================
+
+    /**
+     * 쓰기를 시작합니다. 이전 실행에서 저장하지 못한 메시지는 저장 스레드가 새 메시지보다 먼저 DB에 넣습니다.
+     * 재적재도 같은 방식으로 저장하므로 저장할 수 없는 행은 dead-letter 로 옮기고 넘어가며,
+     * DB 장애 중에 시작해도 재시도가 시작 스레드를 붙잡지 않습니다.
+     */
+    @Override
+    public void start() {
+        try {
+            leftoverSegments = journal.leftoverSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 저널을 읽지 못했습니다.", e);
+        }
+        running = true;
+        journal.start();
+        flushThread.start();
+    }
+
+    /**
+     * 남은 메시지를 저장하고 종료합니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        flushThread.interrupt();
+        try {
+            flushThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * WebSocket 브로커보다 phase 가 낮아서 브로커보다 먼저 시작하고, 브로커가 멈춘 뒤에 멈춥니다.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private record Entry(ChatMessage message, long segmentId) {
+    }
+}
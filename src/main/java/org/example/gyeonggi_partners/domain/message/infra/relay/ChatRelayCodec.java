@@ -0,0 +1,75 @@
+package org.example.gyeonggi_partners.domain.message.infra.relay;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 서버 간 채팅 메시지 바이너리 형식
+ *
+ * <pre>
+ * [version 1B][originNodeId 8B][chatId 8B][roomId 8B][senderId 8B, 없으면 -1][type 1B]
+ * [createdAt epochSecond 8B][nano 4B][nickname 길이 2B][nickname UTF-8][content 길이 4B][content UTF-8]
+ * </pre>
+ *
+ * JSON보다 작고 필드 이름/타입 정보를 싣지 않아 인코딩/디코딩 비용이 적습니다.
+ */
+final class ChatRelayCodec {
+
+    private static final byte VERSION = 1;
+    private static final int FIXED_BYTES = 1 + Long.BYTES * 5 + 1 + Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+    private ChatRelayCodec() {
+    }
+
+    static byte[] encode(long originNodeId, ChatMessage message, String senderNickname) {
+        byte[] nickname = senderNickname != null ? senderNickname.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_BYTES + nickname.length + content.length);
+        buffer.put(VERSION);
+        buffer.putLong(originNodeId);
+        buffer.putLong(message.getId());
+        buffer.putLong(message.getRoomId());
+        buffer.putLong(message.getSenderId() != null ? message.getSenderId() : -1L);
+        buffer.put((byte) message.getType().ordinal());
+        buffer.putLong(message.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(message.getCreatedAt().getNano());
+        buffer.putShort((short) nickname.length);
+        buffer.put(nickname);
+        buffer.putInt(content.length);
+        buffer.put(content);
+        return buffer.array();
+    }
+
+    static Decoded decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 채팅 릴레이 메시지 버전입니다: " + version);
+        }
+
+        long originNodeId = buffer.getLong();
+        long chatId = buffer.getLong();
+        long roomId = buffer.getLong();
+        long senderId = buffer.getLong();
+        MessageType type = MessageType.values()[buffer.get()];
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+        byte[] nickname = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(nickname);
+        byte[] content = new byte[buffer.getInt()];
+        buffer.get(content);
+
+        ChatMessage message = ChatMessage.restore(chatId, roomId, senderId >= 0 ? senderId : null,
+                new String(content, StandardCharsets.UTF_8), type, createdAt);
+        return new Decoded(originNodeId, message,
+                nickname.length > 0 ? new String(nickname, StandardCharsets.UTF_8) : null);
+    }
+
+    record Decoded(long originNodeId, ChatMessage message, String senderNickname) {
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.gyeonggi_partners.domain.message.infra.relay;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.publisher.ChatMessagePublisher;
+import org.example.gyeonggi_partners.domain.message.infra.cache.CachedRecentMessageRepository;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.LocalRoomBroadcaster;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+/**
+ * 서버 간 채팅 메시지 중계 (Redis Pub/Sub, 논의방별 채널 chat:room:{roomId})
+ *
+ * <ul>
+ *   <li>발행: 이 서버의 구독자에게 바로 전달한 뒤 Redis 채널로 바이너리 메시지를 발행</li>
+ *   <li>수신: 다른 서버가 발행한 메시지만 이 서버의 구독자에게 전달 (자기가 보낸 메시지는 nodeId로 걸러냄)</li>
+ *   <li>구독: 이 서버에 해당 논의방 구독자가 있을 때만 채널을 구독 (RoomSubscriptionRegistry 가 관리)</li>
+ * </ul>
+ *
+ * 구독 중인 논의방의 최근 메시지 캐시도 여기서 받은 메시지로 최신 상태를 유지합니다.
+ * Redis 발행이 실패해도 같은 서버의 구독자에게는 전달됩니다.
+ * 메트릭: chat.relay.messages{direction=out|in}, chat.relay.publish.failures
+ */
+@Slf4j
+@Component
+public class RedisChatRelay implements ChatMessagePublisher {
+
+    static final String CHANNEL_PREFIX = "chat:room:";
+
+    private final long nodeId = new SecureRandom().nextLong();
+
+    private final RedisTemplate<String, byte[]> relayTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LocalRoomBroadcaster localBroadcaster;
+    private final CachedRecentMessageRepository recentMessageCache;
+    private final MessageListener listener = (message, pattern) -> onRelayMessage(message.getBody());
+
+    private final Counter outCounter;
+    private final Counter inCounter;
+    private final Counter publishFailureCounter;
+
+    public RedisChatRelay(RedisConnectionFactory connectionFactory,
+                          RedisMessageListenerContainer listenerContainer,
+                          LocalRoomBroadcaster localBroadcaster,
+                          CachedRecentMessageRepository recentMessageCache,
+                          MeterRegistry meterRegistry) {
+        this.listenerContainer = listenerContainer;
+        this.localBroadcaster = localBroadcaster;
+        this.recentMessageCache = recentMessageCache;
+
+        // JSON 직렬화(RedisConfig의 redisTemplate) 대신 바이트를 그대로 보냄
+        this.relayTemplate = new RedisTemplate<>();
+        relayTemplate.setConnectionFactory(connectionFactory);
+        relayTemplate.setKeySerializer(RedisSerializer.string());
+        relayTemplate.setValueSerializer(RedisSerializer.byteArray());
+        relayTemplate.afterPropertiesSet();
+
+        this.outCounter = Counter.builder("chat.relay.messages").tag("direction", "out")
+                .description("다른 서버로 발행한 메시지 수").register(meterRegistry);
+        this.inCounter = Counter.builder("chat.relay.messages").tag("direction", "in")
+                .description("다른 서버에서 받아 전달한 메시지 수").register(meterRegistry);
+        this.publishFailureCounter = Counter.builder("chat.relay.publish.failures")
+                .description("Redis 발행 실패 수").register(meterRegistry);
+    }
+
+    @Override
+    public void publish(ChatMessage message, String senderNickname) {
+        localBroadcaster.broadcast(message, senderNickname);
+
+        try {
+            relayTemplate.convertAndSend(
+                    channel(message.getRoomId()),
+                    ChatRelayCodec.encode(nodeId, message, senderNickname));
+            outCounter.increment();
+        } catch (RuntimeException e) {
+            publishFailureCounter.increment();
+            log.warn("채팅 메시지 Redis 발행 실패 - roomId: {}, chatId: {}, 에러: {}",
+                    message.getRoomId(), message.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 논의방 채널 구독 시작 (이 서버에 첫 구독자가 생겼을 때)
+     */
+    void subscribeRoom(Long roomId) {
+        listenerContainer.addMessageListener(listener, new ChannelTopic(channel(roomId)));
+        recentMessageCache.retainLocally(roomId);
+    }
+
+    /**
+     * 논의방 채널 구독 해제 (이 서버의 마지막 구독자가 나갔을 때)
+     */
+    void unsubscribeRoom(Long roomId) {
+        listenerContainer.removeMessageListener(listener, new ChannelTopic(channel(roomId)));
+        recentMessageCache.releaseLocally(roomId);
+    }
+
+    private void onRelayMessage(byte[] body) {
+        ChatRelayCodec.Decoded decoded;
+        try {
+            decoded = ChatRelayCodec.decode(body);
+        } catch (RuntimeException e) {
+            log.warn("채팅 릴레이 메시지를 해석할 수 없습니다 - 에러: {}", e.getMessage());
+            return;
+        }
+
+        if (decoded.originNodeId() == nodeId) {
+            // 이 서버가 보낸 메시지는 발행할 때 이미 전달함
+            return;
+        }
+        inCounter.increment();
+        recentMessageCache.appendLocal(ChatMessageView.of(decoded.message(), decoded.senderNickname()));
+        localBroadcaster.broadcast(decoded.message(), decoded.senderNickname());
+    }
+
+    static String channel(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+}
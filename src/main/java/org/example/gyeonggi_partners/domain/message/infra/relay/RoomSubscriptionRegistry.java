@@ -0,0 +1,115 @@
+package org.example.gyeonggi_partners.domain.message.infra.relay;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.LocalRoomBroadcaster;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이 서버의 논의방별 STOMP 구독 수를 세고, 0 ↔ 1 이 바뀔 때 Redis 채널을 구독/해제합니다.
+ * 그래서 각 서버는 자기에게 접속한 멤버가 있는 논의방의 메시지만 받습니다.
+ *
+ * SUBSCRIBE 이벤트는 StompChannelInterceptor 의 멤버 확인을 통과한 구독에 대해서만 발생합니다.
+ * 메트릭: chat.relay.rooms (구독 중인 논의방 채널 수)
+ */
+@Component
+public class RoomSubscriptionRegistry {
+
+    private final RedisChatRelay relay;
+
+    // sessionId → (subscriptionId → roomId)
+    private final Map<String, Map<String, Long>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // roomId → 이 서버의 구독 수
+    private final Map<Long, Integer> localSubscriberCounts = new ConcurrentHashMap<>();
+
+    public RoomSubscriptionRegistry(RedisChatRelay relay, MeterRegistry meterRegistry) {
+        this.relay = relay;
+        Gauge.builder("chat.relay.rooms", localSubscriberCounts, Map::size)
+                .description("이 서버가 구독 중인 논의방 채널 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previous = subscriptionsBySession
+                .computeIfAbsent(accessor.getSessionId(), sessionId -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        if (previous == null) {
+            increment(roomId);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            decrement(roomId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, Long> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 이 서버에서 해당 논의방을 구독 중인 수
+     */
+    public int localSubscriberCount(Long roomId) {
+        return localSubscriberCounts.getOrDefault(roomId, 0);
+    }
+
+    private void increment(Long roomId) {
+        localSubscriberCounts.compute(roomId, (id, count) -> {
+            if (count == null) {
+                relay.subscribeRoom(id);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void decrement(Long roomId) {
+        localSubscriberCounts.computeIfPresent(roomId, (id, count) -> {
+            if (count == 1) {
+                relay.unsubscribeRoom(id);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private static Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션 메트릭
+ *
+ * <ul>
+ *   <li>chat.websocket.sessions: 현재 연결 수</li>
+ *   <li>chat.websocket.evicted: 전송 버퍼/시간 한도를 넘겨 서버가 끊은 느린 클라이언트 수</li>
+ * </ul>
+ *
+ * 느린 클라이언트 차단 자체는 Spring의 ConcurrentWebSocketSessionDecorator가
+ * chat.websocket.send-time-limit / send-buffer-size-limit 기준으로 처리하고 (CloseStatus.SESSION_NOT_RELIABLE),
+ * 여기서는 그 결과만 집계합니다.
+ */
+@Component
+public class ChatSessionMetrics implements WebSocketHandlerDecoratorFactory {
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final Counter evictedCounter;
+
+    public ChatSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.websocket.sessions", activeSessions, AtomicInteger::get)
+                .description("현재 WebSocket 연결 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("chat.websocket.evicted")
+                .description("느린 클라이언트로 판단해 끊은 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                activeSessions.incrementAndGet();
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                activeSessions.decrementAndGet();
+                if (CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    evictedCounter.increment();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
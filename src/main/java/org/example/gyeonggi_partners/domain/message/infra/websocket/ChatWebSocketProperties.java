@@ -0,0 +1,46 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 채팅 WebSocket(STOMP) 설정값
+ * application.properties 의 chat.websocket.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.websocket")
+public class ChatWebSocketProperties {
+
+    /**
+     * 허용할 Origin 패턴
+     */
+    private List<String> allowedOriginPatterns = List.of("*");
+
+    /**
+     * 세션 하나에 메시지 하나를 보내는 데 허용하는 최대 시간
+     * 넘기면 느린 클라이언트로 보고 연결을 끊음
+     */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    /**
+     * 세션별 전송 대기 버퍼 최대 크기
+     * 넘기면 느린 클라이언트로 보고 연결을 끊음
+     */
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(512);
+
+    /**
+     * 클라이언트가 보낼 수 있는 STOMP 프레임 최대 크기
+     */
+    private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+
+    /**
+     * STOMP 하트비트 간격 (끊긴 소켓 정리용)
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+}
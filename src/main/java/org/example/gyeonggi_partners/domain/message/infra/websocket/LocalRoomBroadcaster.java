@@ -0,0 +1,26 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.api.dto.ChatMessageResponse;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버에 연결된 구독자에게만 논의방 토픽(/topic/rooms/{roomId}) 메시지를 전달합니다.
+ * 다른 서버로의 전달은 RedisChatRelay 가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalRoomBroadcaster {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void broadcast(ChatMessage message, String senderNickname) {
+        messagingTemplate.convertAndSend(
+                ROOM_TOPIC_PREFIX + message.getRoomId(),
+                ChatMessageResponse.of(message, senderNickname));
+    }
+}
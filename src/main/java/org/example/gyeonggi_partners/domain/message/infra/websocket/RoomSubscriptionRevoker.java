@@ -0,0 +1,50 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMembershipRevokedEvent;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.StompSubscriptionTracker.RoomSubscription;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 논의방에서 빠진 사용자가 이 서버에 가진 해당 논의방(채팅/제안서) 구독을 회수합니다.
+ *
+ * <p>브로커에 UNSUBSCRIBE 를 보내 더 이상 메시지가 전달되지 않게 하고,
+ * 클라이언트가 구독을 해제한 것처럼 SessionUnsubscribeEvent 를 발행해 접속자/릴레이 집계도 함께 정리합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSubscriptionRevoker {
+
+    private final StompSubscriptionTracker subscriptionTracker;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onMembershipRevoked(RoomMembershipRevokedEvent event) {
+        for (RoomSubscription subscription : subscriptionTracker.removeRoom(event.userId(), event.roomId())) {
+            log.debug("논의방 구독 회수 - roomId: {}, userId: {}, 세션: {}",
+                    event.roomId(), event.userId(), subscription.sessionId());
+            Message<byte[]> unsubscribe = unsubscribeMessage(subscription);
+            messagingTemplate.getMessageChannel().send(unsubscribe);
+            eventPublisher.publishEvent(new SessionUnsubscribeEvent(this, unsubscribe, subscription.user()));
+        }
+    }
+
+    private static Message<byte[]> unsubscribeMessage(RoomSubscription subscription) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(subscription.sessionId());
+        accessor.setSubscriptionId(subscription.subscriptionId());
+        accessor.setUser(subscription.user());
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
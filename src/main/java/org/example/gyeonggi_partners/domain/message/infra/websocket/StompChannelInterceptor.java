@@ -0,0 +1,148 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.common.jwt.JwtAuthenticationCache;
+import org.example.gyeonggi_partners.domain.message.application.ChatMembershipGuard;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.application.ProposalAccessGuard;
+import org.example.gyeonggi_partners.domain.proposal.infra.editing.CoalescingProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.infra.lock.RedisProposalEditLock;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 클라이언트 → 서버 STOMP 프레임 검사
+ *
+ * <ul>
+ *   <li>CONNECT: Authorization 헤더의 Access Token을 검증하고 세션 사용자로 등록</li>
+ *   <li>SEND: /app 으로 시작하는 주소만 허용 (브로커 토픽/큐나 /user 로 직접 보내면 멤버 확인과 저장을 건너뛰므로 거부)</li>
+ *   <li>SUBSCRIBE: 아래 주소만 허용하고 와일드카드(/topic/** 등)나 그 외 /topic, /queue 주소는 거부
+ *     <ul>
+ *       <li>/topic/rooms/{roomId}: 해당 논의방 멤버만</li>
+ *       <li>/topic/proposals/{proposalId}: 제안서가 속한 논의방 멤버만</li>
+ *       <li>/user/queue/errors, /user/queue/proposal-locks: 자기 세션의 개인 큐</li>
+ *     </ul>
+ *   </li>
+ *   <li>모든 프레임(하트비트 포함): 세션이 가진 제안서 항목 편집 잠금 연장</li>
+ * </ul>
+ *
+ * WebSocket 핸드셰이크는 인증 없이 열리고, 인증은 CONNECT 프레임에서 처리합니다.
+ * 통과한 논의방/제안서 구독은 StompSubscriptionTracker 에 기록해 논의방을 나가면 회수합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StompChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String APP_DESTINATION_PREFIX = "/app/";
+
+    private static final Pattern ROOM_TOPIC =
+            Pattern.compile(Pattern.quote(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX) + "(\\d{1,18})");
+    private static final Pattern PROPOSAL_TOPIC =
+            Pattern.compile(Pattern.quote(CoalescingProposalEditor.TOPIC_PREFIX) + "(\\d{1,18})");
+
+    /**
+     * 서버가 @SendToUser / convertAndSendToUser 로 보내는 개인 큐 (세션별 주소로 바뀌어 구독됨)
+     */
+    private static final Set<String> USER_QUEUES = Set.of("/user/queue/errors", "/user/queue/proposal-locks");
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final ChatMembershipGuard membershipGuard;
+    private final ProposalAccessGuard proposalAccessGuard;
+    private final RedisProposalEditLock proposalEditLock;
+    private final StompSubscriptionTracker subscriptionTracker;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        proposalEditLock.touch(accessor.getSessionId());
+        if (accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> accessor.setUser(authenticate(accessor));
+            case SUBSCRIBE -> checkSubscription(accessor);
+            case SEND -> checkSend(accessor);
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private Authentication authenticate(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith(BEARER_PREFIX)) {
+            throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+        }
+
+        Authentication authentication = jwtAuthenticationCache.resolve(bearerToken.substring(BEARER_PREFIX.length()));
+        if (authentication == null) {
+            throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+        }
+        return authentication;
+    }
+
+    private static void checkSend(StompHeaderAccessor accessor) {
+        currentUser(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+            throw new BusinessException(MessageErrorCode.INVALID_DESTINATION);
+        }
+    }
+
+    private void checkSubscription(StompHeaderAccessor accessor) {
+        CustomUserDetails user = currentUser(accessor);
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            throw new BusinessException(MessageErrorCode.INVALID_DESTINATION);
+        }
+
+        Matcher room = ROOM_TOPIC.matcher(destination);
+        if (room.matches()) {
+            Long roomId = Long.parseLong(room.group(1));
+            membershipGuard.checkMember(user.getUserId(), roomId);
+            track(accessor, user, roomId);
+            return;
+        }
+        Matcher proposal = PROPOSAL_TOPIC.matcher(destination);
+        if (proposal.matches()) {
+            Long roomId = proposalAccessGuard.checkMember(user.getUserId(), Long.parseLong(proposal.group(1)));
+            track(accessor, user, roomId);
+            return;
+        }
+        if (!USER_QUEUES.contains(destination)) {
+            throw new BusinessException(MessageErrorCode.INVALID_DESTINATION);
+        }
+    }
+
+    private void track(StompHeaderAccessor accessor, CustomUserDetails user, Long roomId) {
+        subscriptionTracker.record(accessor.getSessionId(), accessor.getSubscriptionId(),
+                accessor.getUser(), user.getUserId(), roomId);
+    }
+
+    private static CustomUserDetails currentUser(StompHeaderAccessor accessor) {
+        if (!(accessor.getUser() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+        }
+        return userDetails;
+    }
+}
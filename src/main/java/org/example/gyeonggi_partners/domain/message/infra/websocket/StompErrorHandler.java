@@ -0,0 +1,47 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CONNECT/SUBSCRIBE 처리 중 발생한 BusinessException을 STOMP ERROR 프레임으로 변환합니다.
+ * message 헤더에 에러 코드(예: A002), 본문에 에러 메시지를 담습니다.
+ */
+@Slf4j
+@Component
+public class StompErrorHandler extends StompSubProtocolErrorHandler {
+
+    @Override
+    public Message<byte[]> handleClientMessageProcessingError(Message<byte[]> clientMessage, Throwable ex) {
+        BusinessException businessException = findBusinessException(ex);
+        if (businessException == null) {
+            return super.handleClientMessageProcessingError(clientMessage, ex);
+        }
+
+        log.info("STOMP 요청 거부 : {}", businessException.getErrorCode().getMessage());
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.ERROR);
+        accessor.setMessage(businessException.getErrorCode().getCode());
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(
+                businessException.getErrorCode().getMessage().getBytes(StandardCharsets.UTF_8),
+                accessor.getMessageHeaders());
+    }
+
+    private static BusinessException findBusinessException(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BusinessException businessException) {
+                return businessException;
+            }
+        }
+        return null;
+    }
+}
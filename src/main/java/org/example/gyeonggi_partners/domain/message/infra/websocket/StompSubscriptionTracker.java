@@ -0,0 +1,73 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멤버 확인을 통과한 논의방/제안서 토픽 구독을 세션별로 기록합니다.
+ * 사용자가 논의방에서 빠지면 {@link RoomSubscriptionRevoker} 가 여기서 그 논의방의 구독을 찾아 회수합니다.
+ */
+@Component
+public class StompSubscriptionTracker {
+
+    // sessionId → 세션의 사용자와 구독 (subscriptionId → roomId)
+    private final Map<String, SessionSubscriptions> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * StompChannelInterceptor 가 SUBSCRIBE 의 멤버 확인을 마친 뒤 호출합니다.
+     */
+    void record(String sessionId, String subscriptionId, Principal user, Long userId, Long roomId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        sessions.computeIfAbsent(sessionId, id -> new SessionSubscriptions(user, userId, new ConcurrentHashMap<>()))
+                .subscriptions().put(subscriptionId, roomId);
+    }
+
+    /**
+     * 사용자의 해당 논의방 구독을 모두 기록에서 빼고 반환합니다.
+     */
+    List<RoomSubscription> removeRoom(Long userId, Long roomId) {
+        List<RoomSubscription> removed = new ArrayList<>();
+        sessions.forEach((sessionId, session) -> {
+            if (!session.userId().equals(userId)) {
+                return;
+            }
+            session.subscriptions().forEach((subscriptionId, subscribedRoomId) -> {
+                if (subscribedRoomId.equals(roomId) && session.subscriptions().remove(subscriptionId, roomId)) {
+                    removed.add(new RoomSubscription(sessionId, subscriptionId, session.user()));
+                }
+            });
+        });
+        return removed;
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionSubscriptions session = sessions.get(accessor.getSessionId());
+        if (session != null && accessor.getSubscriptionId() != null) {
+            session.subscriptions().remove(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private record SessionSubscriptions(Principal user, Long userId, Map<String, Long> subscriptions) {
+    }
+
+    record RoomSubscription(String sessionId, String subscriptionId, Principal user) {
+    }
+}
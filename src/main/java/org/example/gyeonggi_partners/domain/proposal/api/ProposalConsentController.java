@@ -0,0 +1,82 @@
+package org.example.gyeonggi_partners.domain.proposal.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ConsentResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ConsentStatusResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.StartConsentRequest;
+import org.example.gyeonggi_partners.domain.proposal.application.ProposalConsentService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "ProposalConsent", description = "제안서 동의 API")
+@RestController
+@RequestMapping("/api/proposals/{proposalId}")
+@RequiredArgsConstructor
+public class ProposalConsentController {
+
+    private final ProposalConsentService proposalConsentService;
+
+    /**
+     * 동의 시작
+     * POST /api/proposals/{proposalId}/consent-request
+     */
+    @Operation(
+            summary = "동의 시작",
+            description = "작성을 마치고 기한까지 논의방 멤버의 동의를 받습니다. 이후에는 본문을 수정할 수 없습니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/consent-request")
+    public ResponseEntity<ApiResponse<ConsentStatusResponse>> startConsent(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long proposalId,
+            @Valid @RequestBody StartConsentRequest request) {
+
+        ConsentStatusResponse response = proposalConsentService.startConsent(proposalId, userDetails, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "동의를 시작했습니다."));
+    }
+
+    /**
+     * 동의
+     * POST /api/proposals/{proposalId}/consents
+     */
+    @Operation(
+            summary = "동의",
+            description = "필요 동의 수에 도달하면 제안서가 제출 가능 상태가 됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/consents")
+    public ResponseEntity<ApiResponse<ConsentResponse>> consent(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long proposalId) {
+
+        ConsentResponse response = proposalConsentService.consent(proposalId, userDetails);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "동의했습니다."));
+    }
+
+    /**
+     * 동의 현황
+     * GET /api/proposals/{proposalId}/consents
+     */
+    @Operation(
+            summary = "동의 현황",
+            description = "동의 수, 필요 동의 수, 기한, 내 동의 여부를 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/consents")
+    public ResponseEntity<ApiResponse<ConsentStatusResponse>> getStatus(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long proposalId) {
+
+        return ResponseEntity.ok(ApiResponse.success(proposalConsentService.getStatus(proposalId, userDetails)));
+    }
+}
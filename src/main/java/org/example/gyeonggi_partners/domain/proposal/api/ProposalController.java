@@ -0,0 +1,63 @@
+package org.example.gyeonggi_partners.domain.proposal.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.CreateProposalRequest;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalResponse;
+import org.example.gyeonggi_partners.domain.proposal.application.ProposalService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Proposal", description = "제안서 API")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ProposalController {
+
+    private final ProposalService proposalService;
+
+    /**
+     * 제안서 생성
+     * POST /api/rooms/{roomId}/proposals
+     */
+    @Operation(
+            summary = "제안서 생성",
+            description = "논의방에 빈 본문의 제안서를 만듭니다. 본문은 WebSocket(/app/proposals/{proposalId}/patches)으로 함께 작성합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/rooms/{roomId}/proposals")
+    public ResponseEntity<ApiResponse<ProposalResponse>> create(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long roomId,
+            @Valid @RequestBody CreateProposalRequest request) {
+
+        ProposalResponse response = proposalService.create(roomId, request, userDetails);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response, "제안서를 만들었습니다."));
+    }
+
+    /**
+     * 제안서 조회
+     * GET /api/proposals/{proposalId}
+     */
+    @Operation(
+            summary = "제안서 조회",
+            description = "편집 중인 제안서는 저장 전 수정까지 반영된 본문을 돌려줍니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/proposals/{proposalId}")
+    public ResponseEntity<ApiResponse<ProposalResponse>> get(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long proposalId) {
+
+        return ResponseEntity.ok(ApiResponse.success(proposalService.get(proposalId, userDetails)));
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.gyeonggi_partners.domain.proposal.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.exception.ErrorCode;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalLockRequest;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalLockResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalPatchRequest;
+import org.example.gyeonggi_partners.domain.proposal.application.ProposalEditService;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * 제안서 공동 편집 STOMP 컨트롤러
+ * 수정: SEND /app/proposals/{proposalId}/patches, 본문 다시 받기: SEND /app/proposals/{proposalId}/sync
+ * → 구독: /topic/proposals/{proposalId}
+ * 항목 편집 잠금: SEND /app/proposals/{proposalId}/locks → /user/queue/proposal-locks, 반납: SEND .../unlock
+ * 실패하면 보낸 사람에게만 /user/queue/errors 로 에러를 보냅니다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ProposalEditController {
+
+    private final ProposalEditService proposalEditService;
+
+    @MessageMapping("/proposals/{proposalId}/patches")
+    public void patch(@DestinationVariable Long proposalId,
+                      @Payload ProposalPatchRequest request,
+                      Principal principal) {
+        proposalEditService.applyPatch(proposalId, currentUser(principal), request);
+    }
+
+    @MessageMapping("/proposals/{proposalId}/locks")
+    @SendToUser(destinations = "/queue/proposal-locks", broadcast = false)
+    public ApiResponse<ProposalLockResponse> lock(@DestinationVariable Long proposalId,
+                                                  @Payload ProposalLockRequest request,
+                                                  @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                                                  Principal principal) {
+        return ApiResponse.success(proposalEditService.lock(proposalId, currentUser(principal), sessionId, request));
+    }
+
+    @MessageMapping("/proposals/{proposalId}/unlock")
+    public void unlock(@DestinationVariable Long proposalId,
+                       @Payload ProposalLockRequest request,
+                       @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId,
+                       Principal principal) {
+        proposalEditService.unlock(proposalId, currentUser(principal), sessionId, request);
+    }
+
+    @MessageMapping("/proposals/{proposalId}/sync")
+    public void sync(@DestinationVariable Long proposalId, Principal principal) {
+        proposalEditService.sync(proposalId, currentUser(principal));
+    }
+
+    @MessageExceptionHandler(BusinessException.class)
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public ApiResponse<?> handleBusinessException(BusinessException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.info("제안서 수정 실패 : {}", errorCode.getMessage());
+        return ApiResponse.error(errorCode);
+    }
+
+    private static CustomUserDetails currentUser(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails;
+        }
+        throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+
+/**
+ * 동의 결과
+ *
+ * @param status 이 동의로 필요 동의 수에 도달했으면 READY_TO_SUBMIT, 아니면 PENDING_CONSENT
+ */
+public record ConsentResponse(
+        Long proposalId,
+        long consentCount,
+        ProposalStatus status
+) {
+}
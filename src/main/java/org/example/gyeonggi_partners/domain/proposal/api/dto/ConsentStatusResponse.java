@@ -0,0 +1,32 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentSnapshot;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동의 현황
+ *
+ * @param consented 조회한 사용자가 동의했는지
+ */
+public record ConsentStatusResponse(
+        Long proposalId,
+        ProposalStatus status,
+        long consentCount,
+        int requiredConsents,
+        LocalDateTime consentDeadline,
+        boolean consented
+) {
+
+    public static ConsentStatusResponse of(Long proposalId, ConsentSnapshot snapshot) {
+        return new ConsentStatusResponse(
+                proposalId,
+                snapshot.closedStatus() == null ? ProposalStatus.PENDING_CONSENT : snapshot.closedStatus(),
+                snapshot.count(),
+                snapshot.requiredConsents(),
+                snapshot.deadline(),
+                snapshot.consented()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제안서 생성 요청 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "제안서 생성 요청")
+public class CreateProposalRequest {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 100, message = "제목은 100자를 초과할 수 없습니다")
+    @Schema(description = "제목", example = "수원역 자전거 도로 연결 제안")
+    private String title;
+
+    @Min(value = 1, message = "필요 동의 수는 1 이상이어야 합니다")
+    @Max(value = 10000, message = "필요 동의 수는 10000 이하여야 합니다")
+    @Schema(description = "제출에 필요한 동의 수, 생략 시 1", example = "5")
+    private Integer requiredConsents;
+}
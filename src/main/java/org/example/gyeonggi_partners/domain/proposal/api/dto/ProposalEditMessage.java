@@ -0,0 +1,55 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+
+import java.util.List;
+
+/**
+ * 제안서 편집 구독자에게 보내는 메시지 (/topic/proposals/{proposalId})
+ *
+ * <ul>
+ *   <li>DELTA: 모인 수정 내용, 클라이언트 seq 가 baseSeq 와 다르면 SEND /app/proposals/{id}/sync 로 다시 받아야 함</li>
+ *   <li>SAVED: 본문이 DB에 저장됨 (version)</li>
+ *   <li>RESYNC: 본문 전체, 클라이언트는 본문과 seq 를 이 값으로 바꿈</li>
+ *   <li>CLOSED: 더 이상 편집할 수 없음 (동의 진행 등)</li>
+ * </ul>
+ *
+ * @param baseSeq   DELTA 를 적용하기 전 seq
+ * @param seq       적용 후 seq
+ * @param editorIds DELTA 에 포함된 수정을 한 사용자들
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProposalEditMessage(
+        Type type,
+        Long proposalId,
+        Long baseSeq,
+        Long seq,
+        Long version,
+        List<JsonPatchOperation> operations,
+        List<Long> editorIds,
+        JsonNode contents
+) {
+
+    public enum Type {
+        DELTA, SAVED, RESYNC, CLOSED
+    }
+
+    public static ProposalEditMessage delta(Long proposalId, long baseSeq, long seq, long version,
+                                            List<JsonPatchOperation> operations, List<Long> editorIds) {
+        return new ProposalEditMessage(Type.DELTA, proposalId, baseSeq, seq, version, operations, editorIds, null);
+    }
+
+    public static ProposalEditMessage saved(Long proposalId, long seq, long version) {
+        return new ProposalEditMessage(Type.SAVED, proposalId, null, seq, version, null, null, null);
+    }
+
+    public static ProposalEditMessage resync(Long proposalId, long seq, long version, JsonNode contents) {
+        return new ProposalEditMessage(Type.RESYNC, proposalId, null, seq, version, null, null, contents);
+    }
+
+    public static ProposalEditMessage closed(Long proposalId) {
+        return new ProposalEditMessage(Type.CLOSED, proposalId, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Schema(description = "제안서 항목 편집 잠금 (STOMP SEND /app/proposals/{proposalId}/locks, /unlock)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProposalLockRequest {
+
+    @Schema(description = "본문의 최상위 항목 이름 (JSON Pointer 첫 단계)", example = "summary")
+    private String section;
+}
@@ -0,0 +1,15 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+/**
+ * 항목 편집 잠금 결과 (/user/queue/proposal-locks)
+ *
+ * @param token       이 항목을 수정할 때 함께 보낼 펜싱 토큰
+ * @param leaseMillis 잠금 임대 시간, 연결이 살아 있으면(하트비트) 자동으로 연장됨
+ */
+public record ProposalLockResponse(
+        Long proposalId,
+        String section,
+        long token,
+        long leaseMillis
+) {
+}
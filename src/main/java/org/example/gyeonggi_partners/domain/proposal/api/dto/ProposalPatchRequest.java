@@ -0,0 +1,24 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Schema(description = "제안서 본문 수정 (STOMP SEND /app/proposals/{proposalId}/patches)")
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProposalPatchRequest {
+
+    @Schema(description = "JSON Patch(RFC 6902) 연산 목록, 전부 적용되거나 전부 적용되지 않음",
+            example = "[{\"op\":\"replace\",\"path\":\"/summary\",\"value\":\"자전거 도로 연결\"}]")
+    private List<JsonPatchOperation> operations;
+
+    @Schema(description = "수정하는 최상위 항목별 편집 잠금 펜싱 토큰", example = "{\"summary\":12}")
+    private Map<String, Long> locks;
+}
@@ -0,0 +1,62 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalDraft;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제안서 응답
+ * 편집 중이면 저장 전 수정까지 반영된 본문을 담습니다.
+ *
+ * @param version 마지막으로 저장된 버전
+ */
+public record ProposalResponse(
+        Long proposalId,
+        Long roomId,
+        Long authorId,
+        String title,
+        @JsonRawValue @Schema(type = "object", description = "본문 (JSON)") String contents,
+        int requiredConsents,
+        LocalDateTime consentDeadline,
+        ProposalStatus status,
+        Long version,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ProposalResponse from(Proposal proposal) {
+        return new ProposalResponse(
+                proposal.getId(),
+                proposal.getRoomId(),
+                proposal.getAuthorId(),
+                proposal.getTitle(),
+                proposal.getContents(),
+                proposal.getRequiredConsents(),
+                proposal.getConsentDeadline(),
+                proposal.getStatus(),
+                proposal.getVersion(),
+                proposal.getCreatedAt(),
+                proposal.getUpdatedAt()
+        );
+    }
+
+    public static ProposalResponse from(Proposal proposal, ProposalDraft draft) {
+        return new ProposalResponse(
+                proposal.getId(),
+                proposal.getRoomId(),
+                proposal.getAuthorId(),
+                proposal.getTitle(),
+                draft.contents().toString(),
+                proposal.getRequiredConsents(),
+                proposal.getConsentDeadline(),
+                proposal.getStatus(),
+                draft.version(),
+                proposal.getCreatedAt(),
+                proposal.getUpdatedAt()
+        );
+    }
+}
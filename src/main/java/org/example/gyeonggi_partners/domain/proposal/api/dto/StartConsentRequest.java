@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.proposal.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동의 시작 요청 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "동의 시작 요청")
+public class StartConsentRequest {
+
+    @NotNull(message = "동의 기한은 필수입니다")
+    @Schema(description = "동의 기한", example = "2025-12-31T18:00:00")
+    private LocalDateTime deadline;
+
+    @NotNull(message = "버전은 필수입니다")
+    @Schema(description = "확인한 본문의 버전 (마지막 SAVED 메시지의 version), 그 뒤 저장된 내용이 있으면 거절", example = "3")
+    private Long version;
+}
@@ -0,0 +1,49 @@
+package org.example.gyeonggi_partners.domain.proposal.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomMembershipIndex;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 제안서가 속한 논의방의 멤버인지 확인합니다. (편집 구독/전송, 조회)
+ *
+ * <p>제안서의 논의방은 바뀌지 않으므로 제안서 → 논의방 ID 를 서버 로컬에 캐시하고,
+ * 멤버 확인은 메모리의 멤버 인덱스에서 합니다. 편집 입력마다 DB를 조회하지 않기 위함입니다.</p>
+ */
+@Component
+public class ProposalAccessGuard {
+
+    private final ProposalRepository proposalRepository;
+    private final RoomMembershipIndex membershipIndex;
+    private final Cache<Long, Long> roomIds = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    public ProposalAccessGuard(ProposalRepository proposalRepository, RoomMembershipIndex membershipIndex) {
+        this.proposalRepository = proposalRepository;
+        this.membershipIndex = membershipIndex;
+    }
+
+    /**
+     * @return 제안서가 속한 논의방 ID
+     * @throws BusinessException 제안서가 없으면 PROPOSAL_NOT_FOUND, 멤버가 아니면 NOT_A_ROOM_MEMBER
+     */
+    public Long checkMember(Long userId, Long proposalId) {
+        Long roomId = roomIds.get(proposalId, id -> proposalRepository.findRoomId(id).orElse(null));
+        if (roomId == null) {
+            throw new BusinessException(ProposalErrorCode.PROPOSAL_NOT_FOUND);
+        }
+        if (!membershipIndex.isMember(userId, roomId)) {
+            throw new BusinessException(DiscussionRoomErrorCode.NOT_A_ROOM_MEMBER);
+        }
+        return roomId;
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.gyeonggi_partners.domain.proposal.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ConsentResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ConsentStatusResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.StartConsentRequest;
+import org.example.gyeonggi_partners.domain.proposal.domain.editor.ProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ConsentDeadlinePassedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentOutcome;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentResult;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentSnapshot;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentState;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ConsentTally;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalConsentRepository;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.domain.scheduler.ConsentDeadlineScheduler;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 제안서 동의
+ *
+ * <ol>
+ *   <li>Redis 집계에서 중복/기한/마감 확인과 기록, 필요 동의 수 도달 판단을 한 번에 처리 (ConsentTally)</li>
+ *   <li>기록된 동의만 proposal_consents 에 한 행 INSERT (실패하면 집계에서 되돌림)</li>
+ *   <li>필요 동의 수에 도달한 한 건만 제안서 상태를 READY_TO_SUBMIT 으로 바꿈</li>
+ * </ol>
+ *
+ * proposals 행(consents JSONB)은 동의마다 다시 쓰지 않습니다.
+ * 기한이 지나면 CONSENT_FAILED 로 마감합니다. (기한 스케줄러, 또는 그보다 먼저 온 기한 이후 첫 동의/조회 시)
+ * 트랜잭션 없이 각 단계가 한 문장씩 커밋되므로 동의가 몰려도 DB 연결을 오래 잡지 않습니다.
+ * 마감 상태를 DB에 반영하지 못하면 기한 예약을 남겨 두거나 곧 다시 실행되도록 예약해서, 기한 마감 처리가 다시 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProposalConsentService {
+
+    /**
+     * 상태 반영에 실패했을 때 기한 마감 처리로 다시 시도하기까지의 시간
+     */
+    private static final Duration STATUS_REPAIR_DELAY = Duration.ofSeconds(10);
+
+    private final ProposalRepository proposalRepository;
+    private final ProposalConsentRepository consentRepository;
+    private final ConsentTally consentTally;
+    private final ProposalEditor proposalEditor;
+    private final ProposalAccessGuard accessGuard;
+    private final ConsentDeadlineScheduler deadlineScheduler;
+
+    /**
+     * 동의 시작 (작성 중 → 동의 진행 중)
+     * 요청한 버전 이후에 저장된 내용이 있으면 EDIT_CONFLICT, 저장되지 않은 편집 내용은 버려집니다.
+     */
+    public ConsentStatusResponse startConsent(Long proposalId, CustomUserDetails user, StartConsentRequest request) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        if (!request.getDeadline().isAfter(LocalDateTime.now())) {
+            throw new BusinessException(ProposalErrorCode.INVALID_CONSENT_DEADLINE);
+        }
+
+        if (!proposalRepository.startConsent(proposalId, request.getVersion(), request.getDeadline())) {
+            Proposal proposal = findProposal(proposalId);
+            throw new BusinessException(proposal.isEditable()
+                    ? ProposalErrorCode.EDIT_CONFLICT
+                    : ProposalErrorCode.PROPOSAL_LOCKED);
+        }
+        proposalEditor.closeEditing(proposalId);
+
+        Proposal proposal = findProposal(proposalId);
+        consentTally.load(ConsentState.of(proposal, 0), List.of());
+        deadlineScheduler.schedule(proposalId, proposal.getConsentDeadline());
+        return getStatus(proposalId, user);
+    }
+
+    /**
+     * 동의
+     */
+    public ConsentResponse consent(Long proposalId, CustomUserDetails user) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        Long userId = user.getUserId();
+
+        ConsentResult result = consentTally.record(proposalId, userId, System.currentTimeMillis());
+        if (result.outcome() == ConsentOutcome.NOT_LOADED) {
+            loadTally(proposalId);
+            result = consentTally.record(proposalId, userId, System.currentTimeMillis());
+        }
+
+        switch (result.outcome()) {
+            case ALREADY_CONSENTED -> throw new BusinessException(ProposalErrorCode.ALREADY_CONSENTED);
+            case CLOSED, NOT_LOADED -> throw new BusinessException(ProposalErrorCode.CONSENT_NOT_OPEN);
+            case DEADLINE_PASSED -> {
+                closeExpired(proposalId);
+                throw new BusinessException(ProposalErrorCode.CONSENT_DEADLINE_PASSED);
+            }
+            default -> {
+            }
+        }
+
+        try {
+            consentRepository.insert(proposalId, userId);
+        } catch (RuntimeException e) {
+            consentTally.rollback(proposalId, userId);
+            throw e;
+        }
+
+        boolean reached = result.outcome() == ConsentOutcome.THRESHOLD_REACHED;
+        if (reached) {
+            // 반영하지 못했으면 기한 예약을 남겨 둬야 마감 처리가 READY_TO_SUBMIT 을 다시 반영함
+            if (changeStatus(proposalId, ProposalStatus.READY_TO_SUBMIT)) {
+                deadlineScheduler.cancel(proposalId);
+            } else {
+                scheduleRepair(proposalId);
+            }
+        }
+        return new ConsentResponse(proposalId, result.count(),
+                reached ? ProposalStatus.READY_TO_SUBMIT : ProposalStatus.PENDING_CONSENT);
+    }
+
+    /**
+     * 동의 현황 (기한이 지났는데 아직 마감되지 않았으면 여기서 마감)
+     */
+    public ConsentStatusResponse getStatus(Long proposalId, CustomUserDetails user) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+
+        ConsentSnapshot snapshot = findSnapshot(proposalId, user.getUserId());
+        if (snapshot.closedStatus() == null && !snapshot.deadline().isAfter(LocalDateTime.now())) {
+            closeExpired(proposalId);
+            snapshot = findSnapshot(proposalId, user.getUserId());
+        }
+        return ConsentStatusResponse.of(proposalId, snapshot);
+    }
+
+    /**
+     * 기한이 지난 동의 마감
+     * 기한 직전에 필요 동의 수에 도달했으면 READY_TO_SUBMIT 이 그대로 남고, 아니면 CONSENT_FAILED 가 됩니다.
+     * 여러 곳에서 동시에 불러도 상태는 한 번만 바뀝니다.
+     *
+     * @return 최종 마감 상태, 동의를 받는 제안서가 아니면 empty
+     */
+    public Optional<ProposalStatus> closeExpired(Long proposalId) {
+        Optional<ProposalStatus> closed = consentTally.close(proposalId, ProposalStatus.CONSENT_FAILED);
+        if (closed.isEmpty()) {
+            Optional<Proposal> proposal = proposalRepository.findById(proposalId);
+            if (proposal.isEmpty() || proposal.get().getConsentDeadline() == null) {
+                return Optional.empty();
+            }
+            loadTally(proposal.get());
+            closed = consentTally.close(proposalId, ProposalStatus.CONSENT_FAILED);
+        }
+        closed.filter(status -> !changeStatus(proposalId, status))
+                .ifPresent(status -> scheduleRepair(proposalId));
+        return closed;
+    }
+
+    /**
+     * 기한 스케줄러가 발행한 마감 (예외가 나면 스케줄러가 다시 발행)
+     */
+    @EventListener
+    public void onDeadlinePassed(ConsentDeadlinePassedEvent event) {
+        closeExpired(event.proposalId());
+    }
+
+    private ConsentSnapshot findSnapshot(Long proposalId, Long userId) {
+        Optional<ConsentSnapshot> snapshot = consentTally.find(proposalId, userId);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+        loadTally(proposalId);
+        return consentTally.find(proposalId, userId)
+                .orElseThrow(() -> new BusinessException(ProposalErrorCode.CONSENT_NOT_OPEN));
+    }
+
+    /**
+     * DB의 동의 기록으로 집계 상태를 다시 만듦 (처음 동의 시, Redis 에서 사라졌을 때)
+     */
+    private void loadTally(Long proposalId) {
+        Proposal proposal = findProposal(proposalId);
+        if (proposal.getConsentDeadline() == null || proposal.isEditable()) {
+            throw new BusinessException(ProposalErrorCode.CONSENT_NOT_OPEN);
+        }
+        loadTally(proposal);
+    }
+
+    private void loadTally(Proposal proposal) {
+        List<Long> consentedUserIds = consentRepository.findUserIds(proposal.getId());
+        consentTally.load(ConsentState.of(proposal, consentedUserIds.size()), consentedUserIds);
+    }
+
+    /**
+     * 마감 상태를 DB에 반영합니다.
+     *
+     * @return 반영했거나 이미 동의 진행 중이 아니어서 더 반영할 것이 없으면 true, DB 반영에 실패하면 false
+     */
+    private boolean changeStatus(Long proposalId, ProposalStatus status) {
+        if (status == ProposalStatus.PENDING_CONSENT) {
+            return true;
+        }
+        try {
+            if (proposalRepository.changeStatus(proposalId, ProposalStatus.PENDING_CONSENT, status)) {
+                log.info("제안서 동의 마감 - proposalId: {}, 상태: {}", proposalId, status);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("제안서 상태 변경 실패 - proposalId: {}, 상태: {}, 에러: {}", proposalId, status, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Redis 에는 마감이 기록되어 있으므로, 기한 마감 처리(closeExpired)가 곧 다시 실행되어 같은 상태를 반영하게 함
+     */
+    private void scheduleRepair(Long proposalId) {
+        deadlineScheduler.schedule(proposalId, LocalDateTime.now().plus(STATUS_REPAIR_DELAY));
+    }
+
+    private Proposal findProposal(Long proposalId) {
+        return proposalRepository.findById(proposalId)
+                .orElseThrow(() -> new BusinessException(ProposalErrorCode.PROPOSAL_NOT_FOUND));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.gyeonggi_partners.domain.proposal.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalLockRequest;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalLockResponse;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalPatchRequest;
+import org.example.gyeonggi_partners.domain.proposal.domain.editor.ProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.domain.lock.ProposalEditLock;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.infra.editing.ProposalEditProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+
+/**
+ * 제안서 공동 편집 (WebSocket)
+ *
+ * 멤버 확인만 하고 나머지는 편집기에 맡깁니다. 반영 결과는 /topic/proposals/{proposalId} 로 전달됩니다.
+ * 최상위 항목을 수정하려면 먼저 그 항목의 편집 잠금을 받아야 합니다. (WebSocket 세션 단위)
+ * DB 저장은 편집기가 모아서 하므로 트랜잭션을 열지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProposalEditService {
+
+    private static final int MAX_SECTION_LENGTH = 100;
+
+    private final ProposalEditor proposalEditor;
+    private final ProposalEditLock editLock;
+    private final ProposalAccessGuard accessGuard;
+    private final ProposalEditProperties properties;
+
+    public void applyPatch(Long proposalId, CustomUserDetails user, ProposalPatchRequest request) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        if (request == null || request.getOperations() == null) {
+            throw new BusinessException(ProposalErrorCode.INVALID_PATCH);
+        }
+        Map<String, Long> locks = request.getLocks() == null ? Map.of() : request.getLocks();
+        proposalEditor.applyPatch(proposalId, user.getUserId(), user.getUsername(), request.getOperations(), locks);
+    }
+
+    /**
+     * 항목 편집 잠금 받기, 다른 세션이 갖고 있으면 PROPOSAL_BEING_EDITED
+     */
+    public ProposalLockResponse lock(Long proposalId, CustomUserDetails user, String sessionId,
+                                     ProposalLockRequest request) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        String section = validSection(request);
+        long token = editLock.acquire(proposalId, section, user.getUserId(), sessionId);
+        return new ProposalLockResponse(proposalId, section, token, properties.getLockLeaseTtl().toMillis());
+    }
+
+    /**
+     * 항목 편집 잠금 반납 (연결이 끊기면 자동으로 반납됨)
+     */
+    public void unlock(Long proposalId, CustomUserDetails user, String sessionId, ProposalLockRequest request) {
+        editLock.release(proposalId, validSection(request), user.getUserId(), sessionId);
+    }
+
+    /**
+     * 본문 전체를 다시 받기 (편집 참여 직후, seq 가 어긋났을 때)
+     */
+    public void sync(Long proposalId, CustomUserDetails user) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        proposalEditor.requestSync(proposalId);
+    }
+
+    private static String validSection(ProposalLockRequest request) {
+        if (request == null || !StringUtils.hasText(request.getSection())
+                || request.getSection().length() > MAX_SECTION_LENGTH) {
+            throw new BusinessException(ProposalErrorCode.INVALID_PATCH);
+        }
+        return request.getSection();
+    }
+}
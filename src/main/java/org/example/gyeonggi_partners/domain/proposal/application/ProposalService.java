@@ -0,0 +1,59 @@
+package org.example.gyeonggi_partners.domain.proposal.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomMembershipIndex;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.CreateProposalRequest;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalResponse;
+import org.example.gyeonggi_partners.domain.proposal.domain.editor.ProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 제안서 생성/조회
+ * 본문 수정은 WebSocket 으로 받습니다. (ProposalEditService)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProposalService {
+
+    private final ProposalRepository proposalRepository;
+    private final ProposalEditor proposalEditor;
+    private final ProposalAccessGuard accessGuard;
+    private final RoomMembershipIndex membershipIndex;
+
+    /**
+     * 제안서 생성 (논의방 멤버만, 빈 본문으로 작성 중 상태)
+     */
+    public ProposalResponse create(Long roomId, CreateProposalRequest request, CustomUserDetails user) {
+        if (!membershipIndex.isMember(user.getUserId(), roomId)) {
+            throw new BusinessException(DiscussionRoomErrorCode.NOT_A_ROOM_MEMBER);
+        }
+
+        int requiredConsents = request.getRequiredConsents() == null ? 1 : request.getRequiredConsents();
+        Proposal proposal = proposalRepository.save(
+                Proposal.create(roomId, user.getUserId(), request.getTitle(), requiredConsents));
+        return ProposalResponse.from(proposal);
+    }
+
+    /**
+     * 제안서 조회
+     * 이 서버에서 편집 중이면 저장 전 수정까지 반영된 본문을 돌려줍니다.
+     */
+    @Transactional(readOnly = true)
+    public ProposalResponse get(Long proposalId, CustomUserDetails user) {
+        accessGuard.checkMember(user.getUserId(), proposalId);
+        Proposal proposal = proposalRepository.findById(proposalId)
+                .orElseThrow(() -> new BusinessException(ProposalErrorCode.PROPOSAL_NOT_FOUND));
+
+        return proposalEditor.findDraft(proposalId)
+                .map(draft -> ProposalResponse.from(proposal, draft))
+                .orElseGet(() -> ProposalResponse.from(proposal));
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.editor;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalDraft;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 제안서 공동 편집
+ *
+ * 수정 내용(JSON Patch)을 받아 본문에 반영하고, 함께 편집 중인 사용자에게 전달하고, 모아서 DB에 저장합니다.
+ */
+public interface ProposalEditor {
+
+    /**
+     * 수정 내용 반영
+     * 다른 서버가 편집을 맡고 있으면 그 서버로 넘기고, 그 서버에서 실패하면 보낸 사용자에게 에러 메시지로 알립니다.
+     * 수정하는 최상위 항목마다 편집 잠금(ProposalEditLock)의 최신 펜싱 토큰이 있어야 합니다.
+     *
+     * @param editorName 사용자 목적지(/user/queue/errors)로 에러를 보낼 때 쓰는 로그인 ID
+     * @param locks      항목 → 펜싱 토큰
+     */
+    void applyPatch(Long proposalId, Long editorId, String editorName, List<JsonPatchOperation> operations,
+                    Map<String, Long> locks);
+
+    /**
+     * 편집 중인 본문 전체를 구독자에게 다시 보내도록 요청 (편집 참여 직후, 순서가 어긋났을 때)
+     */
+    void requestSync(Long proposalId);
+
+    /**
+     * 이 서버에서 편집 중인 본문 (저장 전 수정 포함), 편집 중이 아니면 empty
+     */
+    Optional<ProposalDraft> findDraft(Long proposalId);
+
+    /**
+     * 편집 종료 (동의 시작 등으로 더 이상 작성 중이 아님)
+     * 저장되지 않은 수정은 버리고 구독자에게 CLOSED 를 보냅니다.
+     */
+    void closeEditing(Long proposalId);
+}
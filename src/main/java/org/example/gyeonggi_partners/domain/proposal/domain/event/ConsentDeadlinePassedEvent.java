@@ -0,0 +1,10 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.event;
+
+/**
+ * 제안서 동의 기한이 지났을 때 발행되는 이벤트
+ * 처리 중 예외가 나면 스케줄러가 잠시 뒤 다시 발행합니다.
+ */
+public record ConsentDeadlinePassedEvent(
+        Long proposalId
+) {
+}
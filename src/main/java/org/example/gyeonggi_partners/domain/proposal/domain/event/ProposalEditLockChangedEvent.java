@@ -0,0 +1,15 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.event;
+
+/**
+ * 제안서 항목 편집 잠금을 누가 받았거나 반납했을 때 발행되는 이벤트
+ * 편집을 맡은 서버는 이 토큰보다 오래된 토큰으로 온 수정을 거부합니다.
+ *
+ * @param holderId 잠금을 받은 사용자, 반납이면 null
+ */
+public record ProposalEditLockChangedEvent(
+        Long proposalId,
+        String section,
+        long token,
+        Long holderId
+) {
+}
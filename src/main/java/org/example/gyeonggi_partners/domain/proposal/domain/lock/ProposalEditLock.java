@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.lock;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.EditLockHolder;
+
+import java.util.Optional;
+
+/**
+ * 제안서 항목 편집 잠금
+ *
+ * 본문의 최상위 항목(JSON Pointer 첫 단계, 예: /budget/items/0 → budget)마다 한 WebSocket 세션만 수정할 수 있습니다.
+ * 잠금은 임대 방식이라 세션이 살아 있는 동안(하트비트) 연장되고, 연결이 끊기면 풀립니다.
+ * 잠금을 받을 때 주는 펜싱 토큰을 수정과 함께 보내야 하며, 더 새 토큰이 나온 뒤의 수정은 거부됩니다.
+ * 잠금이 바뀌면 ProposalEditLockChangedEvent 가 발행됩니다.
+ */
+public interface ProposalEditLock {
+
+    /**
+     * 잠금 받기, 이미 같은 세션이 갖고 있으면 연장하고 같은 토큰을 돌려줌
+     *
+     * @return 펜싱 토큰
+     * @throws org.example.gyeonggi_partners.common.exception.BusinessException 다른 세션이 갖고 있으면 PROPOSAL_BEING_EDITED
+     */
+    long acquire(Long proposalId, String section, Long userId, String sessionId);
+
+    /**
+     * 잠금 반납, 이 세션이 갖고 있지 않으면 아무것도 하지 않음
+     */
+    void release(Long proposalId, String section, Long userId, String sessionId);
+
+    /**
+     * 지금 잠금을 가진 사용자, 없으면 empty
+     */
+    Optional<EditLockHolder> findHolder(Long proposalId, String section);
+}
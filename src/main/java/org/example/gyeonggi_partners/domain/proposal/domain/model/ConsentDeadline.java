@@ -0,0 +1,12 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동의 진행 중인 제안서의 기한
+ */
+public record ConsentDeadline(
+        Long proposalId,
+        LocalDateTime deadline
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+/**
+ * 동의 한 건을 기록한 결과
+ */
+public enum ConsentOutcome {
+    RECORDED,           // 기록됨
+    THRESHOLD_REACHED,  // 기록됐고 이 동의로 필요 동의 수에 도달 (제안서마다 한 번만)
+    ALREADY_CONSENTED,  // 이미 동의함
+    CLOSED,             // 동의가 이미 마감됨 (도달 또는 실패)
+    DEADLINE_PASSED,    // 기한이 지남
+    NOT_LOADED          // 집계 상태가 아직 없음 (DB에서 불러온 뒤 다시 시도)
+}
@@ -0,0 +1,10 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+/**
+ * @param count 기록 후 동의 수
+ */
+public record ConsentResult(
+        ConsentOutcome outcome,
+        long count
+) {
+}
@@ -0,0 +1,18 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동의 집계 현황
+ *
+ * @param closedStatus 마감됐으면 마감 상태, 동의를 받는 중이면 null
+ * @param consented    조회한 사용자가 동의했는지
+ */
+public record ConsentSnapshot(
+        long count,
+        int requiredConsents,
+        LocalDateTime deadline,
+        ProposalStatus closedStatus,
+        boolean consented
+) {
+}
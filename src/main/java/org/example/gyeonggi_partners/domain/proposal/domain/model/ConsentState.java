@@ -0,0 +1,33 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동의 집계를 시작할 때의 상태 (DB에서 불러옴)
+ *
+ * @param closedStatus 이미 마감됐으면 마감 상태(READY_TO_SUBMIT, CONSENT_FAILED 등), 동의를 받는 중이면 null
+ */
+public record ConsentState(
+        Long proposalId,
+        int requiredConsents,
+        LocalDateTime deadline,
+        ProposalStatus closedStatus
+) {
+
+    /**
+     * @param consentCount DB에 기록된 동의 수
+     *                     (필요 동의 수에 도달했는데 상태 반영 전에 집계가 사라졌으면 READY_TO_SUBMIT 으로 마감된 것으로 봄)
+     */
+    public static ConsentState of(Proposal proposal, int consentCount) {
+        ProposalStatus status = proposal.getStatus();
+        ProposalStatus closedStatus = status == ProposalStatus.PENDING_CONSENT ? null : status;
+        if (closedStatus == null && consentCount >= proposal.getRequiredConsents()) {
+            closedStatus = ProposalStatus.READY_TO_SUBMIT;
+        }
+        return new ConsentState(
+                proposal.getId(),
+                proposal.getRequiredConsents(),
+                proposal.getConsentDeadline(),
+                closedStatus);
+    }
+}
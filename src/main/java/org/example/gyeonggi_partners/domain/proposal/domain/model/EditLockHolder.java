@@ -0,0 +1,13 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+/**
+ * 제안서 항목 편집 잠금을 가진 사용자
+ *
+ * @param token  잠금을 받을 때마다 1씩 커지는 펜싱 토큰 (제안서 단위)
+ * @param userId 잠금을 가진 사용자
+ */
+public record EditLockHolder(
+        long token,
+        Long userId
+) {
+}
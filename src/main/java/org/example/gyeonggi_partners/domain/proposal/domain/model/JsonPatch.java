@@ -0,0 +1,202 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 제안서 본문에 JSON Patch(RFC 6902)를 적용합니다.
+ *
+ * <ul>
+ *   <li>문서 전체를 바꾸는 경로("")는 허용하지 않음 (본문은 항상 JSON 객체)</li>
+ *   <li>여러 연산은 전부 적용되거나 전부 적용되지 않음</li>
+ *   <li>test 연산이 실패하면 EDIT_CONFLICT, 그 밖의 잘못된 연산은 INVALID_PATCH</li>
+ * </ul>
+ */
+public final class JsonPatch {
+
+    private static final String END_OF_ARRAY = "-";
+
+    private JsonPatch() {
+    }
+
+    /**
+     * 문서에 연산을 차례로 적용한 결과를 반환합니다.
+     *
+     * <p>연산이 하나면 검사를 모두 마친 뒤에 문서를 바로 고치므로 실패해도 원본이 그대로 남습니다.
+     * 연산이 여러 개이거나 move(삭제 후 추가)면 사본에 적용하고 사본을 반환합니다.
+     * 입력마다 문서 전체를 복사하지 않기 위해서입니다.</p>
+     */
+    public static JsonNode apply(JsonNode document, List<JsonPatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw invalid();
+        }
+
+        boolean copy = operations.size() > 1 || "move".equals(operations.getFirst().op());
+        JsonNode target = copy ? document.deepCopy() : document;
+        for (JsonPatchOperation operation : operations) {
+            applyOne(target, operation);
+        }
+        return target;
+    }
+
+    /**
+     * 연산으로 늘어날 문서 크기(직렬화 기준 글자 수) 추정치
+     * 삭제로 줄어드는 크기는 빼지 않으므로 실제보다 크게 나옵니다.
+     */
+    public static long estimateGrowth(JsonNode document, List<JsonPatchOperation> operations) {
+        long growth = 0;
+        for (JsonPatchOperation operation : operations) {
+            int pathLength = operation.path() == null ? 0 : operation.path().length();
+            if (operation.value() != null) {
+                growth += pathLength + operation.value().toString().length();
+            } else if ("copy".equals(operation.op())) {
+                growth += pathLength + document.at(pointer(operation.from())).toString().length();
+            }
+        }
+        return growth;
+    }
+
+    /**
+     * 연산이 바꾸는 최상위 항목 이름 (편집 잠금 단위)
+     * test 는 읽기만 하고 copy 는 원본을 바꾸지 않으므로 from 을 세지 않습니다. move 는 from 도 바뀝니다.
+     */
+    public static Set<String> writtenSections(List<JsonPatchOperation> operations) {
+        Set<String> sections = new LinkedHashSet<>();
+        for (JsonPatchOperation operation : operations) {
+            String op = operation.op() == null ? "" : operation.op();
+            if (op.equals("test")) {
+                continue;
+            }
+            sections.add(pointer(operation.path()).getMatchingProperty());
+            if (op.equals("move")) {
+                sections.add(pointer(operation.from()).getMatchingProperty());
+            }
+        }
+        return sections;
+    }
+
+    private static void applyOne(JsonNode root, JsonPatchOperation operation) {
+        JsonPointer path = pointer(operation.path());
+        switch (operation.op() == null ? "" : operation.op()) {
+            case "add" -> add(root, path, required(operation.value()).deepCopy());
+            case "remove" -> remove(root, path);
+            case "replace" -> replace(root, path, required(operation.value()).deepCopy());
+            case "move" -> {
+                JsonPointer from = pointer(operation.from());
+                // 자기 자신의 하위 경로로는 옮길 수 없음
+                if (path.toString().startsWith(from + "/")) {
+                    throw invalid();
+                }
+                JsonNode value = existing(root, from);
+                remove(root, from);
+                add(root, path, value);
+            }
+            case "copy" -> add(root, path, existing(root, pointer(operation.from())).deepCopy());
+            case "test" -> {
+                JsonNode actual = root.at(path);
+                if (actual.isMissingNode() || !actual.equals(required(operation.value()))) {
+                    throw new BusinessException(ProposalErrorCode.EDIT_CONFLICT);
+                }
+            }
+            default -> throw invalid();
+        }
+    }
+
+    private static void add(JsonNode root, JsonPointer path, JsonNode value) {
+        JsonNode parent = root.at(path.head());
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object) {
+            object.set(name, value);
+        } else if (parent instanceof ArrayNode array) {
+            if (END_OF_ARRAY.equals(name)) {
+                array.add(value);
+            } else {
+                array.insert(index(name, array.size()), value);
+            }
+        } else {
+            throw invalid();
+        }
+    }
+
+    private static void remove(JsonNode root, JsonPointer path) {
+        JsonNode parent = root.at(path.head());
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object && object.has(name)) {
+            object.remove(name);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(index(name, array.size() - 1));
+        } else {
+            throw invalid();
+        }
+    }
+
+    private static void replace(JsonNode root, JsonPointer path, JsonNode value) {
+        JsonNode parent = root.at(path.head());
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object && object.has(name)) {
+            object.set(name, value);
+        } else if (parent instanceof ArrayNode array) {
+            array.set(index(name, array.size() - 1), value);
+        } else {
+            throw invalid();
+        }
+    }
+
+    private static JsonNode existing(JsonNode root, JsonPointer path) {
+        JsonNode node = root.at(path);
+        if (node.isMissingNode()) {
+            throw invalid();
+        }
+        return node;
+    }
+
+    private static JsonNode required(JsonNode value) {
+        if (value == null) {
+            throw invalid();
+        }
+        return value;
+    }
+
+    /**
+     * 배열 인덱스 (0 ~ max), 앞에 0이 붙은 숫자는 허용하지 않음
+     */
+    private static int index(String name, int max) {
+        if (name.isEmpty() || name.length() > 9 || (name.length() > 1 && name.charAt(0) == '0')) {
+            throw invalid();
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid();
+            }
+        }
+        int index = Integer.parseInt(name);
+        if (index > max) {
+            throw invalid();
+        }
+        return index;
+    }
+
+    private static JsonPointer pointer(String path) {
+        if (path == null || path.isEmpty()) {
+            throw invalid();
+        }
+        try {
+            return JsonPointer.compile(path);
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ProposalErrorCode.INVALID_PATCH);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * JSON Patch(RFC 6902) 연산 하나
+ *
+ * @param op    add, remove, replace, move, copy, test
+ * @param path  대상 위치 (JSON Pointer, 예: /sections/0/body)
+ * @param from  move/copy 의 원본 위치
+ * @param value add/replace/test 의 값
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JsonPatchOperation(
+        String op,
+        String path,
+        String from,
+        JsonNode value
+) {
+}
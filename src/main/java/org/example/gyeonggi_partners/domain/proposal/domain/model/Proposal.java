@@ -0,0 +1,104 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제안서 도메인 모델
+ *
+ * <p>본문(contents)은 JSON 문서이며, 작성 중에는 여러 사용자가 JSON Patch 단위로 함께 고칩니다.
+ * version 은 본문이 DB에 저장될 때마다 1씩 올라가고, 저장은 이 값을 비교해서 충돌을 막습니다.</p>
+ */
+@Getter
+public class Proposal {
+
+    private static final int MAX_TITLE_LENGTH = 100;
+    private static final String EMPTY_CONTENTS = "{}";
+
+    private Long id;
+    private Long roomId;
+    private Long authorId;
+    private String title;
+    private String contents;
+    private int requiredConsents;
+    private LocalDateTime consentDeadline;
+    private ProposalStatus status;
+    private Long version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
+
+    @Builder(access = lombok.AccessLevel.PRIVATE)
+    private Proposal(Long id, Long roomId, Long authorId, String title, String contents, int requiredConsents,
+                     LocalDateTime consentDeadline, ProposalStatus status, Long version,
+                     LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime deletedAt) {
+        this.id = id;
+        this.roomId = roomId;
+        this.authorId = authorId;
+        this.title = title;
+        this.contents = contents;
+        this.requiredConsents = requiredConsents;
+        this.consentDeadline = consentDeadline;
+        this.status = status;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+
+    /**
+     * 새 제안서 생성 (빈 본문, 작성 중 상태)
+     */
+    public static Proposal create(Long roomId, Long authorId, String title, int requiredConsents) {
+        validateTitle(title);
+
+        return Proposal.builder()
+                .roomId(roomId)
+                .authorId(authorId)
+                .title(title)
+                .contents(EMPTY_CONTENTS)
+                .requiredConsents(Math.max(requiredConsents, 1))
+                .status(ProposalStatus.DRAFTING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 기존 제안서 복원 (DB에서 조회)
+     */
+    public static Proposal restore(Long id, Long roomId, Long authorId, String title, String contents,
+                                   int requiredConsents, LocalDateTime consentDeadline, ProposalStatus status,
+                                   Long version, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                   LocalDateTime deletedAt) {
+        return Proposal.builder()
+                .id(id)
+                .roomId(roomId)
+                .authorId(authorId)
+                .title(title)
+                .contents(contents)
+                .requiredConsents(requiredConsents)
+                .consentDeadline(consentDeadline)
+                .status(status)
+                .version(version)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    public boolean isEditable() {
+        return deletedAt == null && status.isEditable();
+    }
+
+    // ==================== Validation Methods ====================
+
+    private static void validateTitle(String title) {
+        if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
+            throw new BusinessException(ProposalErrorCode.INVALID_PROPOSAL_TITLE);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 편집 중인 제안서 본문의 현재 상태 (아직 DB에 저장되지 않은 수정 포함)
+ *
+ * @param version 마지막으로 저장된 버전
+ * @param dirty   저장되지 않은 수정이 남아 있는지
+ */
+public record ProposalDraft(
+        Long proposalId,
+        JsonNode contents,
+        long version,
+        boolean dirty
+) {
+}
@@ -0,0 +1,20 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.model;
+
+/**
+ * 제안서 진행 상태 (DB proposal_status_enum)
+ */
+public enum ProposalStatus {
+    DRAFTING,           // 내용 작성 중
+    SAVING,             // 저장 상태
+    PENDING_CONSENT,    // 동의 진행 중
+    CONSENT_FAILED,     // 합의 실패
+    READY_TO_SUBMIT,    // 제출 가능
+    SUBMITTED;          // 외부 시스템에 제출 완료
+
+    /**
+     * 내용을 고칠 수 있는 상태인지 (작성 중일 때만)
+     */
+    public boolean isEditable() {
+        return this == DRAFTING;
+    }
+}
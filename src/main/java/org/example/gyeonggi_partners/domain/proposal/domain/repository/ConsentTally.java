@@ -0,0 +1,42 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.repository;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentResult;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentSnapshot;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentState;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 제안서 동의 집계 (동의한 사용자 집합 + 동의 수)
+ *
+ * 중복 확인, 기한/마감 확인, 기록, 필요 동의 수 도달 판단을 한 번에 원자적으로 처리합니다.
+ * 기록은 DB(proposal_consents)가 원본이며, 집계 상태가 없으면 DB에서 다시 불러옵니다.
+ */
+public interface ConsentTally {
+
+    ConsentResult record(Long proposalId, Long userId, long nowMillis);
+
+    /**
+     * 기록을 되돌림 (DB 저장 실패 시), 그로 인해 필요 동의 수 아래로 내려가면 마감도 풉니다.
+     */
+    void rollback(Long proposalId, Long userId);
+
+    /**
+     * 집계 상태 적재 (이미 있으면 아무것도 하지 않음)
+     */
+    void load(ConsentState state, Collection<Long> consentedUserIds);
+
+    /**
+     * 마감 (이미 마감됐으면 그대로 둠)
+     *
+     * @return 최종 마감 상태, 집계 상태가 없으면 empty
+     */
+    Optional<ProposalStatus> close(Long proposalId, ProposalStatus status);
+
+    /**
+     * @return 집계 상태가 없으면 empty
+     */
+    Optional<ConsentSnapshot> find(Long proposalId, Long userId);
+}
@@ -0,0 +1,16 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.repository;
+
+import java.util.List;
+
+/**
+ * 제안서 동의 기록 저장소 (proposal_consents, 사용자별 한 행)
+ */
+public interface ProposalConsentRepository {
+
+    /**
+     * @return 새로 기록했으면 true, 이미 있으면 false
+     */
+    boolean insert(Long proposalId, Long userId);
+
+    List<Long> findUserIds(Long proposalId);
+}
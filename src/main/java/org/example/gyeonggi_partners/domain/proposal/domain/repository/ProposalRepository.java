@@ -0,0 +1,55 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.repository;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Proposal 도메인 저장소 인터페이스
+ */
+public interface ProposalRepository {
+
+    Proposal save(Proposal proposal);
+
+    /**
+     * 삭제되지 않은 제안서 조회
+     */
+    Optional<Proposal> findById(Long proposalId);
+
+    /**
+     * 제안서가 속한 논의방 ID (삭제되지 않은 제안서만)
+     */
+    Optional<Long> findRoomId(Long proposalId);
+
+    /**
+     * 본문 저장 (버전 비교)
+     * 작성 중인 제안서의 버전이 expectedVersion 일 때만 저장하고 버전을 1 올립니다.
+     *
+     * @return 저장했으면 true, 그 사이 다른 곳에서 저장했거나 작성 중이 아니면 false
+     */
+    boolean updateContents(Long proposalId, long expectedVersion, String contents, Long editorId);
+
+    /**
+     * 동의 시작 (작성 중 → 동의 진행 중)
+     * 작성 중이고 버전이 expectedVersion 일 때만 바꿉니다.
+     *
+     * @return 바꿨으면 true
+     */
+    boolean startConsent(Long proposalId, long expectedVersion, LocalDateTime deadline);
+
+    /**
+     * 상태 전이 (현재 상태가 from 일 때만)
+     *
+     * @return 바꿨으면 true, 이미 다른 상태면 false
+     */
+    boolean changeStatus(Long proposalId, ProposalStatus from, ProposalStatus to);
+
+    /**
+     * 동의 진행 중인 제안서의 기한 (proposal_id 가 afterId 보다 큰 것부터 limit 건, ID 순)
+     */
+    List<ConsentDeadline> findPendingConsentDeadlines(long afterId, int limit);
+}
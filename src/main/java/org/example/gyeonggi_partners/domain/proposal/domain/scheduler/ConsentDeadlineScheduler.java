@@ -0,0 +1,17 @@
+package org.example.gyeonggi_partners.domain.proposal.domain.scheduler;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제안서 동의 기한 예약
+ * 기한이 지나면 모든 서버를 통틀어 한 서버에서 ConsentDeadlinePassedEvent 가 발행됩니다.
+ */
+public interface ConsentDeadlineScheduler {
+
+    void schedule(Long proposalId, LocalDateTime deadline);
+
+    /**
+     * 예약 취소 (기한 전에 마감된 경우)
+     */
+    void cancel(Long proposalId);
+}
@@ -13,7 +13,14 @@ public enum ProposalErrorCode implements ErrorCode {
     PROPOSAL_BEING_EDITED(409, "P002", "다른 사용자가 현재 제안서를 수정 중입니다."),
     ALREADY_CONSENTED(409, "P003", "이미 동의한 제안서입니다."),
     PROPOSAL_LOCKED(409, "P004", "현재 동의가 진행 중인 제안서는 수정할 수 없습니다."),
-    EDIT_CONFLICT(409, "P005", "다른 사용자에 의해 문서가 수정되었습니다. 페이지를 새로고침 해주세요.");
+    EDIT_CONFLICT(409, "P005", "다른 사용자에 의해 문서가 수정되었습니다. 페이지를 새로고침 해주세요."),
+    INVALID_PROPOSAL_TITLE(400, "P006", "제안서 제목은 1~100자로 입력해야 합니다."),
+    INVALID_PATCH(400, "P007", "적용할 수 없는 수정 내용입니다."),
+    PROPOSAL_TOO_LARGE(413, "P008", "제안서 내용이 허용된 크기를 초과했습니다."),
+    CONSENT_NOT_OPEN(409, "P009", "동의를 받고 있는 제안서가 아닙니다."),
+    CONSENT_DEADLINE_PASSED(409, "P010", "동의 기한이 지났습니다."),
+    INVALID_CONSENT_DEADLINE(400, "P011", "동의 기한은 현재 시각 이후여야 합니다."),
+    EDIT_LOCK_REQUIRED(409, "P012", "수정하려면 먼저 해당 항목의 편집 잠금을 받아야 합니다.");
 
     private final int status;
     private final String code;
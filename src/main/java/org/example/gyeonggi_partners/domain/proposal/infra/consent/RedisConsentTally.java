@@ -0,0 +1,208 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.consent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentOutcome;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentResult;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentSnapshot;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentState;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ConsentTally;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 동의 집계
+ *
+ * <ul>
+ *   <li>proposal:consent:{proposalId} (Hash): required, deadline(epoch ms), closed(마감 상태)</li>
+ *   <li>proposal:consent:users:{proposalId} (Set): 동의한 사용자 ID, 동의 수는 SCARD (O(1))</li>
+ * </ul>
+ *
+ * 동의 기록은 스크립트 하나로 중복/기한/마감 확인 → SADD → 도달 판단 → 마감 표시까지 원자적으로 처리하므로
+ * 동시에 몇 건이 들어와도 필요 동의 수 도달(THRESHOLD_REACHED)은 정확히 한 번만 나옵니다.
+ * 마감(closed)은 먼저 표시한 쪽이 이기므로 기한 만료와 마지막 동의가 겹쳐도 결과는 하나입니다.
+ * 두 키는 기한 + 1일 뒤에 만료됩니다.
+ *
+ * 메트릭: proposal.consent.records{outcome}
+ */
+@Component
+public class RedisConsentTally implements ConsentTally {
+
+    private static final String STATE_KEY_PREFIX = "proposal:consent:";
+    private static final String USERS_KEY_PREFIX = "proposal:consent:users:";
+    private static final Duration RETENTION_AFTER_DEADLINE = Duration.ofDays(1);
+
+    /**
+     * 결과 코드: -1 상태 없음, -2 마감, -3 기한 지남, 0 이미 동의, 1 기록, 2 기록 + 도달
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'required', 'deadline', 'closed')
+            if not state[1] then
+                return {-1, 0}
+            end
+            local count = redis.call('SCARD', KEYS[2])
+            if state[3] then
+                return {-2, count}
+            end
+            if tonumber(ARGV[2]) >= tonumber(state[2]) then
+                return {-3, count}
+            end
+            if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+                return {0, count}
+            end
+            count = count + 1
+            if count == 1 then
+                redis.call('PEXPIRE', KEYS[2], redis.call('PTTL', KEYS[1]))
+            end
+            if count >= tonumber(state[1]) then
+                redis.call('HSET', KEYS[1], 'closed', ARGV[3])
+                return {2, count}
+            end
+            return {1, count}
+            """, List.class);
+
+    private static final DefaultRedisScript<Long> ROLLBACK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SREM', KEYS[2], ARGV[1]) == 0 then
+                return 0
+            end
+            local state = redis.call('HMGET', KEYS[1], 'required', 'closed')
+            if state[1] and state[2] == ARGV[2] and redis.call('SCARD', KEYS[2]) < tonumber(state[1]) then
+                redis.call('HDEL', KEYS[1], 'closed')
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * ARGV: required, deadline, closed('' 이면 진행 중), ttl(ms), 동의한 사용자 ID...
+     */
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[2])
+            for i = 5, #ARGV do
+                redis.call('SADD', KEYS[2], ARGV[i])
+            end
+            redis.call('HSET', KEYS[1], 'required', ARGV[1], 'deadline', ARGV[2])
+            if ARGV[3] ~= '' then
+                redis.call('HSET', KEYS[1], 'closed', ARGV[3])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final DefaultRedisScript<String> CLOSE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return ''
+            end
+            redis.call('HSETNX', KEYS[1], 'closed', ARGV[1])
+            return redis.call('HGET', KEYS[1], 'closed')
+            """, String.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> FIND_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('HMGET', KEYS[1], 'required', 'deadline', 'closed')
+            if not state[1] then
+                return {}
+            end
+            return {state[1], state[2], state[3] or '',
+                    tostring(redis.call('SCARD', KEYS[2])),
+                    tostring(redis.call('SISMEMBER', KEYS[2], ARGV[1]))}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<ConsentOutcome, Counter> outcomeCounters = new EnumMap<>(ConsentOutcome.class);
+
+    public RedisConsentTally(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        for (ConsentOutcome outcome : ConsentOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("proposal.consent.records")
+                    .tag("outcome", outcome.name())
+                    .description("동의 기록 결과")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public ConsentResult record(Long proposalId, Long userId, long nowMillis) {
+        List<?> result = redisTemplate.execute(RECORD_SCRIPT, keys(proposalId),
+                userId.toString(), Long.toString(nowMillis), ProposalStatus.READY_TO_SUBMIT.name());
+
+        ConsentOutcome outcome = switch (((Number) result.get(0)).intValue()) {
+            case 2 -> ConsentOutcome.THRESHOLD_REACHED;
+            case 1 -> ConsentOutcome.RECORDED;
+            case 0 -> ConsentOutcome.ALREADY_CONSENTED;
+            case -2 -> ConsentOutcome.CLOSED;
+            case -3 -> ConsentOutcome.DEADLINE_PASSED;
+            default -> ConsentOutcome.NOT_LOADED;
+        };
+        outcomeCounters.get(outcome).increment();
+        return new ConsentResult(outcome, ((Number) result.get(1)).longValue());
+    }
+
+    @Override
+    public void rollback(Long proposalId, Long userId) {
+        redisTemplate.execute(ROLLBACK_SCRIPT, keys(proposalId),
+                userId.toString(), ProposalStatus.READY_TO_SUBMIT.name());
+    }
+
+    @Override
+    public void load(ConsentState state, Collection<Long> consentedUserIds) {
+        long deadline = toEpochMillis(state.deadline());
+        long ttl = Math.max(deadline - System.currentTimeMillis(), 0) + RETENTION_AFTER_DEADLINE.toMillis();
+
+        List<String> args = new ArrayList<>(consentedUserIds.size() + 4);
+        args.add(Integer.toString(state.requiredConsents()));
+        args.add(Long.toString(deadline));
+        args.add(state.closedStatus() == null ? "" : state.closedStatus().name());
+        args.add(Long.toString(ttl));
+        consentedUserIds.forEach(userId -> args.add(userId.toString()));
+
+        redisTemplate.execute(LOAD_SCRIPT, keys(state.proposalId()), args.toArray());
+    }
+
+    @Override
+    public Optional<ProposalStatus> close(Long proposalId, ProposalStatus status) {
+        String closed = redisTemplate.execute(CLOSE_SCRIPT, keys(proposalId), status.name());
+        return closed == null || closed.isEmpty() ? Optional.empty() : Optional.of(ProposalStatus.valueOf(closed));
+    }
+
+    @Override
+    public Optional<ConsentSnapshot> find(Long proposalId, Long userId) {
+        List<?> result = redisTemplate.execute(FIND_SCRIPT, keys(proposalId), userId.toString());
+        if (result == null || result.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String closed = (String) result.get(2);
+        return Optional.of(new ConsentSnapshot(
+                Long.parseLong((String) result.get(3)),
+                Integer.parseInt((String) result.get(0)),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong((String) result.get(1))), ZoneId.systemDefault()),
+                closed.isEmpty() ? null : ProposalStatus.valueOf(closed),
+                "1".equals(result.get(4))));
+    }
+
+    private static List<String> keys(Long proposalId) {
+        return List.of(STATE_KEY_PREFIX + proposalId, USERS_KEY_PREFIX + proposalId);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,603 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.editing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalEditMessage;
+import org.example.gyeonggi_partners.domain.proposal.domain.editor.ProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ProposalEditLockChangedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.lock.ProposalEditLock;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalDraft;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제안서 공동 편집기
+ *
+ * <p>제안서마다 한 서버만 편집을 맡습니다. (Redis 임대 proposal:edit:owner:{proposalId})
+ * 맡은 서버가 수정 순서를 정하고 본문을 메모리에 들고 있으며, 다른 서버로 들어온 수정은 Redis 채널로 넘겨받습니다.
+ * 편집을 맡은 서버가 하나뿐이므로 저장 충돌은 서버가 바뀌는 순간이나 다른 곳에서 상태를 바꿀 때만 생깁니다.</p>
+ *
+ * <ol>
+ *   <li>수정(JSON Patch)은 받는 즉시 메모리 본문에 반영하고 결과만 돌려줌</li>
+ *   <li>broadcast-interval 마다 모인 수정을 한 메시지(DELTA)로 구독자에게 보냄 (모든 서버)</li>
+ *   <li>persist-interval 마다 본문을 버전 비교 UPDATE 한 번으로 저장 (입력마다 JSONB 전체를 다시 쓰지 않음)</li>
+ *   <li>저장 충돌 시 DB 본문 위에 저장되지 않은 수정을 다시 적용하고 본문 전체(RESYNC)를 보냄</li>
+ * </ol>
+ *
+ * <p>수정은 최상위 항목마다 편집 잠금의 펜싱 토큰이 있어야 반영됩니다. 맡은 서버는 항목별 최신 토큰을
+ * 잠금 변경 알림(FENCE)으로 받고, 모르는 항목이나 더 새 토큰이 오면 그때만 Redis 에서 확인합니다.
+ * 그래서 멈춰 있던 사용자의 수정이 다른 사용자가 잠금을 받은 뒤에 도착해도 반영되지 않습니다.</p>
+ *
+ * 편집을 맡은 서버가 죽으면 저장되지 않은 수정(최대 persist-interval)은 사라지고,
+ * 임대가 끝난 뒤 처음 수정/동기화 요청을 받은 서버가 DB 본문으로 편집을 이어 맡습니다.
+ *
+ * <p>메트릭 (쓰기 증폭 = written.bytes / delta.bytes, 저장 충돌률 = saves{conflict} / saves)</p>
+ * <ul>
+ *   <li>proposal.edit.patches{result=applied|rejected|conflict}, proposal.edit.operations</li>
+ *   <li>proposal.edit.delta.bytes, proposal.edit.written.bytes</li>
+ *   <li>proposal.edit.saves{result=success|conflict|failure}, proposal.edit.rebase.dropped</li>
+ *   <li>proposal.edit.sessions, proposal.edit.relay.forwarded</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CoalescingProposalEditor implements ProposalEditor, SmartLifecycle {
+
+    public static final String TOPIC_PREFIX = "/topic/proposals/";
+    static final String CHANNEL = "proposal:edits";
+    private static final String OWNER_KEY_PREFIX = "proposal:edit:owner:";
+    private static final String ERROR_DESTINATION = "/queue/errors";
+
+    /**
+     * 비어 있으면 임대를 잡고, 이미 이 서버가 잡고 있으면 연장 (한 번의 왕복으로 획득/갱신)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == false then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final long nodeId = new SecureRandom().nextLong();
+
+    private final ProposalRepository proposalRepository;
+    private final ProposalEditLock editLock;
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProposalEditProperties properties;
+
+    private final ConcurrentHashMap<Long, ProposalEditSession> sessions = new ConcurrentHashMap<>();
+    // 다른 서버가 편집을 맡고 있다고 확인한 제안서 (수정마다 Redis 를 확인하지 않기 위함)
+    private final Cache<Long, Boolean> remoteOwned;
+    private final Thread flushThread;
+
+    private final Counter appliedCounter;
+    private final Counter rejectedCounter;
+    private final Counter conflictCounter;
+    private final Counter operationCounter;
+    private final Counter deltaBytesCounter;
+    private final Counter writtenBytesCounter;
+    private final Counter saveSuccessCounter;
+    private final Counter saveConflictCounter;
+    private final Counter saveFailureCounter;
+    private final Counter droppedCounter;
+    private final Counter forwardedCounter;
+
+    private volatile boolean running;
+
+    public CoalescingProposalEditor(ProposalRepository proposalRepository,
+                                    ProposalEditLock editLock,
+                                    StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    SimpMessagingTemplate messagingTemplate,
+                                    ObjectMapper objectMapper,
+                                    ProposalEditProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.proposalRepository = proposalRepository;
+        this.editLock = editLock;
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.remoteOwned = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getOwnerLeaseTtl().dividedBy(3))
+                .build();
+        this.flushThread = Thread.ofPlatform().name("proposal-edit-flush").unstarted(this::flushLoop);
+
+        Gauge.builder("proposal.edit.sessions", sessions, ConcurrentHashMap::size)
+                .description("이 서버가 편집을 맡고 있는 제안서 수")
+                .register(meterRegistry);
+        this.appliedCounter = patchCounter(meterRegistry, "applied");
+        this.rejectedCounter = patchCounter(meterRegistry, "rejected");
+        this.conflictCounter = patchCounter(meterRegistry, "conflict");
+        this.operationCounter = Counter.builder("proposal.edit.operations")
+                .description("반영한 JSON Patch 연산 수")
+                .register(meterRegistry);
+        this.deltaBytesCounter = Counter.builder("proposal.edit.delta.bytes")
+                .description("구독자에게 보낸 병합 수정 내용 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.writtenBytesCounter = Counter.builder("proposal.edit.written.bytes")
+                .description("DB에 저장한 본문 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.saveSuccessCounter = saveCounter(meterRegistry, "success");
+        this.saveConflictCounter = saveCounter(meterRegistry, "conflict");
+        this.saveFailureCounter = saveCounter(meterRegistry, "failure");
+        this.droppedCounter = Counter.builder("proposal.edit.rebase.dropped")
+                .description("저장 충돌 후 다시 적용하지 못해 버린 연산 수")
+                .register(meterRegistry);
+        this.forwardedCounter = Counter.builder("proposal.edit.relay.forwarded")
+                .description("편집을 맡은 다른 서버로 넘긴 수정 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) -> onRelay(message), new ChannelTopic(CHANNEL));
+    }
+
+    // ================= 수정 반영 =================
+
+    @Override
+    public void applyPatch(Long proposalId, Long editorId, String editorName, List<JsonPatchOperation> operations,
+                           Map<String, Long> locks) {
+        if (operations == null || operations.isEmpty() || operations.size() > properties.getMaxOperationsPerPatch()) {
+            throw new BusinessException(ProposalErrorCode.INVALID_PATCH);
+        }
+
+        while (true) {
+            ProposalEditSession session = ownedSession(proposalId);
+            if (session == null) {
+                forwardedCounter.increment();
+                publish(ProposalEditRelay.forward(nodeId, proposalId, editorId, editorName, operations, locks));
+                return;
+            }
+            if (applyLocal(session, editorId, operations, locks)) {
+                return;
+            }
+            // 방금 메모리에서 내려간 상태: 새로 열어서 다시 시도
+        }
+    }
+
+    @Override
+    public void requestSync(Long proposalId) {
+        ProposalEditSession session = ownedSession(proposalId);
+        if (session == null) {
+            publish(ProposalEditRelay.sync(nodeId, proposalId));
+            return;
+        }
+        ProposalEditSession.Snapshot snapshot = session.snapshot();
+        broadcast(ProposalEditMessage.resync(proposalId, snapshot.seq(), snapshot.version(), snapshot.contents()));
+    }
+
+    @Override
+    public Optional<ProposalDraft> findDraft(Long proposalId) {
+        ProposalEditSession session = sessions.get(proposalId);
+        return session == null ? Optional.empty() : Optional.of(session.snapshot().toDraft(proposalId));
+    }
+
+    @Override
+    public void closeEditing(Long proposalId) {
+        ProposalEditSession session = sessions.get(proposalId);
+        if (session != null) {
+            close(session, true);
+        } else {
+            publish(ProposalEditRelay.close(nodeId, proposalId));
+        }
+    }
+
+    /**
+     * 항목 편집 잠금이 바뀜: 이 서버가 맡고 있으면 바로 반영하고, 아니면 맡은 서버로 알림
+     */
+    @EventListener
+    public void onLockChanged(ProposalEditLockChangedEvent event) {
+        ProposalEditSession session = sessions.get(event.proposalId());
+        if (session != null) {
+            session.updateFence(event.section(), event.token(), event.holderId());
+        } else {
+            publish(ProposalEditRelay.fence(nodeId, event.proposalId(), event.section(), event.token(), event.holderId()));
+        }
+    }
+
+    private boolean applyLocal(ProposalEditSession session, Long editorId, List<JsonPatchOperation> operations,
+                               Map<String, Long> locks) {
+        Map<String, Long> tokens = locks == null ? Map.of() : locks;
+        boolean applied;
+        try {
+            for (String section : session.unknownFences(operations, tokens)) {
+                editLock.findHolder(session.proposalId(), section)
+                        .ifPresent(holder -> session.updateFence(section, holder));
+            }
+            applied = session.apply(editorId, operations, tokens, properties.getMaxDocumentSize().toBytes(),
+                    this::serializedSize, System.nanoTime());
+        } catch (BusinessException e) {
+            (e.getErrorCode() == ProposalErrorCode.EDIT_CONFLICT ? conflictCounter : rejectedCounter).increment();
+            throw e;
+        }
+        if (applied) {
+            appliedCounter.increment();
+            operationCounter.increment(operations.size());
+        }
+        return applied;
+    }
+
+    /**
+     * 이 서버가 편집을 맡은 상태, 다른 서버가 맡고 있으면 null
+     * 아무도 맡고 있지 않으면 임대를 잡고 DB 본문으로 새로 엽니다.
+     */
+    private ProposalEditSession ownedSession(Long proposalId) {
+        ProposalEditSession session = sessions.get(proposalId);
+        if (session != null) {
+            return session;
+        }
+        if (remoteOwned.getIfPresent(proposalId) != null) {
+            return null;
+        }
+        if (!acquireLease(proposalId)) {
+            remoteOwned.put(proposalId, Boolean.TRUE);
+            return null;
+        }
+
+        boolean[] opened = new boolean[1];
+        try {
+            session = sessions.computeIfAbsent(proposalId, id -> {
+                opened[0] = true;
+                return open(id);
+            });
+        } catch (RuntimeException e) {
+            releaseLease(proposalId);
+            throw e;
+        }
+        if (opened[0]) {
+            // 이전에 맡았던 서버와 seq 가 이어지지 않으므로 구독자의 본문을 맞춤
+            ProposalEditSession.Snapshot snapshot = session.snapshot();
+            broadcast(ProposalEditMessage.resync(proposalId, snapshot.seq(), snapshot.version(), snapshot.contents()));
+        }
+        return session;
+    }
+
+    private ProposalEditSession open(Long proposalId) {
+        Proposal proposal = proposalRepository.findById(proposalId)
+                .orElseThrow(() -> new BusinessException(ProposalErrorCode.PROPOSAL_NOT_FOUND));
+        if (!proposal.isEditable()) {
+            throw new BusinessException(ProposalErrorCode.PROPOSAL_LOCKED);
+        }
+        return new ProposalEditSession(proposalId, parse(proposal.getContents()), proposal.getVersion(),
+                proposal.getContents().length(), System.nanoTime());
+    }
+
+    // ================= 전달/저장 스레드 =================
+
+    private void flushLoop() {
+        long broadcastIntervalNanos = properties.getBroadcastInterval().toNanos();
+        long renewIntervalNanos = properties.getOwnerLeaseTtl().dividedBy(3).toNanos();
+        long lastRenew = System.nanoTime();
+
+        while (true) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(broadcastIntervalNanos);
+            } catch (InterruptedException e) {
+                // stop() 이 깨운 경우: 아래에서 남은 수정을 저장하고 종료
+            }
+
+            boolean closing = !running;
+            long now = System.nanoTime();
+            boolean renew = now - lastRenew >= renewIntervalNanos;
+            if (renew) {
+                lastRenew = now;
+            }
+            for (ProposalEditSession session : sessions.values()) {
+                try {
+                    flush(session, now, closing, renew);
+                } catch (RuntimeException e) {
+                    log.error("제안서 편집 내용 처리 실패 - proposalId: {}, 에러: {}", session.proposalId(), e.getMessage());
+                }
+            }
+            if (closing) {
+                return;
+            }
+        }
+    }
+
+    private void flush(ProposalEditSession session, long now, boolean closing, boolean renew) {
+        Long proposalId = session.proposalId();
+
+        ProposalEditSession.Delta delta = session.drainOutgoing();
+        if (delta != null) {
+            broadcast(ProposalEditMessage.delta(proposalId, delta.baseSeq(), delta.seq(), delta.version(),
+                    delta.operations(), delta.editorIds()));
+        }
+
+        boolean leaseHeld = !renew || acquireLease(proposalId);
+        if (!persist(session, now, closing || !leaseHeld)) {
+            return;
+        }
+
+        if (closing || !leaseHeld || session.isIdle(now, properties.getIdleTimeout().toNanos())) {
+            if (!leaseHeld) {
+                log.warn("제안서 편집 임대를 잃어 편집을 내려놓습니다 - proposalId: {}", proposalId);
+            }
+            close(session, false);
+        }
+    }
+
+    /**
+     * 저장할 때가 됐으면 버전 비교 UPDATE 로 저장
+     *
+     * @return 상태가 계속 유효하면 true, 편집할 수 없게 되어 닫았으면 false
+     */
+    private boolean persist(ProposalEditSession session, long now, boolean force) {
+        ProposalEditSession.Pending pending = session.pendingSave(
+                now, properties.getPersistInterval().toNanos(), force, this::serialize);
+        if (pending == null) {
+            return true;
+        }
+
+        Long proposalId = session.proposalId();
+        boolean saved;
+        try {
+            saved = proposalRepository.updateContents(proposalId, pending.version(), pending.contents(), pending.editorId());
+        } catch (RuntimeException e) {
+            saveFailureCounter.increment();
+            log.warn("제안서 본문 저장 실패, 다음 주기에 다시 시도 - proposalId: {}, 에러: {}", proposalId, e.getMessage());
+            return true;
+        }
+
+        if (saved) {
+            long seq = session.onSaved(pending);
+            saveSuccessCounter.increment();
+            writtenBytesCounter.increment(pending.contents().getBytes(StandardCharsets.UTF_8).length);
+            broadcast(ProposalEditMessage.saved(proposalId, seq, pending.version() + 1));
+            return true;
+        }
+
+        saveConflictCounter.increment();
+        return rebase(session);
+    }
+
+    /**
+     * 저장 충돌: 다른 곳에서 저장했거나 더 이상 작성 중이 아님
+     */
+    private boolean rebase(ProposalEditSession session) {
+        Long proposalId = session.proposalId();
+        Optional<Proposal> stored = proposalRepository.findById(proposalId);
+        if (stored.isEmpty() || !stored.get().isEditable()) {
+            log.info("편집할 수 없는 상태가 되어 저장되지 않은 수정을 버립니다 - proposalId: {}", proposalId);
+            close(session, true);
+            return false;
+        }
+
+        Proposal proposal = stored.get();
+        int dropped = session.rebase(parse(proposal.getContents()), proposal.getVersion(), proposal.getContents().length());
+        droppedCounter.increment(dropped);
+        log.info("제안서 저장 충돌, 저장된 본문 위에 수정을 다시 적용 - proposalId: {}, 버린 연산: {}", proposalId, dropped);
+
+        ProposalEditSession.Snapshot snapshot = session.snapshot();
+        broadcast(ProposalEditMessage.resync(proposalId, snapshot.seq(), snapshot.version(), snapshot.contents()));
+        return true;
+    }
+
+    private void close(ProposalEditSession session, boolean notify) {
+        Long proposalId = session.proposalId();
+        session.close();
+        sessions.remove(proposalId, session);
+        releaseLease(proposalId);
+        if (notify) {
+            broadcast(ProposalEditMessage.closed(proposalId));
+        }
+    }
+
+    // ================= 서버 간 전달 =================
+
+    /**
+     * 이 서버의 구독자에게 보내고 다른 서버로도 발행
+     */
+    private void broadcast(ProposalEditMessage message) {
+        messagingTemplate.convertAndSend(TOPIC_PREFIX + message.proposalId(), message);
+        String body = publish(ProposalEditRelay.broadcast(nodeId, message));
+        if (body != null && message.type() == ProposalEditMessage.Type.DELTA) {
+            deltaBytesCounter.increment(body.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private String publish(ProposalEditRelay relay) {
+        try {
+            String body = objectMapper.writeValueAsString(relay);
+            redisTemplate.convertAndSend(CHANNEL, body);
+            return body;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("제안서 편집 메시지 발행 실패 - proposalId: {}, 종류: {}, 에러: {}",
+                    relay.proposalId(), relay.type(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void onRelay(Message message) {
+        ProposalEditRelay relay;
+        try {
+            relay = objectMapper.readValue(message.getBody(), ProposalEditRelay.class);
+        } catch (Exception e) {
+            log.warn("제안서 편집 메시지를 해석할 수 없습니다 - 에러: {}", e.getMessage());
+            return;
+        }
+
+        switch (relay.type()) {
+            case BROADCAST -> {
+                if (relay.node() != nodeId) {
+                    messagingTemplate.convertAndSend(TOPIC_PREFIX + relay.proposalId(), relay.message());
+                }
+            }
+            case FORWARD -> onForward(relay);
+            case SYNC -> {
+                ProposalEditSession session = sessions.get(relay.proposalId());
+                if (session != null) {
+                    ProposalEditSession.Snapshot snapshot = session.snapshot();
+                    broadcast(ProposalEditMessage.resync(
+                            relay.proposalId(), snapshot.seq(), snapshot.version(), snapshot.contents()));
+                }
+            }
+            case CLOSE -> {
+                ProposalEditSession session = sessions.get(relay.proposalId());
+                if (session != null) {
+                    close(session, true);
+                }
+            }
+            case FENCE -> {
+                ProposalEditSession session = sessions.get(relay.proposalId());
+                if (session != null && relay.section() != null && relay.token() != null) {
+                    session.updateFence(relay.section(), relay.token(), relay.editorId());
+                }
+            }
+            case REJECTED -> {
+                if (relay.node() == nodeId) {
+                    messagingTemplate.convertAndSendToUser(relay.editorName(), ERROR_DESTINATION,
+                            ApiResponse.error(ProposalErrorCode.valueOf(relay.errorCode())));
+                }
+            }
+        }
+    }
+
+    /**
+     * 다른 서버로 들어온 수정: 이 서버가 맡고 있을 때만 반영
+     */
+    private void onForward(ProposalEditRelay relay) {
+        ProposalEditSession session = sessions.get(relay.proposalId());
+        if (session == null || relay.node() == nodeId) {
+            return;
+        }
+        try {
+            // 방금 메모리에서 내려간 상태면 버림 (보낸 클라이언트는 seq 로 누락을 알아차리고 다시 동기화)
+            applyLocal(session, relay.editorId(), relay.operations(), relay.locks());
+        } catch (BusinessException e) {
+            if (e.getErrorCode() instanceof ProposalErrorCode errorCode) {
+                publish(ProposalEditRelay.rejected(relay.node(), relay.proposalId(), relay.editorName(), errorCode.name()));
+            }
+        }
+    }
+
+    // ================= 임대 =================
+
+    private boolean acquireLease(Long proposalId) {
+        Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(OWNER_KEY_PREFIX + proposalId),
+                Long.toString(nodeId), Long.toString(properties.getOwnerLeaseTtl().toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    private void releaseLease(Long proposalId) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(OWNER_KEY_PREFIX + proposalId), Long.toString(nodeId));
+        } catch (RuntimeException e) {
+            // 임대 시간이 지나면 자동으로 풀림
+            log.warn("제안서 편집 임대 해제 실패 - proposalId: {}, 에러: {}", proposalId, e.getMessage());
+        }
+    }
+
+    // ================= 직렬화 =================
+
+    private JsonNode parse(String contents) {
+        try {
+            return objectMapper.readTree(contents);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제안서 본문을 해석할 수 없습니다.", e);
+        }
+    }
+
+    private String serialize(JsonNode document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제안서 본문을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private long serializedSize(JsonNode document) {
+        return serialize(document).length();
+    }
+
+    // ================= 생명주기 =================
+
+    @Override
+    public void start() {
+        running = true;
+        flushThread.start();
+    }
+
+    /**
+     * 남은 수정을 보내고 저장한 뒤 임대를 풀고 종료합니다.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        flushThread.interrupt();
+        try {
+            flushThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * WebSocket 브로커보다 먼저 시작하고, 브로커가 멈춘 뒤에 멈춥니다.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private static Counter patchCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("proposal.edit.patches").tag("result", result)
+                .description("받은 수정(JSON Patch) 처리 결과")
+                .register(meterRegistry);
+    }
+
+    private static Counter saveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("proposal.edit.saves").tag("result", result)
+                .description("본문 저장(버전 비교 UPDATE) 결과")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.editing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 제안서 공동 편집 설정값
+ * application.properties 의 proposal.edit.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "proposal.edit")
+public class ProposalEditProperties {
+
+    /**
+     * 모인 수정 내용을 함께 편집 중인 사용자에게 한 번에 보내는 주기
+     */
+    private Duration broadcastInterval = Duration.ofMillis(100);
+
+    /**
+     * 본문을 DB에 저장하는 최소 간격 (제안서마다 이 간격에 한 번 이하로 UPDATE)
+     */
+    private Duration persistInterval = Duration.ofSeconds(2);
+
+    /**
+     * 제안서 편집을 맡은 서버의 임대 시간, 서버가 죽으면 이 시간 뒤에 다른 서버가 맡음
+     */
+    private Duration ownerLeaseTtl = Duration.ofSeconds(10);
+
+    /**
+     * 항목 편집 잠금의 임대 시간, 이 시간의 1/3 이 지난 뒤 세션에서 프레임(하트비트 포함)이 오면 연장
+     * WebSocket 하트비트 간격보다 충분히 길어야 합니다.
+     */
+    private Duration lockLeaseTtl = Duration.ofSeconds(30);
+
+    /**
+     * 수정이 없으면 편집 상태를 메모리에서 내리는 시간
+     */
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    /**
+     * 한 번에 보낼 수 있는 JSON Patch 연산 수
+     */
+    private int maxOperationsPerPatch = 100;
+
+    /**
+     * 본문 최대 크기
+     */
+    private DataSize maxDocumentSize = DataSize.ofKilobytes(512);
+}
@@ -0,0 +1,72 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.editing;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.example.gyeonggi_partners.domain.proposal.api.dto.ProposalEditMessage;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 간 편집 메시지 (Redis 채널 proposal:edits)
+ *
+ * <ul>
+ *   <li>FORWARD: 편집을 맡지 않은 서버 → 맡은 서버, 수정 내용 전달</li>
+ *   <li>SYNC: 편집을 맡지 않은 서버 → 맡은 서버, 본문 전체 재전송 요청</li>
+ *   <li>BROADCAST: 맡은 서버 → 모든 서버, 각 서버의 구독자에게 message 전달</li>
+ *   <li>REJECTED: 맡은 서버 → 보낸 서버, 전달받은 수정이 실패했음을 사용자에게 알림</li>
+ *   <li>CLOSE: 모든 서버 → 맡은 서버, 편집 종료</li>
+ *   <li>FENCE: 모든 서버 → 맡은 서버, 항목 편집 잠금이 바뀜 (editorId 가 잠금을 받은 사용자, 반납이면 null)</li>
+ * </ul>
+ *
+ * @param node  보낸 서버 (REJECTED 는 받을 서버)
+ * @param locks FORWARD 에서 수정과 함께 온 항목별 펜싱 토큰
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record ProposalEditRelay(
+        Type type,
+        long node,
+        Long proposalId,
+        Long editorId,
+        String editorName,
+        List<JsonPatchOperation> operations,
+        Map<String, Long> locks,
+        String section,
+        Long token,
+        ProposalEditMessage message,
+        String errorCode
+) {
+
+    enum Type {
+        FORWARD, SYNC, BROADCAST, REJECTED, CLOSE, FENCE
+    }
+
+    static ProposalEditRelay forward(long node, Long proposalId, Long editorId, String editorName,
+                                     List<JsonPatchOperation> operations, Map<String, Long> locks) {
+        return new ProposalEditRelay(Type.FORWARD, node, proposalId, editorId, editorName, operations, locks,
+                null, null, null, null);
+    }
+
+    static ProposalEditRelay sync(long node, Long proposalId) {
+        return new ProposalEditRelay(Type.SYNC, node, proposalId, null, null, null, null, null, null, null, null);
+    }
+
+    static ProposalEditRelay broadcast(long node, ProposalEditMessage message) {
+        return new ProposalEditRelay(Type.BROADCAST, node, message.proposalId(), null, null, null, null,
+                null, null, message, null);
+    }
+
+    static ProposalEditRelay rejected(long targetNode, Long proposalId, String editorName, String errorCode) {
+        return new ProposalEditRelay(Type.REJECTED, targetNode, proposalId, null, editorName, null, null,
+                null, null, null, errorCode);
+    }
+
+    static ProposalEditRelay close(long node, Long proposalId) {
+        return new ProposalEditRelay(Type.CLOSE, node, proposalId, null, null, null, null, null, null, null, null);
+    }
+
+    static ProposalEditRelay fence(long node, Long proposalId, String section, long token, Long holderId) {
+        return new ProposalEditRelay(Type.FENCE, node, proposalId, holderId, null, null, null,
+                section, token, null, null);
+    }
+}
@@ -0,0 +1,243 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.editing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.EditLockHolder;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatch;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalDraft;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 이 서버가 편집을 맡은 제안서 하나의 메모리 상태
+ *
+ * <ul>
+ *   <li>document: 저장 전 수정까지 반영된 본문</li>
+ *   <li>outgoing: 아직 구독자에게 보내지 않은 수정 (broadcast-interval 마다 비움)</li>
+ *   <li>unsaved: 아직 DB에 저장되지 않은 수정 (저장 충돌 시 DB 본문 위에 다시 적용)</li>
+ *   <li>seq: 이 서버가 편집을 맡은 뒤 반영한 수정 수, version: 마지막으로 저장된 DB 버전</li>
+ *   <li>fences: 항목별로 알고 있는 가장 새 편집 잠금 (펜싱 토큰과 가진 사용자, 반납됐으면 사용자 null)</li>
+ * </ul>
+ *
+ * 모든 메서드는 이 객체로 동기화됩니다. DB/Redis 호출은 밖에서 합니다.
+ */
+class ProposalEditSession {
+
+    private final Long proposalId;
+
+    private JsonNode document;
+    private long version;
+    private long seq;
+    private long broadcastSeq;
+    private long estimatedSize;
+    private Long lastEditorId;
+    private final List<JsonPatchOperation> outgoing = new ArrayList<>();
+    private final Set<Long> outgoingEditors = new LinkedHashSet<>();
+    private final List<JsonPatchOperation> unsaved = new ArrayList<>();
+    private final Map<String, Fence> fences = new HashMap<>();
+
+    private long lastPersistNanos;
+    private long lastTouchedNanos;
+    private boolean closed;
+
+    ProposalEditSession(Long proposalId, JsonNode document, long version, long documentSize, long now) {
+        this.proposalId = proposalId;
+        this.document = document;
+        this.version = version;
+        this.estimatedSize = documentSize;
+        this.lastPersistNanos = now;
+        this.lastTouchedNanos = now;
+    }
+
+    Long proposalId() {
+        return proposalId;
+    }
+
+    /**
+     * 잠금 상태를 Redis 에서 다시 확인해야 하는 항목
+     * 아직 모르는 항목이거나, 알고 있는 것보다 새 토큰이 왔을 때 (잠금이 바뀐 알림보다 수정이 먼저 도착)
+     */
+    synchronized Set<String> unknownFences(List<JsonPatchOperation> operations, Map<String, Long> locks) {
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String section : JsonPatch.writtenSections(operations)) {
+            Long token = locks.get(section);
+            Fence fence = fences.get(section);
+            if (token != null && (fence == null || token > fence.token())) {
+                unknown.add(section);
+            }
+        }
+        return unknown;
+    }
+
+    /**
+     * 잠금이 바뀜, 알고 있는 것보다 오래된 토큰이면 무시
+     *
+     * @param holderId 잠금을 가진 사용자, 반납됐으면 null
+     */
+    synchronized void updateFence(String section, long token, Long holderId) {
+        Fence fence = fences.get(section);
+        if (fence == null || token > fence.token() || (token == fence.token() && holderId == null)) {
+            fences.put(section, new Fence(token, holderId));
+        }
+    }
+
+    synchronized void updateFence(String section, EditLockHolder holder) {
+        updateFence(section, holder.token(), holder.userId());
+    }
+
+    /**
+     * 수정 반영, 닫힌 상태면 false (호출한 쪽에서 새 상태로 다시 시도)
+     * 수정하는 항목마다 지금 잠금을 가진 사용자의 최신 토큰이어야 합니다.
+     *
+     * @param locks     항목 → 편집 잠금을 받을 때 받은 펜싱 토큰
+     * @param exactSize 추정 크기가 한도를 넘었을 때 현재 본문의 실제 크기를 구하는 함수
+     * @throws BusinessException 적용할 수 없으면 INVALID_PATCH/EDIT_CONFLICT, 한도를 넘으면 PROPOSAL_TOO_LARGE,
+     *                           잠금이 없으면 EDIT_LOCK_REQUIRED, 다른 사용자가 잠금을 가졌거나 토큰이 오래됐으면 PROPOSAL_BEING_EDITED
+     */
+    synchronized boolean apply(Long editorId, List<JsonPatchOperation> operations, Map<String, Long> locks,
+                               long maxSize, ToLongFunction<JsonNode> exactSize, long now) {
+        if (closed) {
+            return false;
+        }
+        checkFences(editorId, operations, locks);
+
+        long growth = JsonPatch.estimateGrowth(document, operations);
+        if (estimatedSize + growth > maxSize) {
+            estimatedSize = exactSize.applyAsLong(document);
+            if (estimatedSize + growth > maxSize) {
+                throw new BusinessException(ProposalErrorCode.PROPOSAL_TOO_LARGE);
+            }
+        }
+
+        document = JsonPatch.apply(document, operations);
+        estimatedSize += growth;
+        outgoing.addAll(operations);
+        outgoingEditors.add(editorId);
+        unsaved.addAll(operations);
+        lastEditorId = editorId;
+        lastTouchedNanos = now;
+        seq++;
+        return true;
+    }
+
+    private void checkFences(Long editorId, List<JsonPatchOperation> operations, Map<String, Long> locks) {
+        for (String section : JsonPatch.writtenSections(operations)) {
+            Long token = locks.get(section);
+            Fence fence = fences.get(section);
+            if (token == null || fence == null || fence.holderId() == null) {
+                throw new BusinessException(ProposalErrorCode.EDIT_LOCK_REQUIRED);
+            }
+            if (token != fence.token() || !fence.holderId().equals(editorId)) {
+                throw new BusinessException(ProposalErrorCode.PROPOSAL_BEING_EDITED);
+            }
+        }
+    }
+
+    /**
+     * 구독자에게 보낼 수정을 꺼냄, 없으면 null
+     */
+    synchronized Delta drainOutgoing() {
+        if (outgoing.isEmpty()) {
+            return null;
+        }
+        Delta delta = new Delta(broadcastSeq, seq, version, List.copyOf(outgoing), List.copyOf(outgoingEditors));
+        broadcastSeq = seq;
+        outgoing.clear();
+        outgoingEditors.clear();
+        return delta;
+    }
+
+    /**
+     * 저장할 내용, 저장할 수정이 없거나 아직 저장 간격이 지나지 않았으면 null
+     */
+    synchronized Pending pendingSave(long now, long persistIntervalNanos, boolean force,
+                                     Function<JsonNode, String> serializer) {
+        if (unsaved.isEmpty() || (!force && now - lastPersistNanos < persistIntervalNanos)) {
+            return null;
+        }
+        lastPersistNanos = now;
+        return new Pending(serializer.apply(document), version, unsaved.size(), lastEditorId);
+    }
+
+    /**
+     * 저장 성공: 저장된 만큼 unsaved 에서 빼고 버전을 올림
+     */
+    synchronized long onSaved(Pending pending) {
+        unsaved.subList(0, pending.operationCount()).clear();
+        version = pending.version() + 1;
+        if (unsaved.isEmpty()) {
+            // 저장한 본문이 곧 현재 본문이므로 크기 추정을 실제 값으로 맞춤
+            estimatedSize = pending.contents().length();
+        }
+        return seq;
+    }
+
+    /**
+     * 저장 충돌: DB 본문 위에 저장되지 않은 수정을 다시 적용
+     * 더 이상 적용되지 않는 수정은 버립니다.
+     *
+     * @return 버린 연산 수
+     */
+    synchronized int rebase(JsonNode stored, long storedVersion, long storedSize) {
+        JsonNode rebased = stored;
+        List<JsonPatchOperation> kept = new ArrayList<>(unsaved.size());
+        for (JsonPatchOperation operation : unsaved) {
+            try {
+                rebased = JsonPatch.apply(rebased, List.of(operation));
+                kept.add(operation);
+            } catch (BusinessException e) {
+                // 다른 곳의 저장과 겹쳐 더 이상 의미가 없는 수정
+            }
+        }
+        int dropped = unsaved.size() - kept.size();
+
+        document = rebased;
+        version = storedVersion;
+        estimatedSize = storedSize;
+        unsaved.clear();
+        unsaved.addAll(kept);
+        // 구독자는 RESYNC 로 본문 전체를 다시 받으므로 보내지 않은 수정은 버림
+        outgoing.clear();
+        outgoingEditors.clear();
+        seq++;
+        broadcastSeq = seq;
+        return dropped;
+    }
+
+    synchronized Snapshot snapshot() {
+        return new Snapshot(document.deepCopy(), seq, version, !unsaved.isEmpty());
+    }
+
+    synchronized boolean isIdle(long now, long idleTimeoutNanos) {
+        return unsaved.isEmpty() && outgoing.isEmpty() && now - lastTouchedNanos >= idleTimeoutNanos;
+    }
+
+    synchronized void close() {
+        closed = true;
+    }
+
+    private record Fence(long token, Long holderId) {
+    }
+
+    record Delta(long baseSeq, long seq, long version, List<JsonPatchOperation> operations, List<Long> editorIds) {
+    }
+
+    record Pending(String contents, long version, int operationCount, Long editorId) {
+    }
+
+    record Snapshot(JsonNode contents, long seq, long version, boolean dirty) {
+
+        ProposalDraft toDraft(Long proposalId) {
+            return new ProposalDraft(proposalId, contents, version, dirty);
+        }
+    }
+}
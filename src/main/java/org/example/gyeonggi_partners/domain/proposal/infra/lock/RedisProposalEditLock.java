@@ -0,0 +1,257 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ProposalEditLockChangedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.lock.ProposalEditLock;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.EditLockHolder;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.infra.editing.ProposalEditProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 항목 편집 잠금
+ *
+ * <ul>
+ *   <li>proposal:edit:lock:{proposalId}:{section} (String): "펜싱 토큰|userId:sessionId", lock-lease-ttl 뒤 만료</li>
+ *   <li>proposal:edit:lock:seq:{proposalId} (String): 제안서별 펜싱 토큰 발급 (INCR)</li>
+ * </ul>
+ *
+ * 받기(토큰 발급 + SET NX PX)와 연장은 각각 스크립트 한 번, Redis 왕복 한 번입니다.
+ * 세션마다 가진 잠금을 서버 로컬에 기록해 두고, 그 세션에서 프레임(하트비트 포함)이 올 때
+ * lock-lease-ttl 의 1/3 이 지났으면 세션의 잠금 전체를 한 번에 연장합니다. (touch)
+ * 연결이 끊기면 세션의 잠금을 한 번에 반납하고, 서버가 죽으면 임대 시간 뒤 만료됩니다.
+ *
+ * 메트릭: proposal.edit.lock.acquires{result=acquired|busy}, proposal.edit.lock.lost
+ */
+@Slf4j
+@Component
+public class RedisProposalEditLock implements ProposalEditLock {
+
+    private static final String LOCK_KEY_PREFIX = "proposal:edit:lock:";
+    private static final String SEQ_KEY_PREFIX = "proposal:edit:lock:seq:";
+    private static final Duration SEQ_RETENTION = Duration.ofDays(30);
+
+    /**
+     * 비어 있으면 새 토큰으로 잡고, 이미 같은 세션이 갖고 있으면 연장 (결과: 토큰, 다른 세션이 갖고 있으면 0)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if value then
+                local sep = string.find(value, '|', 1, true)
+                if string.sub(value, sep + 1) == ARGV[1] then
+                    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                    return tonumber(string.sub(value, 1, sep - 1))
+                end
+                return 0
+            end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            redis.call('SET', KEYS[1], token .. '|' .. ARGV[1], 'NX', 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    /**
+     * 세션이 가진 잠금 전체 연장 (결과: 키마다 1 연장, 0 이미 잃음)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local value = redis.call('GET', key)
+                local sep = value and string.find(value, '|', 1, true)
+                if sep and string.sub(value, sep + 1) == ARGV[1] then
+                    redis.call('PEXPIRE', key, ARGV[2])
+                    result[i] = 1
+                else
+                    result[i] = 0
+                end
+            end
+            return result
+            """, List.class);
+
+    /**
+     * 이 세션이 가진 잠금만 반납 (결과: 키마다 반납한 토큰, 갖고 있지 않았으면 0)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                local value = redis.call('GET', key)
+                local sep = value and string.find(value, '|', 1, true)
+                if sep and string.sub(value, sep + 1) == ARGV[1] then
+                    redis.call('DEL', key)
+                    result[i] = tonumber(string.sub(value, 1, sep - 1))
+                else
+                    result[i] = 0
+                end
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long leaseMillis;
+    private final long renewIntervalNanos;
+
+    // sessionId → 이 서버에서 그 세션이 가진 잠금
+    private final ConcurrentHashMap<String, SessionLocks> sessions = new ConcurrentHashMap<>();
+
+    private final Counter acquiredCounter;
+    private final Counter busyCounter;
+    private final Counter lostCounter;
+
+    public RedisProposalEditLock(StringRedisTemplate redisTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ProposalEditProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.leaseMillis = properties.getLockLeaseTtl().toMillis();
+        this.renewIntervalNanos = properties.getLockLeaseTtl().dividedBy(3).toNanos();
+
+        this.acquiredCounter = acquireCounter(meterRegistry, "acquired");
+        this.busyCounter = acquireCounter(meterRegistry, "busy");
+        this.lostCounter = Counter.builder("proposal.edit.lock.lost")
+                .description("연장하려 했지만 이미 만료되었거나 다른 세션이 가져간 편집 잠금 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long acquire(Long proposalId, String section, Long userId, String sessionId) {
+        LockKey key = new LockKey(proposalId, section);
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key.redisKey(), SEQ_KEY_PREFIX + proposalId),
+                holder(userId, sessionId), Long.toString(leaseMillis), Long.toString(SEQ_RETENTION.toMillis()));
+        if (token == null || token == 0L) {
+            busyCounter.increment();
+            throw new BusinessException(ProposalErrorCode.PROPOSAL_BEING_EDITED);
+        }
+        acquiredCounter.increment();
+
+        sessions.computeIfAbsent(sessionId, id -> new SessionLocks(holder(userId, id))).keys().add(key);
+        eventPublisher.publishEvent(new ProposalEditLockChangedEvent(proposalId, section, token, userId));
+        return token;
+    }
+
+    @Override
+    public void release(Long proposalId, String section, Long userId, String sessionId) {
+        LockKey key = new LockKey(proposalId, section);
+        SessionLocks locks = sessions.get(sessionId);
+        if (locks != null) {
+            locks.keys().remove(key);
+        }
+        releaseAll(holder(userId, sessionId), List.of(key));
+    }
+
+    @Override
+    public Optional<EditLockHolder> findHolder(Long proposalId, String section) {
+        String value = redisTemplate.opsForValue().get(new LockKey(proposalId, section).redisKey());
+        if (value == null) {
+            return Optional.empty();
+        }
+        int tokenEnd = value.indexOf('|');
+        int userEnd = value.indexOf(':', tokenEnd + 1);
+        return Optional.of(new EditLockHolder(
+                Long.parseLong(value.substring(0, tokenEnd)),
+                Long.valueOf(value.substring(tokenEnd + 1, userEnd))));
+    }
+
+    /**
+     * 세션에서 프레임이 왔을 때: 잠금이 있고 연장할 때가 됐으면 전체를 한 번에 연장
+     * 실패해도 프레임 처리를 막지 않습니다.
+     */
+    public void touch(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        SessionLocks locks = sessions.get(sessionId);
+        if (locks == null || locks.keys().isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long last = locks.lastRenewNanos().get();
+        if (now - last < renewIntervalNanos || !locks.lastRenewNanos().compareAndSet(last, now)) {
+            return;
+        }
+
+        List<LockKey> keys = List.copyOf(locks.keys());
+        try {
+            List<?> renewed = redisTemplate.execute(RENEW_SCRIPT, keys.stream().map(LockKey::redisKey).toList(),
+                    locks.holder(), Long.toString(leaseMillis));
+            for (int i = 0; i < keys.size(); i++) {
+                if (((Number) renewed.get(i)).longValue() == 0L) {
+                    locks.keys().remove(keys.get(i));
+                    lostCounter.increment();
+                    log.info("편집 잠금을 잃었습니다 - proposalId: {}, 항목: {}, 세션: {}",
+                            keys.get(i).proposalId(), keys.get(i).section(), sessionId);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("편집 잠금 연장 실패, 다음 프레임에서 다시 시도 - 세션: {}, 에러: {}", sessionId, e.getMessage());
+            locks.lastRenewNanos().set(last);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionLocks locks = sessions.remove(event.getSessionId());
+        if (locks == null || locks.keys().isEmpty()) {
+            return;
+        }
+        try {
+            releaseAll(locks.holder(), List.copyOf(locks.keys()));
+        } catch (RuntimeException e) {
+            // 임대 시간이 지나면 자동으로 풀림
+            log.warn("연결 종료 시 편집 잠금 반납 실패 - 세션: {}, 에러: {}", event.getSessionId(), e.getMessage());
+        }
+    }
+
+    private void releaseAll(String holder, List<LockKey> keys) {
+        List<?> released = redisTemplate.execute(RELEASE_SCRIPT, keys.stream().map(LockKey::redisKey).toList(), holder);
+        for (int i = 0; i < keys.size(); i++) {
+            long token = ((Number) released.get(i)).longValue();
+            if (token > 0) {
+                LockKey key = keys.get(i);
+                eventPublisher.publishEvent(new ProposalEditLockChangedEvent(key.proposalId(), key.section(), token, null));
+            }
+        }
+    }
+
+    private static String holder(Long userId, String sessionId) {
+        return userId + ":" + sessionId;
+    }
+
+    private static Counter acquireCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("proposal.edit.lock.acquires").tag("result", result)
+                .description("항목 편집 잠금 요청 결과")
+                .register(meterRegistry);
+    }
+
+    private record LockKey(Long proposalId, String section) {
+
+        String redisKey() {
+            return LOCK_KEY_PREFIX + proposalId + ":" + section;
+        }
+    }
+
+    private record SessionLocks(String holder, Set<LockKey> keys, AtomicLong lastRenewNanos) {
+
+        SessionLocks(String holder) {
+            this(holder, ConcurrentHashMap.newKeySet(), new AtomicLong(System.nanoTime()));
+        }
+    }
+}
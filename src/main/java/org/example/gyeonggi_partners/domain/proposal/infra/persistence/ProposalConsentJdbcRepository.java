@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalConsentRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ProposalConsentRepository 구현체 (JDBC)
+ *
+ * <p>동의 한 건은 proposal_consents 에 좁은 INSERT 한 번입니다.
+ * proposals 행은 외래 키 확인용 공유 잠금(FOR KEY SHARE)만 잡으므로 동의가 몰려도 서로 기다리지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProposalConsentJdbcRepository implements ProposalConsentRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO proposal_consents (proposal_id, user_id)
+            VALUES (?, ?)
+            ON CONFLICT (proposal_id, user_id) DO NOTHING
+            """;
+
+    private static final String SELECT_USER_IDS_SQL = """
+            SELECT user_id
+            FROM proposal_consents
+            WHERE proposal_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insert(Long proposalId, Long userId) {
+        return jdbcTemplate.update(INSERT_SQL, proposalId, userId) == 1;
+    }
+
+    @Override
+    public List<Long> findUserIds(Long proposalId) {
+        return jdbcTemplate.queryForList(SELECT_USER_IDS_SQL, Long.class, proposalId);
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.persistence;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.gyeonggi_partners.domain.common.BaseEntity;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proposal JPA 엔티티
+ *
+ * 검색용 생성 컬럼(search_tsv, search_text)은 DB가 관리하므로 매핑하지 않습니다.
+ * 본문 저장은 편집기가 버전을 비교하는 UPDATE 로 직접 처리합니다. (ProposalJpaRepository#updateContents)
+ */
+@Entity
+@Table(name = "proposals")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProposalEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "proposal_id")
+    private Long id;
+
+    @Column(name = "room_id", nullable = false, updatable = false)
+    private Long roomId;
+
+    @Column(name = "author_id")
+    private Long authorId;
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "contents", nullable = false, columnDefinition = "jsonb")
+    private String contents;
+
+    @Column(name = "required_consents", nullable = false)
+    private int requiredConsents;
+
+    @Column(name = "consent_deadline")
+    private LocalDateTime consentDeadline;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+    @Column(name = "status", nullable = false, columnDefinition = "proposal_status_enum")
+    private ProposalStatus status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "consents", columnDefinition = "jsonb")
+    private String consents;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Builder
+    private ProposalEntity(Long id, Long roomId, Long authorId, String title, String contents,
+                           int requiredConsents, LocalDateTime consentDeadline, ProposalStatus status) {
+        this.id = id;
+        this.roomId = roomId;
+        this.authorId = authorId;
+        this.title = title;
+        this.contents = contents;
+        this.requiredConsents = requiredConsents;
+        this.consentDeadline = consentDeadline;
+        this.status = status;
+    }
+
+    /**
+     * 도메인 모델을 엔티티로 변환 (Domain -> Entity)
+     */
+    public static ProposalEntity fromDomain(Proposal proposal) {
+        return ProposalEntity.builder()
+                .id(proposal.getId())
+                .roomId(proposal.getRoomId())
+                .authorId(proposal.getAuthorId())
+                .title(proposal.getTitle())
+                .contents(proposal.getContents())
+                .requiredConsents(proposal.getRequiredConsents())
+                .consentDeadline(proposal.getConsentDeadline())
+                .status(proposal.getStatus())
+                .build();
+    }
+
+    /**
+     * 엔티티를 도메인 모델로 변환 (Entity -> Domain)
+     */
+    public Proposal toDomain() {
+        return Proposal.restore(
+                this.id,
+                this.roomId,
+                this.authorId,
+                this.title,
+                this.contents,
+                this.requiredConsents,
+                this.consentDeadline,
+                this.status,
+                this.version,
+                this.getCreatedAt(),
+                this.getUpdatedAt(),
+                this.getDeletedAt()
+        );
+    }
+}
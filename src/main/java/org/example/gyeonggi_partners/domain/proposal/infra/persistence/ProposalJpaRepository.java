@@ -0,0 +1,90 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProposalJpaRepository extends JpaRepository<ProposalEntity, Long> {
+
+    Optional<ProposalEntity> findByIdAndDeletedAtIsNull(Long id);
+
+    @Query("SELECT p.roomId FROM ProposalEntity p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Long> findRoomId(@Param("id") Long id);
+
+    /**
+     * 버전을 비교해서 본문만 저장 (엔티티를 읽지 않고 UPDATE 한 번)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE proposals
+               SET contents = CAST(:contents AS jsonb),
+                   author_id = :editorId,
+                   version = version + 1,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE proposal_id = :id
+               AND version = :version
+               AND status = 'DRAFTING'
+               AND deleted_at IS NULL
+            """, nativeQuery = true)
+    int updateContents(@Param("id") Long id,
+                       @Param("version") long version,
+                       @Param("contents") String contents,
+                       @Param("editorId") Long editorId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE proposals
+               SET status = 'PENDING_CONSENT',
+                   consent_deadline = :deadline,
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE proposal_id = :id
+               AND version = :version
+               AND status = 'DRAFTING'
+               AND deleted_at IS NULL
+            """, nativeQuery = true)
+    int startConsent(@Param("id") Long id,
+                     @Param("version") long version,
+                     @Param("deadline") LocalDateTime deadline);
+
+    /**
+     * 조건부 상태 전이, 동시에 여러 곳에서 불러도 한 번만 바뀜
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE proposals
+               SET status = CAST(:to AS proposal_status_enum),
+                   updated_at = CURRENT_TIMESTAMP
+             WHERE proposal_id = :id
+               AND status = CAST(:from AS proposal_status_enum)
+               AND deleted_at IS NULL
+            """, nativeQuery = true)
+    int changeStatus(@Param("id") Long id, @Param("from") String from, @Param("to") String to);
+
+    /**
+     * idx_proposals_pending_consent 를 ID 순서로 읽음 (키셋 페이징)
+     */
+    @Query("""
+            SELECT new org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline(
+                       p.id, p.consentDeadline)
+            FROM ProposalEntity p
+            WHERE p.status = :status
+              AND p.deletedAt IS NULL
+              AND p.id > :afterId
+            ORDER BY p.id
+            LIMIT :limit
+            """)
+    List<ConsentDeadline> findDeadlines(@Param("status") ProposalStatus status,
+                                        @Param("afterId") long afterId,
+                                        @Param("limit") int limit);
+}
@@ -0,0 +1,57 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ProposalRepository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProposalRepositoryImpl implements ProposalRepository {
+
+    private final ProposalJpaRepository proposalJpaRepository;
+
+    @Override
+    public Proposal save(Proposal proposal) {
+        return proposalJpaRepository.saveAndFlush(ProposalEntity.fromDomain(proposal)).toDomain();
+    }
+
+    @Override
+    public Optional<Proposal> findById(Long proposalId) {
+        return proposalJpaRepository.findByIdAndDeletedAtIsNull(proposalId).map(ProposalEntity::toDomain);
+    }
+
+    @Override
+    public Optional<Long> findRoomId(Long proposalId) {
+        return proposalJpaRepository.findRoomId(proposalId);
+    }
+
+    @Override
+    public boolean updateContents(Long proposalId, long expectedVersion, String contents, Long editorId) {
+        return proposalJpaRepository.updateContents(proposalId, expectedVersion, contents, editorId) == 1;
+    }
+
+    @Override
+    public boolean startConsent(Long proposalId, long expectedVersion, LocalDateTime deadline) {
+        return proposalJpaRepository.startConsent(proposalId, expectedVersion, deadline) == 1;
+    }
+
+    @Override
+    public boolean changeStatus(Long proposalId, ProposalStatus from, ProposalStatus to) {
+        return proposalJpaRepository.changeStatus(proposalId, from.name(), to.name()) == 1;
+    }
+
+    @Override
+    public List<ConsentDeadline> findPendingConsentDeadlines(long afterId, int limit) {
+        return proposalJpaRepository.findDeadlines(ProposalStatus.PENDING_CONSENT, afterId, limit);
+    }
+}
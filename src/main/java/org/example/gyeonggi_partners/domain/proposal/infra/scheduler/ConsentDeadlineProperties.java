@@ -0,0 +1,43 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 제안서 동의 기한 스케줄러 설정값
+ * application.properties 의 proposal.consent.deadline.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "proposal.consent.deadline")
+public class ConsentDeadlineProperties {
+
+    /**
+     * 기한이 지난 제안서를 확인하는 주기 (마감이 늦어질 수 있는 최대 시간)
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번에 가져와 마감할 제안서 수, 꽉 차게 가져오면 쉬지 않고 이어서 가져옴
+     */
+    private int batchSize = 100;
+
+    /**
+     * 가져간 서버가 마감을 끝내지 못했을 때 다른 서버가 다시 가져가기까지의 시간
+     */
+    private Duration claimLease = Duration.ofSeconds(30);
+
+    /**
+     * 시작할 때 DB에서 동의 진행 중인 제안서를 읽어오는 페이지 크기
+     */
+    private int rebuildPageSize = 1000;
+
+    /**
+     * 재구성에 실패했을 때 다시 시도하는 최대 간격 (poll-interval 부터 실패할 때마다 2배)
+     * 그동안에도 Redis 에 남아 있는 기한은 계속 확인함
+     */
+    private Duration rebuildMaxBackoff = Duration.ofMinutes(1);
+}
@@ -0,0 +1,264 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ConsentDeadlinePassedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.domain.scheduler.ConsentDeadlineScheduler;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Sorted Set 동의 기한 스케줄러
+ *
+ * <ul>
+ *   <li>proposal:consent:deadlines (ZSet): 제안서 ID, 점수는 기한(epoch ms)</li>
+ *   <li>proposal:consent:deadlines:claimed (ZSet): 마감 처리 중인 제안서 ID, 점수는 가져간 서버의 임대 만료 시각</li>
+ * </ul>
+ *
+ * poll-interval 마다 스크립트 하나로 기한이 지난 항목을 batch-size 건까지 꺼내 처리 중 목록으로 옮기므로
+ * 같은 항목을 두 서버가 동시에 가져가지 않고, 한 번의 확인 비용은 대기 중인 제안서 수와 상관없이
+ * O(log N + batch-size) 입니다. (테이블 전체를 훑지 않음)
+ * 꺼낸 제안서마다 ConsentDeadlinePassedEvent 를 발행하고 처리가 끝나면 처리 중 목록에서 지웁니다.
+ * 처리 중에 서버가 죽거나 처리가 실패하면 claim-lease 뒤에 다른 서버가 다시 가져갑니다.
+ * 이때 같은 제안서가 다시 발행될 수 있지만 상태 변경은 조건부 UPDATE 라 한 번만 반영됩니다.
+ *
+ * 시작할 때 동의 진행 중인 제안서를 DB에서 ID 순서로 읽어 기한 목록을 다시 채웁니다. (Redis 유실 대비)
+ * 재구성이 실패해도 이미 Redis 에 있는 기한은 계속 확인하고, 재구성만 간격을 늘려 가며 따로 다시 시도합니다.
+ *
+ * 메트릭: proposal.consent.deadline.fired{result=success|failure}, proposal.consent.deadline.reclaimed
+ */
+@Slf4j
+@Component
+public class RedisConsentDeadlineScheduler implements ConsentDeadlineScheduler, SmartLifecycle {
+
+    private static final String DEADLINES_KEY = "proposal:consent:deadlines";
+    private static final String CLAIMED_KEY = "proposal:consent:deadlines:claimed";
+
+    /**
+     * 임대가 끝난 처리 중 항목과 기한이 지난 항목을 함께 가져가 임대를 새로 겁니다.
+     * 결과: {기한이 지난 ID 목록, 다시 가져간 ID 목록}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+            local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3] - #stale)
+            for _, id in ipairs(due) do
+                redis.call('ZREM', KEYS[1], id)
+                redis.call('ZADD', KEYS[2], ARGV[2], id)
+            end
+            for _, id in ipairs(stale) do
+                redis.call('ZADD', KEYS[2], ARGV[2], id)
+            end
+            return {due, stale}
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProposalRepository proposalRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ConsentDeadlineProperties properties;
+    private Thread pollThread;
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter reclaimedCounter;
+
+    private volatile boolean running;
+
+    public RedisConsentDeadlineScheduler(StringRedisTemplate redisTemplate,
+                                         ProposalRepository proposalRepository,
+                                         ApplicationEventPublisher eventPublisher,
+                                         ConsentDeadlineProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.proposalRepository = proposalRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+
+        this.successCounter = firedCounter(meterRegistry, "success");
+        this.failureCounter = firedCounter(meterRegistry, "failure");
+        this.reclaimedCounter = Counter.builder("proposal.consent.deadline.reclaimed")
+                .description("임대가 끝나 다시 가져간 동의 기한 수 (처리 실패 또는 서버 중단)")
+                .register(meterRegistry);
+    }
+
+    // ================= 예약 =================
+
+    @Override
+    public void schedule(Long proposalId, LocalDateTime deadline) {
+        try {
+            redisTemplate.opsForZSet().add(DEADLINES_KEY, proposalId.toString(), toEpochMillis(deadline));
+        } catch (RuntimeException e) {
+            // 다음 시작 때 DB에서 다시 채워지고, 그 전에는 동의/조회 시 기한 확인으로 마감됨
+            log.error("동의 기한 예약 실패 - proposalId: {}, 에러: {}", proposalId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void cancel(Long proposalId) {
+        try {
+            redisTemplate.opsForZSet().remove(DEADLINES_KEY, proposalId.toString());
+        } catch (RuntimeException e) {
+            // 남아 있어도 기한에 한 번 더 마감을 확인할 뿐 상태는 바뀌지 않음
+            log.warn("동의 기한 예약 취소 실패 - proposalId: {}, 에러: {}", proposalId, e.getMessage());
+        }
+    }
+
+    // ================= 확인 스레드 =================
+
+    private void pollLoop() {
+        long pollIntervalNanos = properties.getPollInterval().toNanos();
+        boolean rebuilt = false;
+        Duration rebuildBackoff = properties.getPollInterval();
+        long nextRebuild = System.nanoTime();
+
+        while (running) {
+            if (!rebuilt && System.nanoTime() - nextRebuild >= 0) {
+                try {
+                    rebuild();
+                    rebuilt = true;
+                } catch (RuntimeException e) {
+                    log.error("동의 기한 목록 재구성 실패, {} 뒤 다시 시도합니다 - 에러: {}", rebuildBackoff, e.getMessage());
+                    nextRebuild = System.nanoTime() + rebuildBackoff.toNanos();
+                    rebuildBackoff = rebuildBackoff.multipliedBy(2);
+                    if (rebuildBackoff.compareTo(properties.getRebuildMaxBackoff()) > 0) {
+                        rebuildBackoff = properties.getRebuildMaxBackoff();
+                    }
+                }
+            }
+
+            int claimed = 0;
+            try {
+                claimed = fireDue();
+            } catch (RuntimeException e) {
+                log.error("동의 기한 확인 실패 - 에러: {}", e.getMessage());
+            }
+
+            if (claimed >= properties.getBatchSize()) {
+                continue;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(pollIntervalNanos);
+            } catch (InterruptedException e) {
+                // stop() 이 깨운 경우: 처리 중이던 항목은 임대가 끝난 뒤 다른 서버가 가져감
+                return;
+            }
+        }
+    }
+
+    /**
+     * 기한이 지난 제안서를 가져가 마감 이벤트를 발행합니다.
+     *
+     * @return 가져간 제안서 수
+     */
+    int fireDue() {
+        long now = System.currentTimeMillis();
+        long leaseUntil = now + properties.getClaimLease().toMillis();
+
+        @SuppressWarnings("unchecked")
+        List<List<String>> result = redisTemplate.execute(CLAIM_SCRIPT, List.of(DEADLINES_KEY, CLAIMED_KEY),
+                Long.toString(now), Long.toString(leaseUntil), Integer.toString(properties.getBatchSize()));
+
+        List<String> claimed = new ArrayList<>(result.get(0));
+        List<String> stale = result.get(1);
+        if (!stale.isEmpty()) {
+            reclaimedCounter.increment(stale.size());
+            claimed.addAll(stale);
+        }
+
+        for (String id : claimed) {
+            Long proposalId = Long.valueOf(id);
+            try {
+                eventPublisher.publishEvent(new ConsentDeadlinePassedEvent(proposalId));
+                redisTemplate.opsForZSet().remove(CLAIMED_KEY, id);
+                successCounter.increment();
+            } catch (RuntimeException e) {
+                failureCounter.increment();
+                log.error("동의 기한 마감 실패, 임대가 끝나면 다시 시도합니다 - proposalId: {}, 에러: {}",
+                        proposalId, e.getMessage());
+            }
+        }
+        return claimed.size();
+    }
+
+    /**
+     * DB의 동의 진행 중인 제안서로 기한 목록을 다시 채움 (이미 있는 항목은 그대로 덮어씀)
+     * 처리 중인 항목이 다시 들어가 한 번 더 발행될 수 있지만 상태는 한 번만 바뀝니다.
+     */
+    void rebuild() {
+        long afterId = 0;
+        int total = 0;
+        List<ConsentDeadline> page;
+        do {
+            page = proposalRepository.findPendingConsentDeadlines(afterId, properties.getRebuildPageSize());
+            if (page.isEmpty()) {
+                break;
+            }
+            Set<TypedTuple<String>> tuples = new HashSet<>(page.size());
+            for (ConsentDeadline deadline : page) {
+                tuples.add(TypedTuple.of(deadline.proposalId().toString(),
+                        (double) toEpochMillis(deadline.deadline())));
+            }
+            redisTemplate.opsForZSet().add(DEADLINES_KEY, tuples);
+            afterId = page.get(page.size() - 1).proposalId();
+            total += page.size();
+        } while (page.size() == properties.getRebuildPageSize());
+
+        log.info("동의 기한 목록 재구성 완료 - 동의 진행 중인 제안서: {}건", total);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Counter firedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("proposal.consent.deadline.fired").tag("result", result)
+                .description("기한이 지나 발행한 동의 마감 처리 결과")
+                .register(meterRegistry);
+    }
+
+    // ================= 생명주기 =================
+
+    /**
+     * 생성자에서 this 를 넘기지 않도록 확인 스레드는 시작할 때 만듭니다.
+     */
+    @Override
+    public void start() {
+        running = true;
+        pollThread = Thread.ofPlatform().name("proposal-consent-deadline").start(this::pollLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollThread == null) {
+            return;
+        }
+        pollThread.interrupt();
+        try {
+            pollThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
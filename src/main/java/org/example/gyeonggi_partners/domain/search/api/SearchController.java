@@ -0,0 +1,67 @@
+package org.example.gyeonggi_partners.domain.search.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.search.api.dto.ChatSearchItem;
+import org.example.gyeonggi_partners.domain.search.api.dto.ProposalSearchItem;
+import org.example.gyeonggi_partners.domain.search.api.dto.SearchResponse;
+import org.example.gyeonggi_partners.domain.search.application.SearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Search", description = "검색 API")
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 채팅 검색
+     * GET /api/search/chats?q=자전거 도로&roomId=1&cursor=TEXT:0.1:12345&size=20
+     */
+    @Operation(
+            summary = "채팅 검색",
+            description = "참여한 논의방의 채팅을 관련도순으로 검색합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/chats")
+    public ResponseEntity<ApiResponse<SearchResponse<ChatSearchItem>>> searchChats(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                searchService.searchChats(userDetails.getUserId(), q, roomId, cursor, size)));
+    }
+
+    /**
+     * 제안서 검색
+     * GET /api/search/proposals?q=자전거&roomId=1&cursor=TEXT:0.1:123&size=20
+     */
+    @Operation(
+            summary = "제안서 검색",
+            description = "참여한 논의방의 제안서를 제목/본문에서 관련도순으로 검색합니다. 제목에 나온 제안서가 먼저 나옵니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/proposals")
+    public ResponseEntity<ApiResponse<SearchResponse<ProposalSearchItem>>> searchProposals(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam String q,
+            @RequestParam(required = false) Long roomId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(ApiResponse.success(
+                searchService.searchProposals(userDetails.getUserId(), q, roomId, cursor, size)));
+    }
+}
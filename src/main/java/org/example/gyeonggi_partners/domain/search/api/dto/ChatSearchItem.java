@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.search.api.dto;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.example.gyeonggi_partners.domain.search.domain.model.ChatSearchHit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 검색 결과 항목
+ */
+public record ChatSearchItem(
+        Long chatId,
+        Long roomId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        MessageType type,
+        LocalDateTime createdAt,
+        float rank
+) {
+
+    public static ChatSearchItem from(ChatSearchHit hit) {
+        return new ChatSearchItem(
+                hit.chatId(),
+                hit.roomId(),
+                hit.senderId(),
+                hit.senderNickname(),
+                hit.content(),
+                hit.type(),
+                hit.createdAt(),
+                hit.rank()
+        );
+    }
+}
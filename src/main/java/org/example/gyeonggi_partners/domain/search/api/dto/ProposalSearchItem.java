@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.search.api.dto;
+
+import org.example.gyeonggi_partners.domain.search.domain.model.ProposalSearchHit;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제안서 검색 결과 항목
+ */
+public record ProposalSearchItem(
+        Long proposalId,
+        Long roomId,
+        String title,
+        LocalDateTime updatedAt,
+        float rank
+) {
+
+    public static ProposalSearchItem from(ProposalSearchHit hit) {
+        return new ProposalSearchItem(
+                hit.proposalId(),
+                hit.roomId(),
+                hit.title(),
+                hit.updatedAt(),
+                hit.rank()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.gyeonggi_partners.domain.search.api.dto;
+
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchMode;
+
+import java.util.List;
+
+/**
+ * 검색 응답 (관련도순)
+ *
+ * @param mode       사용한 검색 방식 (TEXT: 어절 검색, TRIGRAM: 어절 검색 결과가 없어 부분 문자열로 검색)
+ * @param nextCursor 다음 페이지 조회 시 cursor 로 넘길 값, 마지막 페이지면 null
+ */
+public record SearchResponse<T>(
+        List<T> results,
+        SearchMode mode,
+        String nextCursor,
+        boolean hasNext
+) {
+}
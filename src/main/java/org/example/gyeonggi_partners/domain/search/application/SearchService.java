@@ -0,0 +1,99 @@
+package org.example.gyeonggi_partners.domain.search.application;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomMembershipIndex;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.example.gyeonggi_partners.domain.search.api.dto.ChatSearchItem;
+import org.example.gyeonggi_partners.domain.search.api.dto.ProposalSearchItem;
+import org.example.gyeonggi_partners.domain.search.api.dto.SearchResponse;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchCursor;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchHit;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchMode;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchTerms;
+import org.example.gyeonggi_partners.domain.search.domain.repository.SearchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 채팅/제안서 검색
+ *
+ * <p>사용자가 참여한 논의방(roomId 를 주면 그 논의방)만 검색합니다.
+ * 첫 페이지에서 어절 검색 결과가 없고 검색어가 세 글자 이상이면 부분 문자열(트라이그램) 검색으로 한 번 더 찾습니다.
+ * 어떤 방식으로 찾았는지는 커서에 담겨 다음 페이지도 같은 방식으로 이어집니다.</p>
+ *
+ * 아직 DB에 반영되지 않은 최근 메시지(write-behind)는 반영된 뒤부터 검색됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final SearchRepository searchRepository;
+    private final RoomMembershipIndex membershipIndex;
+
+    public SearchResponse<ChatSearchItem> searchChats(Long userId, String query, Long roomId,
+                                                      String cursor, Integer size) {
+        SearchTerms terms = SearchTerms.parse(query);
+        long[] roomIds = searchableRooms(userId, roomId);
+        return search(terms, roomIds, cursor, size,
+                (searchCursor, limit) -> searchRepository.searchChats(terms, roomIds, searchCursor, limit),
+                ChatSearchItem::from);
+    }
+
+    public SearchResponse<ProposalSearchItem> searchProposals(Long userId, String query, Long roomId,
+                                                              String cursor, Integer size) {
+        SearchTerms terms = SearchTerms.parse(query);
+        long[] roomIds = searchableRooms(userId, roomId);
+        return search(terms, roomIds, cursor, size,
+                (searchCursor, limit) -> searchRepository.searchProposals(terms, roomIds, searchCursor, limit),
+                ProposalSearchItem::from);
+    }
+
+    private long[] searchableRooms(Long userId, Long roomId) {
+        if (roomId == null) {
+            return membershipIndex.roomIdsOf(userId);
+        }
+        if (!membershipIndex.isMember(userId, roomId)) {
+            throw new BusinessException(DiscussionRoomErrorCode.NOT_A_ROOM_MEMBER);
+        }
+        return new long[]{roomId};
+    }
+
+    private <H extends SearchHit, T> SearchResponse<T> search(SearchTerms terms, long[] roomIds,
+                                                              String cursor, Integer size,
+                                                              Searcher<H> searcher, Function<H, T> mapper) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        SearchCursor searchCursor = cursor == null ? SearchCursor.first(SearchMode.TEXT) : SearchCursor.parse(cursor);
+        if (roomIds.length == 0) {
+            return new SearchResponse<>(List.of(), searchCursor.mode(), null, false);
+        }
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부를 COUNT 없이 판단
+        List<H> rows = searcher.search(searchCursor, pageSize + 1);
+        if (rows.isEmpty() && cursor == null && terms.supportsTrigram()) {
+            searchCursor = SearchCursor.first(SearchMode.TRIGRAM);
+            rows = searcher.search(searchCursor, pageSize + 1);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<H> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            H last = page.get(page.size() - 1);
+            nextCursor = new SearchCursor(searchCursor.mode(), last.rank(), last.id()).toString();
+        }
+        return new SearchResponse<>(page.stream().map(mapper).toList(), searchCursor.mode(), nextCursor, hasNext);
+    }
+
+    @FunctionalInterface
+    private interface Searcher<H> {
+        List<H> search(SearchCursor cursor, int limit);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 검색 결과 한 건
+ *
+ * @param rank 검색 점수 (높을수록 관련도가 높음)
+ */
+public record ChatSearchHit(
+        Long chatId,
+        Long roomId,
+        Long senderId,
+        String senderNickname,
+        String content,
+        MessageType type,
+        LocalDateTime createdAt,
+        float rank
+) implements SearchHit {
+
+    @Override
+    public long id() {
+        return chatId;
+    }
+}
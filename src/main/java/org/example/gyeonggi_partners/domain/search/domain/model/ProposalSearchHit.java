@@ -0,0 +1,22 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * 제안서 검색 결과 한 건
+ *
+ * @param rank 검색 점수 (높을수록 관련도가 높음, 제목에 나오면 본문보다 높음)
+ */
+public record ProposalSearchHit(
+        Long proposalId,
+        Long roomId,
+        String title,
+        LocalDateTime updatedAt,
+        float rank
+) implements SearchHit {
+
+    @Override
+    public long id() {
+        return proposalId;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.search.exception.SearchErrorCode;
+
+/**
+ * 검색 결과 키셋 커서 (점수 내림차순, 같은 점수면 id 내림차순)
+ * 문자열 형태: {모드}:{점수}:{id} (예: TEXT:0.1:12345)
+ *
+ * @param rank 마지막으로 받은 결과의 점수, 이보다 낮은(같으면 id 가 작은) 결과부터 조회
+ */
+public record SearchCursor(SearchMode mode, float rank, long id) {
+
+    public static SearchCursor first(SearchMode mode) {
+        return new SearchCursor(mode, Float.POSITIVE_INFINITY, Long.MAX_VALUE);
+    }
+
+    public static SearchCursor parse(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 3) {
+            throw new BusinessException(SearchErrorCode.INVALID_SEARCH_CURSOR);
+        }
+        try {
+            float rank = Float.parseFloat(parts[1]);
+            if (Float.isNaN(rank)) {
+                throw new BusinessException(SearchErrorCode.INVALID_SEARCH_CURSOR);
+            }
+            return new SearchCursor(SearchMode.valueOf(parts[0]), rank, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(SearchErrorCode.INVALID_SEARCH_CURSOR);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return mode.name() + ":" + rank + ":" + id;
+    }
+}
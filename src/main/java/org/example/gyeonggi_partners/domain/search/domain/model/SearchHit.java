@@ -0,0 +1,11 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+/**
+ * 검색 결과 공통 (커서 생성용)
+ */
+public interface SearchHit {
+
+    long id();
+
+    float rank();
+}
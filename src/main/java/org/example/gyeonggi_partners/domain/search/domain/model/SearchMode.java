@@ -0,0 +1,17 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+/**
+ * 검색 방식
+ */
+public enum SearchMode {
+
+    /**
+     * tsvector 전문 검색 (검색어로 시작하는 어절)
+     */
+    TEXT,
+
+    /**
+     * pg_trgm 트라이그램 검색 (어절 중간에 있는 부분 문자열), 전문 검색 결과가 없을 때만 사용
+     */
+    TRIGRAM
+}
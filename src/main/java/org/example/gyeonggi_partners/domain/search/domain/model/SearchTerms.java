@@ -0,0 +1,75 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.search.exception.SearchErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 검색어
+ *
+ * <p>tsquery 문법 문자를 지우고 어절마다 접두어 검색(:*)을 붙여 AND 로 묶습니다.
+ * 예: "자전거 도로!" → 자전거:* & 도로:*  ("자전거도로가" 같은 조사 붙은 어절도 찾음)</p>
+ */
+public final class SearchTerms {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_TERMS = 8;
+    // 트라이그램 인덱스는 글자(문자/숫자)가 세 개 이상이어야 후보를 좁힐 수 있음
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+    private static final Pattern TSQUERY_SYNTAX = Pattern.compile("[&|!():*<>'\\\\]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String text;
+    private final List<String> terms;
+
+    private SearchTerms(String text, List<String> terms) {
+        this.text = text;
+        this.terms = terms;
+    }
+
+    public static SearchTerms parse(String query) {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new BusinessException(SearchErrorCode.INVALID_SEARCH_QUERY);
+        }
+
+        String text = WHITESPACE.matcher(query.strip()).replaceAll(" ");
+        List<String> terms = new ArrayList<>();
+        for (String word : WHITESPACE.split(TSQUERY_SYNTAX.matcher(text).replaceAll(" ").strip())) {
+            if (!word.isEmpty() && terms.size() < MAX_TERMS && !terms.contains(word)) {
+                terms.add(word);
+            }
+        }
+        if (terms.isEmpty()) {
+            throw new BusinessException(SearchErrorCode.INVALID_SEARCH_QUERY);
+        }
+        return new SearchTerms(text, List.copyOf(terms));
+    }
+
+    /**
+     * to_tsquery('simple', ?) 에 넘길 식
+     */
+    public String toTsQuery() {
+        StringBuilder query = new StringBuilder();
+        for (String term : terms) {
+            if (!query.isEmpty()) {
+                query.append(" & ");
+            }
+            query.append(term).append(":*");
+        }
+        return query.toString();
+    }
+
+    /**
+     * 트라이그램 검색에 넘길 원문 (공백만 정리)
+     */
+    public String text() {
+        return text;
+    }
+
+    public boolean supportsTrigram() {
+        return text.codePoints().filter(Character::isLetterOrDigit).count() >= MIN_TRIGRAM_LENGTH;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.gyeonggi_partners.domain.search.domain.repository;
+
+import org.example.gyeonggi_partners.domain.search.domain.model.ChatSearchHit;
+import org.example.gyeonggi_partners.domain.search.domain.model.ProposalSearchHit;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchCursor;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchTerms;
+
+import java.util.List;
+
+/**
+ * 채팅/제안서 검색 저장소
+ * 결과는 점수 내림차순(같으면 id 내림차순)이며, cursor 다음 결과부터 limit 건을 반환합니다.
+ */
+public interface SearchRepository {
+
+    /**
+     * @param roomIds 검색할 논의방 (사용자가 참여한 논의방)
+     */
+    List<ChatSearchHit> searchChats(SearchTerms terms, long[] roomIds, SearchCursor cursor, int limit);
+
+    /**
+     * @param roomIds 검색할 논의방 (사용자가 참여한 논의방)
+     */
+    List<ProposalSearchHit> searchProposals(SearchTerms terms, long[] roomIds, SearchCursor cursor, int limit);
+}
@@ -0,0 +1,34 @@
+package org.example.gyeonggi_partners.domain.search.exception;
+
+import org.example.gyeonggi_partners.common.exception.ErrorCode;
+
+public enum SearchErrorCode implements ErrorCode {
+
+    INVALID_SEARCH_QUERY(400, "S001", "검색어는 1~100자로 입력해야 합니다."),
+    INVALID_SEARCH_CURSOR(400, "S002", "잘못된 검색 커서입니다.");
+
+    SearchErrorCode(int status, String code, String message) {
+        this.status = status;
+        this.code = code;
+        this.message = message;
+    }
+
+    private final int status;
+    private final String code;
+    private final String message;
+
+    @Override
+    public int getStatus() {
+        return this.status;
+    }
+
+    @Override
+    public String getCode() {
+        return this.code;
+    }
+
+    @Override
+    public String getMessage() {
+        return this.message;
+    }
+}
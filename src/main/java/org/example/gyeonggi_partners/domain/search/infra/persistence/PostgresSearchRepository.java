@@ -0,0 +1,136 @@
+package org.example.gyeonggi_partners.domain.search.infra.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.example.gyeonggi_partners.domain.search.domain.model.ChatSearchHit;
+import org.example.gyeonggi_partners.domain.search.domain.model.ProposalSearchHit;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchCursor;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchMode;
+import org.example.gyeonggi_partners.domain.search.domain.model.SearchTerms;
+import org.example.gyeonggi_partners.domain.search.domain.repository.SearchRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색 (V4__full_text_search.sql 의 인덱스 사용)
+ *
+ * <ul>
+ *   <li>TEXT: content_tsv / search_tsv @@ tsquery → GIN 인덱스, 점수는 ts_rank_cd</li>
+ *   <li>TRIGRAM: 검색어 <% 본문 (word_similarity) → gin_trgm_ops 인덱스, 점수는 word_similarity</li>
+ * </ul>
+ *
+ * 어느 쪽도 LIKE '%x%' 로 테이블을 훑지 않습니다.
+ * 점수를 매기려면 조건에 맞는 행을 모두 읽어야 하므로, 참여한 논의방으로 먼저 범위를 좁힙니다.
+ * 다음 페이지는 (점수, id) 가 커서보다 작은 행으로 이어서 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostgresSearchRepository implements SearchRepository {
+
+    static final String CHAT_TEXT_SQL = """
+            SELECT s.chat_id, s.room_id, s.sender_id, u.nickname, s.content, s.chat_type, s.created_at, s.rank
+            FROM (SELECT c.chat_id, c.room_id, c.sender_id, c.content, c.chat_type, c.created_at,
+                         ts_rank_cd(c.content_tsv, q.query) AS rank
+                  FROM chat c, to_tsquery('simple', ?) AS q(query)
+                  WHERE c.content_tsv @@ q.query AND c.room_id = ANY(?)) s
+            LEFT JOIN users u ON u.user_id = s.sender_id
+            WHERE (s.rank, s.chat_id) < (?::real, ?)
+            ORDER BY s.rank DESC, s.chat_id DESC
+            LIMIT ?
+            """;
+
+    static final String CHAT_TRIGRAM_SQL = """
+            SELECT s.chat_id, s.room_id, s.sender_id, u.nickname, s.content, s.chat_type, s.created_at, s.rank
+            FROM (SELECT c.chat_id, c.room_id, c.sender_id, c.content, c.chat_type, c.created_at,
+                         word_similarity(q.term, c.content) AS rank
+                  FROM chat c, (SELECT ?::text) AS q(term)
+                  WHERE q.term <% c.content AND c.room_id = ANY(?)) s
+            LEFT JOIN users u ON u.user_id = s.sender_id
+            WHERE (s.rank, s.chat_id) < (?::real, ?)
+            ORDER BY s.rank DESC, s.chat_id DESC
+            LIMIT ?
+            """;
+
+    static final String PROPOSAL_TEXT_SQL = """
+            SELECT s.proposal_id, s.room_id, s.title, s.updated_at, s.rank
+            FROM (SELECT p.proposal_id, p.room_id, p.title, COALESCE(p.updated_at, p.created_at) AS updated_at,
+                         ts_rank_cd(p.search_tsv, q.query) AS rank
+                  FROM proposals p, to_tsquery('simple', ?) AS q(query)
+                  WHERE p.search_tsv @@ q.query AND p.deleted_at IS NULL AND p.room_id = ANY(?)) s
+            WHERE (s.rank, s.proposal_id) < (?::real, ?)
+            ORDER BY s.rank DESC, s.proposal_id DESC
+            LIMIT ?
+            """;
+
+    /** search_text: 제목과 본문 JSONB 의 문자열 값만 (JSON 키 제외), idx_proposals_search_text_trgm 사용 (V7 참고) */
+    static final String PROPOSAL_TRIGRAM_SQL = """
+            SELECT s.proposal_id, s.room_id, s.title, s.updated_at, s.rank
+            FROM (SELECT p.proposal_id, p.room_id, p.title, COALESCE(p.updated_at, p.created_at) AS updated_at,
+                         word_similarity(q.term, p.search_text) AS rank
+                  FROM proposals p, (SELECT ?::text) AS q(term)
+                  WHERE q.term <% p.search_text
+                    AND p.deleted_at IS NULL AND p.room_id = ANY(?)) s
+            WHERE (s.rank, s.proposal_id) < (?::real, ?)
+            ORDER BY s.rank DESC, s.proposal_id DESC
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ChatSearchHit> CHAT_ROW_MAPPER = (rs, rowNum) -> new ChatSearchHit(
+            rs.getLong("chat_id"),
+            rs.getLong("room_id"),
+            rs.getObject("sender_id", Long.class),
+            rs.getString("nickname"),
+            rs.getString("content"),
+            MessageType.valueOf(rs.getString("chat_type")),
+            toLocalDateTime(rs.getTimestamp("created_at")),
+            rs.getFloat("rank"));
+
+    private static final RowMapper<ProposalSearchHit> PROPOSAL_ROW_MAPPER = (rs, rowNum) -> new ProposalSearchHit(
+            rs.getLong("proposal_id"),
+            rs.getLong("room_id"),
+            rs.getString("title"),
+            toLocalDateTime(rs.getTimestamp("updated_at")),
+            rs.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ChatSearchHit> searchChats(SearchTerms terms, long[] roomIds, SearchCursor cursor, int limit) {
+        String sql = cursor.mode() == SearchMode.TEXT ? CHAT_TEXT_SQL : CHAT_TRIGRAM_SQL;
+        return jdbcTemplate.query(sql, ps -> bind(ps, terms, roomIds, cursor, limit), CHAT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<ProposalSearchHit> searchProposals(SearchTerms terms, long[] roomIds, SearchCursor cursor, int limit) {
+        String sql = cursor.mode() == SearchMode.TEXT ? PROPOSAL_TEXT_SQL : PROPOSAL_TRIGRAM_SQL;
+        return jdbcTemplate.query(sql, ps -> bind(ps, terms, roomIds, cursor, limit), PROPOSAL_ROW_MAPPER);
+    }
+
+    static void bind(PreparedStatement ps, SearchTerms terms, long[] roomIds,
+                     SearchCursor cursor, int limit) throws SQLException {
+        ps.setString(1, cursor.mode() == SearchMode.TEXT ? terms.toTsQuery() : terms.text());
+        ps.setArray(2, ps.getConnection().createArrayOf("bigint", box(roomIds)));
+        ps.setFloat(3, cursor.rank());
+        ps.setLong(4, cursor.id());
+        ps.setInt(5, limit);
+    }
+
+    private static Long[] box(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
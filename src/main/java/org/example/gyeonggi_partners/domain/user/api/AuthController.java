@@ -43,23 +43,46 @@ public class AuthController {
 
     @Operation(
             summary = "로그아웃",
-            description = "현재 로그인된 사용자를 로그아웃하고 Refresh Token을 무효화합니다.",
+            description = "현재 기기를 로그아웃하고 Refresh Token을 무효화합니다. "
+                    + "요청 본문에 Refresh Token이 없으면 모든 기기에서 로그아웃합니다.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+
+        if (request != null && request.getRefreshToken() != null) {
+            authService.logoutDevice(userDetails.getUserId(), request.getRefreshToken());
+        } else {
+            authService.logoutByUserId(userDetails.getUserId());
+        }
+
+        return ResponseEntity.ok(
+                ApiResponse.success(null, "로그아웃되었습니다.")
+        );
+    }
+
+    @Operation(
+            summary = "모든 기기 로그아웃",
+            description = "로그인된 모든 기기의 Refresh Token을 한 번에 무효화합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
 
         authService.logoutByUserId(userDetails.getUserId());
 
         return ResponseEntity.ok(
-                ApiResponse.success(null, "로그아웃되었습니다.")
+                ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다.")
         );
     }
 
     @Operation(
             summary = "Access Token 재발급",
-            description = "Refresh Token으로 새로운 Access Token을 발급받습니다."
+            description = "Refresh Token으로 새로운 Access Token과 Refresh Token을 발급받습니다. "
+                    + "사용한 Refresh Token은 더 이상 쓸 수 없습니다."
     )
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<TokenDto>> refresh(
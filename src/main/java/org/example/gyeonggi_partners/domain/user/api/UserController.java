@@ -4,10 +4,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.example.gyeonggi_partners.common.dto.ApiResponse;
+import org.example.gyeonggi_partners.domain.user.api.dto.AvailabilityResponse;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignUpRequest;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignUpResponse;
 import org.example.gyeonggi_partners.domain.user.api.dto.VerifyEmailRequest;
+import org.example.gyeonggi_partners.domain.user.application.UserAvailabilityService;
 import org.example.gyeonggi_partners.domain.user.application.UserService;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,6 +27,7 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final UserAvailabilityService userAvailabilityService;
 
     /**
      * 회원가입
@@ -36,6 +40,19 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(response, "회원가입에 성공했습니다."));
     }
 
+    /**
+     * 로그인 ID/이메일/전화번호/닉네임 사용 가능 여부 확인
+     * GET /api/users/availability?field=LOGIN_ID&value=newuser123
+     */
+    @Operation(summary = "사용 가능 여부 확인", description = "회원가입 입력값이 이미 사용 중인지 확인합니다. (입력 중 실시간 검증용)")
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityResponse>> checkAvailability(
+            @RequestParam UserUniqueField field,
+            @RequestParam String value) {
+        boolean available = userAvailabilityService.isAvailable(field, value);
+        return ResponseEntity.ok(ApiResponse.success(new AvailabilityResponse(field, available)));
+    }
+
     /**
      * 이메일 인증번호 발송
      * POST /api/users/email/send
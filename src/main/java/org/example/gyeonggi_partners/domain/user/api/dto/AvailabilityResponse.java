@@ -0,0 +1,16 @@
+package org.example.gyeonggi_partners.domain.user.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
+
+/**
+ * 회원 정보 사용 가능 여부 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    private UserUniqueField field;
+    private boolean available;
+}
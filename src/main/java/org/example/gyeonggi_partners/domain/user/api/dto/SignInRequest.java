@@ -3,6 +3,7 @@ package org.example.gyeonggi_partners.domain.user.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,4 +23,8 @@ public class SignInRequest {
     @Schema(description = "비밀번호", example = "password123!")
     private String password;
 
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다")
+    @Schema(description = "기기 ID (선택, 없으면 서버에서 발급)", example = "3f2b8c1e-ios")
+    private String deviceId;
+
 }
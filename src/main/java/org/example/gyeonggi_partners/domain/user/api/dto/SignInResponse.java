@@ -21,4 +21,7 @@ public class SignInResponse {
     private String accessToken;
     private String refreshToken;
 
+    // === 세션 정보 ===
+    private String deviceId;
+
 }
\ No newline at end of file
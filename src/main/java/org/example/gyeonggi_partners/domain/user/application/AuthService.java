@@ -2,36 +2,40 @@ package org.example.gyeonggi_partners.domain.user.application;
 
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.gyeonggi_partners.common.dto.TokenDto;
 import org.example.gyeonggi_partners.common.exception.BusinessException;
 import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetailsService;
+import org.example.gyeonggi_partners.common.jwt.JwtProperties;
 import org.example.gyeonggi_partners.common.jwt.JwtTokenProvider;
+import org.example.gyeonggi_partners.common.jwt.RefreshTokenClaims;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignInRequest;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignInResponse;
-import org.example.gyeonggi_partners.domain.user.domain.model.User;
-import org.example.gyeonggi_partners.domain.user.domain.repository.UserRepository;
+import org.example.gyeonggi_partners.domain.user.domain.session.RefreshTokenStore;
+import org.example.gyeonggi_partners.domain.user.domain.session.RefreshTokenStore.RotationResult;
 import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
-    private final UserRepository userRepository;
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+    private final RefreshTokenStore refreshTokenStore;
+    private final CustomUserDetailsService userDetailsService;
+    private final JwtProperties jwtProperties;
 
     public SignInResponse login(SignInRequest request) {
 
@@ -47,19 +51,22 @@ public class AuthService {
             Authentication authentication =
                     authenticationManager.authenticate(authToken);
 
-            // 3. JWT 토큰 생성
-            TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication);
+            // 3. JWT 토큰 생성 (기기 ID가 없으면 새 기기로 발급)
+            String deviceId = request.getDeviceId() != null && !request.getDeviceId().isBlank()
+                    ? request.getDeviceId()
+                    : UUID.randomUUID().toString();
+            TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication, deviceId);
 
             // 4. CustomUserDetails 추출
             CustomUserDetails userDetails =
                     (CustomUserDetails) authentication.getPrincipal();
 
-            // 5. Refresh Token을 Redis에 저장
-            redisTemplate.opsForValue().set(
-                    REFRESH_TOKEN_PREFIX + userDetails.getUserId(),
+            // 5. Refresh Token을 기기별로 Redis에 저장 (다른 기기의 세션은 유지)
+            refreshTokenStore.save(
+                    userDetails.getUserId(),
+                    deviceId,
                     tokenDto.getRefreshToken(),
-                    7,
-                    TimeUnit.DAYS
+                    refreshTokenTtl()
             );
 
             // 6. 응답 생성
@@ -70,7 +77,8 @@ public class AuthService {
                     userDetails.getRole(),
                     tokenDto.getGrantType(),
                     tokenDto.getAccessToken(),
-                    tokenDto.getRefreshToken()
+                    tokenDto.getRefreshToken(),
+                    deviceId
             );
 
         } catch (BadCredentialsException | UsernameNotFoundException |
@@ -81,54 +89,69 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃
+     * 로그아웃 (모든 기기)
      * Redis에서 Refresh Token을 삭제하여 토큰 재발급 불가능하게 만듦
      */
     public void logoutByUserId(Long userId) {
-        // Redis에서 해당 유저의 Refresh Token 삭제
-        String key = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
+        refreshTokenStore.revokeAll(userId);
+    }
+
+    /**
+     * 로그아웃 (Refresh Token이 발급된 기기만)
+     * 다른 사용자의 토큰이면 무시합니다.
+     */
+    public void logoutDevice(Long userId, String refreshToken) {
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (claims == null || !claims.userId().equals(userId)) {
+            throw new BusinessException(UserErrorCode.INVALID_TOKEN);
+        }
+        refreshTokenStore.revoke(userId, claims.deviceId());
     }
 
 
     /**
      * Refresh Token으로 Access Token 재발급
+     * Refresh Token도 함께 교체하며, 이미 교체된 토큰이 다시 들어오면 해당 기기의 세션을 끊습니다.
      */
     public TokenDto refresh(String refreshToken) {
-        // 1. Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 1. Refresh Token 유효성 검증 + 사용자/기기 정보 추출
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+        if (claims == null) {
             throw new BusinessException(UserErrorCode.INVALID_TOKEN);
         }
 
-        // 2. Refresh Token에서 userId 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-
-        // 3. Redis에 저장된 Refresh Token과 비교
-        String storedRefreshToken = redisTemplate.opsForValue()
-                .get(REFRESH_TOKEN_PREFIX + userId);
+        // 2. 최신 사용자 정보 조회 (캐시된 스냅샷 → 대부분 DB 조회 없음)
+        CustomUserDetails userDetails;
+        try {
+            userDetails = userDetailsService.loadUserByUserId(claims.userId());
+        } catch (UsernameNotFoundException e) {
+            throw new BusinessException(UserErrorCode.USER_NOT_FOUND);
+        }
 
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
+        // 3. 새 토큰 생성 (역할/닉네임이 바뀌었으면 새 Access Token에 반영됨)
+        TokenDto tokenDto = jwtTokenProvider.rotateTokens(userDetails, claims.deviceId());
+
+        // 4. 저장된 토큰 비교 + 교체를 Redis 한 번의 호출로 처리
+        RotationResult result = refreshTokenStore.rotate(
+                claims.userId(),
+                claims.deviceId(),
+                refreshToken,
+                tokenDto.getRefreshToken(),
+                refreshTokenTtl()
+        );
+
+        if (result == RotationResult.REUSED) {
+            log.warn("이미 사용된 Refresh Token 재사용 감지 - userId: {}, deviceId: {}",
+                    claims.userId(), claims.deviceId());
+        }
+        if (result != RotationResult.ROTATED) {
             throw new BusinessException(UserErrorCode.INVALID_TOKEN);
         }
 
-        // 4. 사용자 정보 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
-
-        // 5. 새로운 Access Token만 생성 (Refresh Token은 재사용)
-        UserDetails userDetails = user.toUserDetails();
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities());
-
-        String newAccessToken = jwtTokenProvider.generateAccessToken(authentication);
-
-        // 6. TokenDto 반환
-        return TokenDto.builder()
-                .grantType("Bearer")
-                .accessToken(newAccessToken)
-                .refreshToken(refreshToken) // 기존 Refresh Token 그대로
-                .build();
+        return tokenDto;
     }
 
-
+    private Duration refreshTokenTtl() {
+        return Duration.ofMillis(jwtProperties.getRefreshTokenExpiration());
+    }
 }
@@ -5,14 +5,20 @@ import org.example.gyeonggi_partners.common.exception.BusinessException;
 import org.example.gyeonggi_partners.domain.user.domain.notifier.EmailNotifier;
 import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.List;
 
 /**
  * 이메일 인증 서비스
  * Redis를 사용한 인증번호 관리
+ *
+ * <p>email:verification:{email} (Hash): code, attempts(남은 입력 횟수), 5분 뒤 만료.
+ * 검증은 스크립트 한 번으로 비교 → 실패 시 남은 횟수 차감(0이면 삭제) → 성공 시 삭제까지 처리하므로
+ * 같은 인증번호로 동시에 검증해도 한 번만 성공합니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -21,50 +27,88 @@ public class EmailVerificationService {
     private static final String EMAIL_VERIFICATION_PREFIX = "email:verification:";
     private static final int CODE_LENGTH = 6;
     private static final int CODE_EXPIRATION_MINUTES = 5;
-    
+    private static final int MAX_ATTEMPTS = 5;
+
+    // 요청마다 새로 만들면 시드를 모으느라 막힐 수 있으므로 하나를 공유 (스레드 안전)
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final DefaultRedisScript<Long> STORE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 결과: 1 성공, 0 불일치, -1 없음(만료), -2 불일치로 남은 횟수를 다 씀
+     * 비교는 저장된 인증번호 길이만큼 항상 끝까지 돌아 일치하는 자리 수에 따라 시간이 달라지지 않습니다.
+     */
+    private static final DefaultRedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HGET', KEYS[1], 'code')
+            if not stored then
+                return -1
+            end
+            local input = ARGV[1]
+            local diff = (#stored == #input) and 0 or 1
+            for i = 1, #stored do
+                diff = bit.bor(diff, bit.bxor(string.byte(stored, i), string.byte(input, i) or 0))
+            end
+            if diff == 0 then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            if redis.call('HINCRBY', KEYS[1], 'attempts', -1) <= 0 then
+                redis.call('DEL', KEYS[1])
+                return -2
+            end
+            return 0
+            """, Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final EmailNotifier emailNotifier;
 
     /**
      * 인증번호 생성 및 발송
+     * 다시 요청하면 이전 인증번호와 남은 입력 횟수는 새로 바뀝니다.
      * @param email 이메일
      */
     public void sendVerificationCode(String email) {
         // 1. 6자리 랜덤 인증번호 생성
         String code = generateVerificationCode();
-        
-        // 2. Redis에 저장 (5분 TTL)
-        String key = EMAIL_VERIFICATION_PREFIX + email;
-        redisTemplate.opsForValue().set(key, code, Duration.ofMinutes(CODE_EXPIRATION_MINUTES));
-        
+
+        // 2. Redis에 저장 (5분 TTL, 입력 횟수 MAX_ATTEMPTS)
+        redisTemplate.execute(STORE_SCRIPT, List.of(EMAIL_VERIFICATION_PREFIX + email), code,
+                Integer.toString(MAX_ATTEMPTS), Long.toString(Duration.ofMinutes(CODE_EXPIRATION_MINUTES).toMillis()));
+
         // 3. 이메일 발송 (인프라에 위임)
         emailNotifier.sendVerificationCode(email, code);
     }
 
     /**
      * 인증번호 검증
+     * 틀린 횟수가 MAX_ATTEMPTS 에 닿으면 인증번호가 삭제되어 다시 요청해야 합니다.
      * @param email 이메일
      * @param code 인증번호
      */
     public void verifyCode(String email, String code) {
-        String key = EMAIL_VERIFICATION_PREFIX + email;
-        String storedCode = redisTemplate.opsForValue().get(key);
-        
-        // 인증번호 없거나 불일치
-        if (storedCode == null || !storedCode.equals(code)) {
-            throw new BusinessException(UserErrorCode.INVALID_VERIFICATION_CODE);
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(EMAIL_VERIFICATION_PREFIX + email),
+                code == null ? "" : code);
+
+        if (result != null && result == 1L) {
+            return;
+        }
+        if (result != null && result == -2L) {
+            throw new BusinessException(UserErrorCode.VERIFICATION_ATTEMPTS_EXCEEDED);
         }
-        
-        // 검증 성공 시 Redis에서 삭제
-        redisTemplate.delete(key);
+        // 인증번호 없거나 불일치
+        throw new BusinessException(UserErrorCode.INVALID_VERIFICATION_CODE);
     }
 
     /**
      * 6자리 랜덤 숫자 생성
      */
     private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
-        int code = random.nextInt(900000) + 100000;  // 100000 ~ 999999
+        int code = RANDOM.nextInt(900000) + 100000;  // 100000 ~ 999999
         return String.valueOf(code);
     }
 }
@@ -0,0 +1,106 @@
+package org.example.gyeonggi_partners.domain.user.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
+import org.example.gyeonggi_partners.domain.user.domain.repository.UserRepository;
+import org.example.gyeonggi_partners.domain.user.infra.bloom.RedisUserBloomFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인 ID/이메일/전화번호/닉네임 사용 가능 여부 확인
+ *
+ * <p>Bloom Filter가 "없음"이라고 답하면 DB를 조회하지 않고 바로 사용 가능으로 응답하며,
+ * "있을 수도 있음"인 경우에만 DB에서 확인합니다.</p>
+ *
+ * 메트릭: user.availability.bloom{result=negative|positive},
+ * user.availability.bloom.false_positive, user.availability.bloom.false_positive_rate
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final RedisUserBloomFilter userBloomFilter;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+
+    public UserAvailabilityService(UserRepository userRepository,
+                                   RedisUserBloomFilter userBloomFilter,
+                                   MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userBloomFilter = userBloomFilter;
+        this.negativeCounter = Counter.builder("user.availability.bloom")
+                .tag("result", "negative")
+                .description("Bloom Filter만으로 사용 가능 응답한 수 (DB 조회 없음)")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("user.availability.bloom")
+                .tag("result", "positive")
+                .description("Bloom Filter가 있을 수도 있다고 답해 DB를 조회한 수")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("user.availability.bloom.false_positive")
+                .description("Bloom Filter는 있다고 했지만 DB에는 없던 수")
+                .register(meterRegistry);
+        // 실제로 없는 값 중 Bloom Filter가 "있을 수도 있음"으로 답한 비율
+        Counter negatives = negativeCounter;
+        Counter falsePositives = falsePositiveCounter;
+        Gauge.builder("user.availability.bloom.false_positive_rate", () -> falsePositiveRate(negatives, falsePositives))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 값을 새 회원이 사용할 수 있는지 확인합니다.
+     * @param field 확인할 항목
+     * @param value 확인할 값
+     * @return 사용 가능하면 true
+     */
+    public boolean isAvailable(UserUniqueField field, String value) {
+        boolean mightExist = mightExist(field, value);
+        if (!mightExist) {
+            negativeCounter.increment();
+            return true;
+        }
+
+        boolean exists = existsInDatabase(field, value);
+        if (userBloomFilter.isReady()) {
+            positiveCounter.increment();
+            if (!exists) {
+                falsePositiveCounter.increment();
+            }
+        }
+        return !exists;
+    }
+
+    /**
+     * Bloom Filter 조회. 적재 전이거나 Redis 오류 시에는 DB로 넘기기 위해 true 를 반환합니다.
+     */
+    private boolean mightExist(UserUniqueField field, String value) {
+        try {
+            return !userBloomFilter.isReady() || userBloomFilter.mightContain(field, value);
+        } catch (RuntimeException e) {
+            log.warn("회원 Bloom Filter 조회 실패, DB로 확인합니다: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean existsInDatabase(UserUniqueField field, String value) {
+        return switch (field) {
+            case LOGIN_ID -> userRepository.existsByLoginId(value);
+            case EMAIL -> userRepository.existsByEmail(value);
+            case PHONE_NUMBER -> userRepository.existsByPhoneNumber(value);
+            case NICKNAME -> userRepository.existsByNickname(value);
+        };
+    }
+
+    private static double falsePositiveRate(Counter negativeCounter, Counter falsePositiveCounter) {
+        double falsePositives = falsePositiveCounter.count();
+        double actualNegatives = negativeCounter.count() + falsePositives;
+        return actualNegatives == 0 ? 0.0 : falsePositives / actualNegatives;
+    }
+}
@@ -5,12 +5,14 @@ import org.example.gyeonggi_partners.common.exception.BusinessException;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignUpRequest;
 import org.example.gyeonggi_partners.domain.user.api.dto.SignUpResponse;
 import org.example.gyeonggi_partners.domain.user.domain.model.User;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
 import org.example.gyeonggi_partners.domain.user.domain.repository.UserRepository;
-import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 /**
  * User 애플리케이션 서비스
  * 회원가입 등 유즈케이스 처리
@@ -48,10 +50,8 @@ public class UserService {
      */
     @Transactional
     public SignUpResponse signUp(SignUpRequest req) {
-        // 1. 중복 검증
-        validateDuplicateLoginId(req.getLoginId());
-        validateDuplicateEmail(req.getEmail());
-        validateDuplicatePhoneNumber(req.getPhoneNumber());
+        // 1. 중복 검증 (로그인 ID/이메일/전화번호를 한 번의 쿼리로 확인)
+        validateDuplicates(req.getLoginId(), req.getEmail(), req.getPhoneNumber());
 
         // 2. 평문 비밀번호 검증 (암호화 전)
         validatePlainPassword(req.getPassword());
@@ -69,7 +69,7 @@ public class UserService {
                 req.getPhoneNumber()
         );
 
-        // 5. 저장
+        // 5. 저장 (1번 검증 이후 동시에 가입한 경우 유니크 제약조건 위반이 중복 에러로 변환됨)
         User savedUser = userRepository.save(user);
 
         // 6. 응답 DTO 생성
@@ -82,29 +82,13 @@ public class UserService {
     }
 
     /**
-     * 로그인 ID 중복 검증
-     */
-    private void validateDuplicateLoginId(String loginId) {
-        if (userRepository.existsByLoginId(loginId)) {
-            throw new BusinessException(UserErrorCode.DUPLICATE_LOGIN_ID);
-        }
-    }
-
-    /**
-     * 이메일 중복 검증
-     */
-    private void validateDuplicateEmail(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new BusinessException(UserErrorCode.DUPLICATE_EMAIL);
-        }
-    }
-
-    /**
-     * 전화번호 중복 검증
+     * 로그인 ID/이메일/전화번호 중복 검증
+     * 여러 항목이 중복이면 로그인 ID → 이메일 → 전화번호 순으로 먼저 걸린 항목을 응답합니다.
      */
-    private void validateDuplicatePhoneNumber(String phoneNumber) {
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
-            throw new BusinessException(UserErrorCode.DUPLICATE_PHONE_NUMBER);
+    private void validateDuplicates(String loginId, String email, String phoneNumber) {
+        Set<UserUniqueField> duplicates = userRepository.findDuplicateFields(loginId, email, phoneNumber);
+        if (!duplicates.isEmpty()) {
+            throw new BusinessException(duplicates.iterator().next().getDuplicateErrorCode());
         }
     }
 
@@ -0,0 +1,44 @@
+package org.example.gyeonggi_partners.domain.user.domain.model;
+
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 토큰 발급/인증에 필요한 최소한의 사용자 정보
+ * 캐시에 올려 두고 쓰므로 비밀번호 해시나 개인정보(이름, 전화번호)는 담지 않습니다.
+ *
+ * @param userId   사용자 ID
+ * @param loginId  로그인 ID
+ * @param nickname 닉네임
+ * @param email    이메일
+ * @param role     역할 (USER, OFFICIAL, ADMIN)
+ */
+public record UserSnapshot(Long userId, String loginId, String nickname, String email, String role) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getLoginId(),
+                user.getNickname(),
+                user.getEmail(),
+                user.getRole()
+        );
+    }
+
+    /**
+     * 비밀번호 없이 Spring Security UserDetails로 변환 (토큰 재발급용)
+     */
+    public CustomUserDetails toUserDetails() {
+        return new CustomUserDetails(
+                userId,
+                nickname,
+                email,
+                role,
+                loginId,
+                "",
+                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
+}
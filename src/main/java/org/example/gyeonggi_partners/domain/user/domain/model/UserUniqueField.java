@@ -0,0 +1,26 @@
+package org.example.gyeonggi_partners.domain.user.domain.model;
+
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+
+/**
+ * 사용자 테이블에서 중복될 수 없는 항목
+ */
+public enum UserUniqueField {
+    LOGIN_ID(UserErrorCode.DUPLICATE_LOGIN_ID),
+    EMAIL(UserErrorCode.DUPLICATE_EMAIL),
+    PHONE_NUMBER(UserErrorCode.DUPLICATE_PHONE_NUMBER),
+    NICKNAME(UserErrorCode.DUPLICATE_NICKNAME);
+
+    private final UserErrorCode duplicateErrorCode;
+
+    UserUniqueField(UserErrorCode duplicateErrorCode) {
+        this.duplicateErrorCode = duplicateErrorCode;
+    }
+
+    /**
+     * 이 항목이 중복되었을 때 응답할 에러 코드
+     */
+    public UserErrorCode getDuplicateErrorCode() {
+        return duplicateErrorCode;
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.gyeonggi_partners.domain.user.domain.repository;
 
 import org.example.gyeonggi_partners.domain.user.domain.model.User;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * User 도메인 Repository 인터페이스
@@ -12,11 +14,18 @@ public interface UserRepository {
 
     /**
      * 사용자 저장 (회원가입)
+     * 유니크 제약조건 위반 시 해당 항목의 중복 에러(BusinessException)로 변환합니다.
      * @param user 저장할 사용자
      * @return 저장된 사용자 (ID 포함)
      */
     User save(User user);
 
+    /**
+     * 로그인 ID/이메일/전화번호 중복 여부를 한 번의 쿼리로 확인
+     * @return 이미 사용 중인 항목 (중복이 없으면 빈 Set)
+     */
+    Set<UserUniqueField> findDuplicateFields(String loginId, String email, String phoneNumber);
+
     /**
      * 로그인 ID 중복 확인
      * @param loginId 로그인 ID
@@ -38,6 +47,13 @@ public interface UserRepository {
      */
     boolean existsByPhoneNumber(String phoneNumber);
 
+    /**
+     * 닉네임 중복 확인
+     * @param nickname 닉네임
+     * @return 존재 여부
+     */
+    boolean existsByNickname(String nickname);
+
     /**
      * 로그인 ID로 사용자를 조회합니다.
      * @param loginId 로그인 ID
@@ -48,6 +64,13 @@ public interface UserRepository {
 
     Optional<User> findById(Long id);
 
+    /**
+     * 비밀번호 해시만 변경합니다.
+     * @param id 사용자 ID
+     * @param encodedPassword 새 비밀번호 해시
+     */
+    void updatePassword(Long id, String encodedPassword);
+
 
 
 }
@@ -0,0 +1,19 @@
+package org.example.gyeonggi_partners.domain.user.domain.repository;
+
+import org.example.gyeonggi_partners.domain.user.domain.model.UserSnapshot;
+
+import java.util.Optional;
+
+/**
+ * 사용자 스냅샷 조회 (캐시 우선, 없으면 DB)
+ */
+public interface UserSnapshotRepository {
+
+    Optional<UserSnapshot> findById(Long userId);
+
+    /**
+     * 사용자 정보가 바뀌었을 때 모든 서버의 캐시에서 스냅샷을 제거합니다.
+     * 트랜잭션 안에서 호출하면 커밋 이후에 제거합니다.
+     */
+    void evict(Long userId);
+}
@@ -0,0 +1,40 @@
+package org.example.gyeonggi_partners.domain.user.domain.session;
+
+import java.time.Duration;
+
+/**
+ * 기기별 Refresh Token 저장소
+ * 한 사용자가 여러 기기에서 동시에 로그인할 수 있도록 (userId, deviceId) 단위로 토큰을 보관합니다.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 기기의 Refresh Token을 저장합니다. 같은 기기에 이미 토큰이 있으면 덮어씁니다.
+     */
+    void save(Long userId, String deviceId, String refreshToken, Duration ttl);
+
+    /**
+     * 저장된 토큰이 presentedToken 과 같을 때만 newToken 으로 교체합니다. (조회-비교-교체를 원자적으로 처리)
+     * 다른 토큰이 저장되어 있으면 이미 교체된 토큰이 재사용된 것으로 보고 해당 기기의 세션을 삭제합니다.
+     */
+    RotationResult rotate(Long userId, String deviceId, String presentedToken, String newToken, Duration ttl);
+
+    /**
+     * 한 기기의 세션을 삭제합니다.
+     */
+    void revoke(Long userId, String deviceId);
+
+    /**
+     * 사용자의 모든 기기 세션을 삭제합니다.
+     */
+    void revokeAll(Long userId);
+
+    enum RotationResult {
+        /** 교체 성공 */
+        ROTATED,
+        /** 저장된 세션 없음 (로그아웃 또는 만료) */
+        NOT_FOUND,
+        /** 이미 교체된 토큰이 다시 사용됨 → 세션 삭제 */
+        REUSED
+    }
+}
@@ -9,13 +9,17 @@ public enum UserErrorCode implements ErrorCode {
     DUPLICATE_LOGIN_ID(409, "U001", "이미 사용 중인 아이디입니다."),
     DUPLICATE_EMAIL(409, "U002", "이미 사용 중인 이메일입니다."),
     DUPLICATE_PHONE_NUMBER(409, "U003", "이미 등록된 전화번호입니다."),
+    DUPLICATE_NICKNAME(409, "U004", "이미 사용 중인 닉네임입니다."),
 
     // 이메일 인증 관련
     INVALID_VERIFICATION_CODE(400, "C001", "인증번호가 올바르지 않거나 만료되었습니다."),
+    EMAIL_QUEUE_FULL(503, "C002", "이메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    VERIFICATION_ATTEMPTS_EXCEEDED(429, "C003", "인증번호 입력 횟수를 초과했습니다. 인증번호를 다시 요청해주세요."),
 
     // 로그인 관련
     LOGIN_FAILED(401, "A001", "아이디 또는 비밀번호가 일치하지 않습니다."),
     USER_NOT_FOUND(404, "A003", "존재하지 않는 사용자입니다"),
+    PASSWORD_HASHING_BUSY(429, "A004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 토큰 관련
     INVALID_TOKEN(401, "A002", "유효하지 않은 토큰입니다.");
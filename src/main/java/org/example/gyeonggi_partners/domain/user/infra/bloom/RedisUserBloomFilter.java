@@ -0,0 +1,295 @@
+package org.example.gyeonggi_partners.domain.user.infra.bloom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserJpaRepository;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserUniqueKeysView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 비트맵 기반 Bloom Filter (로그인 ID / 이메일 / 전화번호 / 닉네임)
+ *
+ * <p>"없음" 응답은 확실하므로 DB를 조회하지 않아도 되고, "있을 수도 있음" 응답만 DB로 확인합니다.
+ * 모든 노드가 같은 비트맵을 보도록 Redis에 두며, k개의 비트를 BITFIELD 명령 하나로 읽고 씁니다.</p>
+ *
+ * <ul>
+ *   <li>Key: bloom:users:{m}:{k}:{항목} (크기 설정이 바뀌면 새 키로 다시 적재)</li>
+ *   <li>적재: 애플리케이션 시작 시 한 노드만 users 테이블 전체를 적재하고 ready 키를 남김</li>
+ *   <li>적재가 실패하거나 적재하던 노드가 죽어 ready 키가 생기지 않으면, 조회하는 노드가 load-retry-interval
+ *       마다 (실패할 때마다 두 배로 늘려) 다시 적재를 시도하고, 잠금이 풀려 있는 한 노드가 적재</li>
+ *   <li>조회는 ready 키 확인과 비트 읽기를 스크립트 하나로 처리하므로, Redis 초기화나 장애 조치로
+ *       ready 키가 사라지면 그 즉시 "있을 수도 있음"(DB 확인)으로 답하고 다시 적재</li>
+ *   <li>갱신: 회원 저장 시 UserRepositoryImpl 이 {@link #put} 호출</li>
+ *   <li>삭제된 회원의 비트는 지우지 않으므로 오탐만 늘고 미탐은 생기지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RedisUserBloomFilter {
+
+    private static final String KEY_PREFIX = "bloom:users:";
+    private static final Duration LOAD_LOCK_TIMEOUT = Duration.ofMinutes(10);
+    private static final int LOAD_PAGE_SIZE = 1_000;
+    private static final long MAX_LOAD_RETRY_NANOS = LOAD_LOCK_TIMEOUT.toNanos();
+
+    /**
+     * KEYS[1] 비트맵, KEYS[2] ready 키, ARGV 비트 위치들
+     * 결과: -1 적재 안 됨(ready 키 없음), 0 확실히 없음, 1 있을 수도 있음
+     */
+    private static final DefaultRedisScript<Long> MIGHT_CONTAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 0 then
+                return -1
+            end
+            local args = {}
+            for i = 1, #ARGV do
+                args[#args + 1] = 'GET'
+                args[#args + 1] = 'u1'
+                args[#args + 1] = ARGV[i]
+            end
+            local bits = redis.call('BITFIELD', KEYS[1], unpack(args))
+            for i = 1, #bits do
+                if bits[i] == 0 then
+                    return 0
+                end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserJpaRepository userJpaRepository;
+
+    private final long bitCount;
+    private final int hashCount;
+    private final String keyPrefix;
+    private final long initialLoadRetryNanos;
+
+    private volatile boolean ready;
+    private volatile long loadRetryNanos;
+    private volatile long nextLoadAttemptNanos = System.nanoTime();
+
+    public RedisUserBloomFilter(StringRedisTemplate redisTemplate,
+                                UserJpaRepository userJpaRepository,
+                                UserBloomFilterProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.userJpaRepository = userJpaRepository;
+
+        // m = -n ln(p) / (ln 2)^2,  k = (m / n) ln 2
+        long n = properties.getExpectedInsertions();
+        double p = properties.getFalsePositiveProbability();
+        this.bitCount = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.keyPrefix = KEY_PREFIX + bitCount + ":" + hashCount + ":";
+        this.initialLoadRetryNanos = properties.getLoadRetryInterval().toNanos();
+        this.loadRetryNanos = initialLoadRetryNanos;
+    }
+
+    /**
+     * 적재가 끝나 "없음" 응답을 믿을 수 있는 상태인지 여부
+     * true 는 마지막으로 확인한 상태일 뿐이며, 실제 조회는 {@link #mightContain} 이 ready 키를 다시 확인합니다.
+     * 적재되어 있지 않으면 재시도 간격이 지났을 때 적재를 다시 시도합니다.
+     */
+    public boolean isReady() {
+        if (!ready) {
+            ready = Boolean.TRUE.equals(redisTemplate.hasKey(readyKey()));
+            if (!ready) {
+                retryLoadingIfDue();
+            }
+        }
+        return ready;
+    }
+
+    /**
+     * 값이 등록되어 있을 가능성이 있는지 확인합니다.
+     * @return false 면 확실히 없음, true 면 있을 수도 있음 (DB 확인 필요)
+     */
+    public boolean mightContain(UserUniqueField field, String value) {
+        long[] offsets = offsets(value);
+        Object[] args = new Object[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            args[i] = Long.toString(offsets[i]);
+        }
+        Long result = redisTemplate.execute(MIGHT_CONTAIN_SCRIPT, List.of(key(field), readyKey()), args);
+        if (result == null) {
+            return true;
+        }
+        if (result == -1L) {
+            reloadIfLost();
+            return true;
+        }
+        return result == 1L;
+    }
+
+    /**
+     * 값을 등록합니다.
+     */
+    public void put(UserUniqueField field, String value) {
+        if (value == null) {
+            return;
+        }
+        redisTemplate.opsForValue().bitField(key(field), setCommands(value));
+    }
+
+    /**
+     * 시작 시 비트맵이 없으면 users 테이블 전체를 적재합니다.
+     * 여러 노드가 동시에 시작해도 잠금을 얻은 한 노드만 적재하며, 적재 중에는 모든 조회가 DB로 넘어갑니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        // 적재되어 있지 않으면 isReady 가 첫 적재를 시작함
+        isReady();
+    }
+
+    /**
+     * 적재된 줄 알았던 ready 키가 사라진 경우 (Redis 초기화, 복제 전 장애 조치 등)
+     * 이후 조회는 다시 적재될 때까지 DB로 넘기고, 비트맵을 처음부터 다시 적재합니다.
+     */
+    private void reloadIfLost() {
+        if (!ready) {
+            retryLoadingIfDue();
+            return;
+        }
+        ready = false;
+        log.warn("회원 Bloom Filter 적재 표시가 사라져 다시 적재합니다.");
+        startLoading();
+    }
+
+    /**
+     * 재시도 간격이 지났으면 적재를 시도합니다. 다른 노드가 적재 중이면 잠금을 얻지 못해 아무 일도 하지 않습니다.
+     */
+    private void retryLoadingIfDue() {
+        long now = System.nanoTime();
+        if (now - nextLoadAttemptNanos < 0) {
+            return;
+        }
+        startLoading();
+    }
+
+    private void startLoading() {
+        nextLoadAttemptNanos = System.nanoTime() + loadRetryNanos;
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(keyPrefix + "loading", "1", LOAD_LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        Thread.ofVirtual().name("user-bloom-filter-loader").start(this::loadAll);
+    }
+
+    private void loadAll() {
+        try {
+            long loaded = 0;
+            long lastId = 0;
+            List<UserUniqueKeysView> page;
+            do {
+                page = userJpaRepository.findUniqueKeysAfter(lastId, Limit.of(LOAD_PAGE_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                putAll(page);
+                lastId = page.get(page.size() - 1).getId();
+                loaded += page.size();
+            } while (page.size() == LOAD_PAGE_SIZE);
+
+            redisTemplate.opsForValue().set(readyKey(), "1");
+            ready = true;
+            loadRetryNanos = initialLoadRetryNanos;
+            log.info("회원 Bloom Filter 적재 완료 - {}명 (m={}, k={})", loaded, bitCount, hashCount);
+        } catch (RuntimeException e) {
+            loadRetryNanos = Math.min(loadRetryNanos * 2, MAX_LOAD_RETRY_NANOS);
+            nextLoadAttemptNanos = System.nanoTime() + loadRetryNanos;
+            log.error("회원 Bloom Filter 적재 실패, {}초 후 다시 시도하며 그동안 중복 확인은 DB로 처리됩니다: {}",
+                    TimeUnit.NANOSECONDS.toSeconds(loadRetryNanos), e.getMessage(), e);
+        } finally {
+            redisTemplate.delete(keyPrefix + "loading");
+        }
+    }
+
+    /**
+     * 한 페이지의 회원을 파이프라인으로 한 번에 적재합니다.
+     */
+    private void putAll(List<UserUniqueKeysView> users) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UserUniqueKeysView user : users) {
+                putPipelined(connection, UserUniqueField.LOGIN_ID, user.getLoginId());
+                putPipelined(connection, UserUniqueField.EMAIL, user.getEmail());
+                putPipelined(connection, UserUniqueField.PHONE_NUMBER, user.getPhoneNumber());
+                putPipelined(connection, UserUniqueField.NICKNAME, user.getNickname());
+            }
+            return null;
+        });
+    }
+
+    private void putPipelined(RedisConnection connection,
+                              UserUniqueField field, String value) {
+        if (value != null) {
+            connection.stringCommands().bitField(
+                    key(field).getBytes(StandardCharsets.UTF_8), setCommands(value));
+        }
+    }
+
+    private BitFieldSubCommands setCommands(String value) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (long offset : offsets(value)) {
+            commands = commands.set(BitFieldType.unsigned(1)).valueAt(offset).to(1);
+        }
+        return commands;
+    }
+
+    /**
+     * Kirsch-Mitzenmacher 방식: 64비트 해시 두 개(h1, h2)로 k개의 비트 위치 (h1 + i*h2) mod m 을 만듭니다.
+     */
+    private long[] offsets(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long h1 = fnv1a64(bytes);
+        long h2 = mix64(h1) | 1L;
+
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Long.remainderUnsigned(h1 + i * h2, bitCount);
+        }
+        return offsets;
+    }
+
+    private static long fnv1a64(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix64(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64 (비트를 고르게 섞음)
+     */
+    private static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private String key(UserUniqueField field) {
+        return keyPrefix + field.name().toLowerCase(Locale.ROOT);
+    }
+
+    private String readyKey() {
+        return keyPrefix + "ready";
+    }
+}
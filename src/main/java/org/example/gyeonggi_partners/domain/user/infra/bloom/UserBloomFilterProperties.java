@@ -0,0 +1,32 @@
+package org.example.gyeonggi_partners.domain.user.infra.bloom;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 회원 중복 확인용 Bloom Filter 설정값
+ * application.properties 의 user.bloom-filter.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.bloom-filter")
+public class UserBloomFilterProperties {
+
+    /**
+     * 항목별 예상 최대 사용자 수
+     */
+    private long expectedInsertions = 1_000_000;
+
+    /**
+     * 목표 오탐률 (존재하지 않는 값을 "있을 수도 있음"으로 답할 확률)
+     */
+    private double falsePositiveProbability = 0.01;
+
+    /**
+     * 적재가 실패하거나 끝나지 않았을 때 다시 적재를 시도하는 첫 간격 (이 노드에서 실패할 때마다 두 배, 최대 10분)
+     */
+    private Duration loadRetryInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,168 @@
+package org.example.gyeonggi_partners.domain.user.infra.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserSnapshot;
+import org.example.gyeonggi_partners.domain.user.domain.repository.UserSnapshotRepository;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserEntity;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserJpaRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 2단계 사용자 스냅샷 캐시
+ *
+ * <ol>
+ *   <li>L1: 서버 로컬 Caffeine</li>
+ *   <li>L2: Redis (user:snapshot:{userId}, JSON)</li>
+ *   <li>둘 다 없으면 DB에서 읽어 L1/L2를 채움</li>
+ * </ol>
+ *
+ * 무효화 시 Redis 키를 지우고 user:snapshot:invalidate 채널로 userId를 발행해서
+ * 다른 서버의 L1에서도 제거합니다.
+ *
+ * 메트릭: user.snapshot.cache{level=local|redis|db}
+ */
+@Slf4j
+@Repository
+public class CachedUserSnapshotRepository implements UserSnapshotRepository {
+
+    private static final String KEY_PREFIX = "user:snapshot:";
+    private static final String INVALIDATE_CHANNEL = "user:snapshot:invalidate";
+
+    private final UserJpaRepository userJpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, UserSnapshot> localCache;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter databaseLoadCounter;
+
+    public CachedUserSnapshotRepository(UserJpaRepository userJpaRepository,
+                                        StringRedisTemplate redisTemplate,
+                                        ObjectMapper objectMapper,
+                                        RedisMessageListenerContainer listenerContainer,
+                                        UserSnapshotCacheProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.userJpaRepository = userJpaRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = properties.getRedisTtl();
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(properties.getLocalTtl())
+                .build();
+
+        this.localHitCounter = counter(meterRegistry, "local");
+        this.redisHitCounter = counter(meterRegistry, "redis");
+        this.databaseLoadCounter = counter(meterRegistry, "db");
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidate(message), new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public Optional<UserSnapshot> findById(Long userId) {
+        UserSnapshot snapshot = localCache.getIfPresent(userId);
+        if (snapshot != null) {
+            localHitCounter.increment();
+            return Optional.of(snapshot);
+        }
+
+        snapshot = readFromRedis(userId);
+        if (snapshot != null) {
+            redisHitCounter.increment();
+            localCache.put(userId, snapshot);
+            return Optional.of(snapshot);
+        }
+
+        databaseLoadCounter.increment();
+        Optional<UserSnapshot> loaded = userJpaRepository.findById(userId)
+                .map(UserEntity::toDomain)
+                .map(UserSnapshot::from);
+        loaded.ifPresent(this::store);
+        return loaded;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 캐시에 올릴 수 있음
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        } else {
+            evictNow(userId);
+        }
+    }
+
+    private void evictNow(Long userId) {
+        localCache.invalidate(userId);
+        try {
+            redisTemplate.delete(key(userId));
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(userId));
+        } catch (RuntimeException e) {
+            // 실패해도 로컬 캐시는 local-ttl, Redis는 redis-ttl 이후 갱신됨
+            log.warn("사용자 스냅샷 캐시 무효화 실패 - userId: {}, 에러: {}", userId, e.getMessage());
+        }
+    }
+
+    private void onInvalidate(Message message) {
+        try {
+            localCache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.US_ASCII)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 스냅샷 무효화 메시지입니다.");
+        }
+    }
+
+    private UserSnapshot readFromRedis(Long userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(key(userId));
+            return json != null ? objectMapper.readValue(json, UserSnapshot.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애 시에는 DB로 넘어감
+            log.warn("사용자 스냅샷 Redis 조회 실패 - userId: {}, 에러: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void store(UserSnapshot snapshot) {
+        localCache.put(snapshot.userId(), snapshot);
+        try {
+            redisTemplate.opsForValue().set(
+                    key(snapshot.userId()), objectMapper.writeValueAsString(snapshot), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("사용자 스냅샷 Redis 저장 실패 - userId: {}, 에러: {}", snapshot.userId(), e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String level) {
+        return Counter.builder("user.snapshot.cache")
+                .description("사용자 스냅샷 조회 위치")
+                .tag("level", level)
+                .register(meterRegistry);
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.gyeonggi_partners.domain.user.infra.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 스냅샷 캐시 설정값
+ * application.properties 의 user.snapshot-cache.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.snapshot-cache")
+public class UserSnapshotCacheProperties {
+
+    /**
+     * 서버 로컬(Caffeine) 캐시 최대 개수
+     */
+    private long localMaximumSize = 10_000;
+
+    /**
+     * 로컬 캐시 유지 시간 (무효화 메시지를 놓쳤을 때의 최대 지연)
+     */
+    private Duration localTtl = Duration.ofMinutes(5);
+
+    /**
+     * Redis 캐시 유지 시간
+     */
+    private Duration redisTtl = Duration.ofMinutes(30);
+}
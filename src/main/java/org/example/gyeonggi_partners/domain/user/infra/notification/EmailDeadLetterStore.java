@@ -0,0 +1,14 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+/**
+ * 재시도를 모두 실패한 이메일을 보관하는 저장소
+ */
+public interface EmailDeadLetterStore {
+
+    /**
+     * 발송에 최종 실패한 메일을 기록합니다.
+     * @param message 실패한 메일
+     * @param error   마지막 실패 원인
+     */
+    void save(EmailMessage message, Throwable error);
+}
@@ -0,0 +1,309 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 큐 기반 이메일 발송기
+ *
+ * <p>요청 스레드는 메일을 큐에 넣고 바로 반환하며, 고정 개수의 워커가 큐를 비우면서 SMTP로 발송합니다.</p>
+ *
+ * <ul>
+ *   <li>워커는 첫 메일이 들어온 뒤 flush-window 동안, 최대 batch-size 만큼 메일을 모아 한 번에 보냅니다.</li>
+ *   <li>워커마다 인증을 마친 SMTP 연결(SmtpTransportSession)을 계속 열어두고 재사용합니다.</li>
+ *   <li>실패한 메일은 지수 백오프 후 다시 큐에 넣고, max-attempts 를 넘기면 Dead Letter로 보냅니다.</li>
+ *   <li>종료 시 백오프 대기 중인 재시도는 큐로 되돌려 한 번 더 보내고, 그래도 남은 메일은 Dead Letter로 보냅니다.</li>
+ *   <li>JavaMail 내부의 synchronized 구간에서 가상 스레드가 고정(pinning)되므로 워커는 플랫폼 스레드를 사용합니다.</li>
+ * </ul>
+ *
+ * 메트릭: mail.dispatch.queue.size, mail.dispatch.latency, mail.dispatch.sent,
+ * mail.dispatch.retried, mail.dispatch.dead_letter, mail.dispatch.batch.size,
+ * mail.smtp.connections.opened, mail.smtp.connections.active
+ */
+@Slf4j
+@Component
+@Profile("local")
+public class EmailDispatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final JavaMailSenderImpl mailSender;
+    private final EmailDeadLetterStore deadLetterStore;
+    private final MailDispatchProperties properties;
+
+    private final BlockingQueue<EmailMessage> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<PendingRetry> pendingRetries = ConcurrentHashMap.newKeySet();
+
+    private final Timer latencyTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetterCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter connectionsOpened;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSenderImpl mailSender,
+                           EmailDeadLetterStore deadLetterStore,
+                           MailDispatchProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.deadLetterStore = deadLetterStore;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), namedThreads("mail-dispatcher-"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(namedThreads("mail-retry-"));
+
+        Gauge.builder("mail.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 이메일 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("mail.dispatch.latency")
+                .description("접수부터 SMTP 발송 완료까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.dispatch.sent")
+                .description("발송 완료된 이메일 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.dispatch.retried")
+                .description("재시도 예약된 이메일 수")
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("mail.dispatch.dead_letter")
+                .description("재시도를 모두 실패한 이메일 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("mail.dispatch.batch.size")
+                .description("한 번에 모아서 보낸 이메일 수")
+                .register(meterRegistry);
+        this.connectionsOpened = Counter.builder("mail.smtp.connections.opened")
+                .description("새로 맺은 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.smtp.connections.active", activeConnections, AtomicInteger::get)
+                .description("현재 열려 있는 SMTP 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // 워커가 아직 돌고 있을 때 백오프 대기 중인 재시도를 큐로 되돌려 종료 전에 한 번 더 보냄
+        retryScheduler.shutdownNow();
+        for (PendingRetry retry : pendingRetries) {
+            retry.run();
+        }
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+
+        List<EmailMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("종료 시점에 발송되지 않은 이메일 {}건을 Dead Letter로 보냅니다.", remaining.size());
+            IllegalStateException cause = new IllegalStateException("발송기 종료로 보내지 못함");
+            remaining.forEach(message -> deadLetter(message, cause));
+        }
+    }
+
+    /**
+     * 이메일을 발송 큐에 넣습니다. 발송 완료를 기다리지 않습니다.
+     * @throws BusinessException 큐가 가득 찬 경우 (EMAIL_QUEUE_FULL)
+     */
+    public void enqueue(EmailMessage message) {
+        if (!queue.offer(message)) {
+            log.warn("이메일 발송 큐가 가득 찼습니다 - 수신자: {}", message.to());
+            throw new BusinessException(UserErrorCode.EMAIL_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 현재 발송 대기 중인 메일 수
+     */
+    public int queueSize() {
+        return queue.size();
+    }
+
+    private void runWorker() {
+        List<EmailMessage> batch = new ArrayList<>(properties.getBatchSize());
+        try (SmtpTransportSession session = new SmtpTransportSession(
+                mailSender, properties.getIdleTimeout(), connectionsOpened, activeConnections)) {
+            // 종료 요청 후에도 큐에 남은 메일은 모두 보내고 끝냄
+            while (running || !queue.isEmpty()) {
+                try {
+                    EmailMessage first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        session.closeIfIdle();
+                        continue;
+                    }
+                    batch.add(first);
+                    collectBatch(batch);
+                    deliver(batch, session);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    // 워커가 죽으면 큐가 비워지지 않으므로 예외를 삼키고 계속 진행
+                    log.error("이메일 발송 워커 오류: {}", e.getMessage(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * 첫 메일 이후 flush-window 가 지나거나 batch-size 가 찰 때까지 메일을 더 모읍니다.
+     */
+    private void collectBatch(List<EmailMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.getFlushWindow().toNanos();
+        while (batch.size() < properties.getBatchSize()) {
+            queue.drainTo(batch, properties.getBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.getBatchSize() || remaining <= 0) {
+                return;
+            }
+            EmailMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모아진 메일을 워커의 SMTP 연결로 차례대로 발송합니다.
+     * 연결이 끊겨 있으면 세션이 다시 연결하며, 실패한 메일만 재시도합니다.
+     * 예외는 메일 단위로 잡아서 한 건이 실패해도 배치의 나머지 메일은 그대로 발송합니다.
+     */
+    private void deliver(List<EmailMessage> batch, SmtpTransportSession session) {
+        batchSizeSummary.record(batch.size());
+        for (EmailMessage message : batch) {
+            try {
+                session.send(toMimeMessage(message));
+                recordSent(message);
+            } catch (MessagingException | RuntimeException e) {
+                // MailException, 스스로 닫힌 Transport 의 IllegalStateException 포함
+                retryOrDeadLetter(message, e);
+            }
+        }
+    }
+
+    private void recordSent(EmailMessage message) {
+        sentCounter.increment();
+        latencyTimer.record(System.nanoTime() - message.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+        log.info("이메일 발송 성공 - 수신자: {}", message.to());
+    }
+
+    private void retryOrDeadLetter(EmailMessage message, Throwable error) {
+        EmailMessage next = message.nextAttempt();
+        if (next.attempt() >= properties.getMaxAttempts() || !running) {
+            log.error("이메일 발송 최종 실패 - 수신자: {}, 시도: {}회, 에러: {}",
+                    message.to(), next.attempt(), error.getMessage());
+            deadLetter(next, error);
+            return;
+        }
+
+        long backoffMillis = backoffMillis(next.attempt());
+        log.warn("이메일 발송 실패, {}ms 후 재시도 - 수신자: {}, 시도: {}회, 에러: {}",
+                backoffMillis, message.to(), next.attempt(), error.getMessage());
+        retriedCounter.increment();
+        PendingRetry retry = new PendingRetry(next, error);
+        pendingRetries.add(retry);
+        try {
+            retryScheduler.schedule(retry, backoffMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 기다리지 않고 바로 큐로 되돌림
+            retry.run();
+        }
+    }
+
+    private void deadLetter(EmailMessage message, Throwable error) {
+        deadLetterCounter.increment();
+        deadLetterStore.save(message, error);
+    }
+
+    /**
+     * n번째 재시도 대기 시간: initial-backoff * multiplier^(n-1)
+     */
+    private long backoffMillis(int attempt) {
+        double multiplier = Math.pow(properties.getBackoffMultiplier(), attempt - 1);
+        return (long) (properties.getInitialBackoff().toMillis() * multiplier);
+    }
+
+    private MimeMessage toMimeMessage(EmailMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, "UTF-8");
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.text());
+        return mimeMessage;
+    }
+
+    /**
+     * 백오프 대기 중인 재시도 한 건
+     * 예약 실행과 종료 시 되돌리기 중 먼저 집합에서 꺼낸 쪽만 큐에 넣으므로 한 번만 처리됩니다.
+     */
+    private final class PendingRetry implements Runnable {
+
+        private final EmailMessage message;
+        private final Throwable error;
+
+        private PendingRetry(EmailMessage message, Throwable error) {
+            this.message = message;
+            this.error = error;
+        }
+
+        @Override
+        public void run() {
+            if (pendingRetries.remove(this) && !queue.offer(message)) {
+                deadLetter(message, error);
+            }
+        }
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+/**
+ * 발송 큐에 들어가는 이메일 한 건
+ *
+ * @param to              수신자 이메일
+ * @param subject         제목
+ * @param text            본문
+ * @param attempt         지금까지의 발송 시도 횟수
+ * @param enqueuedAtNanos 최초 접수 시각 (System.nanoTime, 발송 지연 측정용)
+ */
+public record EmailMessage(
+        String to,
+        String subject,
+        String text,
+        int attempt,
+        long enqueuedAtNanos
+) {
+
+    public static EmailMessage of(String to, String subject, String text) {
+        return new EmailMessage(to, subject, text, 0, System.nanoTime());
+    }
+
+    /**
+     * 발송 시도 횟수를 1 증가시킨 메시지를 반환합니다.
+     */
+    public EmailMessage nextAttempt() {
+        return new EmailMessage(to, subject, text, attempt + 1, enqueuedAtNanos);
+    }
+}
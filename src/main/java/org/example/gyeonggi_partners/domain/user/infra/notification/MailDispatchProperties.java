@@ -0,0 +1,62 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 이메일 발송 큐 관련 설정값
+ * application.properties 의 mail.dispatch.* 값을 읽어옵니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mail.dispatch")
+public class MailDispatchProperties {
+
+    /**
+     * 발송 대기 큐 크기
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 발송 워커 수 (워커마다 SMTP 연결 1개를 유지)
+     */
+    private int workers = 2;
+
+    /**
+     * 한 번에 모아서 보내는 최대 메일 수
+     */
+    private int batchSize = 20;
+
+    /**
+     * 첫 메일이 들어온 뒤 배치를 더 모으는 최대 대기 시간
+     */
+    private Duration flushWindow = Duration.ofMillis(200);
+
+    /**
+     * 이 시간 동안 사용하지 않은 SMTP 연결은 닫고 다음 발송 때 다시 연결
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 최대 발송 시도 횟수 (초과 시 Dead Letter로 이동)
+     */
+    private int maxAttempts = 4;
+
+    /**
+     * 첫 재시도 대기 시간
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 재시도마다 대기 시간에 곱하는 값
+     */
+    private double backoffMultiplier = 2.0;
+
+    /**
+     * Dead Letter 최대 보관 개수
+     */
+    private int deadLetterCapacity = 1000;
+}
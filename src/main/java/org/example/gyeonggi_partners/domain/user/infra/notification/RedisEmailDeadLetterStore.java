@@ -0,0 +1,55 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Redis List 기반 Dead Letter 저장소
+ *
+ * <p>본문에는 인증번호가 들어 있으므로 저장하지 않고, 수신자/제목/시도 횟수/실패 원인만 남깁니다.
+ * 최근 mail.dispatch.dead-letter-capacity 건만 유지합니다.</p>
+ */
+@Slf4j
+@Component
+public class RedisEmailDeadLetterStore implements EmailDeadLetterStore {
+
+    private static final String DEAD_LETTER_KEY = "email:dead-letter";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+
+    public RedisEmailDeadLetterStore(StringRedisTemplate redisTemplate,
+                                     ObjectMapper objectMapper,
+                                     MailDispatchProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = properties.getDeadLetterCapacity();
+    }
+
+    @Override
+    public void save(EmailMessage message, Throwable error) {
+        DeadLetter deadLetter = new DeadLetter(
+                message.to(),
+                message.subject(),
+                message.attempt(),
+                error != null ? error.getMessage() : null,
+                Instant.now().toString()
+        );
+        try {
+            redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, objectMapper.writeValueAsString(deadLetter));
+            redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, capacity - 1);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Dead Letter 저장 실패가 발송 워커를 멈추게 해서는 안 됨
+            log.error("이메일 Dead Letter 저장 실패 - 수신자: {}, 에러: {}", message.to(), e.getMessage());
+        }
+    }
+
+    private record DeadLetter(String to, String subject, int attempts, String error, String failedAt) {
+    }
+}
@@ -4,13 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.gyeonggi_partners.domain.user.domain.notifier.EmailNotifier;
 import org.springframework.context.annotation.Profile;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Component;
 
 /**
  * SMTP 이메일 발송 구현체
  * 실제 Gmail SMTP를 사용하여 이메일 발송
+ *
+ * <p>요청 스레드에서 SMTP 통신을 하지 않도록 메일을 EmailDispatcher 큐에 넣고 바로 반환합니다.
+ * 실제 발송, 재시도, Dead Letter 처리는 EmailDispatcher 워커가 담당합니다.</p>
  */
 @Component
 @Profile("local")  // local 프로파일에서만 활성화 (테스트용)
@@ -18,23 +19,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class SmtpEmailNotifier implements EmailNotifier {
 
-    private final JavaMailSender mailSender;
+    private static final String VERIFICATION_SUBJECT = "[경기파트너스] 이메일 인증번호";
+
+    private final EmailDispatcher emailDispatcher;
 
     @Override
     public void sendVerificationCode(String email, String verificationCode) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject("[경기파트너스] 이메일 인증번호");
-            message.setText(buildEmailContent(verificationCode));
-            
-            mailSender.send(message);
-            log.info("이메일 발송 성공 - 수신자: {}", email);
-            
-        } catch (Exception e) {
-            log.error("이메일 발송 실패 - 수신자: {}, 에러: {}", email, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+        emailDispatcher.enqueue(EmailMessage.of(email, VERIFICATION_SUBJECT, buildEmailContent(verificationCode)));
+        log.info("이메일 발송 요청 접수 - 수신자: {}", email);
     }
 
     /**
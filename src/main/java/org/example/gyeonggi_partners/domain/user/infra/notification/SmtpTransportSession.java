@@ -0,0 +1,137 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증까지 마친 SMTP 연결(Transport) 하나를 계속 열어두고 재사용하는 세션
+ *
+ * <p>발송 워커 하나가 세션 하나를 소유하며, 스레드 안전하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>연결이 없으면 발송 직전에 연결합니다. 매번 NOOP으로 연결을 확인하지 않고,
+ *       재사용한 연결로 보내다 실패했을 때만 끊겼는지 확인한 뒤 한 번 다시 연결해서 보냅니다.</li>
+ *   <li>idle-timeout 동안 사용하지 않은 연결은 서버가 끊기 전에 먼저 닫습니다.</li>
+ * </ul>
+ */
+@Slf4j
+class SmtpTransportSession implements AutoCloseable {
+
+    private final JavaMailSenderImpl mailSender;
+    private final long idleTimeoutNanos;
+    private final Counter connectionsOpened;
+    private final AtomicInteger activeConnections;
+
+    private Transport transport;
+    private long lastUsedNanos;
+
+    SmtpTransportSession(JavaMailSenderImpl mailSender,
+                         Duration idleTimeout,
+                         Counter connectionsOpened,
+                         AtomicInteger activeConnections) {
+        this.mailSender = mailSender;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.connectionsOpened = connectionsOpened;
+        this.activeConnections = activeConnections;
+    }
+
+    /**
+     * 열려 있는 연결로 메일 한 건을 발송합니다.
+     */
+    void send(MimeMessage message) throws MessagingException {
+        boolean reused = ensureConnected();
+        if (message.getSentDate() == null) {
+            message.setSentDate(new Date());
+        }
+        message.saveChanges();
+        try {
+            transport.sendMessage(message, message.getAllRecipients());
+        } catch (MessagingException | IllegalStateException e) {
+            // 서버가 먼저 끊은 연결을 재사용한 경우에만 다시 연결해서 한 번 더 보냄
+            // (Transport 가 이미 스스로 닫힌 경우에는 IllegalStateException 이 발생)
+            if (!reused || transport.isConnected()) {
+                if (!transport.isConnected()) {
+                    // 닫힌 연결을 다음 메일에서 재사용하지 않도록 버림
+                    close();
+                }
+                throw e;
+            }
+            log.debug("끊어진 SMTP 연결 재연결: {}", e.getMessage());
+            close();
+            ensureConnected();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+        lastUsedNanos = System.nanoTime();
+    }
+
+    /**
+     * idle-timeout 을 넘긴 연결을 닫습니다. 큐가 비어 있을 때 워커가 주기적으로 호출합니다.
+     */
+    void closeIfIdle() {
+        if (transport != null && System.nanoTime() - lastUsedNanos > idleTimeoutNanos) {
+            log.debug("유휴 SMTP 연결 종료");
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 중 오류: {}", e.getMessage());
+        } finally {
+            transport = null;
+            activeConnections.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return 기존 연결을 그대로 쓰면 true, 새로 연결했으면 false
+     */
+    private boolean ensureConnected() throws MessagingException {
+        if (transport != null && System.nanoTime() - lastUsedNanos <= idleTimeoutNanos) {
+            return true;
+        }
+        close();
+
+        Transport newTransport = mailSender.getSession().getTransport(resolveProtocol());
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        newTransport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+
+        transport = newTransport;
+        lastUsedNanos = System.nanoTime();
+        connectionsOpened.increment();
+        activeConnections.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * JavaMailSenderImpl 과 같은 규칙으로 프로토콜을 결정합니다. (지정값 → 세션 설정 → smtp)
+     */
+    private String resolveProtocol() {
+        if (mailSender.getProtocol() != null) {
+            return mailSender.getProtocol();
+        }
+        String protocol = mailSender.getSession().getProperty("mail.transport.protocol");
+        return protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.gyeonggi_partners.domain.user.infra.persistence;
+
+/**
+ * 회원가입 중복 검사 결과 프로젝션
+ * 로그인 ID/이메일/전화번호 각각이 이미 사용 중인지 여부
+ */
+public interface UserDuplicationView {
+
+    boolean getLoginIdTaken();
+
+    boolean getEmailTaken();
+
+    boolean getPhoneNumberTaken();
+}
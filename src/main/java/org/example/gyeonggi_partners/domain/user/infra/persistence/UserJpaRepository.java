@@ -1,7 +1,12 @@
 package org.example.gyeonggi_partners.domain.user.infra.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +30,40 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
      */
     boolean existsByPhoneNumber(String phoneNumber);
 
+    /**
+     * 닉네임 존재 여부 확인
+     */
+    boolean existsByNickname(String nickname);
+
+    /**
+     * 로그인 ID/이메일/전화번호 중복 여부를 한 번에 조회
+     * 세 항목 중 하나라도 일치하는 행만 읽으며(각 UNIQUE 인덱스 사용), 결과는 항상 1행입니다.
+     */
+    @Query(value = """
+            SELECT COALESCE(bool_or(u.login_id = :loginId), false)         AS "loginIdTaken",
+                   COALESCE(bool_or(u.email = :email), false)              AS "emailTaken",
+                   COALESCE(bool_or(u.phone_number = :phoneNumber), false) AS "phoneNumberTaken"
+            FROM users u
+            WHERE u.login_id = :loginId
+               OR u.email = :email
+               OR u.phone_number = :phoneNumber
+            """, nativeQuery = true)
+    UserDuplicationView findDuplication(@Param("loginId") String loginId,
+                                        @Param("email") String email,
+                                        @Param("phoneNumber") String phoneNumber);
+
+    /**
+     * 중복될 수 없는 컬럼만 ID 순으로 조회 (Bloom Filter 적재용 키셋 페이징)
+     */
+    @Query("""
+            SELECT u.id AS id, u.loginId AS loginId, u.email AS email,
+                   u.phoneNumber AS phoneNumber, u.nickname AS nickname
+            FROM UserEntity u
+            WHERE u.id > :afterId
+            ORDER BY u.id
+            """)
+    List<UserUniqueKeysView> findUniqueKeysAfter(@Param("afterId") Long afterId, Limit limit);
+
     /**
      * 로그인 ID로 UserEntity 조회
      */
@@ -32,4 +71,11 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findById(Long id);
 
+    /**
+     * 비밀번호 해시만 갱신 (로그인 시 재해싱용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE UserEntity u SET u.loginPw = :loginPw, u.updatedAt = CURRENT_TIMESTAMP WHERE u.id = :id")
+    int updateLoginPw(@Param("id") Long id, @Param("loginPw") String loginPw);
+
 }
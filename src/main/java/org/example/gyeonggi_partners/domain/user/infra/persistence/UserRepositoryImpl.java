@@ -1,27 +1,63 @@
 package org.example.gyeonggi_partners.domain.user.infra.persistence;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
 import org.example.gyeonggi_partners.domain.user.domain.model.User;
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
 import org.example.gyeonggi_partners.domain.user.domain.repository.UserRepository;
+import org.example.gyeonggi_partners.domain.user.domain.repository.UserSnapshotRepository;
+import org.example.gyeonggi_partners.domain.user.infra.bloom.RedisUserBloomFilter;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * UserRepository 구현체
  * 도메인 인터페이스를 JPA로 구현
  */
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository userJpaRepository;
+    private final RedisUserBloomFilter userBloomFilter;
+    private final UserSnapshotRepository userSnapshotRepository;
 
     @Override
     public User save(User user) {
         UserEntity entity = UserEntity.fromDomain(user);
-        UserEntity savedEntity = userJpaRepository.save(entity);
-        return savedEntity.toDomain();
+        try {
+            // 바로 INSERT 하여 유니크 제약조건 위반을 이 자리에서 잡아냄
+            UserEntity savedEntity = userJpaRepository.saveAndFlush(entity);
+            registerInBloomFilter(savedEntity);
+            userSnapshotRepository.evict(savedEntity.getId());
+            return savedEntity.toDomain();
+        } catch (DataIntegrityViolationException e) {
+            throw translateUniqueViolation(e);
+        }
+    }
+
+    @Override
+    public Set<UserUniqueField> findDuplicateFields(String loginId, String email, String phoneNumber) {
+        UserDuplicationView duplication = userJpaRepository.findDuplication(loginId, email, phoneNumber);
+
+        Set<UserUniqueField> duplicates = EnumSet.noneOf(UserUniqueField.class);
+        if (duplication.getLoginIdTaken()) {
+            duplicates.add(UserUniqueField.LOGIN_ID);
+        }
+        if (duplication.getEmailTaken()) {
+            duplicates.add(UserUniqueField.EMAIL);
+        }
+        if (duplication.getPhoneNumberTaken()) {
+            duplicates.add(UserUniqueField.PHONE_NUMBER);
+        }
+        return duplicates;
     }
 
     @Override
@@ -39,6 +75,11 @@ public class UserRepositoryImpl implements UserRepository {
         return userJpaRepository.existsByPhoneNumber(phoneNumber);
     }
 
+    @Override
+    public boolean existsByNickname(String nickname) {
+        return userJpaRepository.existsByNickname(nickname);
+    }
+
     @Override
     public Optional<User> findByLoginId(String loginId) {
         return userJpaRepository.findByLoginId(loginId)
@@ -51,5 +92,48 @@ public class UserRepositoryImpl implements UserRepository {
                 .map(UserEntity::toDomain);
     }
 
+    @Override
+    public void updatePassword(Long id, String encodedPassword) {
+        userJpaRepository.updateLoginPw(id, encodedPassword);
+    }
+
+    /**
+     * 저장된 회원의 유니크 항목을 Bloom Filter에 등록합니다.
+     * Redis 장애로 회원 저장이 실패하면 안 되므로 예외는 로그만 남깁니다.
+     * (트랜잭션이 롤백되어도 비트는 남지만 오탐만 늘 뿐 결과는 DB 조회로 바로잡힘)
+     */
+    private void registerInBloomFilter(UserEntity entity) {
+        try {
+            userBloomFilter.put(UserUniqueField.LOGIN_ID, entity.getLoginId());
+            userBloomFilter.put(UserUniqueField.EMAIL, entity.getEmail());
+            userBloomFilter.put(UserUniqueField.PHONE_NUMBER, entity.getPhoneNumber());
+            userBloomFilter.put(UserUniqueField.NICKNAME, entity.getNickname());
+        } catch (RuntimeException e) {
+            log.warn("회원 Bloom Filter 갱신 실패 - userId: {}, 에러: {}", entity.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * PostgreSQL 유니크 제약조건 위반을 해당 항목의 중복 에러로 변환합니다.
+     * 제약조건 이름은 V1__init.sql 의 UNIQUE 컬럼에 PostgreSQL이 붙인 기본 이름(users_{컬럼}_key)입니다.
+     */
+    private RuntimeException translateUniqueViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null) {
+            String constraintName = violation.getConstraintName();
+            UserUniqueField field = switch (constraintName) {
+                case "users_login_id_key" -> UserUniqueField.LOGIN_ID;
+                case "users_email_key" -> UserUniqueField.EMAIL;
+                case "users_phone_number_key" -> UserUniqueField.PHONE_NUMBER;
+                case "users_nickname_key" -> UserUniqueField.NICKNAME;
+                default -> null;
+            };
+            if (field != null) {
+                return new BusinessException(field.getDuplicateErrorCode());
+            }
+        }
+        return e;
+    }
+
 
 }
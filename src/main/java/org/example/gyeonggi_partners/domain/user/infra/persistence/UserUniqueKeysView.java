@@ -0,0 +1,18 @@
+package org.example.gyeonggi_partners.domain.user.infra.persistence;
+
+/**
+ * Bloom Filter 적재용 프로젝션
+ * 중복될 수 없는 컬럼만 조회합니다.
+ */
+public interface UserUniqueKeysView {
+
+    Long getId();
+
+    String getLoginId();
+
+    String getEmail();
+
+    String getPhoneNumber();
+
+    String getNickname();
+}
@@ -0,0 +1,93 @@
+package org.example.gyeonggi_partners.domain.user.infra.session;
+
+import lombok.RequiredArgsConstructor;
+import org.example.gyeonggi_partners.common.jwt.TokenDigests;
+import org.example.gyeonggi_partners.domain.user.domain.session.RefreshTokenStore;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Hash 기반 Refresh Token 저장소
+ *
+ * <ul>
+ *   <li>Key: RTS:{userId}, Field: deviceId, Value: Refresh Token의 SHA-256 (원문은 저장하지 않음)</li>
+ *   <li>만료: 필드마다 HPEXPIRE (Redis 7.4+) → 모든 기기가 만료되면 키도 자동 삭제</li>
+ *   <li>저장/교체는 Lua 스크립트로 실행해서 한 번의 왕복으로 원자적으로 처리</li>
+ * </ul>
+ *
+ * 기존 RT:{userId} 문자열 키와 타입이 달라 접두사를 바꿨습니다. 기존 키는 TTL(7일)이 지나면 사라집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "RTS:";
+
+    /**
+     * ARGV: deviceId, tokenDigest, ttlMillis
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * ARGV: deviceId, presentedDigest, newDigest, ttlMillis
+     * 반환: 1 = 교체, 0 = 세션 없음, -1 = 재사용 감지(세션 삭제)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local stored = redis.call('HGET', KEYS[1], ARGV[1])
+            if not stored then
+                return 0
+            end
+            if stored ~= ARGV[2] then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return -1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('HPEXPIRE', KEYS[1], ARGV[4], 'FIELDS', 1, ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(Long userId, String deviceId, String refreshToken, Duration ttl) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)),
+                deviceId, TokenDigests.sha256(refreshToken), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public RotationResult rotate(Long userId, String deviceId, String presentedToken, String newToken, Duration ttl) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                deviceId,
+                TokenDigests.sha256(presentedToken),
+                TokenDigests.sha256(newToken),
+                String.valueOf(ttl.toMillis()));
+
+        if (result == null || result == 0L) {
+            return RotationResult.NOT_FOUND;
+        }
+        return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    @Override
+    public void revoke(Long userId, String deviceId) {
+        redisTemplate.opsForHash().delete(key(userId), deviceId);
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,10 @@
+-- V2__chat_history_index.sql
+-- 논의방 이전 대화 조회(키셋 페이징)용 인덱스
+
+-- WHERE room_id = ? AND chat_id < ? ORDER BY chat_id DESC LIMIT n 을 인덱스 순서 그대로 읽습니다.
+-- 정렬 없이 n 건만 읽고 멈추므로 몇 번째 페이지든 비용이 같습니다.
+-- content 는 길이 제한(2000자, UTF-8 최대 약 6KB)이 B-Tree 항목 한도를 넘을 수 있어 INCLUDE 하지 않았고,
+-- 페이지당 n 건만 힙을 방문합니다.
+CREATE INDEX IF NOT EXISTS idx_chat_room_history
+    ON chat (room_id, chat_id DESC) INCLUDE (sender_id, chat_type, created_at);
+COMMENT ON INDEX idx_chat_room_history IS '논의방 이전 대화 키셋 페이징용 인덱스';
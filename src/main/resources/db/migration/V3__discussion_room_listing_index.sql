@@ -0,0 +1,10 @@
+-- V3__discussion_room_listing_index.sql
+-- 지역별 논의방 목록 조회용 부분 인덱스
+
+-- WHERE region = ? AND access_level = ? AND deleted_at IS NULL ORDER BY created_at DESC LIMIT n 을
+-- 인덱스를 역순으로 읽어 정렬 없이 처리합니다.
+-- 삭제된 논의방은 목록에 나오지 않으므로 인덱스에서 제외해 크기를 줄입니다.
+CREATE INDEX IF NOT EXISTS idx_discussion_rooms_listing
+    ON discussion_rooms (region, access_level, created_at)
+    WHERE deleted_at IS NULL;
+COMMENT ON INDEX idx_discussion_rooms_listing IS '지역 + 참여 가능 대상별 논의방 목록 조회용 부분 인덱스';
@@ -0,0 +1,40 @@
+-- V4__full_text_search.sql
+-- 채팅/제안서 검색용 tsvector 컬럼과 GIN 인덱스
+
+-- PostgreSQL 에는 한국어 사전이 없으므로 'simple' 설정(공백/문장부호 기준 분리, 소문자화)을 사용합니다.
+-- 조사가 붙은 어절("자전거도로가")은 검색어를 접두어로 찾아("자전거도로:*") 맞추고,
+-- 어절 중간에 있는 단어("도로")는 pg_trgm 트라이그램 인덱스로 찾습니다.
+-- 트라이그램은 DB의 LC_CTYPE 이 UTF-8 로케일(예: C.UTF-8, ko_KR.UTF-8)이어야 한글을 글자로 인식합니다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+
+-- 채팅 (chat)
+ALTER TABLE chat
+    ADD COLUMN IF NOT EXISTS content_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED;
+COMMENT ON COLUMN chat.content_tsv IS '검색용 tsvector (content 에서 자동 생성)';
+
+CREATE INDEX IF NOT EXISTS idx_chat_content_tsv ON chat USING gin (content_tsv);
+COMMENT ON INDEX idx_chat_content_tsv IS '채팅 전문 검색 인덱스';
+
+CREATE INDEX IF NOT EXISTS idx_chat_content_trgm ON chat USING gin (content gin_trgm_ops);
+COMMENT ON INDEX idx_chat_content_trgm IS '채팅 부분 문자열(트라이그램) 검색 인덱스';
+
+
+-- 제안서 (proposals)
+-- 제목은 가중치 A, 본문(JSONB 의 문자열 값만)은 가중치 B 로 넣어 제목에 나온 결과를 위로 올립니다.
+ALTER TABLE proposals
+    ADD COLUMN IF NOT EXISTS search_tsv tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('simple', title), 'A') ||
+            setweight(jsonb_to_tsvector('simple', contents, '["string"]'), 'B')
+        ) STORED;
+COMMENT ON COLUMN proposals.search_tsv IS '검색용 tsvector (title, contents 에서 자동 생성)';
+
+CREATE INDEX IF NOT EXISTS idx_proposals_search_tsv ON proposals USING gin (search_tsv) WHERE deleted_at IS NULL;
+COMMENT ON INDEX idx_proposals_search_tsv IS '제안서 전문 검색 인덱스';
+
+-- 조회 SQL 에서 같은 식((title || ' ' || contents::text))을 그대로 써야 인덱스를 사용합니다.
+CREATE INDEX IF NOT EXISTS idx_proposals_search_trgm
+    ON proposals USING gin ((title || ' ' || contents::text) gin_trgm_ops) WHERE deleted_at IS NULL;
+COMMENT ON INDEX idx_proposals_search_trgm IS '제안서 부분 문자열(트라이그램) 검색 인덱스';
@@ -0,0 +1,30 @@
+-- V5__proposal_consents.sql
+-- 제안서 동의를 사용자별 한 행으로 기록하는 테이블, 제안서 상태 enum 정정
+
+-- V1 에서 'SAVING' 뒤 쉼표가 빠져 두 값이 'SAVINGPENDING_CONSENT' 하나로 합쳐져 있었습니다.
+-- 합쳐진 값을 PENDING_CONSENT 로 바꾸고 SAVING 을 그 앞에 추가합니다. (이미 정정된 DB에서는 건너뜀)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1
+               FROM pg_enum e
+                        JOIN pg_type t ON t.oid = e.enumtypid
+               WHERE t.typname = 'proposal_status_enum'
+                 AND e.enumlabel = 'SAVINGPENDING_CONSENT') THEN
+        ALTER TYPE proposal_status_enum RENAME VALUE 'SAVINGPENDING_CONSENT' TO 'PENDING_CONSENT';
+    END IF;
+END $$;
+ALTER TYPE proposal_status_enum ADD VALUE IF NOT EXISTS 'SAVING' BEFORE 'PENDING_CONSENT';
+
+-- 동의 한 건 = 한 행. 동의가 몰려도 proposals 행(consents JSONB)을 다시 쓰지 않고 좁은 INSERT 만 일어납니다.
+-- 같은 사용자의 중복 동의는 기본 키로 막습니다.
+CREATE TABLE IF NOT EXISTS proposal_consents
+(
+    proposal_id BIGINT                   NOT NULL,
+    user_id     BIGINT                   NOT NULL,
+    created_at  TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_proposal_consents PRIMARY KEY (proposal_id, user_id),
+    CONSTRAINT fk_proposal_consents_proposal FOREIGN KEY (proposal_id) REFERENCES proposals (proposal_id) ON DELETE CASCADE,
+    CONSTRAINT fk_proposal_consents_user FOREIGN KEY (user_id) REFERENCES users (user_id) ON DELETE CASCADE
+);
+COMMENT ON TABLE proposal_consents IS '제안서에 동의한 사용자 (사용자별 한 행)';
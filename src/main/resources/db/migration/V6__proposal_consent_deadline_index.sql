@@ -0,0 +1,9 @@
+-- V6__proposal_consent_deadline_index.sql
+-- 동의 기한 스케줄러 재구성용 인덱스
+
+-- 서버가 시작할 때 동의 진행 중인 제안서만 proposal_id 순서(키셋)로 읽어 Redis 기한 목록을 다시 채웁니다.
+-- 동의 진행 중인 행만 담는 부분 인덱스라 전체 제안서 수와 상관없이 작게 유지됩니다.
+CREATE INDEX IF NOT EXISTS idx_proposals_pending_consent
+    ON proposals (proposal_id) INCLUDE (consent_deadline)
+    WHERE status = 'PENDING_CONSENT' AND deleted_at IS NULL;
+COMMENT ON INDEX idx_proposals_pending_consent IS '동의 진행 중인 제안서의 기한 (스케줄러 재구성용)';
@@ -0,0 +1,32 @@
+-- V7__proposal_search_text_trigram.sql
+-- 제안서 트라이그램 검색을 JSONB 의 문자열 값에만 적용
+
+-- V4 의 트라이그램 인덱스는 (title || ' ' || contents::text) 라서 JSON 키("background", "goal" 등)와
+-- 따옴표/괄호까지 함께 색인되어, 키 이름으로 검색하면 모든 제안서가 걸렸습니다.
+-- tsvector(search_tsv)와 같은 기준(jsonb_to_tsvector 의 '["string"]')으로 문자열 값만 뽑아 색인합니다.
+
+-- 제목 + 본문 JSONB 의 모든 문자열 값(깊이 상관없이)을 공백으로 이은 검색용 텍스트
+-- 생성 컬럼과 인덱스에 쓰므로 IMMUTABLE 이어야 합니다. 식을 바꾸면 컬럼을 다시 만들어야 기존 행에 반영됩니다.
+CREATE OR REPLACE FUNCTION proposal_search_text(title text, contents jsonb)
+    RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT title || ' ' || COALESCE(
+        (SELECT string_agg(value #>> '{}', ' ')
+         FROM jsonb_path_query(contents, 'strict $.** ? (@.type() == "string")') AS value),
+        '')
+$$;
+
+ALTER TABLE proposals
+    ADD COLUMN IF NOT EXISTS search_text text
+        GENERATED ALWAYS AS (proposal_search_text(title, contents)) STORED;
+COMMENT ON COLUMN proposals.search_text IS '트라이그램 검색용 텍스트 (title 과 contents 의 문자열 값, 자동 생성)';
+
+DROP INDEX IF EXISTS idx_proposals_search_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_proposals_search_text_trgm
+    ON proposals USING gin (search_text gin_trgm_ops) WHERE deleted_at IS NULL;
+COMMENT ON INDEX idx_proposals_search_text_trgm IS '제안서 부분 문자열(트라이그램) 검색 인덱스 (JSON 키 제외)';
@@ -0,0 +1,15 @@
+-- V8__chat_history_time_index.sql
+-- 이전 대화 키셋 페이징을 chat_id 대신 (created_at, chat_id) 순서로 변경
+
+-- chat_id 는 서버마다 id-block-size 개씩 미리 받아 둔 블록에서 발급되므로(ChatIdAllocator),
+-- 서버가 여러 대면 나중에 보낸 메시지가 더 작은 chat_id 를 가질 수 있고 그 차이는 블록 하나만큼 벌어질 수 있습니다.
+-- 보낸 시각을 먼저 정렬하고 같은 시각이면 chat_id 로 순서를 정합니다.
+
+-- WHERE room_id = ? AND created_at <= ? AND (created_at < ? OR chat_id < ?)
+-- ORDER BY created_at DESC, chat_id DESC LIMIT n 을 인덱스 순서 그대로 읽습니다.
+CREATE INDEX IF NOT EXISTS idx_chat_room_history_time
+    ON chat (room_id, created_at DESC, chat_id DESC) INCLUDE (sender_id, chat_type);
+COMMENT ON INDEX idx_chat_room_history_time IS '논의방 이전 대화 키셋 페이징용 인덱스 (보낸 시각, chat_id)';
+
+-- chat_id 순서 키셋 페이징용 인덱스는 더 이상 쓰지 않음
+DROP INDEX IF EXISTS idx_chat_room_history;
@@ -0,0 +1,87 @@
+package org.example.gyeonggi_partners.common.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.common.dto.TokenDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Access / Refresh Token이 서로 대신 쓰이지 않는지 확인합니다.
+ */
+class JwtTokenProviderTest {
+
+    private final JwtProperties properties = properties();
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(properties);
+    private final JwtAuthenticationCache authenticationCache =
+            new JwtAuthenticationCache(jwtTokenProvider, properties, new SimpleMeterRegistry());
+
+    @Test
+    void Access_Token으로만_API_인증을_할_수_있다() {
+        TokenDto tokens = login("device-1");
+
+        Authentication authentication = authenticationCache.resolve(tokens.getAccessToken());
+        assertThat(authentication).isNotNull();
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getUserId()).isEqualTo(1L);
+
+        assertThat(authenticationCache.resolve(tokens.getRefreshToken())).isNull();
+        assertThat(jwtTokenProvider.parseAccessClaims(tokens.getRefreshToken())).isNull();
+    }
+
+    @Test
+    void Refresh_Token으로만_재발급을_요청할_수_있다() {
+        TokenDto tokens = login("device-1");
+
+        assertThat(jwtTokenProvider.parseRefreshToken(tokens.getRefreshToken()))
+                .isEqualTo(new RefreshTokenClaims(1L, "device-1"));
+        assertThat(jwtTokenProvider.parseRefreshToken(tokens.getAccessToken())).isNull();
+    }
+
+    @Test
+    void typ_클레임이_없던_Refresh_Token도_Access_Token으로_쓸_수_없다() {
+        // typ 도입 전에는 Refresh Token에도 role 클레임이 들어 있었음
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecret()));
+        String legacyRefreshToken = Jwts.builder()
+                .subject("1")
+                .claim("role", "ROLE_USER")
+                .claim("did", "device-1")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(key)
+                .compact();
+
+        assertThat(authenticationCache.resolve(legacyRefreshToken)).isNull();
+        assertThat(jwtTokenProvider.parseRefreshToken(legacyRefreshToken))
+                .isEqualTo(new RefreshTokenClaims(1L, "device-1"));
+    }
+
+    private TokenDto login(String deviceId) {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                1L, "길동이", "hong@example.com", "USER", "newuser123", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        return jwtTokenProvider.generateTokenDto(
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()), deviceId);
+    }
+
+    private static JwtProperties properties() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Encoders.BASE64.encode(secret));
+        properties.setAccessTokenExpiration(3_600_000L);
+        properties.setRefreshTokenExpiration(604_800_000L);
+        return properties;
+    }
+}
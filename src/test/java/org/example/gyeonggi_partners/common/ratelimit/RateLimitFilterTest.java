@@ -0,0 +1,174 @@
+package org.example.gyeonggi_partners.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.example.gyeonggi_partners.common.jwt.TokenDigests;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경로 매칭, 본문 키, 429 응답, 본문 전달을 확인합니다. (Redis 는 목으로 대신함)
+ */
+class RateLimitFilterTest {
+
+    private static final String LOGIN_BODY = "{\"loginId\":\"  User01 \",\"password\":\"pw\"}";
+
+    private final RedisRateLimiter rateLimiter = mock(RedisRateLimiter.class);
+    private final RateLimitFilter filter = new RateLimitFilter(
+            rateLimiter, new ObjectMapper(), loginProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void 인코딩한_경로도_같은_경로로_보고_본문_키로_제한한다() throws Exception {
+        allow();
+        MockHttpServletRequest request = loginRequest("/api/auth/%6Cogin", LOGIN_BODY);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        ArgumentCaptor<List<RedisRateLimiter.Bucket>> buckets = bucketCaptor();
+        verify(rateLimiter).tryAcquire(buckets.capture());
+        assertThat(buckets.getValue()).extracting(RedisRateLimiter.Bucket::key).containsExactly(
+                "login:ip:10.0.0.1",
+                "login:login_id:" + TokenDigests.sha256("user01"));
+    }
+
+    @Test
+    void 제한하지_않는_경로와_메서드는_그대로_통과한다() throws Exception {
+        MockFilterChain otherPath = new MockFilterChain();
+        filter.doFilter(loginRequest("/api/auth/logout", LOGIN_BODY), new MockHttpServletResponse(), otherPath);
+
+        MockHttpServletRequest get = loginRequest("/api/auth/login", LOGIN_BODY);
+        get.setMethod("GET");
+        MockFilterChain otherMethod = new MockFilterChain();
+        filter.doFilter(get, new MockHttpServletResponse(), otherMethod);
+
+        verifyNoInteractions(rateLimiter);
+        assertThat(otherPath.getRequest()).isNotNull();
+        assertThat(otherMethod.getRequest()).isNotNull();
+    }
+
+    @Test
+    void 거절되면_429와_Retry_After를_돌려준다() throws Exception {
+        when(rateLimiter.tryAcquire(anyList())).thenReturn(new RedisRateLimiter.Decision(1_500, false));
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(loginRequest("/api/auth/login", LOGIN_BODY), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains("G001");
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void 허용되면_컨트롤러가_같은_본문을_다시_읽는다() throws Exception {
+        allow();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(loginRequest("/api/auth/login", LOGIN_BODY), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        ServletInputStream in = chain.getRequest().getInputStream();
+        assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(LOGIN_BODY);
+        assertThat(in.isFinished()).isTrue();
+        assertThat(chain.getRequest().getReader().lines().collect(Collectors.joining())).isEqualTo(LOGIN_BODY);
+    }
+
+    @Test
+    void 본문이_너무_크면_제한을_건너뛰지_않고_413으로_거절한다() throws Exception {
+        FilterChain chain = mock(FilterChain.class);
+        String oversized = "{\"loginId\":\"user01\",\"password\":\"" + "x".repeat(2_048) + "\"}";
+
+        MockHttpServletResponse declared = new MockHttpServletResponse();
+        filter.doFilter(loginRequest("/api/auth/login", oversized), declared, chain);
+
+        // Content-Length 없이 (chunked) 보내도 읽다가 넘치면 거절
+        MockHttpServletRequest chunked = loginRequest("/api/auth/login", oversized);
+        chunked.removeHeader("Content-Length");
+        MockHttpServletResponse streamed = new MockHttpServletResponse();
+        filter.doFilter(new ChunkedRequest(chunked), streamed, chain);
+
+        assertThat(declared.getStatus()).isEqualTo(413);
+        assertThat(declared.getContentAsString()).contains("G002");
+        assertThat(streamed.getStatus()).isEqualTo(413);
+        verifyNoInteractions(rateLimiter);
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    private void allow() {
+        when(rateLimiter.tryAcquire(anyList())).thenReturn(new RedisRateLimiter.Decision(0, false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<RedisRateLimiter.Bucket>> bucketCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static MockHttpServletRequest loginRequest(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr("10.0.0.1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static RateLimitProperties loginProperties() {
+        RateLimitProperties.Limit ip = new RateLimitProperties.Limit();
+        ip.setCapacity(30);
+        ip.setPeriod(Duration.ofMinutes(1));
+        RateLimitProperties.Limit loginId = new RateLimitProperties.Limit();
+        loginId.setKey(RateLimitProperties.KeyType.LOGIN_ID);
+        loginId.setCapacity(10);
+        loginId.setPeriod(Duration.ofMinutes(5));
+
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/auth/login");
+        route.setLimits(List.of(ip, loginId));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBodySize(DataSize.ofKilobytes(1));
+        properties.getRoutes().put("login", route);
+        return properties;
+    }
+
+    /**
+     * Content-Length 를 모르는 요청
+     */
+    private static final class ChunkedRequest extends HttpServletRequestWrapper {
+
+        private ChunkedRequest(MockHttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+    }
+}
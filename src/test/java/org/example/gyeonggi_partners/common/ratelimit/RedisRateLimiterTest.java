@@ -0,0 +1,55 @@
+package org.example.gyeonggi_partners.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis로 토큰 버킷과 로컬 거절을 확인합니다.
+ */
+class RedisRateLimiterTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private final RedisRateLimiter rateLimiter = new RedisRateLimiter(
+            redis.template(), new RateLimitProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void 버킷을_다_쓰면_거절하고_거절된_키는_Redis_없이_로컬에서_거절한다() {
+        List<RedisRateLimiter.Bucket> buckets = List.of(new RedisRateLimiter.Bucket("login:ip:1.2.3.4", 3, 60_000));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(buckets).allowed()).isTrue();
+        }
+        RedisRateLimiter.Decision rejected = rateLimiter.tryAcquire(buckets);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.local()).isFalse();
+        // 토큰 하나가 채워지는 시간 (60초 / 3)
+        assertThat(rejected.retryAfterMillis()).isBetween(19_000L, 20_000L);
+
+        redis.commands().flushall();
+        RedisRateLimiter.Decision local = rateLimiter.tryAcquire(buckets);
+        assertThat(local.allowed()).isFalse();
+        assertThat(local.local()).isTrue();
+    }
+
+    @Test
+    void 버킷_하나라도_비어_있으면_어느_버킷도_쓰지_않는다() {
+        RedisRateLimiter.Bucket ip = new RedisRateLimiter.Bucket("email-send:ip:1.2.3.4", 10, 600_000);
+        RedisRateLimiter.Bucket email = new RedisRateLimiter.Bucket("email-send:email:a", 1, 600_000);
+
+        assertThat(rateLimiter.tryAcquire(List.of(ip, email)).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(List.of(ip, email)).allowed()).isFalse();
+
+        // 이메일 버킷에서 거절됐으므로 IP 버킷은 한 번만 쓰임
+        assertThat(Double.parseDouble(redis.commands().hget("rate:email-send:ip:1.2.3.4", "t"))).isBetween(8.9, 9.1);
+        assertThat(rateLimiter.tryAcquire(List.of(ip, new RedisRateLimiter.Bucket("email-send:email:b", 1, 600_000)))
+                .allowed()).isTrue();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.gyeonggi_partners.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void min_strength_보다_낮은_cost_의_해시만_다시_해싱한다() {
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(properties(6, 1, 16), meterRegistry)) {
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))).isFalse();
+            // 다른 노드가 더 높은 cost 로 보정했어도 되돌리지 않음
+            assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(7).encode("password"))).isFalse();
+            assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+        }
+    }
+
+    @Test
+    void 대기열까지_가득_차면_기다리지_않고_거절한다() throws Exception {
+        int callers = 16;
+        try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(properties(10, 1, 1), meterRegistry)) {
+            String encoded = encoder.encode("password");
+
+            ExecutorService executor = Executors.newFixedThreadPool(callers);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return encoder.matches("password", encoded);
+                    } catch (BusinessException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.PASSWORD_HASHING_BUSY);
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int matched = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    matched++;
+                }
+            }
+            executor.shutdown();
+
+            double rejected = meterRegistry.get("password.hashing.rejected").counter().count();
+            assertThat(matched).isPositive();
+            assertThat(rejected).isPositive();
+            assertThat(matched + rejected).isEqualTo(callers);
+        }
+    }
+
+    private static PasswordHashingProperties properties(int minStrength, int poolSize, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setCalibrate(false);
+        properties.setMinStrength(minStrength);
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
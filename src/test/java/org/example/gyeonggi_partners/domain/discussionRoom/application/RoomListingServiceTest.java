@@ -0,0 +1,41 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.application;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.RoomListingRepository;
+import org.example.gyeonggi_partners.domain.discussionRoom.exception.DiscussionRoomErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomListingServiceTest {
+
+    private final RoomListingRepository roomListingRepository = mock(RoomListingRepository.class);
+    private final RoomListingService roomListingService = new RoomListingService(roomListingRepository);
+
+    @Test
+    void 허용_범위를_넘는_페이지는_DB를_조회하지_않고_거절한다() {
+        assertThatThrownBy(() -> roomListingService.getRooms(Region.SUWON, null, Integer.MAX_VALUE))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(DiscussionRoomErrorCode.INVALID_PAGE));
+
+        verify(roomListingRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void 마지막_허용_페이지까지는_조회한다() {
+        when(roomListingRepository.findPage(Region.SUWON, null, RoomListingService.MAX_PAGE))
+                .thenReturn(RoomPage.empty(RoomListingService.MAX_PAGE));
+
+        assertThat(roomListingService.getRooms(Region.SUWON, null, RoomListingService.MAX_PAGE).page())
+                .isEqualTo(RoomListingService.MAX_PAGE);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.DiscussionRoomChangedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.DiscussionRoomRepository;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임베디드 Redis로 목록 캐시 적재와 부분 무효화를 확인합니다.
+ */
+class CachedRoomListingRepositoryTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private DiscussionRoomRepository discussionRoomRepository;
+    private CachedRoomListingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        discussionRoomRepository = mock(DiscussionRoomRepository.class);
+        when(discussionRoomRepository.findSummaries(eq(Region.SUWON), eq(AccessLevel.PUBLIC), eq(0), anyInt()))
+                .thenReturn(List.of(room(2L, AccessLevel.PUBLIC), room(1L, AccessLevel.PUBLIC)));
+        when(discussionRoomRepository.findSummaries(eq(Region.SUWON), eq(AccessLevel.OFFICIALS_ONLY), eq(0), anyInt()))
+                .thenReturn(List.of(room(3L, AccessLevel.OFFICIALS_ONLY)));
+        repository = newRepository();
+    }
+
+    @Test
+    void 처음_한_번만_DB에서_읽고_다른_서버는_Redis에서_읽는다() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(repository.findPage(Region.SUWON, AccessLevel.PUBLIC, 0).rooms())
+                    .extracting(RoomSummary::roomId).containsExactly(2L, 1L);
+        }
+        newRepository().findPage(Region.SUWON, AccessLevel.PUBLIC, 0);
+
+        verify(discussionRoomRepository, times(1)).findSummaries(eq(Region.SUWON), eq(AccessLevel.PUBLIC), eq(0), anyInt());
+    }
+
+    @Test
+    void 지역_전체_목록은_참여_가능_대상별_목록을_최신순으로_합친다() {
+        RoomPage page = repository.findPage(Region.SUWON, null, 0);
+
+        assertThat(page.rooms()).extracting(RoomSummary::roomId).containsExactly(3L, 2L, 1L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void 변경된_논의방이_속한_목록만_다시_읽는다() {
+        repository.findPage(Region.SUWON, AccessLevel.PUBLIC, 0);
+        repository.findPage(Region.SUWON, AccessLevel.OFFICIALS_ONLY, 0);
+
+        repository.onRoomChanged(new DiscussionRoomChangedEvent(4L, Region.SUWON, null, AccessLevel.PUBLIC));
+        repository.findPage(Region.SUWON, AccessLevel.PUBLIC, 0);
+        repository.findPage(Region.SUWON, AccessLevel.OFFICIALS_ONLY, 0);
+
+        verify(discussionRoomRepository, times(2)).findSummaries(eq(Region.SUWON), eq(AccessLevel.PUBLIC), eq(0), anyInt());
+        verify(discussionRoomRepository, times(1)).findSummaries(eq(Region.SUWON), eq(AccessLevel.OFFICIALS_ONLY), eq(0), anyInt());
+    }
+
+    @Test
+    void DB를_읽는_사이_변경이_있었으면_Redis에_저장하지_않는다() {
+        when(discussionRoomRepository.findSummaries(eq(Region.SUWON), eq(AccessLevel.PUBLIC), eq(0), anyInt()))
+                .thenAnswer(invocation -> {
+                    // 읽는 도중 다른 서버에서 변경 발생
+                    redis.commands().incr("room:listing:gen:SUWON:PUBLIC");
+                    return List.of(room(1L, AccessLevel.PUBLIC));
+                });
+
+        repository.findPage(Region.SUWON, AccessLevel.PUBLIC, 0);
+
+        assertThat(redis.commands().exists("room:listing:SUWON:PUBLIC")).isZero();
+    }
+
+    private CachedRoomListingRepository newRepository() {
+        return new CachedRoomListingRepository(
+                discussionRoomRepository,
+                redis.template(),
+                mock(RedisMessageListenerContainer.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                new RoomListingProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    private static RoomSummary room(Long roomId, AccessLevel accessLevel) {
+        return new RoomSummary(roomId, "방" + roomId, null, Region.SUWON, accessLevel,
+                LocalDateTime.of(2025, 1, 1, 0, 0).plusMinutes(roomId));
+    }
+}
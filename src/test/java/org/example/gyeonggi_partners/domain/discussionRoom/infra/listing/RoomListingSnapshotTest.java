@@ -0,0 +1,51 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.listing;
+
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.AccessLevel;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.Region;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomPage;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.model.RoomSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomListingSnapshotTest {
+
+    @Test
+    void 미리_만든_페이지는_순서대로_잘려_있다() {
+        RoomListingSnapshot snapshot = RoomListingSnapshot.of(rooms(25), 10, 3);
+
+        assertThat(snapshot.page(0).rooms()).extracting(RoomSummary::roomId).startsWith(25L).hasSize(10);
+        assertThat(snapshot.page(2).rooms()).extracting(RoomSummary::roomId).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(snapshot.page(1).hasNext()).isTrue();
+        assertThat(snapshot.page(2).hasNext()).isFalse();
+        assertThat(snapshot.page(3)).isEqualTo(RoomPage.empty(3));
+    }
+
+    @Test
+    void 미리_만든_페이지보다_많으면_마지막_페이지에_다음이_있고_그_뒤는_DB에서_읽는다() {
+        RoomListingSnapshot snapshot = RoomListingSnapshot.of(rooms(31), 10, 3);
+
+        assertThat(snapshot.page(2).hasNext()).isTrue();
+        assertThat(snapshot.page(2).rooms()).hasSize(10);
+        assertThat(snapshot.page(3)).isNull();
+    }
+
+    @Test
+    void 논의방이_없으면_빈_페이지() {
+        RoomListingSnapshot snapshot = RoomListingSnapshot.of(List.of(), 10, 3);
+
+        assertThat(snapshot.page(0)).isEqualTo(RoomPage.empty(0));
+    }
+
+    private static List<RoomSummary> rooms(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        return LongStream.rangeClosed(1, count)
+                .map(i -> count + 1 - i)
+                .mapToObj(id -> new RoomSummary(id, "방" + id, null, Region.SUWON, AccessLevel.PUBLIC, now.minusMinutes(count - id)))
+                .toList();
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberJoinedEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMemberLeftEvent;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InMemoryRoomMembershipIndexTest {
+
+    private MemberRepository memberRepository;
+    private InMemoryRoomMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        index = new InMemoryRoomMembershipIndex(
+                memberRepository,
+                mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class),
+                event -> { },
+                new MembershipIndexProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 논의방_멤버는_처음_한_번만_DB에서_읽는다() {
+        when(memberRepository.findUserIdsByRoomId(1L)).thenReturn(new long[]{10, 11});
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(index.isMember(10L, 1L)).isTrue();
+            assertThat(index.isMember(11L, 1L)).isTrue();
+        }
+
+        verify(memberRepository, times(1)).findUserIdsByRoomId(1L);
+        verify(memberRepository, never()).existsByUserIdAndRoomId(anyLong(), anyLong());
+    }
+
+    @Test
+    void 참여와_나가기_이벤트가_바로_반영된다() {
+        when(memberRepository.findUserIdsByRoomId(1L)).thenReturn(new long[]{10});
+        when(memberRepository.findRoomIdsByUserId(20L)).thenReturn(new long[]{2});
+        index.isMember(10L, 1L);
+        index.roomIdsOf(20L);
+
+        index.onJoined(new RoomMemberJoinedEvent(1L, 20L));
+        assertThat(index.isMember(20L, 1L)).isTrue();
+        assertThat(index.roomIdsOf(20L)).containsExactly(1L, 2L);
+
+        index.onLeft(new RoomMemberLeftEvent(1L, 20L));
+        assertThat(index.roomIdsOf(20L)).containsExactly(2L);
+        verify(memberRepository, times(1)).findRoomIdsByUserId(20L);
+    }
+
+    @Test
+    void 인덱스에_없는_사용자는_DB로_다시_확인하고_멤버면_인덱스에_추가한다() {
+        when(memberRepository.findUserIdsByRoomId(1L)).thenReturn(new long[]{10});
+        when(memberRepository.existsByUserIdAndRoomId(30L, 1L)).thenReturn(true);
+        when(memberRepository.existsByUserIdAndRoomId(40L, 1L)).thenReturn(false);
+        index.isMember(10L, 1L);
+
+        assertThat(index.isMember(30L, 1L)).isTrue();
+        assertThat(index.isMember(30L, 1L)).isTrue();
+        assertThat(index.isMember(40L, 1L)).isFalse();
+
+        verify(memberRepository, times(1)).existsByUserIdAndRoomId(30L, 1L);
+    }
+
+    @Test
+    void 멤버가_아니라고_확인된_사용자는_잠시_DB로_다시_확인하지_않고_참여하면_바로_풀린다() {
+        when(memberRepository.findUserIdsByRoomId(1L)).thenReturn(new long[]{10});
+        when(memberRepository.existsByUserIdAndRoomId(40L, 1L)).thenReturn(false);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(index.isMember(40L, 1L)).isFalse();
+        }
+        verify(memberRepository, times(1)).existsByUserIdAndRoomId(40L, 1L);
+
+        index.onJoined(new RoomMemberJoinedEvent(1L, 40L));
+        assertThat(index.isMember(40L, 1L)).isTrue();
+    }
+
+    @Test
+    void 적재_중에_변경_이벤트가_지나가면_적재_결과를_인덱스에_남기지_않는다() {
+        // DB를 읽는 사이에 다른 요청이 참여를 커밋한 상황
+        when(memberRepository.findUserIdsByRoomId(1L)).thenAnswer(invocation -> {
+            index.onJoined(new RoomMemberJoinedEvent(1L, 50L));
+            return new long[]{10};
+        }).thenReturn(new long[]{10, 50});
+
+        index.isMember(10L, 1L);
+
+        assertThat(index.isMember(50L, 1L)).isTrue();
+        verify(memberRepository, times(2)).findUserIdsByRoomId(1L);
+    }
+}
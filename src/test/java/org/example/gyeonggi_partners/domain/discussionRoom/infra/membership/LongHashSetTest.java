@@ -0,0 +1,58 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.membership;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongHashSetTest {
+
+    @Test
+    void 추가와_삭제를_반복해도_HashSet과_같은_결과를_낸다() {
+        Random random = new Random(42);
+        Set<Long> expected = new HashSet<>();
+        LongHashSet set = LongHashSet.EMPTY;
+
+        for (int i = 0; i < 5_000; i++) {
+            long value = 1 + random.nextInt(500);
+            if (random.nextBoolean()) {
+                expected.add(value);
+                set = set.with(value);
+            } else {
+                expected.remove(value);
+                set = set.without(value);
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = 1; value <= 500; value++) {
+            assertThat(set.contains(value)).as("value %d", value).isEqualTo(expected.contains(value));
+        }
+        assertThat(set.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).sorted().toArray());
+    }
+
+    @Test
+    void 변경하면_새_집합을_반환하고_기존_집합은_그대로다() {
+        LongHashSet original = LongHashSet.of(new long[]{1, 2, 3});
+
+        LongHashSet added = original.with(4);
+        LongHashSet removed = original.without(2);
+
+        assertThat(original.toArray()).containsExactly(1, 2, 3);
+        assertThat(added.toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(removed.toArray()).containsExactly(1, 3);
+        assertThat(original.with(1)).isSameAs(original);
+    }
+
+    @Test
+    void 양수가_아닌_값은_넣지_않는다() {
+        LongHashSet set = LongHashSet.of(new long[]{0, -1, 5, 5});
+
+        assertThat(set.size()).isEqualTo(1);
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(5)).isTrue();
+    }
+}
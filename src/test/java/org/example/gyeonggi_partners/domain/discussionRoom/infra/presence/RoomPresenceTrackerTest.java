@@ -0,0 +1,109 @@
+package org.example.gyeonggi_partners.domain.discussionRoom.infra.presence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.LocalRoomBroadcaster;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis로 접속자 집계와 접속자 수 조회를 확인합니다.
+ * flush 스레드는 띄우지 않고 flushChanges 를 직접 호출합니다.
+ */
+class RoomPresenceTrackerTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private RoomPresenceTracker tracker;
+    private RedisRoomPresenceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        PresenceProperties properties = new PresenceProperties();
+        properties.setCountCacheTtl(Duration.ZERO);
+        StringRedisTemplate redisTemplate = redis.template();
+        tracker = new RoomPresenceTracker(redisTemplate, properties, new SimpleMeterRegistry());
+        repository = new RedisRoomPresenceRepository(redisTemplate, properties);
+    }
+
+    @Test
+    void 같은_사용자가_여러_세션으로_들어와도_한_명으로_센다() {
+        subscribe("session-1", 10L, 1L);
+        subscribe("session-2", 10L, 1L);
+        subscribe("session-3", 20L, 1L);
+        tracker.flushChanges();
+
+        assertThat(repository.countOnline(List.of(1L, 2L))).containsEntry(1L, 2L).containsEntry(2L, 0L);
+
+        disconnect("session-1");
+        tracker.flushChanges();
+        assertThat(repository.countOnline(List.of(1L))).containsEntry(1L, 2L);
+
+        disconnect("session-2");
+        tracker.flushChanges();
+        assertThat(repository.countOnline(List.of(1L))).containsEntry(1L, 1L);
+    }
+
+    @Test
+    void 반영되기_전에_들어왔다_나간_사용자는_Redis에_쓰지_않는다() {
+        subscribe("session-1", 10L, 1L);
+        disconnect("session-1");
+        tracker.flushChanges();
+
+        assertThat(redis.commands().exists(RoomPresenceTracker.key(1L))).isZero();
+    }
+
+    @Test
+    void 만료_시각이_지난_접속자는_세지_않는다() {
+        // 갱신이 끊긴 다른 서버의 접속자
+        redis.commands().zadd(RoomPresenceTracker.key(1L), System.currentTimeMillis() - 1_000, "99");
+        subscribe("session-1", 10L, 1L);
+        tracker.flushChanges();
+
+        assertThat(repository.countOnline(List.of(1L))).containsEntry(1L, 1L);
+    }
+
+    // ================= 도우미 =================
+
+    private void subscribe(String sessionId, Long userId, Long roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + roomId);
+        accessor.setDestination(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX + roomId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        tracker.onSubscribe(new SessionSubscribeEvent(this, message, principal(userId)));
+    }
+
+    private void disconnect(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        tracker.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+    }
+
+    private static Principal principal(Long userId) {
+        CustomUserDetails userDetails = new CustomUserDetails(
+                userId, "user" + userId, null, "USER", "user" + userId, null, List.of());
+        return new UsernamePasswordAuthenticationToken(userDetails, null, List.of());
+    }
+}
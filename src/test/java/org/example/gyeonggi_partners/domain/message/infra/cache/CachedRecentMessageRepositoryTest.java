@@ -0,0 +1,104 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.example.gyeonggi_partners.domain.message.infra.persistence.ChatJpaRepository;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임베디드 Redis로 최근 메시지 Redis 리스트가 빠지는 메시지 없이 보낸 순서로 유지되는지 확인합니다.
+ */
+class CachedRecentMessageRepositoryTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static final Long ROOM_ID = 10L;
+
+    private final ChatJpaRepository chatJpaRepository = mock(ChatJpaRepository.class);
+    private final CachedRecentMessageRepository repository = new CachedRecentMessageRepository(
+            chatJpaRepository,
+            redis.template(),
+            new ObjectMapper().findAndRegisterModules(),
+            new ChatRecentCacheProperties(),
+            new SimpleMeterRegistry());
+
+    @Test
+    void DB에서_채우기_전에_추가한_메시지만으로_최근_메시지를_응답하지_않는다() {
+        when(chatJpaRepository.findHistory(eq(ROOM_ID), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(message(3L), message(2L), message(1L)));
+
+        repository.append(message(3L));
+
+        assertThat(repository.findRecent(ROOM_ID)).extracting(ChatMessageView::chatId).containsExactly(3L, 2L, 1L);
+        verify(chatJpaRepository).findHistory(eq(ROOM_ID), any(LocalDateTime.class), anyLong(), any(Limit.class));
+    }
+
+    @Test
+    void DB에_아직_저장되지_않은_메시지도_DB에서_채운_뒤_빠지지_않는다() {
+        // 4번은 write-behind 버퍼에만 있어서 DB 조회에 나오지 않음
+        when(chatJpaRepository.findHistory(eq(ROOM_ID), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(message(3L), message(2L), message(1L)));
+        repository.append(message(4L));
+
+        repository.findRecent(ROOM_ID);
+        repository.append(message(5L));
+
+        assertThat(repository.findRecent(ROOM_ID)).extracting(ChatMessageView::chatId)
+                .containsExactly(5L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    void DB에서_채운_뒤에는_추가한_메시지가_리스트에_이어진다() {
+        when(chatJpaRepository.findHistory(eq(ROOM_ID), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(message(2L), message(1L)));
+        repository.findRecent(ROOM_ID);
+
+        repository.append(message(3L));
+
+        assertThat(repository.findRecent(ROOM_ID)).extracting(ChatMessageView::chatId).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void 최근_메시지는_chat_id_가_아니라_보낸_순서로_자른다() {
+        when(chatJpaRepository.findHistory(eq(ROOM_ID), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of());
+        repository.findRecent(ROOM_ID);
+        ChatRecentCacheProperties properties = new ChatRecentCacheProperties();
+
+        // 높은 블록을 받은 서버가 먼저 채우고, 낮은 블록을 받은 서버가 나중에 보냄
+        for (int i = 0; i < properties.getCapacity(); i++) {
+            repository.append(message(1000L + i, 1));
+        }
+        repository.append(message(7L, 2));
+
+        List<ChatMessageView> recent = repository.findRecent(ROOM_ID);
+        assertThat(recent).hasSize(properties.getCapacity());
+        assertThat(recent.get(0).chatId()).isEqualTo(7L);
+    }
+
+    private static ChatMessageView message(long chatId) {
+        return message(chatId, 0);
+    }
+
+    private static ChatMessageView message(long chatId, int sentMinute) {
+        return new ChatMessageView(chatId, ROOM_ID, 7L, "닉네임", "메시지 " + chatId, MessageType.TEXT,
+                LocalDateTime.of(2025, 1, 1, 0, sentMinute));
+    }
+}
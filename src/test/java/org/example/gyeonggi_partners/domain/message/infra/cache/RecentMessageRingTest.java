@@ -0,0 +1,68 @@
+package org.example.gyeonggi_partners.domain.message.infra.cache;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageRingTest {
+
+    @Test
+    void 가득_차면_가장_오래된_메시지를_덮어쓴다() {
+        RecentMessageRing ring = new RecentMessageRing(3);
+
+        for (long chatId = 1; chatId <= 5; chatId++) {
+            ring.add(message(chatId, (int) chatId));
+        }
+
+        assertThat(ring.newestFirst()).extracting(ChatMessageView::chatId).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    void 순서가_뒤바뀐_메시지도_보낸_순서로_넣는다() {
+        RecentMessageRing ring = new RecentMessageRing(4);
+
+        ring.add(message(10, 10));
+        ring.add(message(12, 12));
+        ring.add(message(11, 11));
+        ring.add(message(13, 13));
+        ring.add(message(9, 9));
+
+        assertThat(ring.newestFirst()).extracting(ChatMessageView::chatId).containsExactly(13L, 12L, 11L, 10L);
+    }
+
+    @Test
+    void 낮은_chat_id_블록을_받은_서버의_새_메시지도_최신으로_넣는다() {
+        RecentMessageRing ring = new RecentMessageRing(3);
+        // 다른 서버가 1001~ 블록에서 발급한 메시지가 먼저 채운 상태
+        ring.add(message(1001, 1));
+        ring.add(message(1002, 2));
+        ring.add(message(1003, 3));
+
+        assertThat(ring.add(message(4, 4))).isTrue();
+        assertThat(ring.add(message(5, 4))).isTrue();
+
+        assertThat(ring.newestFirst()).extracting(ChatMessageView::chatId).containsExactly(5L, 4L, 1003L);
+    }
+
+    @Test
+    void 이미_있거나_보관_범위보다_오래된_메시지는_무시한다() {
+        RecentMessageRing ring = new RecentMessageRing(2);
+        ring.add(message(5, 5));
+        ring.add(message(6, 6));
+        long bytes = ring.estimatedBytes();
+
+        assertThat(ring.add(message(6, 6))).isFalse();
+        assertThat(ring.add(message(7, 4))).isFalse();
+        assertThat(ring.size()).isEqualTo(2);
+        assertThat(ring.estimatedBytes()).isEqualTo(bytes);
+    }
+
+    private static ChatMessageView message(long chatId, int sentMinute) {
+        return new ChatMessageView(chatId, 1L, 7L, "닉네임", "메시지 " + chatId, MessageType.TEXT,
+                LocalDateTime.of(2025, 1, 1, 0, sentMinute));
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatCursor;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessageView;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 서버 두 대가 한 시퀀스에서 블록을 나눠 받을 때의 chat_id 와 메시지 순서를 확인합니다.
+ */
+class ChatIdAllocatorTest {
+
+    private static final int BLOCK_SIZE = 1000;
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    // chat 테이블의 BIGSERIAL 시퀀스 대신
+    private final AtomicLong sequence = new AtomicLong();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    void 서버마다_다른_블록을_받아_chat_id는_겹치지_않지만_보낸_순서와는_다르다() {
+        stubSequence();
+        ChatIdAllocator nodeA = allocator();
+        ChatIdAllocator nodeB = allocator();
+
+        // 번갈아 보내면 A 는 블록 1~1000, B 는 1001~2000 에서 발급
+        List<ChatMessageView> sent = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sent.add(message(nodeA.nextId(), START.plusSeconds(2L * i)));
+            sent.add(message(nodeB.nextId(), START.plusSeconds(2L * i + 1)));
+        }
+
+        assertThat(sent).extracting(ChatMessageView::chatId).containsExactly(1L, 1001L, 2L, 1002L, 3L, 1003L);
+        // chat_id 순서로는 B 의 메시지가 A 가 나중에 보낸 메시지보다 모두 뒤로 감
+        assertThat(sent.stream().sorted(Comparator.comparing(ChatMessageView::chatId)).toList())
+                .isNotEqualTo(sent);
+        assertThat(sent.stream().sorted(ChatMessageView.SEND_ORDER).toList()).isEqualTo(sent);
+    }
+
+    @Test
+    void 커서는_보낸_시각과_chat_id를_마이크로초까지_그대로_되살린다() {
+        ChatMessageView last = message(1001L, START.plusNanos(123_456_000));
+
+        ChatCursor cursor = ChatCursor.parse(ChatCursor.of(last).toString());
+
+        assertThat(cursor.createdAt()).isEqualTo(last.createdAt());
+        assertThat(cursor.chatId()).isEqualTo(1001L);
+    }
+
+    private void stubSequence() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(BLOCK_SIZE))).thenAnswer(invocation -> {
+            long from = sequence.getAndAdd(BLOCK_SIZE) + 1;
+            return LongStream.range(from, from + BLOCK_SIZE).boxed().toList();
+        });
+    }
+
+    private ChatIdAllocator allocator() {
+        ChatWriteBehindProperties properties = new ChatWriteBehindProperties();
+        properties.setIdBlockSize(BLOCK_SIZE);
+        return new ChatIdAllocator(jdbcTemplate, properties);
+    }
+
+    private static ChatMessageView message(long chatId, LocalDateTime createdAt) {
+        return new ChatMessageView(chatId, 1L, 7L, "닉네임", "메시지 " + chatId, MessageType.TEXT, createdAt);
+    }
+}
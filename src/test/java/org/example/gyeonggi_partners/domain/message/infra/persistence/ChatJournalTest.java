@@ -0,0 +1,87 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 기록한_메시지는_재시작_후_그대로_재적재된다() throws Exception {
+        ChatJournal journal = new ChatJournal(directory, 1024 * 1024, 100);
+        journal.start();
+        journal.append(message(1L, "안녕하세요")).get();
+        journal.append(message(2L, "두 번째")).get();
+        journal.close();
+
+        List<ChatMessage> replayed = replay();
+
+        assertThat(replayed).extracting(ChatMessage::getId).containsExactly(1L, 2L);
+        assertThat(replayed.get(0).getContent()).isEqualTo("안녕하세요");
+        assertThat(replayed.get(0).getType()).isEqualTo(MessageType.TEXT);
+        assertThat(segmentFiles()).isEmpty();
+    }
+
+    @Test
+    void 쓰다_만_마지막_레코드는_버리고_앞의_레코드만_재적재한다() throws Exception {
+        ChatJournal journal = new ChatJournal(directory, 1024 * 1024, 100);
+        journal.start();
+        journal.append(message(1L, "완전한 레코드")).get();
+        journal.close();
+
+        // 기록 도중 죽은 상황: 다음 레코드의 앞부분만 남음
+        byte[] torn = ChatJournal.encode(message(2L, "잘린 레코드"));
+        Files.write(segmentFiles().get(0), Arrays.copyOf(torn, torn.length / 2), StandardOpenOption.APPEND);
+
+        assertThat(replay()).extracting(ChatMessage::getId).containsExactly(1L);
+    }
+
+    @Test
+    void DB에_저장이_끝난_세그먼트는_전환_후_삭제된다() throws Exception {
+        // 레코드 하나만 들어가도 세그먼트가 가득 차도록 작게 설정
+        ChatJournal journal = new ChatJournal(directory, 1, 100);
+        journal.start();
+        long first = journal.append(message(1L, "첫 번째")).get();
+        long second = journal.append(message(2L, "두 번째")).get();
+
+        journal.release(first, 1);
+        journal.close();
+
+        assertThat(second).isGreaterThan(first);
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(replay()).extracting(ChatMessage::getId).containsExactly(2L);
+    }
+
+    private List<ChatMessage> replay() throws IOException {
+        List<ChatMessage> replayed = new ArrayList<>();
+        ChatJournal journal = new ChatJournal(directory, 1024 * 1024, 100);
+        journal.replay(journal.leftoverSegments(), replayed::addAll);
+        return replayed;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream.sorted().toList();
+        }
+    }
+
+    private static ChatMessage message(Long id, String content) {
+        return ChatMessage.restore(id, 10L, 100L, content, MessageType.TEXT, LocalDateTime.now());
+    }
+}
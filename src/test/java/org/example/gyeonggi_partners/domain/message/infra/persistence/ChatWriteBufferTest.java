@@ -0,0 +1,148 @@
+package org.example.gyeonggi_partners.domain.message.infra.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChatWriteBufferTest {
+
+    private static final String POISON = "저장할 수 없는 메시지";
+
+    @TempDir
+    Path directory;
+
+    private final List<Long> stored = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private ChatWriteBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    @Test
+    void 저장할_수_없는_메시지만_dead_letter_로_옮기고_나머지는_저장한다() throws Exception {
+        buffer = createBuffer();
+        buffer.start();
+
+        List<Long> ids = List.of(
+                buffer.append(message("첫 번째")).getId(),
+                buffer.append(message(POISON)).getId(),
+                buffer.append(message("세 번째")).getId());
+
+        awaitStored(2);
+        assertThat(stored).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+        assertThat(deadLetters()).extracting(ChatMessage::getId).containsExactly(ids.get(1));
+    }
+
+    @Test
+    void 재적재할_때도_저장할_수_없는_메시지에서_멈추지_않는다() throws Exception {
+        Files.write(directory.resolve(String.format("segment-%020d.log", 1)), concat(
+                ChatJournal.encode(ChatMessage.restore(1L, 10L, 100L, "첫 번째", MessageType.TEXT, LocalDateTime.now())),
+                ChatJournal.encode(ChatMessage.restore(2L, 10L, 100L, POISON, MessageType.TEXT, LocalDateTime.now())),
+                ChatJournal.encode(ChatMessage.restore(3L, 10L, 100L, "세 번째", MessageType.TEXT, LocalDateTime.now()))));
+
+        buffer = createBuffer();
+        buffer.start();
+
+        awaitStored(2);
+        assertThat(stored).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(deadLetters()).extracting(ChatMessage::getId).containsExactly(2L);
+    }
+
+    @Test
+    void DB에_닿지_않아도_시작은_끝나고_재적재한_메시지를_새_메시지보다_먼저_저장한다() throws Exception {
+        Files.write(directory.resolve(String.format("segment-%020d.log", 1)),
+                ChatJournal.encode(ChatMessage.restore(1L, 10L, 100L, "이전 실행", MessageType.TEXT, LocalDateTime.now())));
+        databaseDown.set(true);
+
+        buffer = createBuffer();
+        assertTimeoutPreemptively(Duration.ofSeconds(2), buffer::start);
+        long sent = buffer.append(message("새 메시지")).getId();
+        Thread.sleep(100);
+        assertThat(stored).isEmpty();
+
+        databaseDown.set(false);
+        awaitStored(2);
+        assertThat(stored).containsExactly(1L, sent);
+    }
+
+    private ChatWriteBuffer createBuffer() {
+        ChatWriteBehindProperties properties = new ChatWriteBehindProperties();
+        properties.setJournalDir(directory.toString());
+        properties.setBatchSize(10);
+        properties.setFlushInterval(Duration.ofMillis(200));
+        properties.setRetryBackoff(Duration.ofMillis(10));
+
+        AtomicLong sequence = new AtomicLong(100);
+        ChatIdAllocator idAllocator = mock(ChatIdAllocator.class);
+        when(idAllocator.nextId()).thenAnswer(invocation -> sequence.incrementAndGet());
+
+        ChatBatchInserter inserter = mock(ChatBatchInserter.class);
+        doAnswer(invocation -> {
+            List<ChatMessage> messages = invocation.getArgument(0);
+            if (databaseDown.get()) {
+                throw new TransientDataAccessResourceException("connection refused");
+            }
+            if (messages.stream().anyMatch(message -> POISON.equals(message.getContent()))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            messages.forEach(message -> stored.add(message.getId()));
+            return null;
+        }).when(inserter).insert(anyList());
+
+        return new ChatWriteBuffer(idAllocator, inserter, properties, new SimpleMeterRegistry());
+    }
+
+    private void awaitStored(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (stored.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private List<ChatMessage> deadLetters() throws Exception {
+        return ChatJournal.readSegment(directory.resolve("dead-letter.log"));
+    }
+
+    private static byte[] concat(byte[]... records) {
+        int length = 0;
+        for (byte[] record : records) {
+            length += record.length;
+        }
+        byte[] joined = new byte[length];
+        int offset = 0;
+        for (byte[] record : records) {
+            System.arraycopy(record, 0, joined, offset, record.length);
+            offset += record.length;
+        }
+        return joined;
+    }
+
+    private static ChatMessage message(String content) {
+        return ChatMessage.create(10L, 100L, content, MessageType.TEXT);
+    }
+}
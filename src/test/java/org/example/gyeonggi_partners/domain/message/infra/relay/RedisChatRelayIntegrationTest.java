@@ -0,0 +1,216 @@
+package org.example.gyeonggi_partners.domain.message.infra.relay;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.message.domain.model.ChatMessage;
+import org.example.gyeonggi_partners.domain.message.domain.model.MessageType;
+import org.example.gyeonggi_partners.domain.message.infra.cache.CachedRecentMessageRepository;
+import org.example.gyeonggi_partners.domain.message.infra.websocket.LocalRoomBroadcaster;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 임베디드 Redis 하나에 서버 두 대(애플리케이션 컨텍스트 2개)를 붙여 서버 간 채팅 전달을 확인합니다.
+ * DB 없이 띄울 수 있도록 컨텍스트에는 중계에 필요한 빈만 등록합니다.
+ */
+class RedisChatRelayIntegrationTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void 다른_서버에서_보낸_메시지를_구독_중인_서버가_받는다() {
+        subscribe(nodeB, "session-b", 1L);
+        awaitChannelSubscribers(1L, 1);
+
+        relay(nodeA).publish(message(1L, "안녕하세요"), "보낸사람");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(delivered(nodeB)).hasSize(1));
+        Delivery delivery = delivered(nodeB).get(0);
+        assertThat(delivery.message().getContent()).isEqualTo("안녕하세요");
+        assertThat(delivery.message().getId()).isEqualTo(100L);
+        assertThat(delivery.senderNickname()).isEqualTo("보낸사람");
+    }
+
+    @Test
+    void 보낸_서버의_구독자는_Redis를_거치지_않고_한_번만_받는다() {
+        subscribe(nodeA, "session-a", 1L);
+        subscribe(nodeB, "session-b", 1L);
+        awaitChannelSubscribers(1L, 2);
+
+        relay(nodeA).publish(message(1L, "한 번만"), "보낸사람");
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(delivered(nodeB)).hasSize(1));
+        // 자기 메시지가 Redis에서 다시 돌아와도 중복 전달하지 않음
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                assertThat(delivered(nodeA)).hasSize(1));
+    }
+
+    @Test
+    void 구독자가_없는_논의방_채널은_구독하지_않는다() {
+        subscribe(nodeB, "session-b", 1L);
+        awaitChannelSubscribers(1L, 1);
+
+        relay(nodeA).publish(message(2L, "다른 방"), "보낸사람");
+
+        assertThat(channelSubscribers(2L)).isZero();
+        await().during(Duration.ofMillis(300)).atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                assertThat(delivered(nodeB)).isEmpty());
+    }
+
+    @Test
+    void 마지막_구독자의_연결이_끊기면_채널_구독을_해제한다() {
+        subscribe(nodeB, "session-b", 1L);
+        awaitChannelSubscribers(1L, 1);
+
+        nodeB.getBean(RoomSubscriptionRegistry.class).onDisconnect(new SessionDisconnectEvent(
+                this, disconnectMessage("session-b"), "session-b", CloseStatus.NORMAL));
+
+        awaitChannelSubscribers(1L, 0);
+        assertThat(nodeB.getBean(RoomSubscriptionRegistry.class).localSubscriberCount(1L)).isZero();
+    }
+
+    // ================= 도우미 =================
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean("redisPort", Integer.class, redis::port);
+        context.register(RelayNodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static void subscribe(AnnotationConfigApplicationContext node, String sessionId, Long roomId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + roomId);
+        accessor.setDestination(LocalRoomBroadcaster.ROOM_TOPIC_PREFIX + roomId);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        node.getBean(RoomSubscriptionRegistry.class).onSubscribe(new SessionSubscribeEvent(node, message));
+    }
+
+    private static Message<byte[]> disconnectMessage(String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void awaitChannelSubscribers(Long roomId, long expected) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> channelSubscribers(roomId) == expected);
+    }
+
+    private static long channelSubscribers(Long roomId) {
+        String channel = RedisChatRelay.channel(roomId);
+        return redis.commands().pubsubNumsub(channel).getOrDefault(channel, 0L);
+    }
+
+    private static RedisChatRelay relay(AnnotationConfigApplicationContext node) {
+        return node.getBean(RedisChatRelay.class);
+    }
+
+    private static List<Delivery> delivered(AnnotationConfigApplicationContext node) {
+        return node.getBean(CapturingBroadcaster.class).deliveries;
+    }
+
+    private static ChatMessage message(Long roomId, String content) {
+        return ChatMessage.restore(100L, roomId, 7L, content, MessageType.TEXT, LocalDateTime.now());
+    }
+
+    record Delivery(ChatMessage message, String senderNickname) {
+    }
+
+    /**
+     * WebSocket 대신 전달된 메시지를 모아 두는 브로드캐스터
+     */
+    static class CapturingBroadcaster extends LocalRoomBroadcaster {
+
+        final List<Delivery> deliveries = new CopyOnWriteArrayList<>();
+
+        CapturingBroadcaster() {
+            super(new SimpMessagingTemplate((message, timeout) -> true));
+        }
+
+        @Override
+        public void broadcast(ChatMessage message, String senderNickname) {
+            deliveries.add(new Delivery(message, senderNickname));
+        }
+    }
+
+    @Configuration
+    @Import({RedisChatRelay.class, RoomSubscriptionRegistry.class})
+    static class RelayNodeConfig {
+
+        @Bean
+        LettuceConnectionFactory redisConnectionFactory(Integer redisPort) {
+            return new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", redisPort));
+        }
+
+        @Bean
+        RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CachedRecentMessageRepository recentMessageCache() {
+            return mock(CachedRecentMessageRepository.class);
+        }
+
+        @Bean
+        CapturingBroadcaster localRoomBroadcaster() {
+            return new CapturingBroadcaster();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.gyeonggi_partners.domain.message.infra.websocket;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.common.jwt.JwtAuthenticationCache;
+import org.example.gyeonggi_partners.domain.discussionRoom.domain.event.RoomMembershipRevokedEvent;
+import org.example.gyeonggi_partners.domain.message.application.ChatMembershipGuard;
+import org.example.gyeonggi_partners.domain.message.exception.MessageErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.application.ProposalAccessGuard;
+import org.example.gyeonggi_partners.domain.proposal.infra.lock.RedisProposalEditLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StompChannelInterceptorTest {
+
+    private static final Long USER_ID = 7L;
+    private static final String SESSION_ID = "session-1";
+
+    private final ChatMembershipGuard membershipGuard = mock(ChatMembershipGuard.class);
+    private final ProposalAccessGuard proposalAccessGuard = mock(ProposalAccessGuard.class);
+    private final StompSubscriptionTracker subscriptionTracker = new StompSubscriptionTracker();
+    private final MessageChannel channel = (message, timeout) -> true;
+
+    private StompChannelInterceptor interceptor;
+    private Authentication user;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompChannelInterceptor(mock(JwtAuthenticationCache.class), membershipGuard,
+                proposalAccessGuard, mock(RedisProposalEditLock.class), subscriptionTracker);
+        CustomUserDetails details = new CustomUserDetails(USER_ID, "닉네임", "user@example.com", "USER",
+                "user", null, List.of());
+        user = new UsernamePasswordAuthenticationToken(details, null, List.of());
+    }
+
+    @Test
+    void 앱_주소로_보내는_메시지만_통과시킨다() {
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, "/app/rooms/1/messages", "s"), channel)).isNotNull();
+
+        assertInvalidDestination(frame(StompCommand.SEND, "/topic/rooms/1", "s"));
+        assertInvalidDestination(frame(StompCommand.SEND, "/user/8/queue/errors", "s"));
+        assertInvalidDestination(frame(StompCommand.SEND, null, "s"));
+    }
+
+    @Test
+    void 허용_목록에_없는_주소는_구독할_수_없다() {
+        assertInvalidDestination(frame(StompCommand.SUBSCRIBE, "/topic/**", "s"));
+        assertInvalidDestination(frame(StompCommand.SUBSCRIBE, "/topic/rooms/*", "s"));
+        assertInvalidDestination(frame(StompCommand.SUBSCRIBE, "/topic/rooms/1/extra", "s"));
+        assertInvalidDestination(frame(StompCommand.SUBSCRIBE, "/queue/errors-usersession-2", "s"));
+        assertInvalidDestination(frame(StompCommand.SUBSCRIBE, "/topic/other", "s"));
+
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/errors", "s"), channel)).isNotNull();
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/proposal-locks", "s"), channel))
+                .isNotNull();
+    }
+
+    @Test
+    void 논의방_토픽은_멤버만_구독한다() {
+        doThrow(new BusinessException(MessageErrorCode.NOT_A_ROOM_MEMBER)).when(membershipGuard).checkMember(USER_ID, 2L);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/rooms/1", "s"), channel)).isNotNull();
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/rooms/2", "s"), channel))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 논의방을_나가면_그_방의_구독만_회수한다() {
+        when(proposalAccessGuard.checkMember(USER_ID, 30L)).thenReturn(1L);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/rooms/1", "sub-room"), channel);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/proposals/30", "sub-proposal"), channel);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/topic/rooms/2", "sub-other"), channel);
+
+        List<Message<?>> brokerMessages = new ArrayList<>();
+        List<Object> events = new ArrayList<>();
+        RoomSubscriptionRevoker revoker = new RoomSubscriptionRevoker(subscriptionTracker,
+                new SimpMessagingTemplate((message, timeout) -> brokerMessages.add(message)), events::add);
+
+        revoker.onMembershipRevoked(new RoomMembershipRevokedEvent(1L, USER_ID));
+
+        assertThat(brokerMessages)
+                .allSatisfy(message -> {
+                    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+                    assertThat(accessor.getCommand()).isEqualTo(StompCommand.UNSUBSCRIBE);
+                    assertThat(accessor.getSessionId()).isEqualTo(SESSION_ID);
+                })
+                .extracting(message -> StompHeaderAccessor.wrap(message).getSubscriptionId())
+                .containsExactlyInAnyOrder("sub-room", "sub-proposal");
+        assertThat(events).hasSize(2).allMatch(SessionUnsubscribeEvent.class::isInstance);
+
+        revoker.onMembershipRevoked(new RoomMembershipRevokedEvent(1L, USER_ID));
+        assertThat(brokerMessages).hasSize(2);
+    }
+
+    private void assertInvalidDestination(Message<?> message) {
+        assertThatThrownBy(() -> interceptor.preSend(message, channel))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(MessageErrorCode.INVALID_DESTINATION));
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setUser(user);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
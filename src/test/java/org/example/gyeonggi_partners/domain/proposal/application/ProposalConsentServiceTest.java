@@ -0,0 +1,97 @@
+package org.example.gyeonggi_partners.domain.proposal.application;
+
+import org.example.gyeonggi_partners.common.jwt.CustomUserDetails;
+import org.example.gyeonggi_partners.domain.proposal.domain.editor.ProposalEditor;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentOutcome;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentResult;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentState;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.Proposal;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ConsentTally;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalConsentRepository;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.domain.proposal.domain.scheduler.ConsentDeadlineScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProposalConsentServiceTest {
+
+    private static final Long PROPOSAL_ID = 30L;
+    private static final Long USER_ID = 7L;
+
+    private final ProposalRepository proposalRepository = mock(ProposalRepository.class);
+    private final ProposalConsentRepository consentRepository = mock(ProposalConsentRepository.class);
+    private final ConsentTally consentTally = mock(ConsentTally.class);
+    private final ConsentDeadlineScheduler deadlineScheduler = mock(ConsentDeadlineScheduler.class);
+    private final ProposalConsentService consentService = new ProposalConsentService(
+            proposalRepository,
+            consentRepository,
+            consentTally,
+            mock(ProposalEditor.class),
+            mock(ProposalAccessGuard.class),
+            deadlineScheduler);
+
+    private final CustomUserDetails user =
+            new CustomUserDetails(USER_ID, "닉네임", "user@example.com", "USER", "user", null, List.of());
+
+    @BeforeEach
+    void setUp() {
+        when(consentTally.record(eq(PROPOSAL_ID), eq(USER_ID), anyLong()))
+                .thenReturn(new ConsentResult(ConsentOutcome.THRESHOLD_REACHED, 3));
+    }
+
+    @Test
+    void 필요_동의_수에_도달해_상태를_바꾸면_기한_예약을_취소한다() {
+        when(proposalRepository.changeStatus(PROPOSAL_ID, ProposalStatus.PENDING_CONSENT, ProposalStatus.READY_TO_SUBMIT))
+                .thenReturn(true);
+
+        assertThat(consentService.consent(PROPOSAL_ID, user).status()).isEqualTo(ProposalStatus.READY_TO_SUBMIT);
+
+        verify(deadlineScheduler).cancel(PROPOSAL_ID);
+    }
+
+    @Test
+    void 상태를_바꾸지_못하면_기한_예약을_취소하지_않고_다시_반영하도록_예약한다() {
+        when(proposalRepository.changeStatus(PROPOSAL_ID, ProposalStatus.PENDING_CONSENT, ProposalStatus.READY_TO_SUBMIT))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        consentService.consent(PROPOSAL_ID, user);
+
+        verify(deadlineScheduler, never()).cancel(any());
+        verify(deadlineScheduler).schedule(eq(PROPOSAL_ID), any(LocalDateTime.class));
+    }
+
+    @Test
+    void 집계가_사라진_뒤_기한이_지나도_DB의_동의가_필요_동의_수에_도달했으면_READY_TO_SUBMIT_으로_마감한다() {
+        LocalDateTime deadline = LocalDateTime.now().minusMinutes(1);
+        when(proposalRepository.findById(PROPOSAL_ID)).thenReturn(Optional.of(Proposal.restore(
+                PROPOSAL_ID, 1L, USER_ID, "제목", "내용", 2, deadline, ProposalStatus.PENDING_CONSENT,
+                3L, deadline.minusDays(1), deadline.minusDays(1), null)));
+        when(consentRepository.findUserIds(PROPOSAL_ID)).thenReturn(List.of(USER_ID, 8L));
+        when(consentTally.close(PROPOSAL_ID, ProposalStatus.CONSENT_FAILED))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(ProposalStatus.READY_TO_SUBMIT));
+
+        consentService.closeExpired(PROPOSAL_ID);
+
+        ArgumentCaptor<ConsentState> state = ArgumentCaptor.forClass(ConsentState.class);
+        verify(consentTally).load(state.capture(), eq(List.of(USER_ID, 8L)));
+        assertThat(state.getValue().closedStatus()).isEqualTo(ProposalStatus.READY_TO_SUBMIT);
+        verify(proposalRepository).changeStatus(PROPOSAL_ID, ProposalStatus.PENDING_CONSENT, ProposalStatus.READY_TO_SUBMIT);
+    }
+}
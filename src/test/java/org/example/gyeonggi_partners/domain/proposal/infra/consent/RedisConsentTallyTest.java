@@ -0,0 +1,122 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.consent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentOutcome;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentSnapshot;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentState;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ProposalStatus;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 Redis로 동시에 몰린 동의의 집계와 마감을 확인합니다.
+ */
+class RedisConsentTallyTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static final Long PROPOSAL_ID = 1L;
+
+    private final RedisConsentTally tally = new RedisConsentTally(
+            redis.template(), new SimpleMeterRegistry());
+
+    @Test
+    void 동시에_몰린_중복_동의는_한_번만_센다() throws Exception {
+        load(10_000, LocalDateTime.now().plusHours(1));
+
+        // 3000명이 두 번씩 동시에 동의
+        Map<ConsentOutcome, Integer> outcomes = consentConcurrently(3000, 2);
+
+        assertThat(outcomes.get(ConsentOutcome.RECORDED)).isEqualTo(3000);
+        assertThat(outcomes.get(ConsentOutcome.ALREADY_CONSENTED)).isEqualTo(3000);
+        assertThat(tally.find(PROPOSAL_ID, 1L).orElseThrow().count()).isEqualTo(3000);
+    }
+
+    @Test
+    void 필요_동의_수_도달은_정확히_한_번이고_이후_동의는_마감된다() throws Exception {
+        load(1000, LocalDateTime.now().plusHours(1));
+
+        Map<ConsentOutcome, Integer> outcomes = consentConcurrently(3000, 1);
+
+        assertThat(outcomes.get(ConsentOutcome.THRESHOLD_REACHED)).isEqualTo(1);
+        assertThat(outcomes.get(ConsentOutcome.RECORDED)).isEqualTo(999);
+        assertThat(outcomes.get(ConsentOutcome.CLOSED)).isEqualTo(2000);
+
+        ConsentSnapshot snapshot = tally.find(PROPOSAL_ID, 1L).orElseThrow();
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.closedStatus()).isEqualTo(ProposalStatus.READY_TO_SUBMIT);
+        // 이미 도달했으면 기한 마감은 결과를 바꾸지 않음
+        assertThat(tally.close(PROPOSAL_ID, ProposalStatus.CONSENT_FAILED)).contains(ProposalStatus.READY_TO_SUBMIT);
+    }
+
+    @Test
+    void 기한이_지나면_기록하지_않고_마감은_먼저_표시한_쪽이_이긴다() {
+        load(2, LocalDateTime.now().plusMinutes(1));
+        assertThat(tally.record(PROPOSAL_ID, 1L, System.currentTimeMillis()).outcome()).isEqualTo(ConsentOutcome.RECORDED);
+
+        long afterDeadline = System.currentTimeMillis() + 120_000;
+        assertThat(tally.record(PROPOSAL_ID, 2L, afterDeadline).outcome()).isEqualTo(ConsentOutcome.DEADLINE_PASSED);
+        assertThat(tally.close(PROPOSAL_ID, ProposalStatus.CONSENT_FAILED)).contains(ProposalStatus.CONSENT_FAILED);
+        assertThat(tally.record(PROPOSAL_ID, 2L, System.currentTimeMillis()).outcome()).isEqualTo(ConsentOutcome.CLOSED);
+    }
+
+    @Test
+    void 되돌리면_도달_표시도_풀리고_상태가_없으면_DB에서_다시_불러오라고_알린다() {
+        assertThat(tally.record(PROPOSAL_ID, 1L, System.currentTimeMillis()).outcome()).isEqualTo(ConsentOutcome.NOT_LOADED);
+
+        tally.load(new ConsentState(PROPOSAL_ID, 2, LocalDateTime.now().plusHours(1), null), List.of(7L));
+        assertThat(tally.record(PROPOSAL_ID, 7L, System.currentTimeMillis()).outcome()).isEqualTo(ConsentOutcome.ALREADY_CONSENTED);
+        assertThat(tally.record(PROPOSAL_ID, 1L, System.currentTimeMillis()).outcome()).isEqualTo(ConsentOutcome.THRESHOLD_REACHED);
+
+        tally.rollback(PROPOSAL_ID, 1L);
+
+        ConsentSnapshot snapshot = tally.find(PROPOSAL_ID, 1L).orElseThrow();
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(snapshot.closedStatus()).isNull();
+        assertThat(snapshot.consented()).isFalse();
+    }
+
+    private void load(int requiredConsents, LocalDateTime deadline) {
+        tally.load(new ConsentState(PROPOSAL_ID, requiredConsents, deadline, null), List.of());
+    }
+
+    private Map<ConsentOutcome, Integer> consentConcurrently(int users, int attemptsPerUser) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ConsentOutcome>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(64)) {
+            for (int attempt = 0; attempt < attemptsPerUser; attempt++) {
+                for (long userId = 1; userId <= users; userId++) {
+                    long id = userId;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return tally.record(PROPOSAL_ID, id, System.currentTimeMillis()).outcome();
+                    }));
+                }
+            }
+            start.countDown();
+
+            Map<ConsentOutcome, Integer> outcomes = new EnumMap<>(ConsentOutcome.class);
+            for (ConsentOutcome outcome : ConsentOutcome.values()) {
+                outcomes.put(outcome, 0);
+            }
+            for (Future<ConsentOutcome> future : futures) {
+                outcomes.merge(future.get(), 1, Integer::sum);
+            }
+            return outcomes;
+        }
+    }
+}
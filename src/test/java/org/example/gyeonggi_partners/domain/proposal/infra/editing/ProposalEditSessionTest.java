@@ -0,0 +1,143 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.editing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatch;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.JsonPatchOperation;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProposalEditSessionTest {
+
+    private static final long MAX_SIZE = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private long lockToken;
+
+    @Test
+    void 여러_수정을_모아_한_번에_보내고_한_번에_저장한다() throws Exception {
+        ProposalEditSession session = session("{\"sections\":[]}", 3);
+
+        apply(session, 1L, op("add", "/sections/-", "\"배경\""));
+        apply(session, 2L, op("add", "/sections/-", "\"해결 방안\""));
+        apply(session, 1L, op("replace", "/sections/0", "\"현황\""));
+
+        ProposalEditSession.Delta delta = session.drainOutgoing();
+        assertThat(delta.baseSeq()).isZero();
+        assertThat(delta.seq()).isEqualTo(3);
+        assertThat(delta.operations()).hasSize(3);
+        assertThat(delta.editorIds()).containsExactly(1L, 2L);
+        assertThat(session.drainOutgoing()).isNull();
+
+        ProposalEditSession.Pending pending = session.pendingSave(0, 0, true, JsonNode::toString);
+        assertThat(pending.contents()).isEqualTo("{\"sections\":[\"현황\",\"해결 방안\"]}");
+        assertThat(pending.version()).isEqualTo(3);
+        assertThat(pending.operationCount()).isEqualTo(3);
+
+        session.onSaved(pending);
+        assertThat(session.pendingSave(0, 0, true, JsonNode::toString)).isNull();
+        assertThat(session.snapshot().version()).isEqualTo(4);
+    }
+
+    @Test
+    void 연산_하나라도_실패하면_아무것도_반영하지_않는다() throws Exception {
+        ProposalEditSession session = session("{\"title\":\"초안\"}", 1);
+
+        assertThatThrownBy(() -> apply(session, 1L,
+                op("replace", "/title", "\"수정\""),
+                op("remove", "/missing", null)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.INVALID_PATCH);
+        assertThatThrownBy(() -> apply(session, 1L, op("test", "/title", "\"다른 값\"")))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.EDIT_CONFLICT);
+
+        assertThat(session.snapshot().contents().toString()).isEqualTo("{\"title\":\"초안\"}");
+        assertThat(session.drainOutgoing()).isNull();
+    }
+
+    @Test
+    void 저장_충돌이면_저장된_본문_위에_저장되지_않은_수정만_다시_적용한다() throws Exception {
+        ProposalEditSession session = session("{\"a\":1,\"b\":1}", 5);
+        apply(session, 1L, op("replace", "/a", "2"));
+        apply(session, 1L, op("remove", "/b", null));
+
+        // 그 사이 다른 곳에서 b 를 지우고 c 를 추가해 버전 6으로 저장함
+        int dropped = session.rebase(objectMapper.readTree("{\"a\":1,\"c\":1}"), 6, 13);
+
+        assertThat(dropped).isEqualTo(1);
+        ProposalEditSession.Snapshot snapshot = session.snapshot();
+        assertThat(snapshot.contents().toString()).isEqualTo("{\"a\":2,\"c\":1}");
+        assertThat(snapshot.version()).isEqualTo(6);
+        assertThat(snapshot.dirty()).isTrue();
+        assertThat(session.drainOutgoing()).isNull();
+    }
+
+    @Test
+    void 본문이_최대_크기를_넘으면_거절한다() throws Exception {
+        ProposalEditSession session = session("{}", 1);
+        String large = "\"" + "가".repeat((int) MAX_SIZE) + "\"";
+
+        assertThatThrownBy(() -> apply(session, 1L, op("add", "/body", large)))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.PROPOSAL_TOO_LARGE);
+    }
+
+    @Test
+    void 다른_사용자가_잠금을_받은_뒤_도착한_이전_토큰의_수정은_거부한다() throws Exception {
+        ProposalEditSession session = session("{\"summary\":\"초안\"}", 1);
+        JsonPatchOperation edit = op("replace", "/summary", "\"늦게 도착한 수정\"");
+
+        session.updateFence("summary", 5, 1L);
+        session.updateFence("summary", 6, 2L);
+        // 늦게 도착한 이전 잠금 알림은 무시
+        session.updateFence("summary", 5, 1L);
+
+        assertThatThrownBy(() -> session.apply(1L, List.of(edit), Map.of("summary", 5L), MAX_SIZE,
+                node -> node.toString().length(), 0))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.PROPOSAL_BEING_EDITED);
+        assertThatThrownBy(() -> session.apply(1L, List.of(edit), Map.of(), MAX_SIZE,
+                node -> node.toString().length(), 0))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.EDIT_LOCK_REQUIRED);
+        assertThat(session.unknownFences(List.of(edit), Map.of("summary", 7L))).containsExactly("summary");
+
+        session.updateFence("summary", 6, null);
+        assertThatThrownBy(() -> session.apply(2L, List.of(edit), Map.of("summary", 6L), MAX_SIZE,
+                node -> node.toString().length(), 0))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.EDIT_LOCK_REQUIRED);
+        assertThat(session.snapshot().contents().get("summary").asText()).isEqualTo("초안");
+    }
+
+    private ProposalEditSession session(String contents, long version) throws Exception {
+        return new ProposalEditSession(1L, objectMapper.readTree(contents), version, contents.length(), 0);
+    }
+
+    /**
+     * 수정하는 항목의 잠금을 editorId 가 가진 상태로 반영
+     */
+    private void apply(ProposalEditSession session, Long editorId, JsonPatchOperation... operations) {
+        Map<String, Long> locks = new HashMap<>();
+        for (String section : JsonPatch.writtenSections(List.of(operations))) {
+            long token = ++lockToken;
+            session.updateFence(section, token, editorId);
+            locks.put(section, token);
+        }
+        session.apply(editorId, List.of(operations), locks, MAX_SIZE, node -> node.toString().length(), 0);
+    }
+
+    private JsonPatchOperation op(String op, String path, String value) throws Exception {
+        return new JsonPatchOperation(op, path, null, value == null ? null : objectMapper.readTree(value));
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ProposalEditLockChangedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.EditLockHolder;
+import org.example.gyeonggi_partners.domain.proposal.exception.ProposalErrorCode;
+import org.example.gyeonggi_partners.domain.proposal.infra.editing.ProposalEditProperties;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임베디드 Redis로 항목 편집 잠금의 배타성, 펜싱 토큰, 연장과 반납을 확인합니다.
+ */
+class RedisProposalEditLockTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static final Long PROPOSAL_ID = 1L;
+
+    private final List<ProposalEditLockChangedEvent> events = Collections.synchronizedList(new ArrayList<>());
+    private final RedisProposalEditLock lock = lock(Duration.ofSeconds(30));
+
+    @Test
+    void 다른_세션이_가진_항목은_받을_수_없고_반납하면_더_큰_토큰으로_받는다() {
+        long first = lock.acquire(PROPOSAL_ID, "summary", 1L, "s1");
+        assertThat(lock.acquire(PROPOSAL_ID, "summary", 1L, "s1")).isEqualTo(first);
+        assertThatThrownBy(() -> lock.acquire(PROPOSAL_ID, "summary", 2L, "s2"))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ProposalErrorCode.PROPOSAL_BEING_EDITED);
+
+        // 다른 항목은 동시에 받을 수 있음
+        long budget = lock.acquire(PROPOSAL_ID, "budget", 2L, "s2");
+        assertThat(budget).isGreaterThan(first);
+
+        // 갖고 있지 않은 세션의 반납은 무시
+        lock.release(PROPOSAL_ID, "summary", 2L, "s2");
+        assertThat(lock.findHolder(PROPOSAL_ID, "summary")).contains(new EditLockHolder(first, 1L));
+
+        lock.release(PROPOSAL_ID, "summary", 1L, "s1");
+        long second = lock.acquire(PROPOSAL_ID, "summary", 2L, "s2");
+        assertThat(second).isGreaterThan(budget);
+        assertThat(lock.findHolder(PROPOSAL_ID, "summary")).contains(new EditLockHolder(second, 2L));
+        assertThat(events).extracting(ProposalEditLockChangedEvent::holderId)
+                .containsExactly(1L, 1L, 2L, null, 2L);
+    }
+
+    @Test
+    void 세션에서_프레임이_오면_잠금을_연장하고_연결이_끊기면_반납한다() throws Exception {
+        RedisProposalEditLock shortLease = lock(Duration.ofMillis(600));
+        shortLease.acquire(PROPOSAL_ID, "summary", 1L, "s1");
+        shortLease.acquire(PROPOSAL_ID, "budget", 1L, "s1");
+
+        // 임대 시간의 1/3 이 지나기 전에는 Redis 를 부르지 않음
+        shortLease.touch("s1");
+        assertThat(redis.commands().pttl("proposal:edit:lock:1:summary")).isLessThanOrEqualTo(600);
+
+        Thread.sleep(400);
+        shortLease.touch("s1");
+        assertThat(redis.commands().pttl("proposal:edit:lock:1:summary")).isGreaterThan(400);
+        assertThat(redis.commands().pttl("proposal:edit:lock:1:budget")).isGreaterThan(400);
+
+        shortLease.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.withPayload(new byte[0]).build(), "s1", CloseStatus.NORMAL));
+        assertThat(shortLease.findHolder(PROPOSAL_ID, "summary")).isEmpty();
+        assertThat(shortLease.findHolder(PROPOSAL_ID, "budget")).isEmpty();
+        assertThat(events).filteredOn(event -> event.holderId() == null).hasSize(2);
+    }
+
+    private RedisProposalEditLock lock(Duration leaseTtl) {
+        ProposalEditProperties properties = new ProposalEditProperties();
+        properties.setLockLeaseTtl(leaseTtl);
+        return new RedisProposalEditLock(redis.template(),
+                event -> events.add((ProposalEditLockChangedEvent) event),
+                properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.gyeonggi_partners.domain.proposal.infra.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.gyeonggi_partners.domain.proposal.domain.event.ConsentDeadlinePassedEvent;
+import org.example.gyeonggi_partners.domain.proposal.domain.model.ConsentDeadline;
+import org.example.gyeonggi_partners.domain.proposal.domain.repository.ProposalRepository;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임베디드 Redis로 여러 서버가 동시에 확인해도 기한 마감이 한 번만 발행되는지 확인합니다.
+ */
+class RedisConsentDeadlineSchedulerTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private final List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+    private final ProposalRepository proposalRepository = mock(ProposalRepository.class);
+
+    @Test
+    void 여러_서버가_동시에_확인해도_기한이_지난_제안서는_한_번만_발행한다() throws Exception {
+        RedisConsentDeadlineScheduler scheduler = scheduler(event -> fired.add(proposalId(event)), Duration.ofSeconds(30));
+        LocalDateTime past = LocalDateTime.now().minusSeconds(1);
+        for (long id = 1; id <= 1000; id++) {
+            scheduler.schedule(id, past);
+        }
+        scheduler.schedule(5000L, LocalDateTime.now().plusHours(1));
+
+        // 서버 4대가 동시에 확인
+        int nodes = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            RedisConsentDeadlineScheduler node = scheduler(event -> fired.add(proposalId(event)), Duration.ofSeconds(30));
+            futures.add(executor.submit(() -> {
+                ready.await();
+                while (node.fireDue() > 0) {
+                    // 남은 항목이 없을 때까지
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(fired).hasSize(1000).doesNotHaveDuplicates().doesNotContain(5000L);
+        assertThat(redis.commands().zcard("proposal:consent:deadlines:claimed")).isZero();
+    }
+
+    @Test
+    void 마감에_실패하면_임대가_끝난_뒤_다시_발행한다() throws Exception {
+        RedisConsentDeadlineScheduler failing = scheduler(event -> {
+            throw new IllegalStateException("DB 연결 실패");
+        }, Duration.ofMillis(200));
+        failing.schedule(1L, LocalDateTime.now().minusSeconds(1));
+
+        assertThat(failing.fireDue()).isEqualTo(1);
+
+        RedisConsentDeadlineScheduler other = scheduler(event -> fired.add(proposalId(event)), Duration.ofMillis(200));
+        assertThat(other.fireDue()).isZero();
+
+        Thread.sleep(300);
+        assertThat(other.fireDue()).isEqualTo(1);
+        assertThat(fired).containsExactly(1L);
+    }
+
+    @Test
+    void 시작할_때_DB의_동의_진행_중인_제안서로_기한_목록을_다시_채운다() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        when(proposalRepository.findPendingConsentDeadlines(eq(0L), anyInt()))
+                .thenReturn(List.of(new ConsentDeadline(1L, past), new ConsentDeadline(2L, past)));
+        when(proposalRepository.findPendingConsentDeadlines(eq(2L), anyInt()))
+                .thenReturn(List.of(new ConsentDeadline(3L, LocalDateTime.now().plusHours(1))));
+
+        RedisConsentDeadlineScheduler scheduler = scheduler(event -> fired.add(proposalId(event)), Duration.ofSeconds(30));
+        scheduler.rebuild();
+        scheduler.fireDue();
+
+        assertThat(redis.commands().zcard("proposal:consent:deadlines")).isEqualTo(1);
+        assertThat(fired).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void 재구성이_실패해도_남아_있는_기한은_계속_마감하고_재구성은_다시_시도한다() throws Exception {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        when(proposalRepository.findPendingConsentDeadlines(eq(0L), anyInt()))
+                .thenThrow(new QueryTimeoutException("DB 연결 실패"))
+                .thenReturn(List.of(new ConsentDeadline(2L, past)));
+
+        RedisConsentDeadlineScheduler scheduler = scheduler(event -> fired.add(proposalId(event)), Duration.ofSeconds(30));
+        scheduler.schedule(1L, past);
+        scheduler.start();
+        try {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (fired.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+        } finally {
+            scheduler.stop();
+        }
+
+        assertThat(fired).containsExactly(1L, 2L);
+    }
+
+    private RedisConsentDeadlineScheduler scheduler(ApplicationEventPublisher publisher, Duration claimLease) {
+        ConsentDeadlineProperties properties = new ConsentDeadlineProperties();
+        properties.setBatchSize(50);
+        properties.setClaimLease(claimLease);
+        properties.setRebuildPageSize(2);
+        properties.setPollInterval(Duration.ofMillis(50));
+        return new RedisConsentDeadlineScheduler(redis.template(), proposalRepository,
+                publisher, properties, new SimpleMeterRegistry());
+    }
+
+    private static Long proposalId(Object event) {
+        return ((ConsentDeadlinePassedEvent) event).proposalId();
+    }
+}
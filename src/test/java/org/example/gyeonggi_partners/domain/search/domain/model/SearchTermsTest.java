@@ -0,0 +1,42 @@
+package org.example.gyeonggi_partners.domain.search.domain.model;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchTermsTest {
+
+    @Test
+    void 어절마다_접두어_검색을_붙여_AND_로_묶는다() {
+        SearchTerms terms = SearchTerms.parse("  자전거   도로 자전거 ");
+
+        assertThat(terms.toTsQuery()).isEqualTo("자전거:* & 도로:*");
+        assertThat(terms.text()).isEqualTo("자전거 도로 자전거");
+    }
+
+    @Test
+    void tsquery_문법_문자는_지운다() {
+        SearchTerms terms = SearchTerms.parse("도로'|!(싱크홀):*<->");
+
+        assertThat(terms.toTsQuery()).isEqualTo("도로:* & 싱크홀:* & -:*");
+        assertThatThrownBy(() -> SearchTerms.parse("&|!():*"))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 트라이그램_검색은_세_글자_이상만() {
+        assertThat(SearchTerms.parse("도로").supportsTrigram()).isFalse();
+        assertThat(SearchTerms.parse("거도로").supportsTrigram()).isTrue();
+        assertThat(SearchTerms.parse("도로!!").supportsTrigram()).isFalse();
+    }
+
+    @Test
+    void 커서는_문자열로_바꿨다가_그대로_되돌린다() {
+        SearchCursor cursor = new SearchCursor(SearchMode.TRIGRAM, 0.1f / 3, 12345L);
+
+        assertThat(SearchCursor.parse(cursor.toString())).isEqualTo(cursor);
+        assertThatThrownBy(() -> SearchCursor.parse("TEXT:NaN:1")).isInstanceOf(BusinessException.class);
+    }
+}
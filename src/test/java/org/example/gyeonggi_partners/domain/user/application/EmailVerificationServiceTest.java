@@ -0,0 +1,103 @@
+package org.example.gyeonggi_partners.domain.user.application;
+
+import org.example.gyeonggi_partners.common.exception.BusinessException;
+import org.example.gyeonggi_partners.domain.user.exception.UserErrorCode;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 임베디드 Redis로 인증번호 검증의 입력 횟수 제한과 동시 검증을 확인합니다.
+ */
+class EmailVerificationServiceTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static final String EMAIL = "user@example.com";
+
+    private final Map<String, String> sentCodes = new HashMap<>();
+    private final EmailVerificationService service = new EmailVerificationService(
+            redis.template(), sentCodes::put);
+
+    @Test
+    void 올바른_인증번호는_한_번만_통과한다() {
+        service.sendVerificationCode(EMAIL);
+        String code = sentCodes.get(EMAIL);
+
+        service.verifyCode(EMAIL, code);
+
+        assertThat(redis.commands().exists("email:verification:" + EMAIL)).isZero();
+        assertThatThrownBy(() -> service.verifyCode(EMAIL, code))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.INVALID_VERIFICATION_CODE));
+    }
+
+    @Test
+    void 입력_횟수를_다_쓰면_올바른_인증번호도_거부한다() {
+        service.sendVerificationCode(EMAIL);
+        String code = sentCodes.get(EMAIL);
+        String wrong = code.equals("000000") ? "111111" : "000000";
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> service.verifyCode(EMAIL, wrong))
+                    .isInstanceOfSatisfying(BusinessException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.INVALID_VERIFICATION_CODE));
+        }
+        assertThatThrownBy(() -> service.verifyCode(EMAIL, null))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(UserErrorCode.VERIFICATION_ATTEMPTS_EXCEEDED));
+
+        assertThatThrownBy(() -> service.verifyCode(EMAIL, code))
+                .isInstanceOf(BusinessException.class);
+
+        // 다시 요청하면 새 인증번호로 통과
+        service.sendVerificationCode(EMAIL);
+        service.verifyCode(EMAIL, sentCodes.get(EMAIL));
+    }
+
+    @Test
+    void 같은_인증번호로_동시에_검증해도_한_번만_성공한다() throws Exception {
+        service.sendVerificationCode(EMAIL);
+        String code = sentCodes.get(EMAIL);
+
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    service.verifyCode(EMAIL, code);
+                    return true;
+                } catch (BusinessException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        assertThat(succeeded).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.gyeonggi_partners.domain.user.infra.bloom;
+
+import org.example.gyeonggi_partners.domain.user.domain.model.UserUniqueField;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserJpaRepository;
+import org.example.gyeonggi_partners.domain.user.infra.persistence.UserUniqueKeysView;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임베디드 Redis로 Bloom Filter 적재와 Redis 초기화 후의 재적재를 확인합니다.
+ */
+class RedisUserBloomFilterTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private final UserJpaRepository userJpaRepository = mock(UserJpaRepository.class);
+    private RedisUserBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        UserUniqueKeysView user = mock(UserUniqueKeysView.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getLoginId()).thenReturn("tester");
+        when(user.getEmail()).thenReturn("tester@example.com");
+        when(userJpaRepository.findUniqueKeysAfter(eq(0L), any(Limit.class))).thenReturn(List.of(user));
+
+        UserBloomFilterProperties properties = new UserBloomFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        properties.setLoadRetryInterval(Duration.ofMillis(50));
+        bloomFilter = new RedisUserBloomFilter(redis.template(), userJpaRepository, properties);
+    }
+
+    @Test
+    void 적재가_끝나면_없는_값만_확실히_없다고_답한다() throws InterruptedException {
+        bloomFilter.loadOnStartup();
+        awaitReady();
+
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "tester")).isTrue();
+        assertThat(bloomFilter.mightContain(UserUniqueField.EMAIL, "tester@example.com")).isTrue();
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "nobody")).isFalse();
+    }
+
+    @Test
+    void Redis가_초기화되면_있을_수도_있음으로_답하고_다시_적재한다() throws InterruptedException {
+        bloomFilter.loadOnStartup();
+        awaitReady();
+
+        redis.commands().flushall();
+
+        // 비트맵이 사라져도 "확실히 없음"으로 답하지 않음
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "tester")).isTrue();
+
+        awaitReady();
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "tester")).isTrue();
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "nobody")).isFalse();
+    }
+
+    @Test
+    void 적재가_실패하면_조회하면서_다시_적재한다() throws InterruptedException {
+        UserUniqueKeysView user = mock(UserUniqueKeysView.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getLoginId()).thenReturn("tester");
+        when(userJpaRepository.findUniqueKeysAfter(eq(0L), any(Limit.class)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of(user));
+
+        bloomFilter.loadOnStartup();
+
+        // 실패한 적재는 잠금을 풀고, 조회하는 쪽이 재시도 간격 뒤에 다시 적재함
+        awaitReady();
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "tester")).isTrue();
+        assertThat(bloomFilter.mightContain(UserUniqueField.LOGIN_ID, "nobody")).isFalse();
+        verify(userJpaRepository, times(2)).findUniqueKeysAfter(eq(0L), any(Limit.class));
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!bloomFilter.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(bloomFilter.isReady()).isTrue();
+    }
+}
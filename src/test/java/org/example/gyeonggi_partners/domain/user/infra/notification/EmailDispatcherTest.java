@@ -0,0 +1,183 @@
+package org.example.gyeonggi_partners.domain.user.infra.notification;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final List<EmailMessage> deadLetters = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void 큐에_넣은_메일은_워커가_SMTP로_발송한다() {
+        dispatcher = createDispatcher(greenMail.getSmtp().getPort());
+        dispatcher.start();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.enqueue(EmailMessage.of("user" + i + "@example.com", "제목", "인증번호: 12345" + i));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 5)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(5);
+        assertThat(deadLetters).isEmpty();
+    }
+
+    @Test
+    void 워커는_SMTP_연결을_열어둔_채로_여러_배치에_재사용한다() {
+        dispatcher = createDispatcher(greenMail.getSmtp().getPort());
+        dispatcher.start();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                dispatcher.enqueue(EmailMessage.of("user" + i + "@example.com", "제목", "본문"));
+            }
+            assertThat(greenMail.waitForIncomingEmail(5_000, (round + 1) * 4)).isTrue();
+        }
+
+        // 워커 2개 → 연결은 최대 2개만 맺어야 함
+        double opened = meterRegistry.get("mail.smtp.connections.opened").counter().count();
+        assertThat(opened).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 서버가_끊은_연결은_다시_연결해서_보낸다() throws InterruptedException {
+        // 연결을 들고 있는 워커가 두 번째 메일도 받도록 워커 1개
+        dispatcher = createDispatcher(greenMail.getSmtp().getPort(), 1, Duration.ofMillis(10));
+        dispatcher.start();
+
+        dispatcher.enqueue(EmailMessage.of("user@example.com", "제목", "본문"));
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("mail.dispatch.sent").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        // 서버 재시작으로 워커가 들고 있던 연결이 끊김
+        greenMail.reset();
+        assertThat(greenMail.getSmtp().waitTillRunning(5_000)).isTrue();
+        dispatcher.enqueue(EmailMessage.of("user@example.com", "제목", "본문"));
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        assertThat(deadLetters).isEmpty();
+        assertThat(meterRegistry.get("mail.dispatch.retried").counter().count()).isZero();
+        assertThat(meterRegistry.get("mail.smtp.connections.opened").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void 재시도를_모두_실패하면_Dead_Letter로_보낸다() throws InterruptedException {
+        // 아무도 듣고 있지 않은 포트
+        dispatcher = createDispatcher(1);
+        dispatcher.start();
+
+        dispatcher.enqueue(EmailMessage.of("user@example.com", "제목", "본문"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (deadLetters.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.get(0).attempt()).isEqualTo(3);
+    }
+
+    @Test
+    void 종료할_때_백오프_대기_중인_재시도는_버리지_않는다() throws InterruptedException {
+        dispatcher = createDispatcher(1, 2, Duration.ofMinutes(1));
+        dispatcher.start();
+
+        dispatcher.enqueue(EmailMessage.of("user@example.com", "제목", "본문"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("mail.dispatch.retried").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(deadLetters).isEmpty();
+
+        dispatcher.stop();
+        dispatcher = null;
+
+        assertThat(deadLetters).hasSize(1);
+    }
+
+    @Test
+    void 런타임_예외로_실패한_메일만_재시도하고_배치의_나머지는_보낸다() throws InterruptedException {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            public MimeMessage createMimeMessage() {
+                return new MimeMessage(getSession()) {
+                    @Override
+                    public void saveChanges() throws MessagingException {
+                        if (InternetAddress.toString(getAllRecipients()).startsWith("broken@")) {
+                            throw new IllegalStateException("Not connected");
+                        }
+                        super.saveChanges();
+                    }
+                };
+            }
+        };
+        // 시작 전에 넣어 세 통이 한 배치로 묶이게 함
+        dispatcher = createDispatcher(mailSender, greenMail.getSmtp().getPort(), 1, Duration.ofMillis(10));
+        dispatcher.enqueue(EmailMessage.of("user1@example.com", "제목", "본문"));
+        dispatcher.enqueue(EmailMessage.of("broken@example.com", "제목", "본문"));
+        dispatcher.enqueue(EmailMessage.of("user2@example.com", "제목", "본문"));
+        dispatcher.start();
+
+        assertThat(greenMail.waitForIncomingEmail(5_000, 2)).isTrue();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (deadLetters.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(deadLetters).extracting(EmailMessage::to).containsExactly("broken@example.com");
+        assertThat(deadLetters.get(0).attempt()).isEqualTo(3);
+    }
+
+    private EmailDispatcher createDispatcher(int port) {
+        return createDispatcher(port, 2, Duration.ofMillis(10));
+    }
+
+    private EmailDispatcher createDispatcher(int port, int workers, Duration initialBackoff) {
+        return createDispatcher(new JavaMailSenderImpl(), port, workers, initialBackoff);
+    }
+
+    private EmailDispatcher createDispatcher(JavaMailSenderImpl mailSender, int port, int workers,
+                                             Duration initialBackoff) {
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(port);
+
+        MailDispatchProperties properties = new MailDispatchProperties();
+        properties.setWorkers(workers);
+        properties.setBatchSize(3);
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(initialBackoff);
+        properties.setFlushWindow(Duration.ofMillis(20));
+
+        return new EmailDispatcher(mailSender, (message, error) -> deadLetters.add(message),
+                properties, meterRegistry);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.gyeonggi_partners.domain.user.infra.session;
+
+import org.example.gyeonggi_partners.common.jwt.TokenDigests;
+import org.example.gyeonggi_partners.domain.user.domain.session.RefreshTokenStore.RotationResult;
+import org.example.gyeonggi_partners.support.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 임베디드 Redis로 Refresh Token 저장/교체 스크립트를 확인합니다.
+ *
+ * <p>저장과 교체 성공 경로는 필드 만료(HPEXPIRE, Redis 7.4+)를 사용하므로 서버가 지원할 때만 실행합니다.
+ * 재사용 감지와 세션 없음 경로는 HPEXPIRE 를 호출하지 않아 항상 실행됩니다.</p>
+ */
+class RedisRefreshTokenStoreTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private static boolean hashFieldExpirySupported;
+
+    private final RedisRefreshTokenStore store = new RedisRefreshTokenStore(redis.template());
+
+    @BeforeAll
+    static void checkHashFieldExpiry() {
+        hashFieldExpirySupported = supportsHashFieldExpiry(redis.commands().info("server"));
+    }
+
+    /**
+     * redis_version 이 7.4 이상인지 확인합니다.
+     */
+    private static boolean supportsHashFieldExpiry(String serverInfo) {
+        for (String line : serverInfo.split("\r?\n")) {
+            if (line.startsWith("redis_version:")) {
+                String[] version = line.substring("redis_version:".length()).trim().split("\\.");
+                int major = Integer.parseInt(version[0]);
+                int minor = Integer.parseInt(version[1]);
+                return major > 7 || (major == 7 && minor >= 4);
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void 저장한_토큰으로_교체하면_새_토큰만_유효하다() {
+        assumeTrue(hashFieldExpirySupported, "HPEXPIRE 를 지원하지 않는 Redis");
+
+        store.save(1L, "device-1", "refresh-1", TTL);
+
+        assertThat(store.rotate(1L, "device-1", "refresh-1", "refresh-2", TTL)).isEqualTo(RotationResult.ROTATED);
+        assertThat(redis.commands().hget("RTS:1", "device-1")).isEqualTo(TokenDigests.sha256("refresh-2"));
+        assertThat(redis.commands().hpttl("RTS:1", "device-1").get(0)).isPositive();
+    }
+
+    @Test
+    void 이미_교체된_토큰을_다시_쓰면_그_기기의_세션만_삭제한다() {
+        // refresh-1 → refresh-2 로 교체된 상태
+        redis.commands().hset("RTS:1", "device-1", TokenDigests.sha256("refresh-2"));
+        redis.commands().hset("RTS:1", "device-2", TokenDigests.sha256("other-device"));
+
+        assertThat(store.rotate(1L, "device-1", "refresh-1", "refresh-3", TTL)).isEqualTo(RotationResult.REUSED);
+
+        assertThat(redis.commands().hexists("RTS:1", "device-1")).isFalse();
+        assertThat(redis.commands().hget("RTS:1", "device-2")).isEqualTo(TokenDigests.sha256("other-device"));
+        // 세션이 지워졌으므로 새 토큰(refresh-2)으로도 더 이상 교체할 수 없음
+        assertThat(store.rotate(1L, "device-1", "refresh-2", "refresh-4", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+    }
+
+    @Test
+    void 세션이_없으면_교체하지_않는다() {
+        assertThat(store.rotate(1L, "device-1", "refresh-1", "refresh-2", TTL)).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redis.commands().exists("RTS:1")).isZero();
+    }
+}
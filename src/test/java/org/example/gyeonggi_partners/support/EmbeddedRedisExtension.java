@@ -0,0 +1,79 @@
+package org.example.gyeonggi_partners.support;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+/**
+ * 테스트 클래스마다 임베디드 Redis 를 빈 포트에 띄우는 JUnit 확장
+ *
+ * <pre>
+ * &#64;RegisterExtension
+ * static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+ * </pre>
+ *
+ * static 필드로 등록하면 테스트 인스턴스를 만들기 전에 서버가 뜨므로 필드 초기화에서 {@link #template()} 을 쓸 수 있습니다.
+ * 각 테스트가 끝나면 (테스트의 @AfterEach 다음에) 모든 키를 지우고, 클래스가 끝나면 서버를 내립니다.
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, AfterEachCallback, AfterAllCallback {
+
+    private RedisServer redisServer;
+    private RedisClient redisClient;
+    private RedisCommands<String, String> commands;
+    private LettuceConnectionFactory connectionFactory;
+    private int port;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        redisClient = RedisClient.create("redis://127.0.0.1:" + port);
+        commands = redisClient.connect().sync();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        commands.flushall();
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws IOException {
+        connectionFactory.destroy();
+        redisClient.shutdown();
+        redisServer.stop();
+    }
+
+    /**
+     * 테스트에서 상태를 직접 확인하거나 조작할 때 쓰는 동기 명령
+     */
+    public RedisCommands<String, String> commands() {
+        return commands;
+    }
+
+    /**
+     * 테스트 대상에 넘길 새 StringRedisTemplate
+     */
+    public StringRedisTemplate template() {
+        return new StringRedisTemplate(connectionFactory);
+    }
+
+    public int port() {
+        return port;
+    }
+}